@@ -0,0 +1,230 @@
+package com.jeopardyProject.Game;
+
+import java.io.PrintWriter;
+
+/**
+ * Draws a {@link QuestionList} board as a text table, reusing the previous frame.
+ * <p>
+ * The first render lays the whole table out in a char buffer. Later renders
+ * compare the board's answered bitmap with the one last drawn and overwrite
+ * only the cells that changed, typically the single question answered since
+ * the previous turn, so a turn's board costs no formatting and no allocation.
+ * The frame is then written with one call. The table is laid out again only
+ * when a change alters a column's width, which happens when a column's
+ * widest value is answered and the value was wider than the category name.
+ * </p>
+ * <p>
+ * Created by the board the first time its grid is displayed; not thread-safe.
+ * </p>
+ *
+ * @see QuestionList#display(PrintWriter)
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public class BoardRenderer {
+    /** Minimum column width for grid formatting. */
+    private static final int MIN_COLUMN_WIDTH = 3;
+
+    /** Line ending used after separator lines, as written by {@link PrintWriter#println()}. */
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    /** Board being drawn. */
+    private final QuestionList board;
+
+    /** Grid layout and question values. */
+    private final QuestionBank grid;
+
+    /** Width of each column's text in the current frame. */
+    private final int[] widths;
+
+    /** Offset in {@code frame} of each cell's text. */
+    private final int[] cellOffsets;
+
+    /** Answered flags as drawn in the current frame. */
+    private final long[] rendered;
+
+    /** The current frame; null until first rendered. */
+    private char[] frame;
+
+    /**
+     * Constructs a renderer over a board's grid.
+     *
+     * @param board the board, for its answered bitmap
+     * @param grid the board's grid
+     */
+    BoardRenderer(QuestionList board, QuestionBank grid){
+        this.board = board;
+        this.grid = grid;
+        this.widths = new int[grid.getColumnCount()];
+        this.cellOffsets = new int[grid.getColumnCount() * grid.getRowCount()];
+        this.rendered = new long[(grid.size() + 63) >>> 6];
+    }
+
+    /**
+     * Brings the frame up to date and writes it.
+     *
+     * @param out the writer to render the board to
+     */
+    public void render(PrintWriter out){
+        if (this.frame == null || !patch())
+            layout();
+        out.write(this.frame, 0, this.frame.length);
+    }
+
+    /**
+     * Redraws the cells whose answered flag changed since the last render.
+     *
+     * @return false if a column's width changed and the table must be laid out again
+     */
+    private boolean patch(){
+        for (int word = 0; word < this.rendered.length; word++){
+            long changed = this.rendered[word] ^ this.board.getAnsweredWord(word);
+            while (changed != 0){
+                int index = (word << 6) + Long.numberOfTrailingZeros(changed);
+                changed &= changed - 1;
+                int pos = this.grid.getCellOf(index);
+                if (pos < 0)
+                    continue;
+                int column = pos / this.grid.getRowCount();
+                if (columnWidth(column) != this.widths[column])
+                    return false;
+                writeCell(this.cellOffsets[pos], this.widths[column], index);
+            }
+            this.rendered[word] = this.board.getAnsweredWord(word);
+        }
+        return true;
+    }
+
+    /**
+     * Lays the whole table out into a new frame.
+     */
+    private void layout(){
+        int rowLength = 2;      // closing "|\n"
+        for (int column = 0; column < this.widths.length; column++){
+            this.widths[column] = columnWidth(column);
+            rowLength += this.widths[column] + 3;
+        }
+        int separatorLength = rowLength - 1 + LINE_SEPARATOR.length();
+        this.frame = new char[3 * separatorLength + (1 + this.grid.getRowCount()) * rowLength];
+
+        int at = separator(0);
+        at = headerRow(at);
+        at = separator(at);
+        for (int row = 0; row < this.grid.getRowCount(); row++){
+            for (int column = 0; column < this.widths.length; column++){
+                int pos = column * this.grid.getRowCount() + row;
+                this.frame[at] = '|';
+                this.frame[at + 1] = ' ';
+                this.cellOffsets[pos] = at + 2;
+                writeCell(at + 2, this.widths[column], this.grid.getCell(column, row));
+                this.frame[at + 2 + this.widths[column]] = ' ';
+                at += this.widths[column] + 3;
+            }
+            this.frame[at++] = '|';
+            this.frame[at++] = '\n';
+        }
+        separator(at);
+
+        for (int word = 0; word < this.rendered.length; word++)
+            this.rendered[word] = this.board.getAnsweredWord(word);
+    }
+
+    /**
+     * Writes a separator line.
+     *
+     * @param at frame offset to start at
+     * @return offset after the line
+     */
+    private int separator(int at){
+        for (int width : this.widths){
+            this.frame[at++] = '+';
+            for (int i = 0; i < width + 2; i++)
+                this.frame[at++] = '-';
+        }
+        this.frame[at++] = '+';
+        LINE_SEPARATOR.getChars(0, LINE_SEPARATOR.length(), this.frame, at);
+        return at + LINE_SEPARATOR.length();
+    }
+
+    /**
+     * Writes the row of category names.
+     *
+     * @param at frame offset to start at
+     * @return offset after the row
+     */
+    private int headerRow(int at){
+        for (int column = 0; column < this.widths.length; column++){
+            String name = this.grid.getCategoryName(column);
+            this.frame[at] = '|';
+            this.frame[at + 1] = ' ';
+            name.getChars(0, name.length(), this.frame, at + 2);
+            for (int i = at + 2 + name.length(); i <= at + 2 + this.widths[column]; i++)
+                this.frame[i] = ' ';
+            at += this.widths[column] + 3;
+        }
+        this.frame[at++] = '|';
+        this.frame[at++] = '\n';
+        return at;
+    }
+
+    /**
+     * Writes a cell's text, left-aligned and padded with spaces.
+     *
+     * @param at frame offset of the cell's text
+     * @param width column width
+     * @param index board position of the cell's question, or -1 for an empty cell
+     */
+    private void writeCell(int at, int width, int index){
+        for (int i = at; i < at + width; i++)
+            this.frame[i] = ' ';
+        if (index < 0)
+            return;
+        if (this.board.isAnswered(index)){
+            this.frame[at] = 'X';
+            return;
+        }
+        long value = this.grid.get(index).getValue();
+        int end = at + digits(value);
+        if (value < 0){
+            this.frame[at] = '-';
+            value = -value;
+        }
+        do{
+            this.frame[--end] = (char) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+    }
+
+    /**
+     * Calculates a column's width from its current cells.
+     * <p>
+     * The widest of the category name, the unanswered values in the column
+     * and {@value #MIN_COLUMN_WIDTH}.
+     * </p>
+     *
+     * @param column the column
+     * @return the column's text width
+     */
+    private int columnWidth(int column){
+        int width = this.grid.getCategoryName(column).length();
+        for (int row = 0; row < this.grid.getRowCount(); row++){
+            int index = this.grid.getCell(column, row);
+            if (index >= 0 && !this.board.isAnswered(index))        // answered questions will have a smaller width than category
+                width = Math.max(width, digits(this.grid.get(index).getValue()));
+        }
+        return Math.max(width, MIN_COLUMN_WIDTH);
+    }
+
+    /**
+     * Counts the characters in a value's decimal form.
+     *
+     * @param value the value
+     * @return its length, including any minus sign
+     */
+    private static int digits(long value){
+        int length = value < 0 ? 2 : 1;
+        for (long rest = Math.abs(value) / 10; rest > 0; rest /= 10)
+            length++;
+        return length;
+    }
+}
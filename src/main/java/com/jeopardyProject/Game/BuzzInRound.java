@@ -0,0 +1,290 @@
+package com.jeopardyProject.Game;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+import com.jeopardyProject.Game.Command.ActionResult;
+
+/**
+ * One question played in buzz-in mode, where every player answers at once.
+ * <p>
+ * Any player may {@link #submit(String, String) submit} from any thread,
+ * once per round. Arbitration is lock-free:
+ * <ul>
+ *   <li>Each player's single submission is claimed by a compare-and-set on
+ *       that player's slot, so a repeated submission is rejected.</li>
+ *   <li>A correct answer goes through {@link PlayerList#answerQuestion(Player, String)},
+ *       whose {@link com.jeopardyProject.Game.Command.AnswerQuestionAction} claims
+ *       the question with {@link Question#markAnswered()}. Exactly one correct
+ *       answer wins.</li>
+ * </ul>
+ * Every submission is scored the moment it is decided, with the same rules
+ * whatever the timing:
+ * <ul>
+ *   <li><b>WON</b>: first correct answer, score += value</li>
+ *   <li><b>LATE</b>: correct answer after another player won, no change</li>
+ *   <li><b>WRONG</b>: incorrect answer, score -= value</li>
+ *   <li><b>PASSED</b>: "PASS" or a blank answer, no change</li>
+ * </ul>
+ * When the last player has submitted, the thread that completed the round
+ * runs the completion callback once. It sees every submission, in arrival
+ * order, so logging and turn changes happen on one thread.
+ * </p>
+ *
+ * @see GameSession#buzzIn(String, String)
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public class BuzzInRound {
+    /** Answer that skips the question without penalty. */
+    public static final String PASS = "PASS";
+
+    /**
+     * How a single submission was scored.
+     */
+    public enum Outcome {
+        /** First correct answer; the player gains the question's value. */
+        WON,
+
+        /** Correct, but another player won first; no score change. */
+        LATE,
+
+        /** Incorrect answer; the player loses the question's value. */
+        WRONG,
+
+        /** Player passed; no score change. */
+        PASSED,
+
+        /** Unknown player or repeated submission; nothing recorded. */
+        REJECTED
+    }
+
+    /**
+     * One player's scored answer.
+     */
+    public static final class Submission {
+        /** Player who answered. */
+        private final Player player;
+
+        /** Answer as submitted. */
+        private final String answer;
+
+        /** How the answer was scored. */
+        private final Outcome outcome;
+
+        /** Order in which the submission was claimed, from 0. */
+        private final int sequence;
+
+        /** Player's score right after this submission was applied. */
+        private final int scoreAfter;
+
+        /**
+         * Constructs a scored submission.
+         *
+         * @param player player who answered
+         * @param answer answer as submitted
+         * @param outcome how it was scored
+         * @param sequence arrival order
+         * @param scoreAfter player's score after scoring
+         */
+        Submission(Player player, String answer, Outcome outcome, int sequence, int scoreAfter){
+            this.player = player;
+            this.answer = answer;
+            this.outcome = outcome;
+            this.sequence = sequence;
+            this.scoreAfter = scoreAfter;
+        }
+
+        /**
+         * Gets the player who answered.
+         *
+         * @return the answering Player
+         */
+        public Player getPlayer(){
+            return player;
+        }
+
+        /**
+         * Gets the answer as submitted (trimmed).
+         *
+         * @return the option key or "PASS"
+         */
+        public String getAnswer(){
+            return answer;
+        }
+
+        /**
+         * Gets how the answer was scored.
+         *
+         * @return the submission outcome
+         */
+        public Outcome getOutcome(){
+            return outcome;
+        }
+
+        /**
+         * Gets the order in which the submission arrived.
+         *
+         * @return arrival index, from 0
+         */
+        public int getSequence(){
+            return sequence;
+        }
+
+        /**
+         * Gets the player's score right after this submission was applied.
+         *
+         * @return the updated score
+         */
+        public int getScoreAfter(){
+            return scoreAfter;
+        }
+    }
+
+    /** Placeholder holding a player's slot while their answer is scored. */
+    private static final Submission CLAIMED = new Submission(null, null, Outcome.REJECTED, -1, 0);
+
+    /** Player list whose answer command arbitrates the question. */
+    private final PlayerList players;
+
+    /** Question being answered. */
+    private final Question question;
+
+    /** Players in the round; index matches {@link #submissions}. */
+    private final Player[] contestants;
+
+    /** Each contestant's submission, null until they submit. */
+    private final AtomicReferenceArray<Submission> submissions;
+
+    /** Hands out arrival sequence numbers. */
+    private final AtomicInteger arrivals = new AtomicInteger();
+
+    /** Number of contestants yet to submit. */
+    private final AtomicInteger remaining;
+
+    /** Runs once, on the thread that records the last submission. */
+    private final Consumer<BuzzInRound> onComplete;
+
+    /**
+     * Opens a round for every player in the list.
+     *
+     * @param players the game's players
+     * @param question the question being answered
+     * @param onComplete callback run once when every player has submitted
+     */
+    public BuzzInRound(PlayerList players, Question question, Consumer<BuzzInRound> onComplete){
+        this.players = players;
+        this.question = question;
+        this.contestants = players.getAllPlayers().toArray(new Player[0]);
+        this.submissions = new AtomicReferenceArray<>(contestants.length);
+        this.remaining = new AtomicInteger(contestants.length);
+        this.onComplete = onComplete;
+    }
+
+    /**
+     * Submits a player's answer. Thread-safe and lock-free.
+     *
+     * @param playerId the answering player's ID (case-insensitive)
+     * @param answer the option key, or "PASS"
+     * @return how the answer was scored, or REJECTED if the player is unknown
+     *         or has already submitted
+     */
+    public Outcome submit(String playerId, String answer){
+        int index = indexOf(playerId);
+        if (index < 0 || !submissions.compareAndSet(index, null, CLAIMED))
+            return Outcome.REJECTED;
+
+        int sequence = arrivals.getAndIncrement();
+        Player player = contestants[index];
+        String trimmed = answer == null ? "" : answer.trim();
+        Outcome outcome;
+        int delta = 0;
+        if (trimmed.isEmpty() || PASS.equalsIgnoreCase(trimmed)){
+            outcome = Outcome.PASSED;
+        } else {
+            ActionResult result = players.answerQuestion(player, trimmed);
+            if (result.isSuccess()){
+                outcome = Outcome.WON;
+                delta = question.getValue();
+            } else if (trimmed.equalsIgnoreCase(question.getRightAnswer())){
+                outcome = Outcome.LATE;
+            } else {
+                outcome = Outcome.WRONG;
+                delta = -question.getValue();
+            }
+        }
+        int score = player.addScore(delta);
+        submissions.set(index, new Submission(player, trimmed, outcome, sequence, score));
+
+        if (remaining.decrementAndGet() == 0)
+            onComplete.accept(this);
+        return outcome;
+    }
+
+    /**
+     * Gets the question being answered.
+     *
+     * @return the round's question
+     */
+    public Question getQuestion(){
+        return question;
+    }
+
+    /**
+     * Checks whether every player has submitted.
+     *
+     * @return true once the round is complete
+     */
+    public boolean isComplete(){
+        return remaining.get() == 0;
+    }
+
+    /**
+     * Gets the scored submissions recorded so far, in arrival order.
+     *
+     * @return list of submissions
+     */
+    public List<Submission> getSubmissions(){
+        List<Submission> recorded = new ArrayList<>(contestants.length);
+        for (int i = 0; i < contestants.length; i++){
+            Submission submission = submissions.get(i);
+            if (submission != null && submission != CLAIMED)
+                recorded.add(submission);
+        }
+        recorded.sort(Comparator.comparingInt(Submission::getSequence));
+        return recorded;
+    }
+
+    /**
+     * Gets the player whose answer won the question.
+     *
+     * @return the winner, or null if no correct answer has been scored
+     */
+    public Player getWinner(){
+        for (Submission submission : getSubmissions()){
+            if (submission.getOutcome() == Outcome.WON)
+                return submission.getPlayer();
+        }
+        return null;
+    }
+
+    /**
+     * Finds a contestant's slot.
+     *
+     * @param playerId the player's ID (case-insensitive)
+     * @return slot index, or -1 if no such player is in the round
+     */
+    private int indexOf(String playerId){
+        if (playerId == null)
+            return -1;
+        for (int i = 0; i < contestants.length; i++){
+            if (contestants[i].getPlayerId().equalsIgnoreCase(playerId.trim()))
+                return i;
+        }
+        return -1;
+    }
+}
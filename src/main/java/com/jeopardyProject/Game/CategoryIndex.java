@@ -0,0 +1,215 @@
+package com.jeopardyProject.Game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Case-insensitive prefix trie over a bank's distinct categories.
+ * <p>
+ * Built once per bank by {@link QuestionList#createQuestionGrid()} and shared
+ * by every board copied from it, since categories never change during a game.
+ * Each node records how many categories lie beneath it, so a typed prefix is
+ * resolved in time proportional to its length, whatever the number of
+ * categories, without case-converting or allocating anything:
+ * </p>
+ * <ul>
+ *   <li>A prefix matching exactly one category resolves to it</li>
+ *   <li>A full category name resolves to that category even if it is also
+ *       the start of a longer one (e.g. "Java" and "JavaScript")</li>
+ *   <li>Any other prefix matching several categories is ambiguous, and
+ *       {@link #complete(CharSequence, int)} lists the candidates</li>
+ * </ul>
+ * <p>
+ * Characters are folded with {@link Character#toUpperCase(char)}. Categories
+ * that differ only in case share one entry, keeping the first spelling seen.
+ * Immutable after construction and safe to share between threads.
+ * </p>
+ *
+ * @see com.jeopardyProject.Game.Command.SelectCategoryAction
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public class CategoryIndex {
+    /** Root node, matching the empty prefix. */
+    private final Node root = new Node();
+
+    /**
+     * Builds the index.
+     *
+     * @param categories category names in bank order; nulls are ignored
+     */
+    public CategoryIndex(Collection<String> categories){
+        for (String category : categories)
+            if (category != null)
+                insert(category);
+    }
+
+    /**
+     * Adds a category unless an equal one (ignoring case) is already present.
+     *
+     * @param category the category name
+     */
+    private void insert(String category){
+        Node node = root;
+        for (int i = 0; i < category.length(); i++)
+            node = node.childOrCreate(Character.toUpperCase(category.charAt(i)));
+        if (node.category != null)
+            return;
+        node.category = category;
+
+        node = root;
+        for (int i = 0; i <= category.length(); i++){
+            if (node.count++ == 0)
+                node.only = category;
+            if (i < category.length())
+                node = node.child(Character.toUpperCase(category.charAt(i)));
+        }
+    }
+
+    /**
+     * Finds the node reached by a prefix.
+     *
+     * @param prefix typed text, in any case
+     * @return the node, or null if no category starts with the prefix
+     */
+    private Node find(CharSequence prefix){
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++)
+            node = node.child(Character.toUpperCase(prefix.charAt(i)));
+        return node;
+    }
+
+    /**
+     * Resolves typed text to a single category.
+     *
+     * @param prefix a full category name or the start of one, in any case
+     * @return the category it names exactly or uniquely, or null if it names
+     *         none or is ambiguous
+     */
+    public String resolve(CharSequence prefix){
+        Node node = find(prefix);
+        if (node == null)
+            return null;
+        if (node.category != null)
+            return node.category;
+        return node.count == 1 ? node.only : null;
+    }
+
+    /**
+     * Counts the categories starting with a prefix.
+     *
+     * @param prefix typed text, in any case
+     * @return number of matching categories
+     */
+    public int countMatches(CharSequence prefix){
+        Node node = find(prefix);
+        return node == null ? 0 : node.count;
+    }
+
+    /**
+     * Checks whether a prefix matches several categories without naming one.
+     *
+     * @param prefix typed text, in any case
+     * @return true if {@link #resolve(CharSequence)} fails only because of ambiguity
+     */
+    public boolean isAmbiguous(CharSequence prefix){
+        Node node = find(prefix);
+        return node != null && node.category == null && node.count > 1;
+    }
+
+    /**
+     * Lists categories starting with a prefix, for autocomplete.
+     *
+     * @param prefix typed text, in any case
+     * @param limit maximum number of suggestions
+     * @return matching categories in case-folded alphabetical order
+     */
+    public List<String> complete(CharSequence prefix, int limit){
+        List<String> matches = new ArrayList<>();
+        Node node = find(prefix);
+        if (node != null)
+            collect(node, matches, limit);
+        return matches;
+    }
+
+    /**
+     * Adds the categories under a node, depth first, until the limit is reached.
+     *
+     * @param node the subtree root
+     * @param matches collected categories
+     * @param limit maximum size of {@code matches}
+     */
+    private static void collect(Node node, List<String> matches, int limit){
+        if (matches.size() >= limit)
+            return;
+        if (node.category != null)
+            matches.add(node.category);
+        for (int i = 0; i < node.size && matches.size() < limit; i++)
+            collect(node.children[i], matches, limit);
+    }
+
+    /** @return number of distinct categories */
+    public int size(){
+        return root.count;
+    }
+
+    /**
+     * Trie node with children kept sorted by character for binary search.
+     */
+    private static class Node {
+        /** Child characters, sorted; only the first {@code size} are used. */
+        private char[] keys = new char[0];
+
+        /** Children parallel to {@code keys}. */
+        private Node[] children = new Node[0];
+
+        /** Number of children. */
+        private int size;
+
+        /** Category ending exactly here, or null. */
+        private String category;
+
+        /** Number of categories at or below this node. */
+        private int count;
+
+        /** The first category added below this node, which is the only one when count is 1. */
+        private String only;
+
+        /**
+         * Gets the child for a folded character.
+         *
+         * @param c the folded character
+         * @return the child, or null if none
+         */
+        Node child(char c){
+            int i = Arrays.binarySearch(keys, 0, size, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        /**
+         * Gets the child for a folded character, adding it if missing.
+         *
+         * @param c the folded character
+         * @return the existing or new child
+         */
+        Node childOrCreate(char c){
+            int i = Arrays.binarySearch(keys, 0, size, c);
+            if (i >= 0)
+                return children[i];
+            i = -i - 1;
+            if (size == keys.length){
+                int capacity = Math.max(2, size * 2);
+                keys = Arrays.copyOf(keys, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(keys, i, keys, i + 1, size - i);
+            System.arraycopy(children, i, children, i + 1, size - i);
+            keys[i] = c;
+            children[i] = new Node();
+            size++;
+            return children[i];
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.jeopardyProject.Game.Checkpoint;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.jeopardyProject.Game.GameEngine;
+import com.jeopardyProject.Game.GameSession;
+import com.jeopardyProject.Game.QuestionList;
+
+/**
+ * Directory of {@link SessionCheckpoint} files, one per in-flight game.
+ * <p>
+ * A {@link GameEngine} constructed with a store gives every session it
+ * creates a checkpoint named {@code <caseId>.ckpt}. Sessions write it after
+ * each input and delete it when their game ends, so after a crash the
+ * directory holds exactly the games that were still being played.
+ * {@link #recover(GameEngine, QuestionList)} turns them back into sessions.
+ * </p>
+ *
+ * @see SessionCheckpoint
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public class CheckpointStore {
+    /** Suffix of checkpoint files. */
+    private static final String SUFFIX = ".ckpt";
+
+    /** Directory holding the checkpoint files. */
+    private final File directory;
+
+    /**
+     * Constructs a store over a directory, creating it if necessary.
+     *
+     * @param directory directory for checkpoint files
+     */
+    public CheckpointStore(File directory){
+        this.directory = directory;
+        if (!directory.isDirectory() && !directory.mkdirs())
+            System.err.println("Could not create checkpoint directory " + directory);
+    }
+
+    /**
+     * Creates the checkpoint for a new session.
+     * <p>
+     * The file is not touched until the session's first write.
+     * </p>
+     *
+     * @param caseId the session's case ID
+     * @return an unwritten checkpoint
+     */
+    public SessionCheckpoint checkpointFor(String caseId){
+        return new SessionCheckpoint(new File(directory, caseId + SUFFIX));
+    }
+
+    /**
+     * Resumes every game with a checkpoint in the directory.
+     * <p>
+     * Each game becomes a session created through the engine, under its
+     * original case ID, dealt the same board from the bank and restored to its
+     * latest checkpoint; it keeps writing to the same file. Checkpoints that
+     * are corrupt, belong to a different bank or clash with a registered
+     * session are reported on {@code System.err} and left in place.
+     * </p>
+     *
+     * @param engine the engine to register the resumed sessions with
+     * @param bank the question bank the games were played with
+     * @return the resumed sessions, in case ID order
+     */
+    public List<GameSession> recover(GameEngine engine, QuestionList bank){
+        List<GameSession> resumed = new ArrayList<>();
+        File[] files = directory.listFiles((dir, name) -> name.endsWith(SUFFIX));
+        if (files == null)
+            return resumed;
+        Arrays.sort(files);
+        for (File file : files){
+            SessionCheckpoint checkpoint = null;
+            GameSession session = null;
+            try{
+                checkpoint = SessionCheckpoint.load(file);
+                session = engine.createSession(checkpoint.getCaseId());
+                session.setQuestions(bank.boardFor(checkpoint.getCaseId()));
+                session.setCheckpoint(checkpoint);
+                checkpoint.restore(session);
+                resumed.add(session);
+            } catch (IOException | IllegalArgumentException e){
+                System.err.println("Could not resume " + file.getName() + ": " + e.getMessage());
+                if (checkpoint != null)
+                    checkpoint.close();
+                if (session != null)
+                    engine.endSession(session.getCaseId());
+            }
+        }
+        return resumed;
+    }
+
+    /**
+     * Gets the directory holding the checkpoint files.
+     *
+     * @return the checkpoint directory
+     */
+    public File getDirectory(){
+        return directory;
+    }
+}
@@ -0,0 +1,432 @@
+package com.jeopardyProject.Game.Checkpoint;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.zip.CRC32;
+
+import com.jeopardyProject.Game.GameSession;
+import com.jeopardyProject.Game.Player;
+import com.jeopardyProject.Game.PlayerList;
+import com.jeopardyProject.Game.QuestionBank;
+import com.jeopardyProject.Game.QuestionList;
+import com.jeopardyProject.Game.Command.ActionType;
+
+/**
+ * Memory-mapped crash-recovery checkpoint of one {@link GameSession}.
+ * <p>
+ * The checkpoint file is laid out once, on the first {@link #write}, with a
+ * static header (case ID, players in seating order, board size and the
+ * board's {@link QuestionBank#getFingerprint() fingerprint}) followed by two
+ * fixed-size state slots. Each
+ * write fills the older slot in place through the mapping with the turn
+ * number, phase, rotation, turn opener, selected category and question,
+ * scores and answered-question bitmap, stamped with a sequence number and a
+ * CRC32. Nothing is rewritten or flushed: a write is a few dozen stores into
+ * the page cache, which the operating system persists even if the JVM dies.
+ * A crash in the middle of a write leaves that slot's CRC invalid, and
+ * {@link #load(File)} falls back to the other slot.
+ * </p>
+ * <p>
+ * Layout (big-endian): header {@code magic, format, questions, players,
+ * fingerprint, slotOffset, caseId, playerIds...}; each slot
+ * {@code crc, sequence, turnNum, phase, flags, current, starter, category,
+ * question, scores[players], answered[ceil(questions / 64)]}. Player
+ * positions are indexes into the header's seating order, and the category
+ * is its ordinal in the board's {@link QuestionBank}.
+ * </p>
+ * <p>
+ * Not thread-safe: a checkpoint is written by the thread driving its session.
+ * </p>
+ *
+ * @see CheckpointStore
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public class SessionCheckpoint implements Closeable {
+    /** File magic: "JCKP". */
+    private static final int MAGIC = 0x4A434B50;
+
+    /** Layout version. */
+    private static final int FORMAT = 2;
+
+    /** Slots start on a cache-line boundary. */
+    private static final int SLOT_ALIGNMENT = 64;
+
+    /** Bytes of a slot before the scores. */
+    private static final int SLOT_FIXED_BYTES = 36;
+
+    /** Slot offsets of the fields. */
+    private static final int CRC = 0, SEQUENCE = 4, TURN = 8, PHASE = 12, FLAGS = 16,
+                             CURRENT = 20, STARTER = 24, CATEGORY = 28, QUESTION = 32;
+
+    /** Flag bit: other players are attempting a missed question. */
+    private static final int FLAG_STEALING = 1;
+
+    /** Flag bit: the session plays questions in buzz-in mode. */
+    private static final int FLAG_BUZZ_IN = 2;
+
+    /** The checkpoint file. */
+    private final File file;
+
+    /** Mapping of the whole file, or null before the first write. */
+    private MappedByteBuffer buffer;
+
+    /** Reused checksum. */
+    private final CRC32 crc = new CRC32();
+
+    /** Case ID of the checkpointed session. */
+    private String caseId;
+
+    /** Player IDs in seating order. */
+    private String[] playerIds;
+
+    /** Number of questions on the board. */
+    private int questionCount;
+
+    /** Fingerprint of the board the session was dealt. */
+    private int fingerprint;
+
+    /** Offset of the first slot. */
+    private int slotOffset;
+
+    /** Size of each slot in bytes. */
+    private int slotSize;
+
+    /** Sequence number of the latest write. */
+    private int sequence;
+
+    /** True once the checkpoint is closed or writing has failed; further writes are skipped. */
+    private boolean disabled;
+
+    /**
+     * Constructs a checkpoint that will be laid out in a file on first write.
+     *
+     * @param file the checkpoint file (created or replaced on first write)
+     */
+    public SessionCheckpoint(File file){
+        this.file = file;
+    }
+
+    /**
+     * Opens an existing checkpoint file for recovery.
+     *
+     * @param file the checkpoint file
+     * @return the mapped checkpoint, positioned after its latest valid write
+     * @throws IOException if the file cannot be read or is not a valid checkpoint
+     */
+    public static SessionCheckpoint load(File file) throws IOException {
+        SessionCheckpoint checkpoint = new SessionCheckpoint(file);
+        try{
+            checkpoint.map(file.length());
+            checkpoint.readHeader();
+            if (checkpoint.latestSlot() < 0)
+                throw new IOException("No valid state in checkpoint " + file);
+        } catch (IOException | RuntimeException e){
+            checkpoint.close();
+            throw e instanceof IOException ? (IOException) e : new IOException("Corrupt checkpoint " + file, e);
+        }
+        return checkpoint;
+    }
+
+    /**
+     * Records the session's current state.
+     * <p>
+     * The first call creates the file and writes the header from the
+     * session's players and board. An I/O error is reported on
+     * {@code System.err} and disables the checkpoint; the game carries on.
+     * </p>
+     *
+     * @param session the session to record
+     */
+    public void write(GameSession session){
+        if (disabled)
+            return;
+        if (buffer == null){
+            try{
+                layout(session);
+            } catch (IOException e){
+                System.err.println("Checkpointing disabled for " + session.getCaseId() + ": " + e.getMessage());
+                close();
+                return;
+            }
+        }
+        ArrayList<Player> rotation = session.getPlayers().getAllPlayers();
+        int current = rotation.isEmpty() ? -1 : seatOf(rotation.get(0).getPlayerId());
+        QuestionList board = session.getQuestions();
+        int base = slotOffset + (++sequence & 1) * slotSize;
+
+        buffer.putInt(base + SEQUENCE, sequence);
+        buffer.putInt(base + TURN, session.getTurnNum());
+        buffer.putInt(base + PHASE, session.getExpectedInput().ordinal());
+        buffer.putInt(base + FLAGS, (session.isStealing() ? FLAG_STEALING : 0) | (session.isBuzzInMode() ? FLAG_BUZZ_IN : 0));
+        buffer.putInt(base + CURRENT, current);
+        buffer.putInt(base + STARTER, session.getTurnStarterId() == null ? -1 : seatOf(session.getTurnStarterId()));
+        buffer.putInt(base + CATEGORY, session.getCategory() == null ? -1 : board.getBank().getCategoryOrdinal(session.getCategory()));
+        buffer.putInt(base + QUESTION, session.getQuestionIndex());
+        for (int i = 0; i < rotation.size(); i++)
+            buffer.putInt(base + SLOT_FIXED_BYTES + 4 * ((current + i) % playerIds.length), rotation.get(i).getScore());
+
+        int answered = base + answeredOffset();
+        for (int word = 0; word * 64 < questionCount; word++)
+            buffer.putLong(answered + 8 * word, board.getAnsweredWord(word));
+        buffer.putInt(base + CRC, checksum(base));
+    }
+
+    /**
+     * Restores a recovered session to the latest checkpointed state.
+     * <p>
+     * The session must have been dealt the same board, unanswered.
+     * Its players are seated in checkpointed rotation order with their scores,
+     * answered questions are taken off the board, and play resumes at the
+     * checkpointed phase with {@link GameSession#resumePlay}.
+     * </p>
+     *
+     * @param session a new session with its questions set
+     * @throws IOException if the session's board does not match the checkpoint
+     */
+    public void restore(GameSession session) throws IOException {
+        QuestionList questions = session.getQuestions();
+        QuestionBank board = questions.getBank();
+        if (board.size() != questionCount || board.getFingerprint() != fingerprint)
+            throw new IOException("Question bank does not match checkpoint for " + caseId);
+        int base = latestSlot();
+        int n = playerIds.length;
+        int current = Math.max(0, buffer.getInt(base + CURRENT));
+
+        PlayerList players = new PlayerList(session, n);
+        for (int i = 0; i < n; i++)
+            players.addPlayer(playerIds[(current + i) % n]);
+        ArrayList<Player> seated = players.getAllPlayers();
+        for (int i = 0; i < n; i++)
+            seated.get(i).setScore(buffer.getInt(base + SLOT_FIXED_BYTES + 4 * ((current + i) % n)));
+        session.setPlayers(players);
+
+        int answered = base + answeredOffset();
+        for (int i = 0; i < questionCount; i++)
+            questions.setAnswered(i, (buffer.getLong(answered + 8 * (i / 64)) & (1L << (i % 64))) != 0);
+
+        int flags = buffer.getInt(base + FLAGS);
+        int category = buffer.getInt(base + CATEGORY);
+        int starter = buffer.getInt(base + STARTER);
+        session.setBuzzInMode((flags & FLAG_BUZZ_IN) != 0);
+        session.resumePlay(
+            buffer.getInt(base + TURN),
+            ActionType.values()[buffer.getInt(base + PHASE)],
+            category < 0 ? null : board.getCategoryName(category),
+            buffer.getInt(base + QUESTION),
+            starter < 0 ? null : playerIds[starter],
+            (flags & FLAG_STEALING) != 0
+        );
+    }
+
+    /**
+     * Creates the file, maps it and writes the header.
+     *
+     * @param session the session being checkpointed
+     * @throws IOException if the file cannot be created or mapped
+     */
+    private void layout(GameSession session) throws IOException {
+        caseId = session.getCaseId();
+        ArrayList<Player> seated = session.getPlayers().getAllPlayers();
+        playerIds = new String[seated.size()];
+        for (int i = 0; i < playerIds.length; i++)
+            playerIds[i] = seated.get(i).getPlayerId();
+        QuestionBank board = session.getQuestions().getBank();
+        questionCount = board.size();
+        fingerprint = board.getFingerprint();
+
+        int headerSize = 24 + utfSize(caseId);
+        for (String id : playerIds)
+            headerSize += utfSize(id);
+        slotOffset = align(headerSize);
+        slotSize = align(answeredOffset() + 8 * ((questionCount + 63) / 64));
+
+        if (file.exists() && !file.delete())
+            throw new IOException("Cannot replace " + file);
+        map(slotOffset + 2L * slotSize);
+        buffer.putInt(MAGIC).putInt(FORMAT).putInt(questionCount).putInt(playerIds.length)
+              .putInt(fingerprint).putInt(slotOffset);
+        putUtf(caseId);
+        for (String id : playerIds)
+            putUtf(id);
+    }
+
+    /**
+     * Reads the header of a loaded file.
+     *
+     * @throws IOException if the header is not a valid checkpoint header
+     */
+    private void readHeader() throws IOException {
+        if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT)
+            throw new IOException("Not a checkpoint file: " + file);
+        questionCount = buffer.getInt();
+        playerIds = new String[buffer.getInt()];
+        fingerprint = buffer.getInt();
+        slotOffset = buffer.getInt();
+        caseId = getUtf();
+        for (int i = 0; i < playerIds.length; i++)
+            playerIds[i] = getUtf();
+        slotSize = align(answeredOffset() + 8 * ((questionCount + 63) / 64));
+        if ((long) slotOffset + 2L * slotSize > buffer.capacity())
+            throw new IOException("Truncated checkpoint: " + file);
+    }
+
+    /**
+     * Finds the slot holding the latest intact write, and continues the
+     * sequence from it.
+     *
+     * @return offset of the slot, or -1 if neither slot is intact
+     */
+    private int latestSlot(){
+        int best = -1;
+        for (int slot = 0; slot < 2; slot++){
+            int base = slotOffset + slot * slotSize;
+            int seq = buffer.getInt(base + SEQUENCE);
+            if (seq > 0 && buffer.getInt(base + CRC) == checksum(base) && (best < 0 || seq > sequence)){
+                best = base;
+                sequence = seq;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Maps the file read-write.
+     *
+     * @param size size to map, extending the file if necessary
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    private void map(long size) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")){
+            buffer = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }   // the mapping stays valid after the file is closed
+    }
+
+    /**
+     * Computes the CRC32 of a slot, excluding the CRC field itself.
+     *
+     * @param base offset of the slot
+     * @return the checksum
+     */
+    private int checksum(int base){
+        ByteBuffer slot = buffer.duplicate();
+        slot.limit(base + slotSize).position(base + SEQUENCE);
+        crc.reset();
+        crc.update(slot);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Finds a player's position in seating order.
+     *
+     * @param playerId the player's ID
+     * @return the seat index, or -1
+     */
+    private int seatOf(String playerId){
+        for (int i = 0; i < playerIds.length; i++)
+            if (playerIds[i].equals(playerId))
+                return i;
+        return -1;
+    }
+
+    /** @return offset of the answered bitmap within a slot */
+    private int answeredOffset(){
+        return (SLOT_FIXED_BYTES + 4 * playerIds.length + 7) & ~7;
+    }
+
+    /** @return size rounded up to the slot alignment */
+    private static int align(int size){
+        return (size + SLOT_ALIGNMENT - 1) & -SLOT_ALIGNMENT;
+    }
+
+    /** @return bytes taken by a length-prefixed UTF-8 string */
+    private static int utfSize(String s){
+        return 2 + s.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    /**
+     * Writes a length-prefixed UTF-8 string at the buffer position.
+     *
+     * @param s the string
+     */
+    private void putUtf(String s){
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        buffer.putShort((short) bytes.length).put(bytes);
+    }
+
+    /**
+     * Reads a length-prefixed UTF-8 string at the buffer position.
+     *
+     * @return the string
+     */
+    private String getUtf(){
+        byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gets the case ID of the checkpointed session.
+     *
+     * @return the case ID, or null before the first write
+     */
+    public String getCaseId(){
+        return caseId;
+    }
+
+    /**
+     * Gets the checkpoint file.
+     *
+     * @return the file
+     */
+    public File getFile(){
+        return file;
+    }
+
+    /**
+     * Gets the sequence number of the latest write.
+     *
+     * @return number of writes since the file was laid out
+     */
+    public int getSequence(){
+        return sequence;
+    }
+
+    /**
+     * Forces the mapped state to the storage device.
+     * <p>
+     * Not needed to survive a JVM crash, only a machine crash; costs a disk
+     * flush, so hosts call it sparingly (e.g. on shutdown).
+     * </p>
+     */
+    public void force(){
+        if (buffer != null)
+            buffer.force();
+    }
+
+    /**
+     * Releases the mapping and stops further writes. The file is left in
+     * place for recovery.
+     */
+    @Override
+    public void close(){
+        disabled = true;
+        buffer = null;
+    }
+
+    /**
+     * Releases the mapping and deletes the file, once the game is over.
+     */
+    public void delete(){
+        close();
+        if (file.exists() && !file.delete())
+            System.err.println("Could not delete checkpoint " + file);
+    }
+}
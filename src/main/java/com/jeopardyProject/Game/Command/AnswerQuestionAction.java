@@ -1,6 +1,6 @@
 package com.jeopardyProject.Game.Command;
 
-import com.jeopardyProject.Game.GameController;
+import com.jeopardyProject.Game.GameSession;
 import com.jeopardyProject.Game.Question;
 
 /**
@@ -10,6 +10,10 @@ import com.jeopardyProject.Game.Question;
  * the currently selected question. Performs case-insensitive comparison and
  * marks the question as answered if correct.
  * <p>
+ * The question is claimed with {@link Question#markAnswered()}, so when several
+ * players answer at once only the first correct answer succeeds; later correct
+ * answers fail with "Already answered.".
+ * <p>
  * Answer Format: Single letter (A, B, C, or D) matching the correct option key.
  *
  * @see Action
@@ -18,16 +22,16 @@ import com.jeopardyProject.Game.Question;
  * @version 1.0
  */
 public class AnswerQuestionAction implements Action{
-    /** Reference to game controller for accessing the current question. */
-    private final GameController controller;
+    /** Game session used for accessing the current question. */
+    private final GameSession session;
 
     /**
-     * Constructs an AnswerQuestionAction with the given controller.
+     * Constructs an AnswerQuestionAction bound to the given session.
      *
-     * @param controller the GameController managing game state
+     * @param session the GameSession managing game state
      */
-    public AnswerQuestionAction(GameController controller){
-        this.controller = controller;
+    public AnswerQuestionAction(GameSession session){
+        this.session = session;
     }
 
     /**
@@ -47,7 +51,7 @@ public class AnswerQuestionAction implements Action{
      */
     @Override
     public boolean isValid(){
-        return controller.getQuestion() != null;
+        return session.getQuestion() != null;
     }
 
     /**
@@ -57,7 +61,8 @@ public class AnswerQuestionAction implements Action{
      * If correct, marks the question as answered to prevent re-selection.
      *
      * @param input the answer option entered by the player (e.g., "A", "B", "C", "D")
-     * @return ActionResult.success("Correct!") if answer matches,
+     * @return ActionResult.success("Correct!") if answer matches and claims the question,
+     *         ActionResult.failure("Already answered.") if another player claimed it first,
      *         ActionResult.failure("Incorrect.") otherwise
      */
     @Override
@@ -66,15 +71,16 @@ public class AnswerQuestionAction implements Action{
             return ActionResult.failure("Input cannot be null");
         }
 
-        Question question = controller.getQuestion();
+        Question question = session.getQuestion();
         if(question == null){
             return ActionResult.failure("No question set");
         }
 
         boolean correct = input.equalsIgnoreCase(question.getRightAnswer());
         if(correct){
-            question.setIsAnswered(true);
-            return ActionResult.success("Correct!");
+            if(question.markAnswered())
+                return ActionResult.success("Correct!");
+            return ActionResult.failure("Already answered.");
         }
         return ActionResult.failure("Incorrect.");
     }
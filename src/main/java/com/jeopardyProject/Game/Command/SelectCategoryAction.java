@@ -1,35 +1,41 @@
 package com.jeopardyProject.Game.Command;
 
-import java.util.ArrayList;
+import java.util.List;
 
-import com.jeopardyProject.Game.GameController;
-import com.jeopardyProject.Game.Question;
+import com.jeopardyProject.Game.CategoryIndex;
+import com.jeopardyProject.Game.GameSession;
 
 /**
  * Command implementation for category selection action.
  * <p>
  * This action allows players to select a category by entering the full name
  * or just the first word. Uses <b>partial matching</b> to find categories
- * that start with the user's input (case-insensitive).
+ * that start with the user's input (case-insensitive), looked up in the
+ * board's {@link CategoryIndex}. A prefix shared by several categories is
+ * rejected with a list of the candidates rather than guessed.
  * <p>
  * Example: Input "VARIABLES" matches "Variables &amp; Data Types"
  *
  * @see Action
- * @see GameController#setCategory(String)
+ * @see CategoryIndex
+ * @see GameSession#setCategory(String)
  * @author COMP3607 Jeopardy Project Team
  * @version 1.0
  */
 public class SelectCategoryAction implements Action{
-    /** Reference to game controller for accessing questions and updating state. */
-    private final GameController controller;
+    /** Maximum number of candidates listed for an ambiguous prefix. */
+    private static final int MAX_SUGGESTIONS = 5;
+
+    /** Game session used for accessing questions and updating state. */
+    private final GameSession session;
 
     /**
-     * Constructs a SelectCategoryAction with the given controller.
+     * Constructs a SelectCategoryAction bound to the given session.
      *
-     * @param controller the GameController managing game state
+     * @param session the GameSession managing game state
      */
-    public SelectCategoryAction(GameController controller){
-        this.controller = controller;
+    public SelectCategoryAction(GameSession session){
+        this.session = session;
     }
 
     /**
@@ -49,36 +55,40 @@ public class SelectCategoryAction implements Action{
      */
     @Override
     public boolean isValid(){
-        return controller.getQuestions() != null &&
-               !controller.getQuestions().getQuestionArray().isEmpty();
+        return session.getQuestions() != null &&
+               session.getQuestions().size() > 0;
     }
 
     /**
      * Executes category selection using partial matching.
      * <p>
-     * Searches through all questions to find the first category that starts with
-     * the provided input (case-insensitive). If found, sets the category in the
-     * controller and returns success.
+     * Resolves the input to the category it names in full, or to the only
+     * category starting with it (case-insensitive). If found, sets the category
+     * in the session and returns success. An ambiguous prefix fails with the
+     * matching categories as suggestions.
      *
      * @param input the category name or prefix entered by the player
-     * @return ActionResult.success if category found, ActionResult.failure otherwise
+     * @return ActionResult.success if a single category matched, ActionResult.failure otherwise
      */
     @Override
     public ActionResult execute(String input){
         if(input == null){
             return ActionResult.failure("Input cannot be null");
         }
-        if(controller.getQuestions() == null){
+        if(session.getQuestions() == null){
             return ActionResult.failure("No questions available");
         }
 
-        ArrayList<Question> questions = controller.getQuestions().getQuestionArray();
-        for (Question question : questions){
-            String category = question.getCategory().toUpperCase();
-            if (category.startsWith(input)){
-                controller.setCategory(question.getCategory());
-                return ActionResult.success("Category selected: " + category.toLowerCase());
-            }
+        CategoryIndex index = session.getQuestions().getCategoryIndex();
+        String category = index.resolve(input);
+        if (category != null){
+            session.setCategory(category);
+            return ActionResult.success("Category selected: " + category.toLowerCase());
+        }
+        if (index.isAmbiguous(input)){
+            List<String> candidates = index.complete(input, MAX_SUGGESTIONS);
+            return ActionResult.failure("Ambiguous category \"" + input + "\". Did you mean: "
+                + String.join(", ", candidates) + "?");
         }
         return ActionResult.failure("Invalid category selection. Please try again.");
     }
@@ -1,8 +1,6 @@
 package com.jeopardyProject.Game.Command;
 
-import java.util.ArrayList;
-
-import com.jeopardyProject.Game.GameController;
+import com.jeopardyProject.Game.GameSession;
 import com.jeopardyProject.Game.Question;
 
 /**
@@ -14,21 +12,21 @@ import com.jeopardyProject.Game.Question;
  * not already been answered.
  *
  * @see Action
- * @see GameController#setQuestion(com.jeopardyProject.Game.Question)
+ * @see GameSession#setQuestion(com.jeopardyProject.Game.Question)
  * @author COMP3607 Jeopardy Project Team
  * @version 1.0
  */
 public class SelectQuestionAction implements Action{
-    /** Reference to game controller for accessing state and updating selection. */
-    private final GameController controller;
+    /** Game session used for accessing state and updating selection. */
+    private final GameSession session;
 
     /**
-     * Constructs a SelectQuestionAction with the given controller.
+     * Constructs a SelectQuestionAction bound to the given session.
      *
-     * @param controller the GameController managing game state
+     * @param session the GameSession managing game state
      */
-    public SelectQuestionAction(GameController controller){
-        this.controller = controller;
+    public SelectQuestionAction(GameSession session){
+        this.session = session;
     }
 
     /**
@@ -48,7 +46,7 @@ public class SelectQuestionAction implements Action{
      */
     @Override
     public boolean isValid(){
-        return controller.getQuestions() != null && controller.getCategory() != null;
+        return session.getQuestions() != null && session.getCategory() != null;
     }
 
     /**
@@ -57,9 +55,9 @@ public class SelectQuestionAction implements Action{
      * Validation Steps:
      * <ol>
      *   <li>Parse input as integer value</li>
-     *   <li>Search for question matching value in selected category</li>
+     *   <li>Look up the board cell for the selected category and value</li>
      *   <li>Check if question has already been answered</li>
-     *   <li>Set question in controller if valid</li>
+     *   <li>Set question in session if valid</li>
      * </ol>
      *
      * @param input the question value entered by the player (e.g., "200")
@@ -71,28 +69,25 @@ public class SelectQuestionAction implements Action{
         if(input == null){
             return ActionResult.failure("Input cannot be null");
         }
-        if(controller.getQuestions() == null){
+        if(session.getQuestions() == null){
             return ActionResult.failure("No questions available");
         }
 
-        String category = controller.getCategory();
+        String category = session.getCategory();
         if(category == null){
             return ActionResult.failure("No category selected");
         }
 
-        ArrayList<Question> sortedQuestions = controller.getQuestions().getQuestionsByCategory(category);
         try{
-            int value = Integer.parseInt(input);
-            for (Question question : sortedQuestions){
-                if (value == question.getValue()){
-                    if(question.getIsAnswered()){
-                        return ActionResult.failure("Question already answered. Please select another question.");
-                    }
-                    controller.setQuestion(question);
-                    return ActionResult.success("Value selected: " + input);
-                }
+            Question question = session.getQuestions().getQuestion(category, Integer.parseInt(input));
+            if (question == null){
+                return ActionResult.failure("Invalid value for selected category. Please try again.");
+            }
+            if(question.getIsAnswered()){
+                return ActionResult.failure("Question already answered. Please select another question.");
             }
-            return ActionResult.failure("Invalid value for selected category. Please try again.");
+            session.setQuestion(question);
+            return ActionResult.success("Value selected: " + input);
         } catch (NumberFormatException e){
             return ActionResult.failure("Invalid value entered.");
         }
@@ -0,0 +1,174 @@
+package com.jeopardyProject.Game.Events;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Append-only stream of one session's {@link GameEvent}s, with snapshots.
+ * <p>
+ * Each event is folded into the stream's current {@link GameState} as it is
+ * appended, so {@link #getState()} is always up to date; a
+ * {@link com.jeopardyProject.Game.GameSession} reads its turn number and
+ * selected question from it. Every {@code snapshotInterval} events the
+ * current state is copied into a snapshot and the events it covers are
+ * dropped, so a stream holds at most {@code snapshotInterval} events however
+ * long the game runs, and {@link #rebuild()} replays at most that many.
+ * Events still held can be persisted or shipped to a replica incrementally
+ * with {@link #eventsSince(int)}.
+ * </p>
+ * <p>
+ * Not thread-safe: a stream belongs to one session and is appended to by the
+ * thread driving it.
+ * </p>
+ *
+ * @see GameEvent
+ * @see GameState
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public class EventStream {
+    /** Default number of events between snapshots. */
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 64;
+
+    /** Number of events between snapshots. */
+    private final int snapshotInterval;
+
+    /** Events appended since the latest snapshot, oldest first. */
+    private final ArrayList<GameEvent> events = new ArrayList<>();
+
+    /** State after the first {@code snapshot.getVersion()} events. */
+    private GameState snapshot = new GameState();
+
+    /** State after every event appended so far. */
+    private final GameState current = new GameState();
+
+    /**
+     * Constructs an empty stream with the default snapshot interval.
+     */
+    public EventStream(){
+        this(DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    /**
+     * Constructs an empty stream.
+     *
+     * @param snapshotInterval number of events between snapshots
+     * @throws IllegalArgumentException if snapshotInterval is less than 1
+     */
+    public EventStream(int snapshotInterval){
+        if (snapshotInterval < 1)
+            throw new IllegalArgumentException("Snapshot interval must be at least 1.");
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    /**
+     * Appends an event, taking a snapshot when the interval is reached.
+     * <p>
+     * The event is applied to the current state first, so an event the
+     * state rejects is not appended.
+     * </p>
+     *
+     * @param event the next event
+     * @throws IllegalArgumentException if the event names an unknown player
+     */
+    public void append(GameEvent event){
+        current.apply(event);
+        events.add(event);
+        if (events.size() >= snapshotInterval){
+            snapshot = current.copy();
+            events.clear();
+        }
+    }
+
+    /**
+     * Gets the state after every event appended so far.
+     * <p>
+     * This is the stream's own state, not a copy, and must not be changed;
+     * use {@link #rebuild()} for a copy.
+     * </p>
+     *
+     * @return the current state
+     */
+    public GameState getState(){
+        return current;
+    }
+
+    /**
+     * Rebuilds the current state from the latest snapshot.
+     *
+     * @return a new GameState reflecting every event in the stream
+     */
+    public GameState rebuild(){
+        GameState state = snapshot.copy();
+        for (GameEvent event : events)
+            state.apply(event);
+        return state;
+    }
+
+    /**
+     * Gets a copy of the latest snapshot.
+     *
+     * @return state after the first {@link #getSnapshotVersion()} events
+     */
+    public GameState getSnapshot(){
+        return snapshot.copy();
+    }
+
+    /**
+     * Gets the number of events covered by the latest snapshot.
+     *
+     * @return snapshot position in the stream
+     */
+    public int getSnapshotVersion(){
+        return snapshot.getVersion();
+    }
+
+    /**
+     * Gets the events appended after a position, for incremental persistence
+     * or replication.
+     * <p>
+     * Only events since the latest snapshot are held; a reader that has
+     * fallen further behind should start again from {@link #getSnapshot()}.
+     * </p>
+     *
+     * @param version number of events already seen
+     * @return unmodifiable view of the later events
+     * @throws IllegalArgumentException if version is before the latest snapshot or after the end of the stream
+     */
+    public List<GameEvent> eventsSince(int version){
+        int from = version - snapshot.getVersion();
+        if (from < 0 || from > events.size())
+            throw new IllegalArgumentException("Events since " + version + " are not held; the stream holds "
+                + snapshot.getVersion() + " to " + size() + ".");
+        return Collections.unmodifiableList(events.subList(from, events.size()));
+    }
+
+    /**
+     * Gets the events appended since the latest snapshot.
+     *
+     * @return unmodifiable view of those events, oldest first
+     */
+    public List<GameEvent> getEvents(){
+        return Collections.unmodifiableList(events);
+    }
+
+    /**
+     * Gets the number of events appended to the stream, including those
+     * covered by the latest snapshot.
+     *
+     * @return event count
+     */
+    public int size(){
+        return current.getVersion();
+    }
+
+    /**
+     * Gets the number of events between snapshots.
+     *
+     * @return the snapshot interval
+     */
+    public int getSnapshotInterval(){
+        return snapshotInterval;
+    }
+}
@@ -0,0 +1,275 @@
+package com.jeopardyProject.Game.Events;
+
+/**
+ * Immutable record of one change to a game's state.
+ * <p>
+ * A session's state is the fold of its events in order (see
+ * {@link GameState#apply(GameEvent)}). Events are created through static
+ * factory methods, one per {@link Type}; fields a type does not use are left
+ * null, 0 or false. Questions are identified by their index in the session's
+ * board ({@code QuestionList.getQuestionArray()}), so events never hold
+ * references to mutable game objects.
+ * </p>
+ *
+ * @see EventStream
+ * @see GameState
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public final class GameEvent {
+    /**
+     * Kinds of state change.
+     */
+    public enum Type {
+        /** A player took a seat; players join in turn order. */
+        PLAYER_JOINED,
+
+        /** The current player chose a category. */
+        CATEGORY_SELECTED,
+
+        /** The current player chose a question by value. */
+        QUESTION_SELECTED,
+
+        /** A player's answer was scored. */
+        ANSWER_SUBMITTED,
+
+        /** The turn moved to another player. */
+        TURN_PASSED,
+
+        /** The question was removed from the board and the turn number advanced. */
+        QUESTION_CLOSED,
+
+        /** The game was restored from a checkpoint and continues at a given turn. */
+        GAME_RESUMED,
+
+        /** The game finished or was quit. */
+        GAME_ENDED
+    }
+
+    /** What kind of change this is. */
+    private final Type type;
+
+    /** Player concerned, if any. */
+    private final String playerId;
+
+    /** Category selected, if any. */
+    private final String category;
+
+    /** Question value selected, or turn number resumed at, if any. */
+    private final int value;
+
+    /** Board index of the question concerned, or -1. */
+    private final int questionIndex;
+
+    /** Answer submitted, if any. */
+    private final String answer;
+
+    /** Whether the answer won the question. */
+    private final boolean correct;
+
+    /** Points added to the player's score by the answer. */
+    private final int scoreDelta;
+
+    /**
+     * Private constructor to enforce use of static factory methods.
+     *
+     * @param type what kind of change this is
+     * @param playerId player concerned, or null
+     * @param category category selected, or null
+     * @param value question value selected, turn number resumed at, or 0
+     * @param questionIndex board index of the question concerned, or -1
+     * @param answer answer submitted, or null
+     * @param correct whether the answer won the question
+     * @param scoreDelta points added to the player's score
+     */
+    private GameEvent(Type type, String playerId, String category, int value, int questionIndex,
+                      String answer, boolean correct, int scoreDelta){
+        this.type = type;
+        this.playerId = playerId;
+        this.category = category;
+        this.value = value;
+        this.questionIndex = questionIndex;
+        this.answer = answer;
+        this.correct = correct;
+        this.scoreDelta = scoreDelta;
+    }
+
+    /**
+     * Creates an event seating a player.
+     *
+     * @param playerId the player's ID
+     * @return new PLAYER_JOINED event
+     */
+    public static GameEvent playerJoined(String playerId){
+        return new GameEvent(Type.PLAYER_JOINED, playerId, null, 0, -1, null, false, 0);
+    }
+
+    /**
+     * Creates an event recording a category choice.
+     *
+     * @param playerId the choosing player
+     * @param category the category chosen
+     * @return new CATEGORY_SELECTED event
+     */
+    public static GameEvent categorySelected(String playerId, String category){
+        return new GameEvent(Type.CATEGORY_SELECTED, playerId, category, 0, -1, null, false, 0);
+    }
+
+    /**
+     * Creates an event recording a question choice.
+     *
+     * @param playerId the choosing player
+     * @param category the question's category
+     * @param value the question's value
+     * @param questionIndex the question's board index
+     * @return new QUESTION_SELECTED event
+     */
+    public static GameEvent questionSelected(String playerId, String category, int value, int questionIndex){
+        return new GameEvent(Type.QUESTION_SELECTED, playerId, category, value, questionIndex, null, false, 0);
+    }
+
+    /**
+     * Creates an event recording a scored answer.
+     *
+     * @param playerId the answering player
+     * @param answer the answer given
+     * @param correct true if the answer won the question
+     * @param scoreDelta points added to the player's score (negative for a deduction)
+     * @return new ANSWER_SUBMITTED event
+     */
+    public static GameEvent answerSubmitted(String playerId, String answer, boolean correct, int scoreDelta){
+        return new GameEvent(Type.ANSWER_SUBMITTED, playerId, null, 0, -1, answer, correct, scoreDelta);
+    }
+
+    /**
+     * Creates an event moving the turn to a player.
+     *
+     * @param playerId the player now at the front of the rotation
+     * @return new TURN_PASSED event
+     */
+    public static GameEvent turnPassed(String playerId){
+        return new GameEvent(Type.TURN_PASSED, playerId, null, 0, -1, null, false, 0);
+    }
+
+    /**
+     * Creates an event closing a question and advancing the turn number.
+     *
+     * @param questionIndex the question's board index
+     * @return new QUESTION_CLOSED event
+     */
+    public static GameEvent questionClosed(int questionIndex){
+        return new GameEvent(Type.QUESTION_CLOSED, null, null, 0, questionIndex, null, false, 0);
+    }
+
+    /**
+     * Creates an event resuming a checkpointed game.
+     * <p>
+     * Follows the events that rebuild the checkpoint's players, scores and
+     * board, and sets the turn number they do not determine.
+     * </p>
+     *
+     * @param turnNum the checkpointed turn number
+     * @return new GAME_RESUMED event
+     */
+    public static GameEvent gameResumed(int turnNum){
+        return new GameEvent(Type.GAME_RESUMED, null, null, turnNum, -1, null, false, 0);
+    }
+
+    /**
+     * Creates an event ending the game.
+     *
+     * @return new GAME_ENDED event
+     */
+    public static GameEvent gameEnded(){
+        return new GameEvent(Type.GAME_ENDED, null, null, 0, -1, null, false, 0);
+    }
+
+    /**
+     * Gets the kind of change.
+     *
+     * @return the event type
+     */
+    public Type getType(){
+        return type;
+    }
+
+    /**
+     * Gets the player concerned.
+     *
+     * @return the player ID, or null
+     */
+    public String getPlayerId(){
+        return playerId;
+    }
+
+    /**
+     * Gets the category selected.
+     *
+     * @return the category, or null
+     */
+    public String getCategory(){
+        return category;
+    }
+
+    /**
+     * Gets the question value selected, or the turn number a game resumed at.
+     *
+     * @return the value or turn number, or 0
+     */
+    public int getValue(){
+        return value;
+    }
+
+    /**
+     * Gets the board index of the question concerned.
+     *
+     * @return the index, or -1
+     */
+    public int getQuestionIndex(){
+        return questionIndex;
+    }
+
+    /**
+     * Gets the answer submitted.
+     *
+     * @return the answer, or null
+     */
+    public String getAnswer(){
+        return answer;
+    }
+
+    /**
+     * Checks whether the answer won the question.
+     *
+     * @return true for a winning answer
+     */
+    public boolean isCorrect(){
+        return correct;
+    }
+
+    /**
+     * Gets the points added to the player's score.
+     *
+     * @return the score change
+     */
+    public int getScoreDelta(){
+        return scoreDelta;
+    }
+
+    /**
+     * Formats the event for debugging.
+     *
+     * @return the type followed by its populated fields
+     */
+    @Override
+    public String toString(){
+        StringBuilder sb = new StringBuilder(type.name());
+        if (playerId != null) sb.append(" player=").append(playerId);
+        if (category != null) sb.append(" category=").append(category);
+        if (value != 0) sb.append(" value=").append(value);
+        if (questionIndex >= 0) sb.append(" question=").append(questionIndex);
+        if (answer != null) sb.append(" answer=").append(answer).append(correct ? " (correct)" : "");
+        if (scoreDelta != 0) sb.append(" delta=").append(scoreDelta);
+        return sb.toString();
+    }
+}
@@ -0,0 +1,267 @@
+package com.jeopardyProject.Game.Events;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Game state rebuilt by folding {@link GameEvent}s.
+ * <p>
+ * Holds only what the events determine, in compact form: the players in
+ * turn order with their scores in a parallel {@code int[]}, the answered
+ * questions as a {@link BitSet} over board indexes, the current player,
+ * turn number and the category and question being played. This is also the
+ * snapshot format of an {@link EventStream}; {@link #copy()} is cheap.
+ * </p>
+ *
+ * @see EventStream
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public class GameState {
+    /** Player IDs in the order they joined. */
+    private final ArrayList<String> players;
+
+    /** Scores, parallel to {@link #players}. */
+    private int[] scores;
+
+    /** Board indexes of closed questions. */
+    private final BitSet answered;
+
+    /** Player whose turn it is, or null before anyone joins. */
+    private String currentPlayer;
+
+    /** Current 1-based turn number. */
+    private int turnNum;
+
+    /** Category being played, or null. */
+    private String category;
+
+    /** Value of the question being played, or 0. */
+    private int value;
+
+    /** Board index of the question being played, or -1. */
+    private int questionIndex;
+
+    /** False once the game has ended. */
+    private boolean running;
+
+    /** Number of events folded into this state. */
+    private int version;
+
+    /**
+     * Constructs the state of a game before any event.
+     */
+    public GameState(){
+        this.players = new ArrayList<>();
+        this.scores = new int[4];
+        this.answered = new BitSet();
+        this.turnNum = 1;
+        this.questionIndex = -1;
+        this.running = true;
+    }
+
+    /**
+     * Copy constructor used for snapshots.
+     *
+     * @param other the state to copy
+     */
+    private GameState(GameState other){
+        this.players = new ArrayList<>(other.players);
+        this.scores = Arrays.copyOf(other.scores, other.scores.length);
+        this.answered = (BitSet) other.answered.clone();
+        this.currentPlayer = other.currentPlayer;
+        this.turnNum = other.turnNum;
+        this.category = other.category;
+        this.value = other.value;
+        this.questionIndex = other.questionIndex;
+        this.running = other.running;
+        this.version = other.version;
+    }
+
+    /**
+     * Creates an independent copy of this state.
+     *
+     * @return a new GameState equal to this one
+     */
+    public GameState copy(){
+        return new GameState(this);
+    }
+
+    /**
+     * Folds one event into the state.
+     *
+     * @param event the next event in the stream
+     * @throws IllegalArgumentException if the event names an unknown player
+     */
+    public void apply(GameEvent event){
+        switch (event.getType()){
+            case PLAYER_JOINED:
+                if (players.size() == scores.length)
+                    scores = Arrays.copyOf(scores, scores.length * 2);
+                players.add(event.getPlayerId());
+                if (currentPlayer == null)
+                    currentPlayer = event.getPlayerId();
+                break;
+            case CATEGORY_SELECTED:
+                category = event.getCategory();
+                break;
+            case QUESTION_SELECTED:
+                category = event.getCategory();
+                value = event.getValue();
+                questionIndex = event.getQuestionIndex();
+                break;
+            case ANSWER_SUBMITTED:
+                scores[indexOf(event.getPlayerId())] += event.getScoreDelta();
+                break;
+            case TURN_PASSED:
+                currentPlayer = event.getPlayerId();
+                break;
+            case QUESTION_CLOSED:
+                answered.set(event.getQuestionIndex());
+                turnNum++;
+                category = null;
+                value = 0;
+                questionIndex = -1;
+                break;
+            case GAME_RESUMED:
+                turnNum = event.getValue();
+                break;
+            case GAME_ENDED:
+                running = false;
+                break;
+        }
+        version++;
+    }
+
+    /**
+     * Finds a player's position in join order.
+     *
+     * @param playerId the player's ID
+     * @return the index into {@link #scores}
+     * @throws IllegalArgumentException if no such player has joined
+     */
+    private int indexOf(String playerId){
+        int index = players.indexOf(playerId);
+        if (index < 0)
+            throw new IllegalArgumentException("Unknown player in event: " + playerId);
+        return index;
+    }
+
+    /**
+     * Gets the players in the order they joined.
+     *
+     * @return list of player IDs
+     */
+    public List<String> getPlayers(){
+        return new ArrayList<>(players);
+    }
+
+    /**
+     * Gets a player's score.
+     *
+     * @param playerId the player's ID
+     * @return the score
+     * @throws IllegalArgumentException if no such player has joined
+     */
+    public int getScore(String playerId){
+        return scores[indexOf(playerId)];
+    }
+
+    /**
+     * Gets every player's score in join order.
+     *
+     * @return map of player ID to score
+     */
+    public Map<String, Integer> getScores(){
+        Map<String, Integer> result = new LinkedHashMap<>();
+        for (int i = 0; i < players.size(); i++)
+            result.put(players.get(i), scores[i]);
+        return result;
+    }
+
+    /**
+     * Checks whether a question has been closed.
+     *
+     * @param questionIndex the question's board index
+     * @return true if the question is off the board
+     */
+    public boolean isAnswered(int questionIndex){
+        return answered.get(questionIndex);
+    }
+
+    /**
+     * Gets the number of closed questions.
+     *
+     * @return answered question count
+     */
+    public int getAnsweredCount(){
+        return answered.cardinality();
+    }
+
+    /**
+     * Gets the player whose turn it is.
+     *
+     * @return the current player's ID, or null before anyone joins
+     */
+    public String getCurrentPlayer(){
+        return currentPlayer;
+    }
+
+    /**
+     * Gets the current turn number.
+     *
+     * @return the 1-based turn number
+     */
+    public int getTurnNum(){
+        return turnNum;
+    }
+
+    /**
+     * Gets the category being played.
+     *
+     * @return the category, or null between questions
+     */
+    public String getCategory(){
+        return category;
+    }
+
+    /**
+     * Gets the value of the question being played.
+     *
+     * @return the value, or 0 between questions
+     */
+    public int getValue(){
+        return value;
+    }
+
+    /**
+     * Gets the board index of the question being played.
+     *
+     * @return the index, or -1 between questions
+     */
+    public int getQuestionIndex(){
+        return questionIndex;
+    }
+
+    /**
+     * Checks whether the game is still in progress.
+     *
+     * @return false once a GAME_ENDED event has been applied
+     */
+    public boolean isRunning(){
+        return running;
+    }
+
+    /**
+     * Gets the number of events folded into this state.
+     *
+     * @return the stream position this state reflects
+     */
+    public int getVersion(){
+        return version;
+    }
+}
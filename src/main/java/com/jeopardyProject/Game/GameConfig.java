@@ -1,5 +1,6 @@
 package com.jeopardyProject.Game;
 
+import java.io.File;
 import java.util.Scanner;
 
 import com.jeopardyProject.Game.Logs.GameEventLog;
@@ -26,10 +27,13 @@ import com.jeopardyProject.Game.Template.*;
  */
 public class GameConfig {
     /** Minimum number of players required to start a game. */
-    private static final int MIN_PLAYERS = 2;
+    public static final int MIN_PLAYERS = 2;
 
     /** Maximum number of players allowed in a game. */
-    private static final int MAX_PLAYERS = 4;
+    public static final int MAX_PLAYERS = 4;
+
+    /** CSV files at least this large are read with {@link LazyCsvFileReader}. */
+    public static final long LAZY_CSV_BYTES = 16L << 20;
 
     /** Scanner for reading user input during setup. */
     private Scanner scanner;
@@ -47,34 +51,78 @@ public class GameConfig {
     private static String playerId = "System";
 
     /** Logger instance for tracking configuration events. */
-    private Logger logger = Logger.getInstance();
+    private Logger logger;
 
     /** Number of players selected for the game. */
     private int numPlayers;
 
     /**
      * Constructs a new GameConfig with the specified case ID.
+     * <p>
+     * Events are logged to the shared console {@link Logger}.
+     * </p>
      *
      * @param caseId unique identifier for the game session (e.g., "Game_001")
      */
     public GameConfig(String caseId){
+        this(caseId, Logger.getInstance());
+    }
+
+    /**
+     * Constructs a new GameConfig that logs to a session-specific logger.
+     *
+     * @param caseId unique identifier for the game session (e.g., "Game_001")
+     * @param logger logger receiving this session's configuration events
+     */
+    public GameConfig(String caseId, Logger logger){
         this.caseId = caseId;
+        this.logger = logger;
         this.scanner = new Scanner(System.in);
     }
 
+    /**
+     * Instantiates the file reader matching a question file's extension.
+     * <p>
+     * Supports four file formats:
+     * <ul>
+     *   <li><b>.csv</b> - Creates {@link CsvFileReader}, or {@link LazyCsvFileReader}
+     *       for files of {@link #LAZY_CSV_BYTES} or more</li>
+     *   <li><b>.json</b> - Creates {@link JsonFileReader}</li>
+     *   <li><b>.xml</b> - Creates {@link XmlFileReader}</li>
+     *   <li><b>.jqs</b> - Creates {@link CompiledBankFileReader} for banks
+     *       compiled by {@link BankCompiler}</li>
+     * </ul>
+     *
+     * @param filepath path to the question file
+     * @return a FileReaderTemplate for that format
+     * @throws IllegalArgumentException if file extension is not .csv, .json, .xml or .jqs
+     */
+    public static FileReaderTemplate createFileReader(String filepath){
+        if(filepath.endsWith(".csv"))
+            return new File(filepath).length() >= LAZY_CSV_BYTES ? new LazyCsvFileReader(filepath) : new CsvFileReader(filepath);
+        if(filepath.endsWith(".json"))
+            return new JsonFileReader(filepath);
+        if(filepath.endsWith(".xml"))
+            return new XmlFileReader(filepath);
+        if(filepath.endsWith(".jqs"))
+            return new CompiledBankFileReader(filepath);
+        throw new IllegalArgumentException("File format not supported. Supported formats: .csv, .json, .xml, .jqs");
+    }
+
     /**
      * Prompts user for file path and instantiates the appropriate file reader.
      * <p>
-     * Supports three file formats:
+     * Supports four file formats:
      * <ul>
      *   <li><b>.csv</b> - Creates {@link CsvFileReader}</li>
      *   <li><b>.json</b> - Creates {@link JsonFileReader}</li>
      *   <li><b>.xml</b> - Creates {@link XmlFileReader}</li>
+     *   <li><b>.jqs</b> - Creates {@link CompiledBankFileReader}</li>
      * </ul>
      * Loops until a valid file path with supported extension is provided.
      * </p>
      *
-     * @throws IllegalArgumentException if file extension is not .csv, .json, or .xml
+     * @throws IllegalArgumentException if file extension is not .csv, .json, .xml or .jqs
      */
     private void setFileReader(){
         boolean success = false;
@@ -82,20 +130,8 @@ public class GameConfig {
             System.out.print("Enter absolute filepath to load questions: ");
             this.filepath = scanner.nextLine();
             try{
-                if(filepath.endsWith(".csv")){
-                    this.fileReader = new CsvFileReader(filepath);
-                    success=true;
-                }
-                else if(filepath.endsWith(".json")){
-                    this.fileReader = new JsonFileReader(filepath);
-                    success=true;
-                }
-                else if(filepath.endsWith(".xml")){
-                    this.fileReader = new XmlFileReader(filepath);
-                    success=true;
-                }
-                else
-                    throw new IllegalArgumentException("File format not supported. Supported formats: .csv, .json, .xml");
+                this.fileReader = createFileReader(filepath);
+                success=true;
             } catch (Exception e) {
                 System.out.println("Invalid file or format. Please enter a valid filepath.");
             }
@@ -195,18 +231,19 @@ public class GameConfig {
      * Process:
      * <ol>
      *   <li>Validate and set number of players via {@link #setNumPlayers()}</li>
-     *   <li>Create {@link PlayerList} with specified capacity</li>
+     *   <li>Create {@link PlayerList} bound to the session with specified capacity</li>
      *   <li>Prompt for each player's name and add to list</li>
      *   <li>Log each player registration event</li>
      * </ol>
      *
+     * @param session the GameSession the players will act on
      * @return PlayerList containing all registered players
      * @see PlayerList#addPlayer(String)
      */
-    public PlayerList addPlayers(){
+    public PlayerList addPlayers(GameSession session){
         setNumPlayers();
 
-        PlayerList players = new PlayerList(this.numPlayers);
+        PlayerList players = new PlayerList(session, this.numPlayers);
         String playerId;
 
         for(int i=1; i<=this.numPlayers; i++){
@@ -0,0 +1,203 @@
+package com.jeopardyProject.Game;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.jeopardyProject.Game.Checkpoint.CheckpointStore;
+import com.jeopardyProject.Game.Logs.Logger;
+
+/**
+ * Hosts many independent {@link GameSession}s in a single JVM.
+ * <p>
+ * Each session created by the engine gets its own case ID, {@link Logger}
+ * (writing {@code <caseId>_LogReport.csv} and {@code <caseId>_TurnReport.txt}
+ * into the engine's report directory) and {@link GameView}. Sessions share
+ * no mutable state, so one process can run thousands of games at once.
+ * </p>
+ * <p>
+ * Session lookup and registration are thread-safe; the sessions themselves
+ * are expected to be driven by one thread at a time.
+ * </p>
+ * <p>
+ * An engine constructed with a {@link CheckpointStore} checkpoints every
+ * session it creates, and after a crash {@link #recoverSessions(QuestionList)}
+ * resumes the games that were in flight.
+ * </p>
+ *
+ * @see GameSession
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public class GameEngine {
+    /** Suffix appended to the case ID for each session's CSV event log. */
+    private static final String CSV_SUFFIX = "_LogReport.csv";
+
+    /** Suffix appended to the case ID for each session's turn report. */
+    private static final String TXT_SUFFIX = "_TurnReport.txt";
+
+    /** Active sessions keyed by case ID. */
+    private final ConcurrentHashMap<String, GameSession> sessions = new ConcurrentHashMap<>();
+
+    /** Counter used to number sessions created by this engine. */
+    private final AtomicInteger gameCount = new AtomicInteger();
+
+    /** Directory that session reports are written into. */
+    private final File reportDirectory;
+
+    /** Crash-recovery checkpoints for created sessions, or null for none. */
+    private final CheckpointStore checkpoints;
+
+    /**
+     * Constructs an engine writing session reports to the working directory.
+     */
+    public GameEngine(){
+        this(new File("."));
+    }
+
+    /**
+     * Constructs an engine writing session reports to the given directory.
+     *
+     * @param reportDirectory directory for per-session CSV and TXT reports
+     */
+    public GameEngine(File reportDirectory){
+        this(reportDirectory, null);
+    }
+
+    /**
+     * Constructs an engine that also checkpoints every session it creates.
+     *
+     * @param reportDirectory directory for per-session CSV and TXT reports
+     * @param checkpoints store for the sessions' checkpoints, or null for none
+     */
+    public GameEngine(File reportDirectory, CheckpointStore checkpoints){
+        this.reportDirectory = reportDirectory;
+        this.checkpoints = checkpoints;
+    }
+
+    /**
+     * Creates and registers a session with the next sequential case ID.
+     *
+     * @return the new session (format of case ID: "Game_XXX")
+     */
+    public GameSession createSession(){
+        return createSession(nextCaseId());
+    }
+
+    /**
+     * Creates and registers a session with the given case ID.
+     *
+     * @param caseId unique identifier for the new session
+     * @return the new session
+     * @throws IllegalArgumentException if a session with this case ID already exists
+     */
+    public GameSession createSession(String caseId){
+        return createSession(caseId, createLogger(caseId), new GameView());
+    }
+
+    /**
+     * Creates and registers a session with a caller-supplied logger and view.
+     * <p>
+     * Used by hosts that render or log differently from the console, such as
+     * headless simulations.
+     * </p>
+     *
+     * @param caseId unique identifier for the new session
+     * @param logger logger receiving the session's events
+     * @param view view rendering the session's output
+     * @return the new session
+     * @throws IllegalArgumentException if a session with this case ID already exists
+     */
+    public GameSession createSession(String caseId, Logger logger, GameView view){
+        GameSession session = new GameSession(caseId, logger, view);
+        if (sessions.putIfAbsent(caseId, session) != null)
+            throw new IllegalArgumentException("Session already exists: " + caseId);
+        if (checkpoints != null)
+            session.setCheckpoint(checkpoints.checkpointFor(caseId));
+        return session;
+    }
+
+    /**
+     * Resumes the games left in flight by a previous run of the engine.
+     * <p>
+     * Every checkpoint in the engine's store becomes a registered session,
+     * restored to the phase it had reached and ready for its next input.
+     * </p>
+     *
+     * @param bank the question bank the games were played with
+     * @return the resumed sessions, or an empty list without a checkpoint store
+     * @see CheckpointStore#recover(GameEngine, QuestionList)
+     */
+    public List<GameSession> recoverSessions(QuestionList bank){
+        if (checkpoints == null)
+            return new ArrayList<>();
+        return checkpoints.recover(this, bank);
+    }
+
+    /**
+     * Generates the next unused sequential case ID.
+     *
+     * @return a case ID of the form "Game_XXX"
+     */
+    public String nextCaseId(){
+        String caseId;
+        do {
+            caseId = "Game_" + String.format("%03d", gameCount.incrementAndGet());
+        } while (sessions.containsKey(caseId));
+        return caseId;
+    }
+
+    /**
+     * Creates the logger for a session, writing into the report directory.
+     *
+     * @param caseId case ID used to name the report files
+     * @return a Logger dedicated to that session
+     */
+    public Logger createLogger(String caseId){
+        return new Logger(
+            new File(reportDirectory, caseId + CSV_SUFFIX).getPath(),
+            new File(reportDirectory, caseId + TXT_SUFFIX).getPath()
+        );
+    }
+
+    /**
+     * Looks up an active session.
+     *
+     * @param caseId the session's case ID
+     * @return the session, or null if no such session is registered
+     */
+    public GameSession getSession(String caseId){
+        return sessions.get(caseId);
+    }
+
+    /**
+     * Removes a finished session from the engine.
+     *
+     * @param caseId the session's case ID
+     * @return the removed session, or null if it was not registered
+     */
+    public GameSession endSession(String caseId){
+        return sessions.remove(caseId);
+    }
+
+    /**
+     * Gets a snapshot of all active sessions.
+     *
+     * @return collection of registered sessions
+     */
+    public Collection<GameSession> getSessions(){
+        return new ArrayList<>(sessions.values());
+    }
+
+    /**
+     * Gets the number of active sessions.
+     *
+     * @return active session count
+     */
+    public int getSessionCount(){
+        return sessions.size();
+    }
+}
@@ -0,0 +1,798 @@
+package com.jeopardyProject.Game;
+
+import com.jeopardyProject.Game.Checkpoint.SessionCheckpoint;
+import com.jeopardyProject.Game.Command.ActionResult;
+import com.jeopardyProject.Game.Command.ActionType;
+import com.jeopardyProject.Game.Events.EventStream;
+import com.jeopardyProject.Game.Events.GameEvent;
+import com.jeopardyProject.Game.Input.ConsoleInputSource;
+import com.jeopardyProject.Game.Input.InputSource;
+import com.jeopardyProject.Game.Logs.GameEventLog;
+import com.jeopardyProject.Game.Logs.Logger;
+import com.jeopardyProject.Game.State.PlayerState;
+import com.jeopardyProject.Game.State.StateRegistry;
+
+/**
+ * A single, self-contained Jeopardy game.
+ * <p>
+ * Each session owns everything a game needs: its case ID, question list,
+ * player list, currently selected category and question, view and logger.
+ * Nothing is shared through static state, so any number of sessions can
+ * live side by side in one JVM under a {@link GameEngine}.
+ * </p>
+ * <p>
+ * Commands and the {@link PlayerList} are handed the session they act on,
+ * rather than looking up a global controller.
+ * </p>
+ * <p>
+ * Each state change during play is appended to the session's
+ * {@link EventStream}. The turn number and the board index of the question
+ * being played are read from the stream's folded state rather than kept
+ * here; scores and answered questions stay on the {@link Player}s and the
+ * {@link QuestionList}, which the commands change, and the events mirror them.
+ * </p>
+ * <p>
+ * A session given a {@link SessionCheckpoint} records its state there after
+ * every input, so a game can be resumed with {@link #resumePlay} after a crash.
+ * </p>
+ *
+ * @see GameEngine
+ * @see GameController
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public class GameSession {
+    /** System player ID used for logging system-level events. */
+    protected static final String SYSTEM_PLAYER_ID = "System";
+
+    /** Logger for this session's event and turn reports. */
+    private Logger logger;
+
+    /** View layer for console output rendering. */
+    private GameView view;
+
+    /** Source of player input, defaulting to the console on first use. */
+    private InputSource inputSource;
+
+    /** Configuration manager for game setup operations. */
+    private GameConfig config;
+
+    /** Unique identifier for this game session (format: "Game_XXX"). */
+    private String caseId;
+
+    /** Collection of all questions loaded for this game. */
+    private QuestionList questions;
+
+    /** Currently selected category during gameplay. */
+    private String category;
+
+    /** Currently selected question being answered. */
+    private Question question;
+
+    /** Manages the list of players and turn rotation. */
+    private PlayerList players;
+
+    /** Reference to the player whose turn is currently active. */
+    private Player currentPlayer;
+
+    /** Flag indicating whether the game loop should continue running. */
+    private volatile boolean gameRunning = true;
+
+    /** When true, every player answers each question at once (see {@link BuzzInRound}). */
+    private boolean buzzInMode;
+
+    /** The open buzz-in round, or null when no question is being buzzed. */
+    private volatile BuzzInRound buzzRound;
+
+    /** Player who opened the current turn; attempts stop when it comes back round. */
+    private String turnStarterId;
+
+    /** True while players other than the turn's opener are attempting the question. */
+    private boolean stealing;
+
+    /** True once the end-of-game reports have been produced. */
+    private boolean exited;
+
+    /** Every change to this game's state, as immutable events. */
+    private final EventStream events = new EventStream();
+
+    /** Crash-recovery checkpoint written after each input, or null. */
+    private SessionCheckpoint checkpoint;
+
+    /**
+     * Constructs a new session with its own logger and view.
+     *
+     * @param caseId unique identifier for the session (e.g., "Game_001")
+     * @param logger logger receiving this session's events
+     * @param view view used to render this session's output
+     */
+    public GameSession(String caseId, Logger logger, GameView view){
+        this.caseId = caseId;
+        this.logger = logger;
+        this.view = view;
+    }
+
+    /**
+     * Gets the view component for rendering game output.
+     *
+     * @return the GameView instance used for display
+     */
+    public GameView getView(){
+        return this.view;
+    }
+
+    /**
+     * Gets the logger recording this session's events.
+     *
+     * @return the session Logger
+     */
+    public Logger getLogger(){
+        return this.logger;
+    }
+
+    /**
+     * Gets the unique case ID for this game session.
+     *
+     * @return the case ID string (format: "Game_XXX")
+     */
+    public String getCaseId(){
+        return this.caseId;
+    }
+
+    /**
+     * Sets the case ID for this game session.
+     *
+     * @param caseId the new case ID
+     */
+    protected void setCaseId(String caseId){
+        this.caseId = caseId;
+    }
+
+    /**
+     * Initializes the session's reports and logs the game start event.
+     * <p>
+     * Clears previous reports and logs the "Start Game" event.
+     * </p>
+     */
+    public void startGame(){
+        logger.clearReports();
+        logger.log(
+            new GameEventLog(this.caseId, SYSTEM_PLAYER_ID, "Start Game")
+        );
+    }
+
+    /**
+     * Configures the game by loading questions and registering players.
+     * <p>
+     * Delegates to {@link GameConfig} to:
+     * <ol>
+     *   <li>Load questions from user-specified file (CSV/JSON/XML)</li>
+     *   <li>Register 2-4 players with their chosen names</li>
+     * </ol>
+     * Exits early if either operation fails.
+     */
+    public void setupGame(){
+        if (this.config == null)
+            this.config = new GameConfig(this.caseId, this.logger);
+        this.questions = config.loadQuestions();
+        if (this.questions == null){
+            System.out.println("Failed to load questions. Exiting.");
+            return;
+        }
+        this.players = config.addPlayers(this);
+        if (this.players == null){
+            System.out.println("Failed to add players. Exiting.");
+            return;
+        }
+    }
+
+    /**
+     * Replaces the source of player input for this session.
+     * <p>
+     * Used to drive a session from bots or a network connection instead of
+     * the console.
+     * </p>
+     *
+     * @param inputSource the InputSource to read from
+     */
+    public void setInputSource(InputSource inputSource){
+        this.inputSource = inputSource;
+    }
+
+    /**
+     * Gets the source of player input for this session.
+     *
+     * @return the active InputSource (the console unless replaced)
+     */
+    public InputSource getInputSource(){
+        if (this.inputSource == null)
+            this.inputSource = new ConsoleInputSource();
+        return this.inputSource;
+    }
+
+    /**
+     * Sets the question list for this game.
+     *
+     * @param questions the QuestionList to use for this game session
+     */
+    public void setQuestions(QuestionList questions){
+        this.questions = questions;
+    }
+
+    /**
+     * Gets the question list for this game.
+     *
+     * @return the QuestionList containing all loaded questions
+     */
+    public QuestionList getQuestions(){
+        return this.questions;
+    }
+
+    /**
+     * Sets the player list for this game.
+     *
+     * @param players the PlayerList bound to this session
+     */
+    public void setPlayers(PlayerList players){
+        this.players = players;
+    }
+
+    /**
+     * Gets the player list managing turn rotation.
+     *
+     * @return the PlayerList containing all registered players
+     */
+    public PlayerList getPlayers(){
+        return this.players;
+    }
+
+    /**
+     * Sets the currently selected category.
+     *
+     * @param category the category name chosen by the player
+     */
+    public void setCategory(String category){
+        this.category = category;
+    }
+
+    /**
+     * Gets the currently selected category.
+     *
+     * @return the active category name
+     */
+    public String getCategory(){
+        return this.category;
+    }
+
+    /**
+     * Sets the currently active question.
+     *
+     * @param question the Question object selected by the player
+     */
+    public void setQuestion(Question question){
+        this.question = question;
+    }
+
+    /**
+     * Gets the currently active question.
+     *
+     * @return the Question object being answered
+     */
+    public Question getQuestion(){
+        return this.question;
+    }
+
+    /**
+     * Gets the current turn number.
+     *
+     * @return the 1-based turn number
+     */
+    public int getTurnNum(){
+        return events.getState().getTurnNum();
+    }
+
+    /**
+     * Gets the stream of state-change events for this game.
+     *
+     * @return the session's EventStream
+     */
+    public EventStream getEventStream(){
+        return this.events;
+    }
+
+    /**
+     * Gets the board index of the question being played.
+     *
+     * @return the index in {@link QuestionList#getQuestionArray()}, or -1
+     */
+    public int getQuestionIndex(){
+        return events.getState().getQuestionIndex();
+    }
+
+    /**
+     * Checks whether players other than the turn's opener are attempting
+     * the question.
+     *
+     * @return true while a missed question is being stolen
+     */
+    public boolean isStealing(){
+        return this.stealing;
+    }
+
+    /**
+     * Gets the player who opened the current turn.
+     *
+     * @return the opener's ID, or null before play begins
+     */
+    public String getTurnStarterId(){
+        return this.turnStarterId;
+    }
+
+    /**
+     * Sets the checkpoint the session records its state to.
+     *
+     * @param checkpoint the checkpoint, or null to stop checkpointing
+     */
+    public void setCheckpoint(SessionCheckpoint checkpoint){
+        this.checkpoint = checkpoint;
+    }
+
+    /**
+     * Gets the checkpoint the session records its state to.
+     *
+     * @return the checkpoint, or null if none is set
+     */
+    public SessionCheckpoint getCheckpoint(){
+        return this.checkpoint;
+    }
+
+    /**
+     * Checks whether the game loop is still running.
+     *
+     * @return true until the game ends or a player quits
+     */
+    public boolean isRunning(){
+        return this.gameRunning;
+    }
+
+    /**
+     * Gets the kind of input the session is waiting for.
+     * <p>
+     * Derived from the current player's {@link PlayerState}: a player who has
+     * picked a category is asked for a value, a player who has picked a value
+     * is asked for an answer, and anyone else starts a turn by picking a
+     * category. While other players are attempting a missed question, or
+     * while a buzz-in round is open, an answer is expected.
+     * </p>
+     *
+     * @return the phase the next input will be applied to
+     */
+    public ActionType getExpectedInput(){
+        if (this.stealing || this.buzzRound != null)
+            return ActionType.ANSWER_QUESTION;
+        PlayerState state = this.currentPlayer == null ? null : this.currentPlayer.getState();
+        if (state == StateRegistry.SELECT_QUESTION)
+            return ActionType.SELECT_QUESTION;
+        if (state == StateRegistry.ANSWER_QUESTION)
+            return ActionType.ANSWER_QUESTION;
+        return ActionType.SELECT_CATEGORY;
+    }
+
+    /**
+     * Starts play: writes the turn report header and prompts the first player.
+     * <p>
+     * After this call the session advances one step per
+     * {@link #submitInput(String)}, which lets event-driven hosts run a game
+     * without dedicating a thread to it.
+     * </p>
+     */
+    public void beginPlay(){
+        logger.initTurnReport(this.caseId, this.players.getAllPlayers());
+        for (Player player : this.players.getAllPlayers())
+            events.append(GameEvent.playerJoined(player.getPlayerId()));
+        beginTurn();
+        checkpoint();
+        finishIfStopped();
+    }
+
+    /**
+     * Resumes play from checkpointed state instead of {@link #beginPlay()}.
+     * <p>
+     * The players (in rotation order, with their scores) and the board (with
+     * answered questions marked) must already be set. The turn report is
+     * continued rather than restarted, and the event stream is seeded with
+     * events that rebuild the restored scores, board, turn number and
+     * selection. The current player is
+     * prompted for the input the game was waiting for.
+     * </p>
+     *
+     * @param turnNum the checkpointed turn number
+     * @param phase the input the game was waiting for
+     * @param category the selected category, or null
+     * @param questionIndex board index of the selected question, or -1
+     * @param turnStarterId the player who opened the turn, or null
+     * @param stealing true if other players were attempting a missed question
+     * @see SessionCheckpoint#restore(GameSession)
+     */
+    public void resumePlay(int turnNum, ActionType phase, String category, int questionIndex,
+                           String turnStarterId, boolean stealing){
+        for (Player player : this.players.getAllPlayers()){
+            events.append(GameEvent.playerJoined(player.getPlayerId()));
+            if (player.getScore() != 0)
+                events.append(GameEvent.answerSubmitted(player.getPlayerId(), null, false, player.getScore()));
+        }
+        for (int i = 0; i < this.questions.size(); i++)
+            if (this.questions.isAnswered(i))
+                events.append(GameEvent.questionClosed(i));
+        events.append(GameEvent.gameResumed(turnNum));
+
+        if (phase == ActionType.SELECT_CATEGORY || category == null){
+            beginTurn();
+            finishIfStopped();
+            return;
+        }
+        this.currentPlayer = this.players.getCurrentPlayer();
+        this.turnStarterId = turnStarterId;
+        this.category = category;
+        view.displayQuestionGrid(this.questions);
+        view.displayCurrentPlayer(this.currentPlayer.getPlayerId());
+        if (phase == ActionType.SELECT_QUESTION || questionIndex < 0){
+            this.currentPlayer.setState(StateRegistry.SELECT_QUESTION);
+            events.append(GameEvent.categorySelected(this.currentPlayer.getPlayerId(), category));
+            view.displayPrompt("Choose a value.");
+            return;
+        }
+        this.stealing = stealing;
+        this.question = this.questions.get(questionIndex);
+        if (!stealing)
+            this.currentPlayer.setState(StateRegistry.ANSWER_QUESTION);
+        events.append(GameEvent.questionSelected(
+            this.turnStarterId == null ? this.currentPlayer.getPlayerId() : this.turnStarterId,
+            category, this.question.getValue(), questionIndex));
+        view.displayQuestion(this.question);
+        view.displayPrompt("Input your answer:");
+    }
+
+    /**
+     * Applies one line of player input to the game.
+     * <p>
+     * "QUIT" (or null, for an exhausted source) ends the game. All other input
+     * is trimmed, converted to uppercase and handled according to
+     * {@link #getExpectedInput()}. During a buzz-in round each line is a
+     * player's name followed by their answer (e.g. "Alice B"). Reports are
+     * produced once, when the game ends.
+     * </p>
+     *
+     * @param line the raw input line, or null if the source is exhausted
+     * @return true if the game is still running and expects more input
+     */
+    public boolean submitInput(String line){
+        if (!gameRunning)
+            return false;
+        if (line == null || "QUIT".equalsIgnoreCase(line.trim())){
+            gameRunning = false;
+        } else {
+            String input = line.trim().toUpperCase();
+            switch (getExpectedInput()){
+                case SELECT_QUESTION:
+                    handleQuestion(input);
+                    break;
+                case ANSWER_QUESTION:
+                    if (this.buzzRound != null)
+                        handleBuzzIn(input);
+                    else
+                        handleAnswer(input);
+                    break;
+                default:
+                    handleCategory(input);
+            }
+            checkpoint();
+        }
+        finishIfStopped();
+        return gameRunning;
+    }
+
+    /**
+     * Executes the main game loop managing turn-by-turn gameplay.
+     * <p>
+     * Game Flow:
+     * <ol>
+     *   <li>Display question grid and current player</li>
+     *   <li>Player selects category (State: SelectCategoryState)</li>
+     *   <li>Player selects question value (State: SelectQuestionState)</li>
+     *   <li>An invalid category or value restarts the turn from step 1</li>
+     *   <li>Player submits answer (State: AnswerQuestionState)</li>
+     *   <li>If incorrect, other players get attempts in queue order</li>
+     *   <li>Rotate to next player and repeat until all questions answered or "QUIT"</li>
+     * </ol>
+     * All actions are validated by the State pattern and logged for report generation.
+     * The loop pulls each line from the session's {@link InputSource} and hands
+     * it to {@link #submitInput(String)}.
+     */
+    public void playGame(){
+        beginPlay();
+        while (gameRunning)
+            submitInput(getInputSource().nextInput(this, getExpectedInput()));
+    }
+
+    /**
+     * Starts a new turn for the player at the front of the queue.
+     */
+    private void beginTurn(){
+        this.stealing = false;
+        this.currentPlayer = this.players.getCurrentPlayer();
+        if (this.currentPlayer == null){
+            view.displayError("Error: No current player. Exiting game.");
+            gameRunning = false;
+            return;
+        }
+        this.turnStarterId = this.currentPlayer.getPlayerId();
+        view.displayQuestionGrid(this.questions);
+        view.displayCurrentPlayer(this.currentPlayer.getPlayerId());
+        view.displayPrompt("Choose a Category. (You may input only the first word)");
+    }
+
+    /**
+     * Handles a category choice, restarting the turn if it is invalid.
+     *
+     * @param input the normalized input
+     */
+    private void handleCategory(String input){
+        ActionResult selected = this.players.selectCategory(input);
+        if (!selected.isSuccess()){
+            beginTurn();
+            return;
+        }
+        logger.log(
+            new GameEventLog(this.caseId, this.currentPlayer.getPlayerId(), "Select Category")
+            .setCategory(this.category)
+        );
+        events.append(GameEvent.categorySelected(this.currentPlayer.getPlayerId(), this.category));
+        view.displayPrompt("Choose a value.");
+    }
+
+    /**
+     * Handles a value choice, restarting the turn if it is invalid.
+     *
+     * @param input the normalized input
+     */
+    private void handleQuestion(String input){
+        ActionResult selected = this.players.selectQuestion(input);
+        if (!selected.isSuccess()){
+            this.currentPlayer.setState(StateRegistry.WAITING);
+            beginTurn();
+            return;
+        }
+        try{
+            logger.log(
+                new GameEventLog(this.caseId, currentPlayer.getPlayerId(), "Select Question")
+                .setCategory(this.category)
+                .setValue(Integer.parseInt(input))
+            );
+        } catch (NumberFormatException e){
+            view.displayError("Invalid number format for question value");
+        }
+        logger.addReportQuestion(getTurnNum());
+        events.append(GameEvent.questionSelected(this.currentPlayer.getPlayerId(), this.category,
+            this.question.getValue(), this.questions.indexOf(this.question)));
+        view.displayQuestion(this.question);
+        if (this.buzzInMode){
+            this.currentPlayer.setState(StateRegistry.WAITING);
+            this.buzzRound = new BuzzInRound(this.players, this.question, this::completeBuzzIn);
+            view.displayPrompt("Buzz in! Each player enters their name and answer (e.g. \"Alice B\"), or their name and PASS.");
+        }
+    }
+
+    /**
+     * Handles an answer from the current player.
+     * <p>
+     * A correct answer, or a miss by the last player in the rotation, ends the
+     * turn; otherwise the next player is prompted to answer.
+     * </p>
+     *
+     * @param input the normalized input
+     */
+    private void handleAnswer(String input){
+        Player answering = this.currentPlayer;
+        this.players.answerQuestion(input);
+        this.players.endTurn(this.question.getValue(), this.question.getIsAnswered());
+
+        GameEventLog log = new GameEventLog(this.caseId, answering.getPlayerId(), "Answer Question");
+        if (!this.stealing)
+            log.setQuestion(this.question);
+        logger.log(
+            log.setCategory(this.category)
+            .setValue(this.question.getValue())
+            .setAnswerResultScore(input, this.question.getIsAnswered(), answering.getScore())
+        );
+        logger.addReportAnswer();
+
+        Player nextPlayer = this.players.getCurrentPlayer();
+        boolean correct = this.question.getIsAnswered();
+        events.append(GameEvent.answerSubmitted(answering.getPlayerId(), input, correct,
+            correct ? this.question.getValue() : -this.question.getValue()));
+        if (nextPlayer != null)
+            events.append(GameEvent.turnPassed(nextPlayer.getPlayerId()));
+        if (this.question.getIsAnswered()
+                || (this.stealing && nextPlayer != null && turnStarterId.equals(nextPlayer.getPlayerId()))){
+            endTurn();
+            return;
+        }
+        this.stealing = true;
+        this.currentPlayer = nextPlayer;
+        view.displayCurrentPlayer(this.currentPlayer.getPlayerId());
+        view.displayPrompt("Input your answer:");
+    }
+
+    /**
+     * Handles a "name answer" line during a buzz-in round.
+     *
+     * @param input the normalized input
+     */
+    private void handleBuzzIn(String input){
+        int split = input.lastIndexOf(' ');
+        if (split < 0){
+            view.displayError("Enter your name followed by your answer.");
+            return;
+        }
+        BuzzInRound.Outcome outcome = buzzIn(input.substring(0, split), input.substring(split + 1));
+        if (outcome == BuzzInRound.Outcome.REJECTED)
+            view.displayError("Unknown player, or that player has already answered.");
+    }
+
+    /**
+     * Submits a player's answer to the open buzz-in round.
+     * <p>
+     * Safe to call from several threads at once, one per player; the first
+     * correct answer wins without locking. The call that records the final
+     * player's answer also logs the round and moves the game to the next
+     * turn, so callers should not otherwise drive the session meanwhile.
+     * </p>
+     *
+     * @param playerId the answering player's ID (case-insensitive)
+     * @param answer the option key, or "PASS"
+     * @return how the answer was scored, or REJECTED if no round is open,
+     *         the player is unknown or has already answered
+     */
+    public BuzzInRound.Outcome buzzIn(String playerId, String answer){
+        BuzzInRound round = this.buzzRound;
+        if (round == null)
+            return BuzzInRound.Outcome.REJECTED;
+        return round.submit(playerId, answer);
+    }
+
+    /**
+     * Logs a completed buzz-in round in arrival order and ends the turn.
+     * <p>
+     * Late correct answers are logged with a value of 0, so every logged
+     * answer's score change is +value when correct and -value otherwise.
+     * Passes are not logged.
+     * </p>
+     *
+     * @param round the completed round
+     */
+    private void completeBuzzIn(BuzzInRound round){
+        int value = round.getQuestion().getValue();
+        for (BuzzInRound.Submission submission : round.getSubmissions()){
+            BuzzInRound.Outcome outcome = submission.getOutcome();
+            boolean won = outcome == BuzzInRound.Outcome.WON;
+            int delta = won ? value : outcome == BuzzInRound.Outcome.WRONG ? -value : 0;
+            events.append(GameEvent.answerSubmitted(
+                submission.getPlayer().getPlayerId(), submission.getAnswer(), won, delta));
+            if (outcome == BuzzInRound.Outcome.PASSED)
+                continue;
+            String playerId = submission.getPlayer().getPlayerId();
+            logger.log(
+                new GameEventLog(this.caseId, playerId, "Answer Question")
+                .setQuestion(round.getQuestion())
+                .setCategory(this.category)
+                .setValue(outcome == BuzzInRound.Outcome.LATE ? 0 : value)
+                .setAnswerResultScore(submission.getAnswer(), won, submission.getScoreAfter())
+            );
+            logger.addReportAnswer();
+            if (outcome == BuzzInRound.Outcome.LATE)
+                view.displayMessage(playerId + " was correct, but too late.");
+            else
+                view.displayScore(playerId, submission.getScoreAfter(), won);
+        }
+        this.buzzRound = null;
+        this.players.endBuzzInTurn();
+        events.append(GameEvent.turnPassed(this.players.getCurrentPlayer().getPlayerId()));
+        endTurn();
+        checkpoint();
+        finishIfStopped();
+    }
+
+    /**
+     * Enables or disables buzz-in mode for questions selected from now on.
+     *
+     * @param buzzInMode true to let every player answer each question at once
+     */
+    public void setBuzzInMode(boolean buzzInMode){
+        this.buzzInMode = buzzInMode;
+    }
+
+    /**
+     * Checks whether questions are played in buzz-in mode.
+     *
+     * @return true if every player answers each question at once
+     */
+    public boolean isBuzzInMode(){
+        return this.buzzInMode;
+    }
+
+    /**
+     * Closes the current question and starts the next turn, or ends the game
+     * once the board is empty.
+     */
+    private void endTurn(){
+        this.question.setIsAnswered(true);  // in case no one answered correctly
+        this.stealing = false;
+        events.append(GameEvent.questionClosed(getQuestionIndex()));     // advances the turn number
+        if(!this.questions.hasQuestions()){
+            view.displayMessage("Congrats! You made it to the end of the game.");
+            gameRunning = false;
+            return;
+        }
+        beginTurn();
+    }
+
+    /**
+     * Generates the reports the first time the game is seen to have stopped.
+     */
+    private void finishIfStopped(){
+        if (!gameRunning && !exited){
+            exited = true;
+            events.append(GameEvent.gameEnded());
+            if (this.checkpoint != null)
+                this.checkpoint.delete();
+            exitGame();
+        }
+    }
+
+    /**
+     * Records the session's state to its checkpoint, if it has one.
+     * <p>
+     * Skipped while a buzz-in round is open, since answers arriving on other
+     * threads are still changing scores; the checkpoint then holds the state
+     * from before the question was chosen.
+     * </p>
+     */
+    private void checkpoint(){
+        if (this.checkpoint != null && gameRunning && this.buzzRound == null)
+            this.checkpoint.write(this);
+    }
+
+    /**
+     * Finalizes the game session and generates comprehensive reports.
+     * <p>
+     * Cleanup Operations:
+     * <ol>
+     *   <li>Generate the turn report with human-readable game summary and final scores</li>
+     *   <li>Generate the CSV event log for analysis</li>
+     *   <li>Log all report generation events</li>
+     *   <li>Display report file locations to users</li>
+     * </ol>
+     *
+     * @see Logger#generateTurnReport(java.util.ArrayList)
+     * @see Logger#generateLogReport()
+     */
+    public void exitGame(){
+        String txtFileName = logger.generateTurnReport(this.players.getAllPlayers());
+        logger.log(
+            new GameEventLog(this.caseId, SYSTEM_PLAYER_ID, "Generate report")
+            );
+
+        String csvFileName = logger.generateLogReport();
+        logger.log(
+            new GameEventLog(this.caseId, SYSTEM_PLAYER_ID, "Generate event log")
+        );
+        logger.log(
+            new GameEventLog(this.caseId, SYSTEM_PLAYER_ID, "Exit game")
+        );
+
+        view.displayMessage("The turn-by-turn summary report can be found in the file " + txtFileName);
+        view.displayMessage("The game event log report can be found in the file " + csvFileName);
+        view.displayMessage("Thanks for playing!");
+    }
+}
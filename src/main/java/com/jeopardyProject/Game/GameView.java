@@ -1,20 +1,50 @@
 package com.jeopardyProject.Game;
 
+import java.io.PrintWriter;
+
 import com.jeopardyProject.Game.Command.ActionResult;
 
 /**
  * View layer for rendering game information to the console.
  * <p>
  * This class encapsulates all console output operations, providing a clean
- * separation between game logic ({@link GameController}) and presentation.
+ * separation between game logic ({@link GameSession}) and presentation.
  * It handles display of messages, errors, prompts, questions, scores, and
  * the question grid.
  * </p>
+ * <p>
+ * By default output goes to standard output and errors to standard error.
+ * A view can instead be bound to any writer, such as a network connection,
+ * in which case errors are written to the same writer.
+ * </p>
  *
  * @author COMP3607 Jeopardy Project Team
  * @version 1.0
  */
 public class GameView {
+    /** Destination for messages, prompts, questions and the grid. */
+    private final PrintWriter out;
+
+    /** Destination for error messages. */
+    private final PrintWriter err;
+
+    /**
+     * Constructs a view writing to standard output and standard error.
+     */
+    public GameView(){
+        this.out = new PrintWriter(System.out, true);
+        this.err = new PrintWriter(System.err, true);
+    }
+
+    /**
+     * Constructs a view writing all output, including errors, to one writer.
+     *
+     * @param out the writer to render to (should auto-flush for interactive use)
+     */
+    public GameView(PrintWriter out){
+        this.out = out;
+        this.err = out;
+    }
 
     /**
      * Displays a standard informational message to the console.
@@ -22,16 +52,16 @@ public class GameView {
      * @param message the message text to display
      */
     public void displayMessage(String message){
-        System.out.println(message);
+        out.println(message);
     }
 
     /**
-     * Displays an error message to the standard error stream.
+     * Displays an error message to the error stream (standard error by default).
      *
      * @param error the error message text to display
      */
     public void displayError(String error){
-        System.err.println(error);
+        err.println(error);
     }
 
     /**
@@ -46,24 +76,24 @@ public class GameView {
      */
     public void displayActionResult(ActionResult result){
         if(result.isSuccess()){
-            System.out.println(result.getMessage());
+            out.println(result.getMessage());
         } else {
-            System.out.println(result.getMessage());
+            out.println(result.getMessage());
         }
     }
 
     /**
      * Displays the formatted question grid showing all available questions.
      * <p>
-     * Delegates to {@link QuestionList#display()} to render the grid
+     * Delegates to {@link QuestionList#display(PrintWriter)} to render the grid
      * organized by category and value, marking answered questions.
      * </p>
      *
      * @param questions the QuestionList to display
-     * @see QuestionList#display()
+     * @see QuestionList#display(PrintWriter)
      */
     public void displayQuestionGrid(QuestionList questions){
-        questions.display();
+        questions.display(out);
     }
 
     /**
@@ -77,12 +107,12 @@ public class GameView {
      * </pre>
      *
      * @param question the Question object to display
-     * @see Question#printOptions()
+     * @see Question#printOptions(PrintWriter)
      */
     public void displayQuestion(Question question){
-        System.out.println("The question is: " + question.getContent());
-        System.out.println("Select an option from the following:");
-        question.printOptions();
+        out.println("The question is: " + question.getContent());
+        out.println("Select an option from the following:");
+        question.printOptions(out);
     }
 
     /**
@@ -98,9 +128,9 @@ public class GameView {
      */
     public void displayScore(String playerId, int score, boolean correct){
         if(correct){
-            System.out.println("Correct!");
+            out.println("Correct!");
         } else {
-            System.out.println("Not quite.");
+            out.println("Not quite.");
         }
     }
 
@@ -110,7 +140,7 @@ public class GameView {
      * @param playerId the player identifier to display
      */
     public void displayCurrentPlayer(String playerId){
-        System.out.println("Current player: " + playerId);
+        out.println("Current player: " + playerId);
     }
 
     /**
@@ -119,6 +149,6 @@ public class GameView {
      * @param prompt the prompt text to display
      */
     public void displayPrompt(String prompt){
-        System.out.println(prompt);
+        out.println(prompt);
     }
 }
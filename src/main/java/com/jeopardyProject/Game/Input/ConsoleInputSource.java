@@ -0,0 +1,39 @@
+package com.jeopardyProject.Game.Input;
+
+import java.util.NoSuchElementException;
+import java.util.Scanner;
+
+import com.jeopardyProject.Game.GameSession;
+import com.jeopardyProject.Game.Command.ActionType;
+
+/**
+ * Input source reading lines typed on standard input.
+ * <p>
+ * This is the default input source of every {@link GameSession}. The
+ * requested phase is ignored; the player reads the prompt and types.
+ * </p>
+ *
+ * @see InputSource
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public class ConsoleInputSource implements InputSource {
+    /** Scanner for reading user input from console. */
+    private final Scanner scanner = new Scanner(System.in);
+
+    /**
+     * Reads the next line from standard input.
+     *
+     * @param session the session requesting input (ignored)
+     * @param phase the turn phase (ignored)
+     * @return the typed line, or null if standard input is closed
+     */
+    @Override
+    public String nextInput(GameSession session, ActionType phase){
+        try{
+            return scanner.nextLine();
+        } catch (NoSuchElementException e){
+            return null;
+        }
+    }
+}
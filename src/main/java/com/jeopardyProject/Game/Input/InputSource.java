@@ -0,0 +1,36 @@
+package com.jeopardyProject.Game.Input;
+
+import com.jeopardyProject.Game.GameSession;
+import com.jeopardyProject.Game.Command.ActionType;
+
+/**
+ * Strategy interface supplying player input to a {@link GameSession}.
+ * <p>
+ * The session asks its input source for one line each time it would
+ * otherwise prompt the console. The requested {@link ActionType} tells the
+ * source which phase of the turn the line is for, so automated sources can
+ * inspect the session and produce a sensible category, value or answer.
+ * <p>
+ * Implementations:
+ * <ul>
+ *   <li>{@link ConsoleInputSource} - Reads lines typed on standard input</li>
+ *   <li>{@link ReaderInputSource} - Reads lines from a network connection or other stream</li>
+ *   <li>{@link com.jeopardyProject.Game.Simulation.RandomBot} - Picks random questions and answers</li>
+ *   <li>{@link com.jeopardyProject.Game.Simulation.CorrectAnswerBot} - Always answers correctly</li>
+ *   <li>{@link com.jeopardyProject.Game.Simulation.ScriptedBot} - Replays a fixed list of lines</li>
+ * </ul>
+ *
+ * @see GameSession#setInputSource(InputSource)
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public interface InputSource {
+    /**
+     * Supplies the next line of input for the session.
+     *
+     * @param session the session requesting input
+     * @param phase the turn phase the input is for
+     * @return the raw input line, or null to quit the game
+     */
+    public String nextInput(GameSession session, ActionType phase);
+}
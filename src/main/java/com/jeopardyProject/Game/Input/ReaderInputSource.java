@@ -0,0 +1,49 @@
+package com.jeopardyProject.Game.Input;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+import com.jeopardyProject.Game.GameSession;
+import com.jeopardyProject.Game.Command.ActionType;
+
+/**
+ * Input source reading lines from any character stream.
+ * <p>
+ * Used to drive a session from a network connection. The requested phase
+ * is ignored; the remote player reads the prompt and sends a line.
+ * </p>
+ *
+ * @see InputSource
+ * @see com.jeopardyProject.Game.Server.GameServer
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public class ReaderInputSource implements InputSource {
+    /** Reader supplying the player's lines. */
+    private final BufferedReader reader;
+
+    /**
+     * Constructs an input source over a reader.
+     *
+     * @param reader the reader to take lines from
+     */
+    public ReaderInputSource(BufferedReader reader){
+        this.reader = reader;
+    }
+
+    /**
+     * Reads the next line, blocking until one arrives.
+     *
+     * @param session the session requesting input (ignored)
+     * @param phase the turn phase (ignored)
+     * @return the received line, or null if the stream ended or failed
+     */
+    @Override
+    public String nextInput(GameSession session, ActionType phase){
+        try{
+            return reader.readLine();
+        } catch (IOException e){
+            return null;
+        }
+    }
+}
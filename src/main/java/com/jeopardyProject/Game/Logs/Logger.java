@@ -6,32 +6,41 @@ import java.util.ArrayList;
 import com.jeopardyProject.Game.Player;
 
 /**
- * Singleton logger for generating game reports in CSV and TXT formats.
+ * Logger for generating game reports in CSV and TXT formats.
  * <p>
  * This class manages two types of reports:
  * <ul>
  *   <li><b>LogReport.csv</b>: Timestamped event log with all game actions</li>
  *   <li><b>TurnReport.txt</b>: Human-readable turn-by-turn gameplay summary</li>
  * </ul>
- * Both files are created in the project root directory.
+ * The shared console logger returned by {@link #getInstance()} writes both files
+ * to the project root directory. Each {@link com.jeopardyProject.Game.GameSession}
+ * hosted by a {@link com.jeopardyProject.Game.GameEngine} gets its own instance
+ * with its own file names.
  * <p>
- * The logger uses thread-safe double-checked locking for singleton initialization
- * and provides methods for logging events, building turn reports, and generating
- * final output files.
+ * The shared instance uses thread-safe double-checked locking for lazy
+ * initialization. All instances provide methods for logging events, building
+ * turn reports, and generating final output files.
  *
  * @see GameEventLog
  * @author COMP3607 Jeopardy Project Team
  * @version 1.0
  */
 public class Logger{
-    /** Singleton instance (thread-safe). */
+    /** Shared console instance (thread-safe). */
     private static Logger logger;
 
     /** Default filename for CSV event log. */
-    private static String csvFileName = "LogReport.csv";
+    private static final String DEFAULT_CSV_FILE_NAME = "LogReport.csv";
 
     /** Default filename for TXT turn report. */
-    private static String txtFileName = "TurnReport.txt";
+    private static final String DEFAULT_TXT_FILE_NAME = "TurnReport.txt";
+
+    /** Filename for this logger's CSV event log. */
+    private String csvFileName;
+
+    /** Filename for this logger's TXT turn report. */
+    private String txtFileName;
 
     /** File object for CSV report. */
     private File csvFile;
@@ -49,15 +58,31 @@ public class Logger{
     private GameEventLog log;
 
     /**
-     * Private constructor to enforce Singleton pattern.
+     * Constructor for subclasses that do not write report files.
+     * <p>
+     * No files are opened; subclasses must override every reporting method.
+     * </p>
+     *
+     * @see NullLogger
+     */
+    protected Logger(){
+    }
+
+    /**
+     * Constructs a logger writing to the given report files.
      * <p>
      * Initializes CSV and TXT files. If files don't exist, creates them.
      * Writes CSV header row on new file creation.
      * </p>
+     *
+     * @param csvFileName path of the CSV event log
+     * @param txtFileName path of the TXT turn report
      */
-    private Logger(){
+    public Logger(String csvFileName, String txtFileName){
+        this.csvFileName = csvFileName;
+        this.txtFileName = txtFileName;
         try{
-            this.csvFile = new File(Logger.csvFileName);
+            this.csvFile = new File(this.csvFileName);
             boolean isNewFile = csvFile.createNewFile();
             if(isNewFile)
                 System.out.println("CSV file created.");
@@ -77,7 +102,7 @@ public class Logger{
         }
 
         try{
-            this.txtFile = new File(Logger.txtFileName);
+            this.txtFile = new File(this.txtFileName);
             if(txtFile.createNewFile())
                 System.out.println("TXT file created.");
             else{
@@ -90,18 +115,18 @@ public class Logger{
     }
 
     /**
-     * Returns the singleton Logger instance using double-checked locking.
+     * Returns the shared console Logger instance using double-checked locking.
      * <p>
-     * Thread-safe lazy initialization ensures only one logger exists.
+     * Thread-safe lazy initialization ensures only one console logger exists.
      * </p>
      *
-     * @return the singleton Logger instance
+     * @return the shared Logger instance
      */
     public static Logger getInstance(){
         if (logger == null) {
             synchronized (Logger.class) {
                 if (logger == null) {
-                    logger = new Logger();
+                    logger = new Logger(DEFAULT_CSV_FILE_NAME, DEFAULT_TXT_FILE_NAME);
                 }
             }
         }
@@ -211,7 +236,7 @@ public class Logger{
      * Initializes the turn report file with header information.
      * <p>
      * Writes the game title, case ID, player list, and section header
-     * to TurnReport.txt. Should be called before logging any turns.
+     * to the turn report. Should be called before logging any turns.
      * </p>
      *
      * @param caseId unique game session identifier
@@ -220,7 +245,7 @@ public class Logger{
     public void initTurnReport(String caseId, ArrayList<Player> players){
         try{
             if(writer==null)
-                writer = new BufferedWriter(new FileWriter("TurnReport.txt", true));
+                writer = new BufferedWriter(new FileWriter(txtFile, true));
             writer.write("JEOPARDY PROGRAMMING GAME REPORT");
             writer.newLine();
             writer.write("================================");
@@ -260,7 +285,7 @@ public class Logger{
     public void addReportQuestion(int turn){
         try{
             if(writer==null)
-                writer = new BufferedWriter(new FileWriter("TurnReport.txt", true));
+                writer = new BufferedWriter(new FileWriter(txtFile, true));
             writer.newLine();
             writer.newLine();
             writer.write("Turn " + turn + ": " + this.log.getPlayerId() + " selected " + this.log.getCategory() + " for " + this.log.getValue() + " pts");
@@ -285,7 +310,7 @@ public class Logger{
     public void addReportAnswer(){
         try{
             if(writer==null)
-                writer = new BufferedWriter(new FileWriter("TurnReport.txt", true));
+                writer = new BufferedWriter(new FileWriter(txtFile, true));
             if(this.log.getQuestion() != null) {
                 String correctAnswer = this.log.getQuestion().getValueGivenKey(this.log.getAnswer());
                 writer.write("Answer: " + correctAnswer + " - ");
@@ -312,12 +337,12 @@ public class Logger{
      * </p>
      *
      * @param players list of all players with final scores
-     * @return the TXT filename ("TurnReport.txt")
+     * @return the TXT filename ("TurnReport.txt" for the shared logger)
      */
     public String generateTurnReport(ArrayList<Player> players){
         try{
             if(writer==null)
-                writer = new BufferedWriter(new FileWriter("TurnReport.txt", true));
+                writer = new BufferedWriter(new FileWriter(txtFile, true));
             writer.newLine();
             writer.write("Final Scores:");
             writer.newLine();
@@ -338,7 +363,7 @@ public class Logger{
         } catch (IOException e) {
             System.out.println("Report.txt could not be written: " + e.getMessage());
         }
-        return Logger.txtFileName;
+        return this.txtFileName;
     }
     
     /**
@@ -347,7 +372,7 @@ public class Logger{
      * Flushes and closes the CSV writer. Returns the filename for user display.
      * </p>
      *
-     * @return the CSV filename ("LogReport.csv")
+     * @return the CSV filename ("LogReport.csv" for the shared logger)
      */
     public String generateLogReport(){
         try{
@@ -359,7 +384,7 @@ public class Logger{
         } catch (IOException e){
             System.err.println("Error closing CSV: " + e.getMessage());
         }
-        return Logger.csvFileName;
+        return this.csvFileName;
     }
 
     /**
@@ -0,0 +1,86 @@
+package com.jeopardyProject.Game.Logs;
+
+import java.util.ArrayList;
+
+import com.jeopardyProject.Game.Player;
+
+/**
+ * Logger that discards every event and report.
+ * <p>
+ * Used by headless simulations so that measured throughput reflects the
+ * game engine rather than file I/O. No report files are created.
+ * </p>
+ *
+ * @see Logger
+ * @see com.jeopardyProject.Game.Simulation.HeadlessSimulation
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public class NullLogger extends Logger {
+
+    /**
+     * Constructs a logger that writes nothing.
+     */
+    public NullLogger(){
+        super();
+    }
+
+    /** Does nothing; there are no reports to clear. */
+    @Override
+    public void clearReports(){
+    }
+
+    /**
+     * Discards the event.
+     *
+     * @param log the GameEventLog (ignored)
+     */
+    @Override
+    public void log(GameEventLog log){
+    }
+
+    /**
+     * Does nothing; no turn report is written.
+     *
+     * @param caseId unique game session identifier (ignored)
+     * @param players list of all players in the game (ignored)
+     */
+    @Override
+    public void initTurnReport(String caseId, ArrayList<Player> players){
+    }
+
+    /**
+     * Does nothing; no turn report is written.
+     *
+     * @param turn the turn number (ignored)
+     */
+    @Override
+    public void addReportQuestion(int turn){
+    }
+
+    /** Does nothing; no turn report is written. */
+    @Override
+    public void addReportAnswer(){
+    }
+
+    /**
+     * Does nothing; no turn report is written.
+     *
+     * @param players list of all players (ignored)
+     * @return null, as no file is produced
+     */
+    @Override
+    public String generateTurnReport(ArrayList<Player> players){
+        return null;
+    }
+
+    /**
+     * Does nothing; no event log is written.
+     *
+     * @return null, as no file is produced
+     */
+    @Override
+    public String generateLogReport(){
+        return null;
+    }
+}
@@ -0,0 +1,559 @@
+package com.jeopardyProject.Game;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Question bank kept in a memory-mapped file instead of on the heap.
+ * <p>
+ * {@link #write(QuestionList, File)} stores a list's questions as
+ * fixed-width records pointing into a table of distinct UTF-8 strings, and
+ * {@link #open(File)} maps the file read-only, in a single mapping when it
+ * is under 2 GB. The heap then holds only the
+ * small grid index (category names, values and bucket boundaries); a
+ * question's text is decoded from the mapping when it is first read through
+ * the lightweight view returned by {@link #get(int)}. Heap use therefore
+ * stays flat however many questions the bank holds, and every JVM on the
+ * host that maps the same file shares one copy of it in the page cache.
+ * </p>
+ * <p>
+ * Records are written in bucket order (by category, then value), so a
+ * bucket of the {@link QuestionBank} is a range of record numbers and needs
+ * no per-question index. Positions in a store therefore follow that order
+ * rather than the source list's, and null entries are dropped.
+ * </p>
+ * <p>
+ * Layout (big-endian): header {@code magic, format, questions, categories,
+ * values, slots, strings, segmentShift, recordOffset, textOffset,
+ * tableOffset, checksum}; index {@code categoryNameIds[categories],
+ * values[values], slotStart[categories + 1], slotValue[slots],
+ * bucketStart[slots + 1]}; records of {@code category, value, answer,
+ * optionCount, reserved, contentId, optionIds[4]}; text; string table
+ * {@code starts[strings], lengths[strings]}. Strings are referred to by
+ * their position in the table, with -1 marking a null string; category
+ * names and option texts are stored once however many questions repeat
+ * them, while each question's content has its own entry. No string crosses a
+ * {@code 1 << segmentShift} boundary of the text, so the text can be mapped
+ * in segments beyond the 2 GB limit of a single mapping. The checksum is
+ * the CRC-32 of everything after the header and is verified on opening.
+ * </p>
+ * <p>
+ * Safe to share between threads. The mappings are released when the store
+ * and every question read from it are garbage.
+ * </p>
+ *
+ * @see QuestionBank
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public class MappedQuestionStore implements QuestionSource {
+    /** File magic: "JQST". */
+    private static final int MAGIC = 0x4A515354;
+
+    /** Layout version. */
+    private static final int FORMAT = 2;
+
+    /** Bytes of the header. */
+    private static final int HEADER_BYTES = 64;
+
+    /** Header offset of the checksum. */
+    private static final int CHECKSUM = 56;
+
+    /** Bytes of each record. */
+    private static final int RECORD_BYTES = 32;
+
+    /** Record offsets of the fields. */
+    private static final int CATEGORY = 0, VALUE = 4, ANSWER = 8, OPTION_COUNT = 9,
+                             CONTENT_ID = 12, OPTION_IDS = 16;
+
+    /** Largest part of a file over 2 GB mapped at once while checksumming. */
+    private static final int CHECKSUM_WINDOW = 1 << 30;
+
+    /** Most options a record can hold. */
+    public static final int MAX_OPTIONS = 4;
+
+    /** Text segments are 1 GB by default. */
+    private static final int DEFAULT_SEGMENT_SHIFT = 30;
+
+    /** The store file. */
+    private final File file;
+
+    /** Mapping of the records. */
+    private final ByteBuffer records;
+
+    /** Mapping of the string table's text offsets, one long per string. */
+    private final ByteBuffer stringStarts;
+
+    /** Mapping of the string table's byte lengths, one int per string. */
+    private final ByteBuffer stringLengths;
+
+    /** Mappings of the text region, {@code 1 << segmentShift} bytes each. */
+    private final ByteBuffer[] segments;
+
+    /** Log2 of the text segment size. */
+    private final int segmentShift;
+
+    /** Number of records. */
+    private final int size;
+
+    /** Category names by ordinal, shared by every question read. */
+    private final String[] categoryNames;
+
+    /** Grid over the records. */
+    private final QuestionBank bank;
+
+    /**
+     * Maps an existing store file.
+     *
+     * @param file the file
+     * @throws IOException if the file cannot be read or is not a valid store
+     */
+    private MappedQuestionStore(File file) throws IOException {
+        this.file = file;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)){
+            long length = channel.size();
+            if (length < HEADER_BYTES)
+                throw new IOException("Not a question store: " + file);
+            MappedByteBuffer whole = length <= Integer.MAX_VALUE ? channel.map(FileChannel.MapMode.READ_ONLY, 0, length) : null;
+            ByteBuffer header = map(channel, whole, 0, HEADER_BYTES);
+            if (header.getInt() != MAGIC)
+                throw new IOException("Not a question store: " + file);
+            int format = header.getInt();
+            if (format != FORMAT)
+                throw new IOException("Unsupported question store format " + format + ": " + file);
+            this.size = header.getInt();
+            int categories = header.getInt();
+            int values = header.getInt();
+            int slots = header.getInt();
+            int strings = header.getInt();
+            this.segmentShift = header.getInt();
+            long recordOffset = header.getLong();
+            long textOffset = header.getLong();
+            long tableOffset = header.getLong();
+            long checksum = header.getLong();
+            if (this.size < 0 || categories < 0 || values < 0 || slots < 0 || strings < 0
+                    || this.segmentShift < 3 || this.segmentShift > 30
+                    || recordOffset < HEADER_BYTES || textOffset != recordOffset + (long) RECORD_BYTES * this.size
+                    || tableOffset < textOffset || tableOffset + 12L * strings != length)
+                throw new IOException("Corrupt question store: " + file);
+            if (textOffset - recordOffset > Integer.MAX_VALUE || 8L * strings > Integer.MAX_VALUE)
+                throw new IOException("Too many questions for one store: " + file);
+            if (checksum(channel, whole, HEADER_BYTES, length) != checksum)
+                throw new IOException("Question store checksum mismatch: " + file);
+
+            this.records = map(channel, whole, recordOffset, textOffset - recordOffset);
+            this.stringStarts = map(channel, whole, tableOffset, 8L * strings);
+            this.stringLengths = map(channel, whole, tableOffset + 8L * strings, 4L * strings);
+            long textLength = tableOffset - textOffset;
+            long segmentSize = 1L << this.segmentShift;
+            this.segments = new ByteBuffer[(int) ((textLength + segmentSize - 1) >>> this.segmentShift)];
+            for (int s = 0; s < this.segments.length; s++){
+                long start = (long) s << this.segmentShift;
+                this.segments[s] = map(channel, whole, textOffset + start, Math.min(segmentSize, textLength - start));
+            }
+
+            ByteBuffer index = map(channel, whole, HEADER_BYTES, recordOffset - HEADER_BYTES);
+            this.categoryNames = new String[categories];
+            for (int c = 0; c < categories; c++)
+                this.categoryNames[c] = string(index.getInt());
+            int[] valueList = getInts(index, values);
+            int[] slotStart = getInts(index, categories + 1);
+            int[] slotValue = getInts(index, slots);
+            int[] bucketStart = getInts(index, slots + 1);
+            this.bank = new QuestionBank(this, this.categoryNames, valueList, slotStart, slotValue, bucketStart);
+        } catch (RuntimeException e){
+            throw new IOException("Corrupt question store: " + file, e);
+        }   // the mappings stay valid after the channel is closed
+    }
+
+    /**
+     * Gets a read-only view of part of the file.
+     *
+     * @param channel open channel on the file
+     * @param whole mapping of the whole file, or null if it is too large to map at once
+     * @param offset offset of the part
+     * @param length length of the part, at most {@code Integer.MAX_VALUE}
+     * @return a slice of {@code whole}, or a new mapping
+     * @throws IOException if the part cannot be mapped
+     */
+    private static ByteBuffer map(FileChannel channel, MappedByteBuffer whole, long offset, long length) throws IOException {
+        if (whole != null)
+            return whole.slice((int) offset, (int) length);
+        return channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+    }
+
+    /**
+     * Computes the CRC-32 of part of the file.
+     *
+     * @param channel open channel on the file
+     * @param whole mapping of the whole file, or null if it is too large to map at once
+     * @param from offset of the first byte
+     * @param to offset just past the last byte
+     * @return the checksum
+     * @throws IOException if the file cannot be mapped
+     */
+    private static long checksum(FileChannel channel, MappedByteBuffer whole, long from, long to) throws IOException {
+        CRC32 crc = new CRC32();
+        for (long at = from; at < to; at += CHECKSUM_WINDOW)
+            crc.update(map(channel, whole, at, Math.min(CHECKSUM_WINDOW, to - at)));
+        return crc.getValue();
+    }
+
+    /**
+     * Maps a store file written by {@link #write(QuestionList, File)}.
+     * <p>
+     * Checks the whole file against its checksum, which pages it in, then
+     * decodes only the header, category names and grid index; question text
+     * is left in the mapping until asked for.
+     * </p>
+     *
+     * @param file the store file
+     * @return the mapped store
+     * @throws IOException if the file cannot be read, is not a valid store or fails its checksum
+     */
+    public static MappedQuestionStore open(File file) throws IOException {
+        return new MappedQuestionStore(file);
+    }
+
+    /**
+     * Writes a list's questions to a store file, replacing it.
+     * <p>
+     * The questions are streamed to disk in bucket order; records and text
+     * are written side by side, each through its own buffered channel, and
+     * repeated category names and options are written once. The string
+     * table, header and checksum follow once every question is written.
+     * </p>
+     *
+     * @param questions the questions to store; null entries are skipped
+     * @param file the store file
+     * @throws IOException if the file cannot be written
+     * @throws IllegalArgumentException if a question has more than {@link #MAX_OPTIONS} options
+     */
+    public static void write(QuestionList questions, File file) throws IOException {
+        write(questions, file, DEFAULT_SEGMENT_SHIFT);
+    }
+
+    /**
+     * Writes a store file with a given text segment size.
+     *
+     * @param questions the questions to store
+     * @param file the store file
+     * @param segmentShift log2 of the text segment size
+     * @throws IOException if the file cannot be written, or a string exceeds a segment
+     */
+    static void write(QuestionList questions, File file, int segmentShift) throws IOException {
+        QuestionBank bank = questions.getBank();
+        int categories = bank.getColumnCount();
+        int slots = bank.getSlotStart(categories);
+        int count = bank.getBucketStart(slots);
+        long indexBytes = 4L * (categories + bank.getRowCount() + categories + 1 + slots + slots + 1);
+        long recordOffset = (HEADER_BYTES + indexBytes + 7) & ~7L;
+        long textOffset = recordOffset + (long) RECORD_BYTES * count;
+
+        try (FileChannel recordChannel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                     StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+             FileChannel textChannel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE)){
+            DataOutputStream recordOut = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(recordChannel), 1 << 16));
+            StringTable strings = new StringTable(new DataOutputStream(new BufferedOutputStream(
+                Channels.newOutputStream(textChannel.position(textOffset)), 1 << 16)), segmentShift);
+            recordOut.write(new byte[HEADER_BYTES]);     // filled in last
+            for (int c = 0; c < categories; c++)
+                recordOut.writeInt(strings.id(bank.getCategoryName(c)));
+            for (int row = 0; row < bank.getRowCount(); row++)
+                recordOut.writeInt(bank.getRowValue(row));
+            for (int c = 0; c <= categories; c++)
+                recordOut.writeInt(bank.getSlotStart(c));
+            for (int s = 0; s < slots; s++)
+                recordOut.writeInt(bank.getSlotValue(s));
+            for (int s = 0; s <= slots; s++)
+                recordOut.writeInt(bank.getBucketStart(s));
+            for (long pad = HEADER_BYTES + indexBytes; pad < recordOffset; pad++)
+                recordOut.writeByte(0);
+            recordOut.flush();
+
+            ByteBuffer records = ByteBuffer.allocate(RECORD_BYTES << 11);
+
+            for (int c = 0; c < categories; c++){
+                for (int s = bank.getSlotStart(c); s < bank.getSlotStart(c + 1); s++){
+                    for (int k = bank.getBucketStart(s); k < bank.getBucketStart(s + 1); k++){
+                        Question q = bank.get(bank.item(k));
+                        int options = q.getOptionCount();
+                        if (options > MAX_OPTIONS)
+                            throw new IllegalArgumentException("A stored question can have at most " + MAX_OPTIONS + " options: " + q.getContent());
+                        String answer = q.getRightAnswer();
+                        if (!records.hasRemaining())
+                            drain(records, recordChannel);
+                        records.putInt(c);
+                        records.putInt(bank.getRowValue(bank.getSlotValue(s)));
+                        records.put((byte) (answer == null ? -1 : answer.charAt(0) - 'A'));
+                        records.put((byte) options);
+                        records.putShort((short) 0);
+                        records.putInt(strings.add(q.getContent()));
+                        for (int i = 0; i < MAX_OPTIONS; i++)
+                            records.putInt(i < options ? strings.id(q.getOption(i)) : -1);
+                    }
+                }
+            }
+            drain(records, recordChannel);
+            long tableOffset = strings.finish(textOffset);
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC).putInt(FORMAT).putInt(count).putInt(categories).putInt(bank.getRowCount()).putInt(slots)
+                  .putInt(strings.size()).putInt(segmentShift).putLong(recordOffset).putLong(textOffset).putLong(tableOffset)
+                  .putLong(checksum(recordChannel, null, HEADER_BYTES, recordChannel.size()));
+            header.flip();
+            while (header.hasRemaining())
+                recordChannel.write(header, header.position());
+        }
+    }
+
+    /**
+     * Writes out a buffer's contents and clears it.
+     *
+     * @param buffer the buffer, in write mode
+     * @param channel the channel to write to, at its position
+     * @throws IOException if the channel cannot be written
+     */
+    private static void drain(ByteBuffer buffer, FileChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+        buffer.clear();
+    }
+
+    /**
+     * The string table of a store being written.
+     */
+    private static final class StringTable {
+        /** Stream positioned at the start of the text region. */
+        private final DataOutputStream out;
+
+        /** Log2 of the text segment size. */
+        private final int segmentShift;
+
+        /** Position of each category name and option written so far. */
+        private final Map<String, Integer> ids = new HashMap<>();
+
+        /** Text offset of each string. */
+        private long[] starts = new long[1024];
+
+        /** Byte length of each string. */
+        private int[] lengths = new int[1024];
+
+        /** Number of strings. */
+        private int size;
+
+        /** Bytes of text written. */
+        private long text;
+
+        /**
+         * Creates an empty table.
+         *
+         * @param out stream positioned at the start of the text region
+         * @param segmentShift log2 of the text segment size
+         */
+        StringTable(DataOutputStream out, int segmentShift){
+            this.out = out;
+            this.segmentShift = segmentShift;
+        }
+
+        /**
+         * Gets a repeated string's position in the table, writing it if it is new.
+         *
+         * @param string a category name or option, or null
+         * @return its position, or -1 for null
+         * @throws IOException if the text cannot be written, or the string exceeds a segment
+         */
+        int id(String string) throws IOException {
+            if (string == null)
+                return -1;
+            Integer known = this.ids.putIfAbsent(string, this.size);
+            return known != null ? known : add(string);
+        }
+
+        /**
+         * Writes a string as a new entry of the table.
+         *
+         * @param string the string, or null
+         * @return its position, or -1 for null
+         * @throws IOException if the text cannot be written, or the string exceeds a segment
+         */
+        int add(String string) throws IOException {
+            if (string == null)
+                return -1;
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > (1L << this.segmentShift))
+                throw new IOException("Question text exceeds a store segment: " + string);
+            if (bytes.length > 0 && (this.text >>> this.segmentShift) != ((this.text + bytes.length - 1) >>> this.segmentShift)){
+                long boundary = ((this.text >>> this.segmentShift) + 1) << this.segmentShift;
+                for (; this.text < boundary; this.text++)
+                    this.out.writeByte(0);
+            }
+            if (this.size == this.starts.length){
+                this.starts = Arrays.copyOf(this.starts, this.size * 2);
+                this.lengths = Arrays.copyOf(this.lengths, this.size * 2);
+            }
+            this.starts[this.size] = this.text;
+            this.lengths[this.size] = bytes.length;
+            this.out.write(bytes);
+            this.text += bytes.length;
+            return this.size++;
+        }
+
+        /**
+         * Writes the table after the text and flushes the stream.
+         *
+         * @param textOffset file offset of the text region
+         * @return file offset of the table
+         * @throws IOException if the table cannot be written
+         */
+        long finish(long textOffset) throws IOException {
+            long tableOffset = (textOffset + this.text + 7) & ~7L;
+            for (long pad = textOffset + this.text; pad < tableOffset; pad++)
+                this.out.writeByte(0);
+            for (int i = 0; i < this.size; i++)
+                this.out.writeLong(this.starts[i]);
+            for (int i = 0; i < this.size; i++)
+                this.out.writeInt(this.lengths[i]);
+            this.out.flush();
+            return tableOffset;
+        }
+
+        /** @return the number of strings */
+        int size(){
+            return this.size;
+        }
+    }
+
+    /**
+     * Gets a question view that reads its text from the mapping on first use.
+     *
+     * @param index record number
+     * @return a new question holding only its category and value until read
+     */
+    public Question get(int index){
+        return new Question(this.categoryNames[getCategoryOrdinal(index)], getValue(index), this, index);
+    }
+
+    /**
+     * Decodes a record in full.
+     *
+     * @param index record number
+     * @return a new question with the record's text, options and answer
+     */
+    @Override
+    public Question load(int index){
+        int record = index * RECORD_BYTES;
+        String content = string(this.records.getInt(record + CONTENT_ID));
+        String[] options = new String[this.records.get(record + OPTION_COUNT)];
+        for (int i = 0; i < options.length; i++)
+            options[i] = string(this.records.getInt(record + OPTION_IDS + 4 * i));
+        byte answer = this.records.get(record + ANSWER);
+        return new Question(this.categoryNames[getCategoryOrdinal(index)], getValue(index), content, options,
+                            answer < 0 ? null : String.valueOf((char) ('A' + answer)));
+    }
+
+    /**
+     * Decodes a string of the string table.
+     *
+     * @param id its position in the table, or -1 for null
+     * @return the string
+     */
+    private String string(int id){
+        if (id < 0)
+            return null;
+        int length = this.stringLengths.getInt(4 * id);
+        if (length == 0)
+            return "";
+        long start = this.stringStarts.getLong(8 * id);
+        byte[] bytes = new byte[length];
+        this.segments[(int) (start >>> this.segmentShift)].get((int) (start & ((1L << this.segmentShift) - 1)), bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads big-endian integers at the buffer position.
+     *
+     * @param buffer the buffer
+     * @param count how many to read
+     * @return the integers
+     */
+    private static int[] getInts(ByteBuffer buffer, int count){
+        int[] ints = new int[count];
+        for (int i = 0; i < count; i++)
+            ints[i] = buffer.getInt();
+        return ints;
+    }
+
+    /**
+     * Gets the category ordinal of a record.
+     *
+     * @param index record number
+     * @return the category's column in the bank's grid
+     */
+    int getCategoryOrdinal(int index){
+        return this.records.getInt(index * RECORD_BYTES + CATEGORY);
+    }
+
+    /**
+     * Gets the point value of a record.
+     *
+     * @param index record number
+     * @return the value
+     */
+    int getValue(int index){
+        return this.records.getInt(index * RECORD_BYTES + VALUE);
+    }
+
+    /**
+     * Gets the number of questions in the store.
+     *
+     * @return the record count
+     */
+    public int size(){
+        return this.size;
+    }
+
+    /**
+     * Gets the grid over the store, shared by every board dealt from it.
+     *
+     * @return the bank
+     */
+    public QuestionBank getBank(){
+        return this.bank;
+    }
+
+    /**
+     * Creates a fully unanswered question list over the whole store.
+     * <p>
+     * The list holds only its answered bitmap; deal boards from it with
+     * {@link QuestionList#deal(int, int, java.util.Random)}.
+     * </p>
+     *
+     * @return a new list sharing this store's bank
+     */
+    public QuestionList toQuestionList(){
+        return new QuestionList(this.bank);
+    }
+
+    /**
+     * Gets the store file.
+     *
+     * @return the file
+     */
+    public File getFile(){
+        return this.file;
+    }
+}
@@ -1,5 +1,7 @@
 package com.jeopardyProject.Game;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import com.jeopardyProject.Game.Command.*;
 import com.jeopardyProject.Game.State.*;
 
@@ -27,7 +29,7 @@ public class Player {
     private String playerId;
 
     /** Current score (increases on correct answers, decreases on wrong answers). */
-    private int score;
+    private final AtomicInteger score = new AtomicInteger();
 
     /** Current state controlling which actions are allowed. */
     private PlayerState state;
@@ -128,7 +130,7 @@ public class Player {
      * @return the score value (can be negative)
      */
     public int getScore(){
-        return this.score;
+        return this.score.get();
     }
 
     /**
@@ -141,6 +143,20 @@ public class Player {
      * @param score the new score value
      */
     public void setScore(int score){
-        this.score = score;
+        this.score.set(score);
+    }
+
+    /**
+     * Atomically adds to the player's score.
+     * <p>
+     * Safe to call from several threads at once, as happens when players
+     * buzz in concurrently.
+     * </p>
+     *
+     * @param delta points to add (negative to deduct)
+     * @return the score after the update
+     */
+    public int addScore(int delta){
+        return this.score.addAndGet(delta);
     }
 }
@@ -29,21 +29,22 @@ public class PlayerList {
     /** Queue-based collection for automatic turn rotation. */
     private ArrayDeque<Player> players;
 
-    /** Reference to the game controller for accessing game state. */
-    private GameController controller;
+    /** Session whose game state the player actions operate on. */
+    private GameSession session;
 
     /** View component for displaying action results. */
     private GameView view;
 
     /**
-     * Constructs a new PlayerList with the specified capacity.
+     * Constructs a new PlayerList bound to a game session.
      *
+     * @param session the GameSession whose state player actions operate on
      * @param numPlayers initial capacity for the player queue (typically 2-4)
      */
-    public PlayerList(int numPlayers){
+    public PlayerList(GameSession session, int numPlayers){
         this.players = new ArrayDeque<>(numPlayers);
-        this.controller = GameController.getInstance();
-        this.view = controller.getView();
+        this.session = session;
+        this.view = session.getView();
     }
 
     /**
@@ -110,15 +111,17 @@ public class PlayerList {
      * </ol>
      *
      * @param input the category name entered by the player
+     * @return ActionResult indicating whether a category was selected
      * @see SelectCategoryAction
      */
-    public void selectCategory(String input){
+    public ActionResult selectCategory(String input){
         Player current = getCurrentPlayer();
         current.setState(StateRegistry.SELECT_CATEGORY);
-        Action action = new SelectCategoryAction(controller);
+        Action action = new SelectCategoryAction(session);
         current.setAction(action);
         ActionResult result = current.doAction(input);
         view.displayActionResult(result);
+        return result;
     }
 
     /**
@@ -133,15 +136,17 @@ public class PlayerList {
      * </ol>
      *
      * @param input the question value entered by the player (e.g., "200")
+     * @return ActionResult indicating whether an unanswered question was selected
      * @see SelectQuestionAction
      */
-    public void selectQuestion(String input){
+    public ActionResult selectQuestion(String input){
         Player current = getCurrentPlayer();
         current.setState(StateRegistry.SELECT_QUESTION);
-        Action action = new SelectQuestionAction(controller);
+        Action action = new SelectQuestionAction(session);
         current.setAction(action);
         ActionResult result = current.doAction(input);
         view.displayActionResult(result);
+        return result;
     }
 
     /**
@@ -160,11 +165,27 @@ public class PlayerList {
      * @see AnswerQuestionAction
      */
     public ActionResult answerQuestion(String input){
-        Player current = getCurrentPlayer();
-        current.setState(StateRegistry.ANSWER_QUESTION);
-        Action action = new AnswerQuestionAction(controller);
-        current.setAction(action);
-        return current.doAction(input);
+        return answerQuestion(getCurrentPlayer(), input);
+    }
+
+    /**
+     * Handles answer submission for a specific player.
+     * <p>
+     * Used in buzz-in mode, where any player may answer out of turn. Players
+     * may call this concurrently, each for themselves; the first correct
+     * answer wins through {@link Question#markAnswered()}.
+     * </p>
+     *
+     * @param player the answering player
+     * @param input the answer option entered by the player (e.g., "A", "B", "C", "D")
+     * @return ActionResult indicating whether the answer was correct and first
+     * @see AnswerQuestionAction
+     */
+    public ActionResult answerQuestion(Player player, String input){
+        player.setState(StateRegistry.ANSWER_QUESTION);
+        Action action = new AnswerQuestionAction(session);
+        player.setAction(action);
+        return player.doAction(input);
     }
 
     /**
@@ -183,15 +204,19 @@ public class PlayerList {
      */
     public void endTurn(int value, boolean correct){
         Player current = getCurrentPlayer();
-        int score = current.getScore();
-
-        if(correct){
-            current.setScore(score + value);
-        } else {
-            current.setScore(score - value);
-        }
+        current.addScore(correct ? value : -value);
 
         view.displayScore(current.getPlayerId(), current.getScore(), correct);
         switchPlayer();
     }
+
+    /**
+     * Concludes a buzz-in turn, whose answers were scored as they arrived.
+     * <p>
+     * Only rotates to the next player; see {@link BuzzInRound}.
+     * </p>
+     */
+    public void endBuzzInTurn(){
+        switchPlayer();
+    }
 }
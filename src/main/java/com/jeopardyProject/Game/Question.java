@@ -1,6 +1,11 @@
 package com.jeopardyProject.Game;
 
+import java.io.PrintWriter;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Represents a single Jeopardy question with multiple-choice options.
@@ -10,12 +15,41 @@ import java.util.HashMap;
  * options (A, B, C, D) with one correct answer. Once answered correctly,
  * the question is marked as unavailable for future selection.
  * </p>
+ * <p>
+ * A question on a {@link QuestionList} keeps its answered flag in that
+ * list's bitmap rather than in itself, so boards dealt from a shared
+ * {@link QuestionBank} need only lightweight questions that share their text
+ * and options. Either way the flag is changed atomically, so concurrent
+ * buzz-in answers can race for it with {@link #markAnswered()}: exactly one
+ * caller wins.
+ * </p>
+ * <p>
+ * The content is kept compact, since banks may hold millions of questions:
+ * option texts sit in an array indexed by key ordinal (A = 0) instead of a
+ * map, the correct answer is a byte ordinal, and file readers pass the same
+ * category and option string instances for every question that repeats
+ * them (such as "True" and "False").
+ * </p>
+ * <p>
+ * A question constructed with a {@link QuestionSource} holds only its
+ * category and value until its content, options or answer is first read,
+ * so a bank whose text lives outside the heap (see
+ * {@link MappedQuestionStore}) can hand out questions that cost a few bytes.
+ * </p>
  *
  * @author COMP3607 Jeopardy Project Team
  * @version 1.0
  */
 public class Question {
-    /** Category this question belongs to (e.g., "Variables & Data Types"). */
+    /** Option keys by ordinal: "A", "B", ... "Z". */
+    private static final String[] KEYS = new String[26];
+
+    static {
+        for (int i = 0; i < KEYS.length; i++)
+            KEYS[i] = String.valueOf((char) ('A' + i));
+    }
+
+    /** Category this question belongs to (e.g., "Variables & Data Types"); shared by the bank's questions. */
     private String category;
 
     /** Point value of this question (100-500). */
@@ -24,14 +58,37 @@ public class Question {
     /** The question text/content to be displayed. */
     private String content;
 
-    /** Multiple-choice options mapped as (key → answer text), typically A-D. */
-    private HashMap<String, String> options;
+    /** Multiple-choice option texts by key ordinal (A = 0); null for a missing key. */
+    private String[] options;
+
+    /** Ordinal of the correct answer key (A = 0), or -1 if it is not a key. */
+    private byte correctAnswer;
 
-    /** The correct answer key (e.g., "A", "B", "C", or "D"). */
-    private String correctAnswer;
+    /** Atomic access to {@code isAnswered}. */
+    private static final VarHandle IS_ANSWERED;
+
+    static {
+        try {
+            IS_ANSWERED = MethodHandles.lookup().findVarHandle(Question.class, "isAnswered", boolean.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
 
-    /** Flag indicating whether this question has been correctly answered. */
-    private boolean isAnswered;
+    /** Flag indicating whether this question has been correctly answered, while on no board. */
+    private volatile boolean isAnswered;
+
+    /** Board holding this question's answered flag, or null. */
+    private QuestionList board;
+
+    /** Position of this question on {@code board}. */
+    private int boardIndex = -1;
+
+    /** Source of this question's text and answer, or null once they are loaded. */
+    private volatile QuestionSource source;
+
+    /** Position of this question in {@code source}. */
+    private int sourceIndex;
 
     /**
      * Constructs a new Question with all required fields.
@@ -43,12 +100,66 @@ public class Question {
      * @param rightAnswer the correct answer key (e.g., "A")
      */
     public Question(String category, int value, String content, HashMap<String, String> options, String rightAnswer) {
+        this(category, value, content, toArray(options), rightAnswer);
+    }
+
+    /**
+     * Constructs a new Question with options given by key ordinal.
+     * <p>
+     * The array is kept, not copied, so file readers can share category and
+     * option strings between questions (see
+     * {@link com.jeopardyProject.Game.Template.FileReaderTemplate}).
+     * </p>
+     *
+     * @param category the category name this question belongs to
+     * @param value the point value for this question
+     * @param content the question text to display
+     * @param options answer texts, option "A" first; null entries are missing options
+     * @param rightAnswer the correct answer key (e.g., "A")
+     */
+    public Question(String category, int value, String content, String[] options, String rightAnswer) {
         this.category = category;
         this.value = value;
         this.content = content;
         this.options = options;
-        this.correctAnswer = rightAnswer;
-        this.isAnswered = false;
+        this.correctAnswer = (byte) ordinal(rightAnswer);
+    }
+
+    /**
+     * Constructs a question whose text and answer are loaded on first use.
+     *
+     * @param category the category name this question belongs to
+     * @param value the point value for this question
+     * @param source supplies the content, options and right answer when first needed
+     * @param index the question's position in that source
+     */
+    public Question(String category, int value, QuestionSource source, int index) {
+        this.category = category;
+        this.value = value;
+        this.correctAnswer = -1;
+        this.source = source;
+        this.sourceIndex = index;
+    }
+
+    /**
+     * Constructs a question sharing another's content, placed on a board.
+     *
+     * @param source the question whose text, options and answer to share
+     * @param board the board holding the new question's answered flag
+     * @param index the new question's position on that board
+     */
+    Question(Question source, QuestionList board, int index) {
+        this.category = source.category;
+        this.value = source.value;
+        this.source = source.source;
+        this.sourceIndex = source.sourceIndex;
+        if (this.source == null) {      // otherwise the copy loads for itself
+            this.content = source.content;
+            this.options = source.options;
+            this.correctAnswer = source.correctAnswer;
+        }
+        this.board = board;
+        this.boardIndex = index;
     }
 
     /**
@@ -75,16 +186,46 @@ public class Question {
      * @return the question content string
      */
     public String getContent() {
+        load();
         return this.content;
     }
 
     /**
      * Gets all answer options for this question.
+     * <p>
+     * Builds a new map on each call; changing it does not change the question.
+     * </p>
      *
      * @return HashMap mapping option keys to answer text
      */
     public HashMap<String, String> getOptions(){
-        return this.options;
+        load();
+        HashMap<String, String> map = new HashMap<>();
+        for (int i = 0; i < this.options.length; i++)
+            if (this.options[i] != null)
+                map.put(KEYS[i], this.options[i]);
+        return map;
+    }
+
+    /**
+     * Gets the number of option slots, including any missing keys before the last option.
+     *
+     * @return one more than the last option's ordinal
+     */
+    public int getOptionCount(){
+        load();
+        return this.options.length;
+    }
+
+    /**
+     * Gets the answer text of an option by ordinal.
+     *
+     * @param ordinal the key's ordinal (0 for "A")
+     * @return the answer text, or null if that key is missing
+     */
+    public String getOption(int ordinal){
+        load();
+        return this.options[ordinal];
     }
 
     /**
@@ -94,16 +235,19 @@ public class Question {
      * @return the answer text associated with that key, or null if key doesn't exist
      */
     public String getValueGivenKey(String key){
-        return this.options.get(key);
+        load();
+        int ordinal = ordinal(key);
+        return ordinal >= 0 && ordinal < this.options.length ? this.options[ordinal] : null;
     }
 
     /**
      * Gets the correct answer key for this question.
      *
-     * @return the correct answer option (e.g., "A")
+     * @return the correct answer option in capitals (e.g., "A"), or null if it was not a single letter
      */
     public String getRightAnswer() {
-        return this.correctAnswer;
+        load();
+        return this.correctAnswer < 0 ? null : KEYS[this.correctAnswer];
     }
 
     /**
@@ -112,7 +256,8 @@ public class Question {
      * @return true if answered correctly, false otherwise
      */
     public boolean getIsAnswered() {
-        return this.isAnswered;
+        QuestionList board = this.board;
+        return board != null ? board.isAnswered(this.boardIndex) : this.isAnswered;
     }
 
     /**
@@ -125,7 +270,53 @@ public class Question {
      * @param answered true to mark as answered, false to mark as unanswered
      */
     public void setIsAnswered(boolean answered) {
-        this.isAnswered = answered;
+        QuestionList board = this.board;
+        if (board != null)
+            board.setAnswered(this.boardIndex, answered);
+        else
+            this.isAnswered = answered;
+    }
+
+    /**
+     * Atomically marks this question as answered if no one has yet.
+     * <p>
+     * Lock-free compare-and-set on the answered flag (or on the board's
+     * bitmap), used to decide which of several simultaneous correct answers
+     * counts.
+     * </p>
+     *
+     * @return true if this call answered the question, false if it was already answered
+     */
+    public boolean markAnswered() {
+        QuestionList board = this.board;
+        if (board != null)
+            return board.markAnswered(this.boardIndex);
+        return IS_ANSWERED.compareAndSet(this, false, true);
+    }
+
+    /**
+     * Places this question on a board, which holds its answered flag from now on.
+     * <p>
+     * A question belongs to the last list it was added to; earlier lists keep
+     * the flag it had when it moved.
+     * </p>
+     *
+     * @param board the question list indexing this question
+     * @param index the question's position in that list
+     */
+    void bind(QuestionList board, int index) {
+        this.board = board;
+        this.boardIndex = index;
+    }
+
+    /**
+     * Gets this question's position on a board.
+     *
+     * @param board the question list asking
+     * @return the position, or -1 if the question is not bound to that board
+     */
+    int indexOn(QuestionList board) {
+        return this.board == board ? this.boardIndex : -1;
     }
 
     /**
@@ -135,9 +326,76 @@ public class Question {
      * </p>
      */
     public void printOptions(){
-        for (String option: options.keySet()) {
-            String answer = options.get(option);
-            System.out.println(option + " " + answer);
+        PrintWriter out = new PrintWriter(System.out);
+        printOptions(out);
+        out.flush();
+    }
+
+    /**
+     * Prints all answer options to the given writer.
+     * <p>
+     * Format: "[key] [answer text]" for each option (e.g., "A The answer is...")
+     * </p>
+     *
+     * @param out the writer to print to
+     */
+    public void printOptions(PrintWriter out){
+        load();
+        for (int i = 0; i < this.options.length; i++) {
+            if (this.options[i] != null)
+                out.println(KEYS[i] + " " + this.options[i]);
+        }
+    }
+
+    /**
+     * Fetches the text and answer from the source, if they have not been yet.
+     * <p>
+     * Two threads may both load; they store equal values.
+     * </p>
+     */
+    private void load(){
+        QuestionSource source = this.source;
+        if (source == null)
+            return;
+        Question loaded = source.load(this.sourceIndex);
+        this.content = loaded.getContent();
+        this.options = loaded.options;
+        this.correctAnswer = loaded.correctAnswer;
+        this.source = null;
+    }
+
+    /**
+     * Gets the ordinal of an option key.
+     *
+     * @param key the key
+     * @return 0 for "A" or "a" through 25 for "Z" or "z", or -1 if the key is not a single letter
+     */
+    private static int ordinal(String key){
+        if (key == null || key.length() != 1)
+            return -1;
+        char letter = key.charAt(0);
+        if (letter >= 'a' && letter <= 'z')
+            letter -= 'a' - 'A';
+        return letter >= 'A' && letter <= 'Z' ? letter - 'A' : -1;
+    }
+
+    /**
+     * Converts keyed options to an array by key ordinal.
+     *
+     * @param options answer texts by key
+     * @return the texts by ordinal, sized to the last key present
+     * @throws IllegalArgumentException if a key is not a single letter
+     */
+    private static String[] toArray(HashMap<String, String> options){
+        String[] array = new String[0];
+        for (Map.Entry<String, String> option : options.entrySet()) {
+            int ordinal = ordinal(option.getKey());
+            if (ordinal < 0)
+                throw new IllegalArgumentException("Option key must be a letter A-Z: " + option.getKey());
+            if (ordinal >= array.length)
+                array = Arrays.copyOf(array, ordinal + 1);
+            array[ordinal] = option.getValue();
         }
+        return array;
     }
 }
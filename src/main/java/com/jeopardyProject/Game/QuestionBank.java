@@ -0,0 +1,549 @@
+package com.jeopardyProject.Game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * Immutable snapshot of a question list's content and grid layout.
+ * <p>
+ * Holds what every game on the same questions has in common: the questions'
+ * text, options and answers, the category and value ordinals, the
+ * (category, value) cells and the {@link CategoryIndex}. It is built once,
+ * when a {@link QuestionList} creates its grid, and shared by every board
+ * dealt from that list with {@link QuestionList#copyUnanswered()}. Such a board
+ * adds only its own answered bitmap, so an extra game costs a few bytes
+ * rather than a copy of every question.
+ * </p>
+ * <p>
+ * Questions are bucketed by category and value, so a bank may hold any
+ * number of questions per cell. The grid shows the last question of each
+ * bucket, while {@link #sample(int, int, Random)} deals a board of a few
+ * categories and values from the whole bank, picking one question per cell
+ * uniformly at random. Each category's distinct values are a slot range and
+ * each slot a range of question positions, so sampling touches only the
+ * chosen categories and buckets.
+ * </p>
+ * <p>
+ * The {@link Question} objects returned by {@link #get(int)} are the source
+ * list's own; use them for content only, since their answered flags belong
+ * to that list rather than to any game. Safe to share between threads.
+ * </p>
+ * <p>
+ * A bank opened from a {@link MappedQuestionStore} holds no questions at
+ * all: the store keeps its records in bucket order, so a bucket is a range
+ * of positions, and {@link #get(int)} returns a new question that reads its
+ * text from the mapping when first asked.
+ * </p>
+ *
+ * @see QuestionList
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public class QuestionBank {
+    /** Questions in board order; null entries are kept so positions match the source list. Null for a mapped bank. */
+    private final Question[] questions;
+
+    /** Store holding the questions of a mapped bank, or null. */
+    private final MappedQuestionStore store;
+
+    /** Category names by ordinal, in order of first appearance (grid columns). */
+    private final String[] categoryNames;
+
+    /** Category name to ordinal. */
+    private final Map<String, Integer> categoryOrdinals;
+
+    /** Distinct question values by ordinal, in descending order (grid rows). */
+    private final int[] values;
+
+    /** First slot of each category, by ordinal; category {@code c} owns slots up to {@code slotStart[c + 1]}. */
+    private final int[] slotStart;
+
+    /** Value ordinal of each slot, ascending within a category. */
+    private final int[] slotValue;
+
+    /** First entry of each slot's bucket in {@code bucketItems}; slot {@code s} ends at {@code bucketStart[s + 1]}. */
+    private final int[] bucketStart;
+
+    /** Question positions grouped by slot, in board order within each bucket; null when they are the identity. */
+    private final int[] bucketItems;
+
+    /** Category ordinals by number of distinct values, most first. */
+    private final int[] categoriesByValueCount;
+
+    /** Number of non-null questions. */
+    private final int questionCount;
+
+    /** Prefix trie over the categories. */
+    private final CategoryIndex categoryIndex;
+
+    /** Hash of the categories and values in board order, once {@code fingerprinted}. */
+    private int fingerprint;
+
+    /** True once {@code fingerprint} has been computed. */
+    private volatile boolean fingerprinted;
+
+    /**
+     * Builds a bank from questions in board order.
+     * <p>
+     * Categories are numbered in order of first appearance and values in
+     * descending order. Questions sharing a category and value go into the
+     * same bucket.
+     * </p>
+     *
+     * @param questions the questions; null entries keep their position but are skipped
+     * @param categoryIndex an index over the same categories to reuse, or null to build one
+     */
+    QuestionBank(List<Question> questions, CategoryIndex categoryIndex){
+        this.questions = questions.toArray(new Question[0]);
+        this.store = null;
+
+        LinkedHashMap<String, Integer> ordinals = new LinkedHashMap<>();
+        TreeSet<Integer> valueSet = new TreeSet<>(Collections.reverseOrder());     // descending order
+        int count = 0;
+        for (Question q : this.questions) {
+            if (q == null) continue;
+            ordinals.putIfAbsent(q.getCategory(), ordinals.size());
+            valueSet.add(q.getValue());
+            count++;
+        }
+        this.questionCount = count;
+        this.categoryOrdinals = new HashMap<>(ordinals);
+        this.categoryNames = ordinals.keySet().toArray(new String[0]);
+        this.values = new int[valueSet.size()];
+        int row = 0;
+        for (int value : valueSet)
+            this.values[row++] = value;
+
+        // counting sort by category, then sort each category's run by (value, position)
+        int categories = this.categoryNames.length;
+        int[] categoryStart = new int[categories + 1];
+        int[] categoryOf = new int[this.questions.length];
+        for (int i = 0; i < this.questions.length; i++) {
+            if (this.questions[i] == null) continue;
+            categoryOf[i] = ordinals.get(this.questions[i].getCategory());
+            categoryStart[categoryOf[i] + 1]++;
+        }
+        for (int c = 0; c < categories; c++)
+            categoryStart[c + 1] += categoryStart[c];
+        long[] sorted = new long[count];
+        int[] next = Arrays.copyOf(categoryStart, categories);
+        for (int i = 0; i < this.questions.length; i++)
+            if (this.questions[i] != null)
+                sorted[next[categoryOf[i]]++] = (long) valueOrdinal(this.questions[i].getValue()) << 32 | i;
+
+        this.slotStart = new int[categories + 1];
+        int[] slotValues = new int[count];
+        int[] bucketStarts = new int[count + 1];
+        this.bucketItems = new int[count];
+        int slots = 0;
+        for (int c = 0; c < categories; c++) {
+            Arrays.sort(sorted, categoryStart[c], categoryStart[c + 1]);
+            this.slotStart[c] = slots;
+            for (int k = categoryStart[c]; k < categoryStart[c + 1]; k++) {
+                int value = (int) (sorted[k] >>> 32);
+                if (slots == this.slotStart[c] || slotValues[slots - 1] != value) {
+                    slotValues[slots] = value;
+                    bucketStarts[slots++] = k;
+                }
+                this.bucketItems[k] = (int) sorted[k];
+            }
+        }
+        this.slotStart[categories] = slots;
+        bucketStarts[slots] = count;
+        this.slotValue = Arrays.copyOf(slotValues, slots);
+        this.bucketStart = Arrays.copyOf(bucketStarts, slots + 1);
+
+        this.categoriesByValueCount = sortByValueCount();
+        this.categoryIndex = categoryIndex != null ? categoryIndex : new CategoryIndex(ordinals.keySet());
+    }
+
+    /**
+     * Builds a bank over a mapped store, whose records are already sorted
+     * into buckets.
+     *
+     * @param store the store
+     * @param categoryNames category names by ordinal
+     * @param values distinct values, descending
+     * @param slotStart first slot of each category, plus the total slot count
+     * @param slotValue value ordinal of each slot
+     * @param bucketStart first record of each slot, plus the record count
+     */
+    QuestionBank(MappedQuestionStore store, String[] categoryNames, int[] values,
+                 int[] slotStart, int[] slotValue, int[] bucketStart){
+        this.questions = null;
+        this.store = store;
+        this.questionCount = store.size();
+        this.categoryNames = categoryNames;
+        this.categoryOrdinals = new HashMap<>();
+        for (int c = 0; c < categoryNames.length; c++)
+            this.categoryOrdinals.put(categoryNames[c], c);
+        this.values = values;
+        this.slotStart = slotStart;
+        this.slotValue = slotValue;
+        this.bucketStart = bucketStart;
+        this.bucketItems = null;
+        this.categoriesByValueCount = sortByValueCount();
+        this.categoryIndex = new CategoryIndex(Arrays.asList(categoryNames));
+    }
+
+    /**
+     * Orders the categories by their number of distinct values.
+     *
+     * @return category ordinals, most values first
+     */
+    private int[] sortByValueCount(){
+        int categories = this.categoryNames.length;
+        long[] byCount = new long[categories];
+        for (int c = 0; c < categories; c++)
+            byCount[c] = (long) -valueCount(c) << 32 | c;
+        Arrays.sort(byCount);
+        int[] sorted = new int[categories];
+        for (int k = 0; k < categories; k++)
+            sorted[k] = (int) byCount[k];
+        return sorted;
+    }
+
+    /**
+     * Gets the number of board positions, including any null entries.
+     *
+     * @return the board size
+     */
+    public int size(){
+        return this.questions != null ? this.questions.length : this.questionCount;
+    }
+
+    /** @return number of questions, not counting null entries */
+    public int getQuestionCount(){
+        return this.questionCount;
+    }
+
+    /**
+     * Counts the grid cells that hold a question.
+     * <p>
+     * Each cell shows one question, so this is less than
+     * {@link #getQuestionCount()} when some cell's bucket holds several.
+     * </p>
+     *
+     * @return number of non-empty cells
+     */
+    public int getCellCount(){
+        return this.slotStart[this.categoryNames.length];
+    }
+
+    /**
+     * Fingerprints the board's layout.
+     * <p>
+     * Hashes every position's category and value, so two banks agree when
+     * they hold the same categories and values in the same order. Question
+     * text is never read, so no lazily loaded question is loaded. Computed on
+     * first call and then kept.
+     * </p>
+     *
+     * @return hash of the categories and values in board order
+     */
+    public int getFingerprint(){
+        if (!this.fingerprinted){
+            int hash = 1;
+            for (int i = 0; i < size(); i++){
+                if (this.store != null){
+                    hash = 31 * hash + this.categoryNames[this.store.getCategoryOrdinal(i)].hashCode();
+                    hash = 31 * hash + this.store.getValue(i);
+                } else if (this.questions[i] != null){
+                    hash = 31 * hash + this.questions[i].getCategory().hashCode();
+                    hash = 31 * hash + this.questions[i].getValue();
+                } else {
+                    hash = 31 * hash;
+                }
+            }
+            this.fingerprint = hash;
+            this.fingerprinted = true;
+        }
+        return this.fingerprint;
+    }
+
+    /**
+     * Gets a question's content.
+     *
+     * @param index board position
+     * @return the question, or null for a null entry; its answered flag is not a game's
+     */
+    public Question get(int index){
+        return this.questions != null ? this.questions[index] : this.store.get(index);
+    }
+
+    /** @return the category prefix index */
+    public CategoryIndex getCategoryIndex(){
+        return this.categoryIndex;
+    }
+
+    /**
+     * Finds the board position of a grid cell.
+     * <p>
+     * The category is matched exactly, falling back to a case-insensitive match.
+     * </p>
+     *
+     * @param category the category name
+     * @param value the point value
+     * @return the position of the question in that cell, or -1 if there is none
+     */
+    public int indexOf(String category, int value){
+        int column = getCategoryOrdinal(category);
+        int row = valueOrdinal(value);
+        if (column < 0 || row < 0)
+            return -1;
+        return getCell(column, row);
+    }
+
+    /**
+     * Gets the ordinal of a category.
+     * <p>
+     * The category is matched exactly, falling back to a case-insensitive match.
+     * </p>
+     *
+     * @param category the category name
+     * @return its ordinal (grid column), or -1 if no category has that name
+     */
+    public int getCategoryOrdinal(String category){
+        if (category == null)
+            return -1;
+        Integer ordinal = this.categoryOrdinals.get(category);
+        if (ordinal != null)
+            return ordinal;
+        for (int i = 0; i < this.categoryNames.length; i++)
+            if (this.categoryNames[i].equalsIgnoreCase(category))
+                return i;
+        return -1;
+    }
+
+    /**
+     * Gets the ordinal of a value by binary search of the descending values.
+     *
+     * @param value the point value
+     * @return its ordinal, or -1 if no question has that value
+     */
+    private int valueOrdinal(int value){
+        int low = 0;
+        int high = this.values.length - 1;
+        while (low <= high){
+            int mid = (low + high) >>> 1;
+            if (this.values[mid] > value)
+                low = mid + 1;
+            else if (this.values[mid] < value)
+                high = mid - 1;
+            else
+                return mid;
+        }
+        return -1;
+    }
+
+    /** @return number of grid columns */
+    int getColumnCount(){
+        return this.categoryNames.length;
+    }
+
+    /** @return number of grid rows */
+    int getRowCount(){
+        return this.values.length;
+    }
+
+    /**
+     * Gets a column's header.
+     *
+     * @param column the column, a category ordinal
+     * @return the category name
+     */
+    public String getCategoryName(int column){
+        return this.categoryNames[column];
+    }
+
+    /**
+     * Gets a row's value.
+     *
+     * @param row the row
+     * @return the point value
+     */
+    int getRowValue(int row){
+        return this.values[row];
+    }
+
+    /** @return first slot of a category, or the slot count for {@code column == getColumnCount()} */
+    int getSlotStart(int column){
+        return this.slotStart[column];
+    }
+
+    /** @return row (value ordinal) of a slot */
+    int getSlotValue(int slot){
+        return this.slotValue[slot];
+    }
+
+    /** @return first bucket entry of a slot, or the entry count for the slot after the last */
+    int getBucketStart(int slot){
+        return this.bucketStart[slot];
+    }
+
+    /**
+     * Gets the question in a grid cell.
+     *
+     * @param column the column
+     * @param row the row
+     * @return the board position of the last question in that cell, or -1 for an empty cell
+     */
+    int getCell(int column, int row){
+        int slot = Arrays.binarySearch(this.slotValue, this.slotStart[column], this.slotStart[column + 1], row);
+        return slot < 0 ? -1 : item(this.bucketStart[slot + 1] - 1);
+    }
+
+    /**
+     * Gets an entry of the buckets.
+     *
+     * @param k index into the concatenated buckets
+     * @return the board position stored there
+     */
+    int item(int k){
+        return this.bucketItems != null ? this.bucketItems[k] : k;
+    }
+
+    /**
+     * Gets the cell a question is shown in.
+     *
+     * @param index board position
+     * @return {@code column * rows + row}, or -1 if the question is not shown
+     */
+    int getCellOf(int index){
+        int column;
+        int row;
+        if (this.store != null){
+            column = this.store.getCategoryOrdinal(index);
+            row = valueOrdinal(this.store.getValue(index));
+        } else {
+            Question q = this.questions[index];
+            if (q == null)
+                return -1;
+            column = this.categoryOrdinals.get(q.getCategory());
+            row = valueOrdinal(q.getValue());
+        }
+        return getCell(column, row) == index ? column * this.values.length + row : -1;
+    }
+
+    /**
+     * Counts a category's distinct values.
+     *
+     * @param column the category ordinal
+     * @return number of non-empty cells in its column
+     */
+    private int valueCount(int column){
+        return this.slotStart[column + 1] - this.slotStart[column];
+    }
+
+    /**
+     * Deals a random board from this bank.
+     * <p>
+     * Chooses {@code categories} distinct categories uniformly from those with
+     * at least {@code values} distinct values, then {@code values} of each
+     * chosen category's values, then one question uniformly from each chosen
+     * (category, value) bucket. Only the chosen categories and buckets are
+     * visited, so the cost depends on the board's size rather than the
+     * bank's. The same seed over the same bank deals the same board.
+     * </p>
+     * <p>
+     * The board lists each category's questions in ascending value order,
+     * categories in the order drawn.
+     * </p>
+     *
+     * @param categories number of categories (columns) to deal
+     * @param values number of values (rows) per category
+     * @param random source of randomness; seed it for a reproducible board
+     * @return a new bank holding the dealt questions
+     * @throws IllegalArgumentException if either count is below 1, or too few
+     *         categories have enough values
+     */
+    public QuestionBank sample(int categories, int values, Random random){
+        if (categories < 1 || values < 1)
+            throw new IllegalArgumentException("Board must have at least one category and value");
+        int eligible = eligibleCategories(values);
+        if (categories > eligible)
+            throw new IllegalArgumentException("Only " + eligible + " categories have " + values + " values");
+
+        int[] columns = choose(eligible, categories, random);
+        for (int i = columns.length - 1; i > 0; i--){     // draw order, not Floyd's order
+            int j = random.nextInt(i + 1);
+            int swap = columns[i];
+            columns[i] = columns[j];
+            columns[j] = swap;
+        }
+        List<Question> board = new ArrayList<>(categories * values);
+        for (int pick : columns){
+            int column = this.categoriesByValueCount[pick];
+            int[] slots = choose(valueCount(column), values, random);
+            Arrays.sort(slots);
+            for (int k = slots.length - 1; k >= 0; k--){      // ascending value
+                int slot = this.slotStart[column] + slots[k];
+                int from = this.bucketStart[slot];
+                int size = this.bucketStart[slot + 1] - from;
+                board.add(get(item(from + random.nextInt(size))));
+            }
+        }
+        return new QuestionBank(board, null);
+    }
+
+    /**
+     * Checks whether {@link #sample(int, int, Random)} can deal a board of a given size.
+     *
+     * @param categories number of categories
+     * @param values number of values per category
+     * @return true if at least {@code categories} categories have {@code values} values
+     */
+    public boolean canSample(int categories, int values){
+        return categories >= 1 && values >= 1 && eligibleCategories(values) >= categories;
+    }
+
+    /**
+     * Counts the categories with at least a given number of distinct values.
+     *
+     * @param values the minimum number of values
+     * @return length of the prefix of {@code categoriesByValueCount} that qualifies
+     */
+    private int eligibleCategories(int values){
+        int low = 0;
+        int high = this.categoriesByValueCount.length;
+        while (low < high){
+            int mid = (low + high) >>> 1;
+            if (valueCount(this.categoriesByValueCount[mid]) >= values)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
+    }
+
+    /**
+     * Chooses distinct integers uniformly with Floyd's algorithm.
+     *
+     * @param n size of the range {@code [0, n)}
+     * @param k how many to choose, at most {@code n}
+     * @param random source of randomness
+     * @return the chosen integers, in no particular order
+     */
+    private static int[] choose(int n, int k, Random random){
+        int[] chosen = new int[k];
+        int size = 0;
+        for (int j = n - k; j < n; j++){
+            int t = random.nextInt(j + 1);
+            for (int i = 0; i < size; i++){
+                if (chosen[i] == t){
+                    t = j;
+                    break;
+                }
+            }
+            chosen[size++] = t;
+        }
+        return chosen;
+    }
+}
@@ -1,5 +1,8 @@
 package com.jeopardyProject.Game;
 
+import java.io.PrintWriter;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.*;
 
 /**
@@ -9,52 +12,254 @@ import java.util.*;
  * <ul>
  *   <li>Add questions to the collection</li>
  *   <li>Filter questions by category</li>
+ *   <li>Search question and option text through a {@link QuestionSearchIndex}</li>
+ *   <li>Resolve typed category prefixes through a {@link CategoryIndex}</li>
  *   <li>Check if unanswered questions remain</li>
  *   <li>Display questions in a formatted Jeopardy-style grid</li>
  * </ul>
  * The grid organizes questions by category (columns) and value (rows), marking
  * answered questions with "X" and displaying values for available questions.
+ * <p>
+ * The grid itself is an immutable {@link QuestionBank}: category and value
+ * ordinals, a flat array of (category, value) cells and the category index.
+ * Answered flags are bits of a {@code long[]} owned by this list, together
+ * with a count of unanswered questions, so looking up a cell, checking
+ * whether questions remain and finding a question's position neither scan
+ * nor allocate.
+ * </p>
+ * <p>
+ * A list built with {@link #addQuestion(Question)} owns its questions. A
+ * board dealt with {@link #copyUnanswered()} instead shares the source list's
+ * bank and holds nothing but its bitmap; its {@link Question} objects are
+ * created only when first requested, share the bank's text and options, and
+ * read and write their answered flags through this list. Such a board
+ * shows one question per (category, value) cell, so only shown questions
+ * count towards {@link #hasQuestions()}.
+ * </p>
+ * <p>
+ * {@link #boardFor(String)} gives each game its board: a copy of a list
+ * that fits on one board, or a {@value #BOARD_CATEGORIES} x
+ * {@value #BOARD_VALUES} board dealt from a larger bank.
+ * </p>
  *
  * @author COMP3607 Jeopardy Project Team
  * @version 1.0
  */
 public class QuestionList {
-    /** Minimum column width for grid formatting. */
-    private static final int MIN_COLUMN_WIDTH = 3;
+    /** Atomic access to the words of {@code answered}. */
+    private static final VarHandle ANSWERED_WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    /** Atomic access to {@code remaining}. */
+    private static final VarHandle REMAINING;
+
+    static {
+        try {
+            REMAINING = MethodHandles.lookup().findVarHandle(QuestionList.class, "remaining", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /** Categories on a board dealt from a bank larger than one board. */
+    public static final int BOARD_CATEGORIES = 5;
+
+    /** Values per category on a board dealt from a bank larger than one board. */
+    public static final int BOARD_VALUES = 5;
+
+    /** ArrayList storing all Question objects; for a dealt board, null until first requested. */
+    private ArrayList<Question> questions;
 
-    /** ArrayList storing all Question objects. */
-    private ArrayList<Question> questions = new ArrayList<>();
+    /** Grid snapshot; shared for a dealt board, otherwise built on demand and dropped on add. */
+    private QuestionBank grid;
 
-    /** Set of unique category names (maintains insertion order). */
-    private LinkedHashSet<String> categorySet;
+    /** Questions of a dealt board by position, created as they are requested. */
+    private Question[] dealt;
 
-    /** Ordered list of categories for grid column headers. */
-    private List<String> categories;
+    /** Answered flags by position. */
+    private long[] answered;
 
-    /** Set of unique question values in descending order (500, 400, 300, 200, 100). */
-    private TreeSet<Integer> valueSet;
+    /** Number of unanswered questions; for a dealt board, of unanswered shown questions. */
+    private volatile int remaining;
 
-    /** Nested map structure: category → (value → Question) for grid lookup. */
-    private Map<String, Map<Integer, Question>> grid;
+    /** True for a dealt board whose bank holds questions that no cell shows. */
+    private boolean hidesQuestions;
+
+    /** Draws the grid, reusing its last frame; null until first displayed. */
+    private BoardRenderer renderer;
+
+    /** Full-text index over the questions; null until first searched. */
+    private QuestionSearchIndex searchIndex;
+
+    /**
+     * Constructs an empty question list.
+     */
+    public QuestionList(){
+        this.questions = new ArrayList<>();
+        this.answered = new long[0];
+    }
+
+    /**
+     * Constructs a fully unanswered board over a shared bank.
+     * <p>
+     * Only the question shown in each cell has to be answered for the game
+     * to end; other questions in the same bucket stay hidden.
+     * </p>
+     *
+     * @param bank the bank to deal from
+     */
+    QuestionList(QuestionBank bank){
+        this.grid = bank;
+        this.answered = new long[(bank.size() + 63) >>> 6];
+        this.remaining = bank.getCellCount();
+        this.hidesQuestions = bank.getCellCount() < bank.getQuestionCount();
+    }
 
     /**
      * Adds a question to the collection.
+     * <p>
+     * The question's answered flag moves to this list. The grid is created
+     * again the next time it is needed.
+     * </p>
      *
      * @param question the Question object to add
      */
     public void addQuestion(Question question){
-        this.questions.add(question);
+        ArrayList<Question> list = getQuestionArray();
+        int index = list.size();
+        list.add(question);
+        if ((index >>> 6) >= this.answered.length)
+            this.answered = Arrays.copyOf(this.answered, Math.max(1, this.answered.length * 2));
+        if (question != null){
+            boolean isAnswered = question.getIsAnswered();
+            question.bind(this, index);
+            if (isAnswered)
+                this.answered[index >>> 6] |= 1L << index;
+            else
+                REMAINING.getAndAdd(this, 1);
+        }
+        if (this.searchIndex != null)
+            this.searchIndex.add(question);
+        this.grid = null;
+        this.dealt = null;
+        this.renderer = null;
     }
 
     /**
      * Gets the complete array of all questions.
+     * <p>
+     * For a dealt board this creates every question not yet requested.
+     * </p>
      *
      * @return ArrayList containing all Question objects
      */
     public ArrayList<Question> getQuestionArray(){
+        if (this.questions == null){
+            ArrayList<Question> list = new ArrayList<>(this.grid.size());
+            for (int i = 0; i < this.grid.size(); i++)
+                list.add(get(i));
+            this.questions = list;
+        }
         return this.questions;
     }
 
+    /**
+     * Gets the number of questions, including any null entries.
+     *
+     * @return the board size
+     */
+    public int size(){
+        return this.questions != null ? this.questions.size() : this.grid.size();
+    }
+
+    /**
+     * Gets the question at a board position.
+     *
+     * @param index board position
+     * @return the question, or null for a null entry
+     */
+    public Question get(int index){
+        if (this.questions != null)
+            return this.questions.get(index);
+        if (this.dealt == null)
+            this.dealt = new Question[this.grid.size()];
+        Question question = this.dealt[index];
+        if (question == null && this.grid.get(index) != null){
+            question = new Question(this.grid.get(index), this, index);
+            this.dealt[index] = question;
+        }
+        return question;
+    }
+
+    /**
+     * Creates a fresh, fully unanswered copy of this list for a new game.
+     * <p>
+     * The copy shares this list's {@link QuestionBank} (text, options, grid
+     * layout and category index) and holds only its own answered flags, so
+     * dealing a board costs a few bytes. Positions match this list's,
+     * including any null entries.
+     * </p>
+     *
+     * @return a new QuestionList with every question unanswered
+     */
+    public QuestionList copyUnanswered(){
+        return new QuestionList(getBank());
+    }
+
+    /**
+     * Deals a random, fully unanswered board from this list for a new game.
+     * <p>
+     * Treats this list as a bank that may hold many questions per category
+     * and value, and draws a board of {@code categories} x {@code values}
+     * cells with {@link QuestionBank#sample(int, int, Random)}. The bank is
+     * neither scanned nor copied, so dealing takes microseconds however many
+     * questions it holds.
+     * </p>
+     *
+     * @param categories number of categories to deal
+     * @param values number of values per category
+     * @param random source of randomness; seed it for a reproducible board
+     * @return a new QuestionList holding the dealt questions, all unanswered
+     * @throws IllegalArgumentException if the bank cannot fill such a board
+     */
+    public QuestionList deal(int categories, int values, Random random){
+        return new QuestionList(getBank().sample(categories, values, random));
+    }
+
+    /**
+     * Gets a fresh, fully unanswered board for a new game.
+     * <p>
+     * A list that fits on one board of {@value #BOARD_CATEGORIES} categories
+     * by {@value #BOARD_VALUES} values, with one question per cell, is
+     * copied with {@link #copyUnanswered()}. A larger bank deals a board of
+     * that size with {@link #deal(int, int, Random)}, seeded from the case
+     * ID, so a game's board can be dealt again from its case ID when it is
+     * recovered or replayed. A bank too irregular to deal such a board is
+     * copied whole.
+     * </p>
+     *
+     * @param caseId the game's case ID
+     * @return a new QuestionList with every question unanswered
+     */
+    public QuestionList boardFor(String caseId){
+        QuestionBank bank = getBank();
+        boolean oneBoard = bank.getCellCount() == bank.getQuestionCount()
+            && bank.getColumnCount() <= BOARD_CATEGORIES && bank.getRowCount() <= BOARD_VALUES;
+        if (oneBoard || !bank.canSample(BOARD_CATEGORIES, BOARD_VALUES))
+            return copyUnanswered();
+        return deal(BOARD_CATEGORIES, BOARD_VALUES, new Random(caseId.hashCode()));
+    }
+
+    /**
+     * Gets the immutable snapshot of this list's content and grid, building it if needed.
+     *
+     * @return the bank shared by boards dealt from this list
+     */
+    public QuestionBank getBank(){
+        if (this.grid == null)
+            this.grid = new QuestionBank(this.questions, null);
+        return this.grid;
+    }
+
     /**
      * Retrieves all questions belonging to a specific category.
      * <p>
@@ -66,7 +271,7 @@ public class QuestionList {
      */
     public ArrayList<Question> getQuestionsByCategory(String category){
         ArrayList<Question> newQuestions = new ArrayList<>();
-        for(Question question : this.questions){
+        for(Question question : getQuestionArray()){
             if (question == null)   // just in case
                 continue;
 
@@ -77,95 +282,184 @@ public class QuestionList {
     }
 
     /**
-     * Checks if any unanswered questions remain in the collection.
+     * Searches question and option text.
+     * <p>
+     * Builds the {@link QuestionSearchIndex} on first use; questions added
+     * afterwards are indexed as they arrive.
+     * </p>
      *
-     * @return true if at least one question is unanswered, false if all answered
+     * @param query words to search for, in any case
+     * @param limit maximum number of results
+     * @return questions containing any of the words, best match first
      */
-    public boolean hasQuestions(){
-        for (Question q : questions){
-            if(q.getIsAnswered() == false)
-                return true;
+    public ArrayList<Question> search(String query, int limit){
+        ArrayList<Question> found = new ArrayList<>();
+        for (int index : getSearchIndex().search(query, limit))
+            found.add(get(index));
+        return found;
+    }
+
+    /**
+     * Gets the full-text index over this list's questions, building it if needed.
+     *
+     * @return index whose positions match this list's
+     */
+    public QuestionSearchIndex getSearchIndex(){
+        if (this.searchIndex == null){
+            QuestionSearchIndex index = new QuestionSearchIndex();
+            for (int i = 0; i < size(); i++)
+                index.add(this.questions != null ? this.questions.get(i) : this.grid.get(i));
+            this.searchIndex = index;
         }
-        return false;       // if all questions have been answered
+        return this.searchIndex;
     }
 
     /**
-     * Initializes the nested grid data structure for question organization.
+     * Gets the question in a grid cell.
      * <p>
-     * Creates a two-dimensional mapping of category → value → Question to enable
-     * efficient lookup and formatted display. Also extracts unique categories
-     * and values from the question collection.
+     * The category is matched exactly, falling back to a case-insensitive
+     * match. Creates the grid first if it is missing or out of date.
      * </p>
+     *
+     * @param category the category name
+     * @param value the point value
+     * @return the question in that cell, or null if there is none
+     */
+    public Question getQuestion(String category, int value){
+        int index = getBank().indexOf(category, value);
+        return index < 0 ? null : get(index);
+    }
+
+    /**
+     * Gets a question's position in this list.
+     *
+     * @param question the question
+     * @return its index in {@link #getQuestionArray()}, or -1 if absent
+     */
+    public int indexOf(Question question){
+        if (question == null)
+            return -1;
+        int index = question.indexOn(this);
+        if (index >= 0 || this.questions == null)
+            return index;
+        return this.questions.indexOf(question);
+    }
+
+    /**
+     * Gets the category prefix index, building the grid if needed.
+     *
+     * @return index over this list's distinct categories
+     */
+    public CategoryIndex getCategoryIndex(){
+        return getBank().getCategoryIndex();
+    }
+
+    /**
+     * Checks if any unanswered questions remain in the collection.
      * <p>
-     * Data Structures Created:
-     * <ul>
-     *   <li>{@code categorySet} - LinkedHashSet preserving category order</li>
-     *   <li>{@code valueSet} - TreeSet with descending value order</li>
-     *   <li>{@code grid} - Nested HashMap for O(1) question lookup</li>
-     * </ul>
-     * Must be called after loading all questions and before displaying the grid.
+     * On a dealt board, questions hidden behind another in the same cell
+     * are not counted.
+     * </p>
+     *
+     * @return true if at least one question is unanswered, false if all answered
      */
-    public void createQuestionGrid(){       // creates nested map that can be used for user selection
-        if (questions == null || questions.isEmpty()) {
-            System.out.println("No questions available.");
-        }
+    public boolean hasQuestions(){
+        return this.remaining > 0;
+    }
 
-        this.categorySet = new LinkedHashSet<>();
-        this.valueSet = new TreeSet<>(Collections.reverseOrder());     // descending order
-        this.grid = new HashMap<>();     // nested map for (category : (value : question))
-
-        for (Question q : questions) {
-            if (q == null) continue;
-            String category = q.getCategory();
-            int value = q.getValue();
-            this.categorySet.add(category);
-            this.valueSet.add(value);
-            
-            Map<Integer, Question> inner = grid.get(category);
-            if (inner == null) {
-                inner = new HashMap<>();
-                grid.put(category, inner);
-            }
-            inner.put(value, q);
+    /**
+     * Counts the answered questions.
+     *
+     * @return number of questions marked answered
+     */
+    public int getAnsweredCount(){
+        int count = 0;
+        for (int word = 0; word < this.answered.length; word++)
+            count += Long.bitCount(getAnsweredWord(word));
+        return count;
+    }
+
+    /**
+     * Checks whether the question at a position has been answered.
+     *
+     * @param index board position
+     * @return true if answered
+     */
+    public boolean isAnswered(int index){
+        return (getAnsweredWord(index >>> 6) & (1L << index)) != 0;
+    }
+
+    /**
+     * Marks the question at a position as answered or unanswered.
+     *
+     * @param index board position of a non-null question
+     * @param isAnswered the new flag
+     */
+    public void setAnswered(int index, boolean isAnswered){
+        long bit = 1L << index;
+        if (isAnswered){
+            long before = (long) ANSWERED_WORDS.getAndBitwiseOr(this.answered, index >>> 6, bit);
+            if ((before & bit) == 0 && isCounted(index))
+                REMAINING.getAndAdd(this, -1);
+        } else {
+            long before = (long) ANSWERED_WORDS.getAndBitwiseAnd(this.answered, index >>> 6, ~bit);
+            if ((before & bit) != 0 && isCounted(index))
+                REMAINING.getAndAdd(this, 1);
         }
     }
 
     /**
-     * Calculates column widths for properly aligned grid formatting.
+     * Atomically marks the question at a position as answered if no one has yet.
+     *
+     * @param index board position of a non-null question
+     * @return true if this call answered the question, false if it was already answered
+     */
+    boolean markAnswered(int index){
+        long bit = 1L << index;
+        long before = (long) ANSWERED_WORDS.getAndBitwiseOr(this.answered, index >>> 6, bit);
+        if ((before & bit) != 0)
+            return false;
+        if (isCounted(index))
+            REMAINING.getAndAdd(this, -1);
+        return true;
+    }
+
+    /**
+     * Checks whether a question counts towards {@link #hasQuestions()}.
+     *
+     * @param index board position of a non-null question
+     * @return false only for a question a dealt board does not show
+     */
+    private boolean isCounted(int index){
+        return !this.hidesQuestions || getBank().getCellOf(index) >= 0;
+    }
+
+    /**
+     * Gets 64 answered flags at once.
+     *
+     * @param word which block of 64 questions, from 0
+     * @return bit {@code i} set if question {@code word * 64 + i} is answered
+     */
+    public long getAnsweredWord(int word){
+        return (long) ANSWERED_WORDS.getVolatile(this.answered, word);
+    }
+
+    /**
+     * Initializes the grid data structures for question organization.
      * <p>
-     * Determines the maximum width needed for each category column by comparing:
-     * <ol>
-     *   <li>Length of the category name</li>
-     *   <li>Length of question value strings in that column</li>
-     *   <li>Minimum column width constant ({@value #MIN_COLUMN_WIDTH})</li>
-     * </ol>
-     * Returns an array of widths corresponding to each category for use in
-     * formatted string output.
+     * Builds the {@link QuestionBank} snapshot: numbers the distinct
+     * categories (in order of first appearance) and values (in descending
+     * order), places each question in its (category, value) cell and indexes
+     * the category names. If two questions share a cell, the later one is
+     * shown and selected.
      * </p>
-     *
-     * @return int array containing the width for each category column
-     */
-    private int[] formatGrid(){
-        this.categories = new ArrayList<>(categorySet);
-
-        int[] categoryWidths = new int[this.categories.size()];
-        for (int i = 0; i < this.categories.size(); i++) {
-            int width = this.categories.get(i).length();         // num of chars in category string
-            Map<Integer, Question> map = this.grid.get(this.categories.get(i));
-            if (map != null) {
-                for (Integer value : valueSet) {
-                    Question q = map.get(value);
-                    String cell = "";
-                    if (q != null && !q.getIsAnswered()){        // answered questions will have a smaller width than category
-                            cell = "" + q.getValue();
-                    }
-                    if (cell.length() > width)
-                        width = cell.length();
-                }
-            }
-            categoryWidths[i] = Math.max(width, MIN_COLUMN_WIDTH);
+     * Must be called after loading all questions and before displaying the grid.
+     */
+    public void createQuestionGrid(){       // creates the board used for user selection
+        if (size() == 0) {
+            System.out.println("No questions available.");
         }
-        return categoryWidths;
+        getBank();
     }
 
     /**
@@ -191,56 +485,20 @@ public class QuestionList {
      * </pre>
      */
     public void display(){
-        int[] categoryWidths = formatGrid();    // must be called each time since table has to be updated
-
-        StringBuilder sep = new StringBuilder();
-        for (int width : categoryWidths) {
-            sep.append("+");
-            for (int i = 0; i < width + 2; i++) sep.append("-");
-        }
-        sep.append("+");
-        System.out.println(sep.toString());
-
-        StringBuilder fmt = new StringBuilder();
-        for (int width : categoryWidths) {
-            fmt.append("| %-").append(width).append("s ");
-        }
-        fmt.append("|\n");
-        String format = fmt.toString();
-
-        System.out.printf(format, categories.toArray());
-
-        StringBuilder sep1 = new StringBuilder();
-        for (int width : categoryWidths) {
-            sep1.append("+");
-            for (int i = 0; i < width + 2; i++) sep1.append("-");
-        }
-        sep1.append("+");
-        System.out.println(sep1.toString());
-
-        for (Integer v : valueSet) {
-            Object[] row = new Object[categories.size()];
-            for (int i = 0; i < categories.size(); i++) {
-                Map<Integer, Question> map = grid.get(categories.get(i));
-                String cell = "";
-                if (map != null && map.containsKey(v)) {
-                    Question q = map.get(v);
-                    if(q.getIsAnswered())
-                        cell = "X";
-                    else
-                        cell = String.valueOf(q.getValue());
-                }
-                row[i] = cell;
-            }
-            System.out.printf(format, row);
-        }
+        PrintWriter out = new PrintWriter(System.out);
+        display(out);
+        out.flush();
+    }
 
-        StringBuilder sep2 = new StringBuilder();
-        for (int width : categoryWidths) {
-            sep2.append("+");
-            for (int i = 0; i < width + 2; i++) sep2.append("-");
-        }
-        sep2.append("+");
-        System.out.println(sep2.toString());
+    /**
+     * Displays the question grid in a formatted table to the given writer.
+     *
+     * @param out the writer to render the grid to
+     * @see #display()
+     */
+    public void display(PrintWriter out){
+        if (this.renderer == null)
+            this.renderer = new BoardRenderer(this, getBank());
+        this.renderer.render(out);
     }
 }
@@ -0,0 +1,294 @@
+package com.jeopardyProject.Game;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Inverted full-text index over question text and option texts.
+ * <p>
+ * Text is split into lower-case runs of letters and digits. Each term maps to
+ * a posting list of the questions containing it, stored as variable-length
+ * (7 bits per byte) pairs of document gap and term frequency, so a term that
+ * occurs in a million questions costs a couple of bytes per occurrence.
+ * Questions are added in board order as they load, each append only
+ * extending the posting lists of its own terms.
+ * </p>
+ * <p>
+ * {@link #search(String, int)} scores every question containing at least one
+ * query term with BM25 and returns the best {@code limit} positions, keeping
+ * them in a bounded heap. Only the posting lists of the query's terms are
+ * decoded, so a query over a million questions touches a few megabytes at
+ * most. Not thread-safe while questions are being added.
+ * </p>
+ *
+ * @see QuestionList#search(String, int)
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public class QuestionSearchIndex {
+    /** BM25 term-frequency saturation. */
+    private static final float K1 = 1.2f;
+
+    /** BM25 document-length normalisation. */
+    private static final float B = 0.75f;
+
+    /** Posting list of each term. */
+    private final Map<String, Postings> terms = new HashMap<>();
+
+    /** Number of terms in each indexed question, by position. */
+    private int[] lengths = new int[16];
+
+    /** Number of positions indexed, including null entries. */
+    private int size;
+
+    /** Sum of all question lengths. */
+    private long totalLength;
+
+    /**
+     * Indexes the next question.
+     *
+     * @param question the question at position {@link #size()}, or null to skip the position
+     */
+    public void add(Question question){
+        int doc = this.size++;
+        if (doc == this.lengths.length)
+            this.lengths = Arrays.copyOf(this.lengths, doc * 2);
+        if (question == null)
+            return;
+
+        Map<String, Integer> counts = new HashMap<>();
+        int length = tokenize(question.getContent(), counts);
+        for (int option = 0; option < question.getOptionCount(); option++)
+            length += tokenize(question.getOption(option), counts);
+        for (Map.Entry<String, Integer> entry : counts.entrySet())
+            this.terms.computeIfAbsent(entry.getKey(), key -> new Postings()).add(doc, entry.getValue());
+        this.lengths[doc] = length;
+        this.totalLength += length;
+    }
+
+    /**
+     * Finds the questions that best match a query.
+     * <p>
+     * A question matches if it contains any query term; questions containing
+     * more, rarer or more frequent terms rank higher. Ties go to the earlier
+     * position.
+     * </p>
+     *
+     * @param query words to search for, in any case
+     * @param limit maximum number of results
+     * @return matching positions, best first
+     */
+    public int[] search(String query, int limit){
+        Map<String, Integer> queryTerms = new HashMap<>();
+        tokenize(query, queryTerms);
+        if (limit < 1 || queryTerms.isEmpty() || this.totalLength == 0)
+            return new int[0];
+
+        float[] scores = new float[this.size];
+        int[] touched = new int[0];
+        int touchedCount = 0;
+        float averageLength = (float) this.totalLength / this.size;
+        for (String term : queryTerms.keySet()){
+            Postings postings = this.terms.get(term);
+            if (postings == null)
+                continue;
+            float idf = (float) Math.log(1 + (this.size - postings.count + 0.5) / (postings.count + 0.5));
+            if (touchedCount + postings.count > touched.length)
+                touched = Arrays.copyOf(touched, Math.max(touchedCount + postings.count, touched.length * 2));
+            int doc = -1;
+            int at = 0;
+            while (at < postings.length){
+                long gap = postings.read(at);
+                at = (int) (gap >>> 32);
+                doc += (int) gap;
+                long frequency = postings.read(at);
+                at = (int) (frequency >>> 32);
+                int tf = (int) frequency;
+                if (scores[doc] == 0)
+                    touched[touchedCount++] = doc;
+                scores[doc] += idf * tf * (K1 + 1) / (tf + K1 * (1 - B + B * this.lengths[doc] / averageLength));
+            }
+        }
+        return topK(scores, touched, touchedCount, limit);
+    }
+
+    /**
+     * Selects the best-scoring documents with a bounded min-heap.
+     *
+     * @param scores score of every position
+     * @param touched positions with a non-zero score
+     * @param count number of entries in {@code touched}
+     * @param limit maximum number of results
+     * @return positions, best first
+     */
+    private static int[] topK(float[] scores, int[] touched, int count, int limit){
+        int[] heap = new int[Math.min(limit, count)];
+        int heapSize = 0;
+        for (int i = 0; i < count; i++){
+            int doc = touched[i];
+            if (heapSize < heap.length){
+                heap[heapSize] = doc;
+                siftUp(heap, heapSize++, scores);
+            } else if (better(doc, heap[0], scores)){
+                heap[0] = doc;
+                siftDown(heap, heapSize, scores);
+            }
+        }
+        int[] ranked = new int[heapSize];
+        for (int i = heapSize - 1; i >= 0; i--){
+            ranked[i] = heap[0];
+            heap[0] = heap[--heapSize];
+            siftDown(heap, heapSize, scores);
+        }
+        return ranked;
+    }
+
+    /**
+     * Compares two positions by score, then by earlier position.
+     *
+     * @param a a position
+     * @param b another position
+     * @param scores score of every position
+     * @return true if {@code a} ranks above {@code b}
+     */
+    private static boolean better(int a, int b, float[] scores){
+        return scores[a] > scores[b] || (scores[a] == scores[b] && a < b);
+    }
+
+    /** Restores the heap after appending at {@code i}; the worst result stays at the root. */
+    private static void siftUp(int[] heap, int i, float[] scores){
+        while (i > 0){
+            int parent = (i - 1) >>> 1;
+            if (!better(heap[parent], heap[i], scores))
+                break;
+            int swap = heap[parent];
+            heap[parent] = heap[i];
+            heap[i] = swap;
+            i = parent;
+        }
+    }
+
+    /** Restores the heap after replacing the root. */
+    private static void siftDown(int[] heap, int size, float[] scores){
+        int i = 0;
+        while (true){
+            int worst = i;
+            int left = 2 * i + 1;
+            if (left < size && better(heap[worst], heap[left], scores))
+                worst = left;
+            if (left + 1 < size && better(heap[worst], heap[left + 1], scores))
+                worst = left + 1;
+            if (worst == i)
+                return;
+            int swap = heap[worst];
+            heap[worst] = heap[i];
+            heap[i] = swap;
+            i = worst;
+        }
+    }
+
+    /**
+     * Splits text into lower-case runs of letters and digits and counts them.
+     *
+     * @param text the text, or null
+     * @param counts term counts to add to
+     * @return number of terms found
+     */
+    static int tokenize(String text, Map<String, Integer> counts){
+        if (text == null)
+            return 0;
+        int found = 0;
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++){
+            boolean word = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (word && start < 0){
+                start = i;
+            } else if (!word && start >= 0){
+                counts.merge(text.substring(start, i).toLowerCase(), 1, Integer::sum);
+                found++;
+                start = -1;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Gets the number of positions indexed.
+     *
+     * @return the position the next question will be indexed at
+     */
+    public int size(){
+        return this.size;
+    }
+
+    /**
+     * Counts the questions containing a term.
+     *
+     * @param term a single word, in any case
+     * @return its document frequency
+     */
+    public int documentFrequency(String term){
+        Postings postings = this.terms.get(term.toLowerCase());
+        return postings == null ? 0 : postings.count;
+    }
+
+    /**
+     * Variable-length encoded (gap, frequency) pairs of one term.
+     */
+    private static final class Postings {
+        /** Encoded pairs. */
+        private byte[] bytes = new byte[4];
+
+        /** Number of bytes used. */
+        private int length;
+
+        /** Last position added, or -1. */
+        private int lastDoc = -1;
+
+        /** Number of positions in the list. */
+        private int count;
+
+        /**
+         * Appends a position, which must follow the last one added.
+         *
+         * @param doc the position
+         * @param frequency occurrences of the term there
+         */
+        void add(int doc, int frequency){
+            write(doc - this.lastDoc);
+            write(frequency);
+            this.lastDoc = doc;
+            this.count++;
+        }
+
+        /** Appends an unsigned integer, 7 bits per byte, low bits first. */
+        private void write(int value){
+            if (this.length + 5 > this.bytes.length)
+                this.bytes = Arrays.copyOf(this.bytes, this.bytes.length * 2);
+            while ((value & ~0x7F) != 0){
+                this.bytes[this.length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            this.bytes[this.length++] = (byte) value;
+        }
+
+        /**
+         * Reads an unsigned integer.
+         *
+         * @param at offset to read from
+         * @return the offset after it in the high 32 bits, the value in the low 32
+         */
+        long read(int at){
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do{
+                b = this.bytes[at++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return (long) at << 32 | (value & 0xFFFFFFFFL);
+        }
+    }
+}
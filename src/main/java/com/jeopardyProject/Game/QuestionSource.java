@@ -0,0 +1,24 @@
+package com.jeopardyProject.Game;
+
+/**
+ * Supplies the text of questions that are loaded on demand.
+ * <p>
+ * A {@link Question} constructed with a source holds only its category and
+ * value; its content, options and right answer are fetched from the source
+ * the first time any of them is read, then kept. Sources must be safe to
+ * call from several threads.
+ * </p>
+ *
+ * @see Question#Question(String, int, QuestionSource, int)
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public interface QuestionSource {
+    /**
+     * Loads a question in full.
+     *
+     * @param index the source's position of the question
+     * @return a question holding the content, options and right answer at that position
+     */
+    Question load(int index);
+}
@@ -0,0 +1,283 @@
+package com.jeopardyProject.Game.Replay;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.jeopardyProject.Game.GameSession;
+import com.jeopardyProject.Game.Player;
+import com.jeopardyProject.Game.PlayerList;
+import com.jeopardyProject.Game.Question;
+import com.jeopardyProject.Game.QuestionList;
+import com.jeopardyProject.Game.Command.ActionResult;
+import com.jeopardyProject.Game.Logs.NullLogger;
+import com.jeopardyProject.Game.Simulation.HeadlessGameView;
+
+/**
+ * Replays one logged game through the real engine and checks it against the log.
+ * <p>
+ * Each game gets a {@link GameSession} with a fresh copy of its board, a
+ * {@link HeadlessGameView} and a {@link NullLogger}. Category, question and
+ * answer rows are fed to {@link PlayerList} and so to the same command
+ * objects a live game uses; the engine, not the log, decides whether each
+ * answer was correct. Every answer row is then checked: the replayed result
+ * must match the logged result and the player's replayed score must match the
+ * logged score. Any difference is recorded as a mismatch.
+ * </p>
+ * <p>
+ * Players are seated from "Enter player name" rows, or on first appearance
+ * for logs that have none. Answer rows with a value of 0 are late buzz-in
+ * answers: right, but beaten to the question, so they score nothing. A won
+ * question is off the board at once; any other question leaves it when the
+ * next one is chosen, or, for the last question, if every player answered it
+ * before the game exited, as in {@code GameSession.endTurn()}.
+ * </p>
+ *
+ * @see ReplayEngine
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public class GameReplay {
+    /** Shared view that renders nothing. */
+    private static final HeadlessGameView VIEW = new HeadlessGameView();
+
+    /** Shared logger that records nothing. */
+    private static final NullLogger LOGGER = new NullLogger();
+
+    /** Session the game is replayed on. */
+    private final GameSession session;
+
+    /** Players of the replayed game. */
+    private final PlayerList players;
+
+    /** Seated players by ID, in the order they joined. */
+    private final LinkedHashMap<String, Player> seats = new LinkedHashMap<>();
+
+    /** Differences between the replay and the log. */
+    private final List<String> mismatches = new ArrayList<>();
+
+    /** Question on the board being played, or null between questions. */
+    private Question open;
+
+    /** Number of answers logged for the open question. */
+    private int answers;
+
+    /** Number of rows applied. */
+    private int events;
+
+    /**
+     * Constructs a replay of one game.
+     *
+     * @param caseId the logged game's case ID
+     * @param board a fresh, unanswered board for the game
+     */
+    public GameReplay(String caseId, QuestionList board){
+        this.session = new GameSession(caseId, LOGGER, VIEW);
+        this.session.setQuestions(board);
+        this.players = new PlayerList(session, 4);
+        this.session.setPlayers(players);
+    }
+
+    /**
+     * Applies the next logged row of this game.
+     * <p>
+     * Rows other than player registration, category, question and answer
+     * rows are counted but otherwise ignored.
+     * </p>
+     *
+     * @param record the row
+     */
+    public void apply(LogRecord record){
+        events++;
+        switch (record.getEventType()){
+            case LogRecord.ENTER_PLAYER_NAME:
+                seat(record.getPlayerId());
+                break;
+            case LogRecord.SELECT_CATEGORY:
+                selectCategory(record);
+                break;
+            case LogRecord.SELECT_QUESTION:
+                selectQuestion(record);
+                break;
+            case LogRecord.ANSWER_QUESTION:
+                answer(record);
+                break;
+            case LogRecord.EXIT_GAME:
+                if (answers >= seats.size())
+                    closeQuestion();
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Finds a seated player, seating them if they have not joined yet.
+     *
+     * @param playerId the player's ID
+     * @return the player
+     */
+    private Player seat(String playerId){
+        Player player = seats.get(playerId);
+        if (player == null){
+            players.addPlayer(playerId);
+            ArrayList<Player> all = players.getAllPlayers();
+            player = all.get(all.size() - 1);
+            seats.put(playerId, player);
+        }
+        return player;
+    }
+
+    /**
+     * Replays a category choice.
+     *
+     * @param record the "Select Category" row
+     */
+    private void selectCategory(LogRecord record){
+        seat(record.getPlayerId());
+        closeQuestion();
+        ActionResult result = players.selectCategory(record.getCategory().toUpperCase());
+        if (!result.isSuccess() || !record.getCategory().equalsIgnoreCase(session.getCategory()))
+            mismatch(record, "category " + record.getCategory() + " not on the board");
+    }
+
+    /**
+     * Replays a question choice.
+     *
+     * @param record the "Select Question" row
+     */
+    private void selectQuestion(LogRecord record){
+        seat(record.getPlayerId());
+        closeQuestion();
+        ActionResult result = players.selectQuestion(Integer.toString(record.getValue()));
+        if (!result.isSuccess()){
+            mismatch(record, record.getCategory() + " for " + record.getValue() + ": " + result.getMessage());
+            return;
+        }
+        open = session.getQuestion();
+        answers = 0;
+    }
+
+    /**
+     * Replays an answer and checks its result and the player's score.
+     *
+     * @param record the "Answer Question" row
+     */
+    private void answer(LogRecord record){
+        Player player = seat(record.getPlayerId());
+        if (open == null){
+            mismatch(record, "answer with no question selected");
+            return;
+        }
+        boolean correct;
+        int delta;
+        if (record.getValue() == 0){
+            correct = false;
+            delta = 0;
+            if (!record.getAnswer().equalsIgnoreCase(open.getRightAnswer()))
+                mismatch(record, "late buzz-in answer " + record.getAnswer() + " is not the right answer");
+        } else {
+            correct = players.answerQuestion(player, record.getAnswer()).isSuccess();
+            delta = correct ? open.getValue() : -open.getValue();
+            if (record.getValue() != open.getValue())
+                mismatch(record, "value logged as " + record.getValue() + " but question is worth " + open.getValue());
+        }
+        int score = player.addScore(delta);
+
+        if (correct != record.getResult())
+            mismatch(record, record.getPlayerId() + " answered " + record.getAnswer() + ": logged "
+                + (record.getResult() ? "correct" : "incorrect") + ", replayed " + (correct ? "correct" : "incorrect"));
+        if (score != record.getScore())
+            mismatch(record, "score for " + record.getPlayerId() + " logged as " + record.getScore()
+                + ", replayed " + score);
+
+        answers++;
+    }
+
+    /**
+     * Takes the question being played off the board.
+     */
+    private void closeQuestion(){
+        if (open != null){
+            open.setIsAnswered(true);
+            open = null;
+        }
+    }
+
+    /**
+     * Records a difference between the replay and the log.
+     *
+     * @param record the row that differed
+     * @param detail what differed
+     */
+    private void mismatch(LogRecord record, String detail){
+        mismatches.add(session.getCaseId() + " line " + record.getLine() + ": " + detail);
+    }
+
+    /**
+     * Gets the replayed game's case ID.
+     *
+     * @return the case ID
+     */
+    public String getCaseId(){
+        return session.getCaseId();
+    }
+
+    /**
+     * Gets the replayed final scores.
+     *
+     * @return map of player ID to score, in the order players joined
+     */
+    public Map<String, Integer> getScores(){
+        Map<String, Integer> scores = new LinkedHashMap<>();
+        for (Map.Entry<String, Player> seat : seats.entrySet())
+            scores.put(seat.getKey(), seat.getValue().getScore());
+        return scores;
+    }
+
+    /**
+     * Gets the replayed board.
+     *
+     * @return the game's questions with their answered flags
+     */
+    public QuestionList getBoard(){
+        return session.getQuestions();
+    }
+
+    /**
+     * Counts the questions taken off the replayed board.
+     *
+     * @return number of answered questions
+     */
+    public int getAnsweredCount(){
+        return session.getQuestions().getAnsweredCount();
+    }
+
+    /**
+     * Gets the number of rows applied.
+     *
+     * @return event count
+     */
+    public int getEventCount(){
+        return events;
+    }
+
+    /**
+     * Gets the differences found between the replay and the log.
+     *
+     * @return mismatch descriptions, in log order
+     */
+    public List<String> getMismatches(){
+        return mismatches;
+    }
+
+    /**
+     * Checks whether the replay agreed with the log throughout.
+     *
+     * @return true if no mismatches were found
+     */
+    public boolean isConsistent(){
+        return mismatches.isEmpty();
+    }
+}
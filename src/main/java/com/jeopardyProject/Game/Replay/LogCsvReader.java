@@ -0,0 +1,201 @@
+package com.jeopardyProject.Game.Replay;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Streaming reader for LogReport.csv event logs.
+ * <p>
+ * Parses the format written by {@code Logger.updateCsv} one row at a time,
+ * so logs of any size are replayed in constant memory. Fields are cut straight
+ * out of each line: the numeric columns are parsed in place, the timestamp and
+ * question text are skipped without creating strings, and only fields quoted
+ * by the logger (those containing commas, quotes or newlines) are copied
+ * through a reused buffer. Header rows, including those repeated where logs
+ * were appended to one another, are skipped.
+ * </p>
+ * <p>
+ * Rows that do not have the expected ten columns are reported on
+ * {@code System.err} and skipped.
+ * </p>
+ *
+ * @see LogRecord
+ * @see ReplayEngine
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public class LogCsvReader implements Closeable {
+    /** Number of columns in a log row. */
+    private static final int COLUMNS = 10;
+
+    /** Start of the header row. */
+    private static final String HEADER_PREFIX = "Case ID,";
+
+    /** Read buffer size in characters. */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /** Column indexes. */
+    private static final int CASE_ID = 0, TIMESTAMP = 1, PLAYER_ID = 2, EVENT_TYPE = 3, CATEGORY = 4,
+                             VALUE = 5, QUESTION = 6, ANSWER = 7, RESULT = 8, SCORE = 9;
+
+    /** Source of log lines. */
+    private final BufferedReader reader;
+
+    /** Reused buffer for quoted fields. */
+    private final StringBuilder quoted = new StringBuilder();
+
+    /** Text columns of the row being parsed, by column index. */
+    private final String[] text = new String[COLUMNS];
+
+    /** Value column of the row being parsed. */
+    private int value;
+
+    /** Result column of the row being parsed. */
+    private boolean result;
+
+    /** Score column of the row being parsed. */
+    private int score;
+
+    /** Number of lines read so far. */
+    private long lineNumber;
+
+    /**
+     * Constructs a reader over a character stream.
+     *
+     * @param in the log contents; buffered here if it is not already
+     */
+    public LogCsvReader(Reader in){
+        this.reader = in instanceof BufferedReader ? (BufferedReader) in : new BufferedReader(in, BUFFER_SIZE);
+    }
+
+    /**
+     * Reads the next data row.
+     *
+     * @return the next record, or null at the end of the log
+     * @throws IOException if the log cannot be read
+     */
+    public LogRecord next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null){
+            lineNumber++;
+            long start = lineNumber;
+            if (line.isEmpty() || line.startsWith(HEADER_PREFIX))
+                continue;
+            boolean parsed;
+            try{
+                parsed = parse(line);
+            } catch (NumberFormatException e){
+                parsed = false;
+            }
+            if (!parsed){
+                System.err.println("Skipping malformed log row at line " + start);
+                continue;
+            }
+            return new LogRecord(start, text[CASE_ID], text[PLAYER_ID], text[EVENT_TYPE], text[CATEGORY],
+                value, text[ANSWER], result, score);
+        }
+        return null;
+    }
+
+    /**
+     * Splits a row into its columns, reading further lines if a quoted field
+     * spans them.
+     *
+     * @param line the first line of the row
+     * @return true if the row had exactly {@value #COLUMNS} columns
+     * @throws IOException if a continuation line cannot be read
+     */
+    private boolean parse(String line) throws IOException {
+        int field = 0;
+        int pos = 0;
+        while (true){
+            if (field == COLUMNS)
+                return false;
+            if (pos < line.length() && line.charAt(pos) == '"'){
+                boolean keep = field != TIMESTAMP && field != QUESTION;
+                quoted.setLength(0);
+                pos++;
+                while (true){
+                    if (pos == line.length()){
+                        line = reader.readLine();
+                        if (line == null)
+                            return false;
+                        lineNumber++;
+                        if (keep)
+                            quoted.append('\n');
+                        pos = 0;
+                        continue;
+                    }
+                    char c = line.charAt(pos++);
+                    if (c != '"'){
+                        if (keep)
+                            quoted.append(c);
+                    } else if (pos < line.length() && line.charAt(pos) == '"'){
+                        if (keep)
+                            quoted.append('"');
+                        pos++;
+                    } else
+                        break;
+                }
+                if (keep)
+                    store(field, quoted, 0, quoted.length());
+            } else {
+                int end = line.indexOf(',', pos);
+                if (end < 0)
+                    end = line.length();
+                store(field, line, pos, end);
+                pos = end;
+            }
+            field++;
+            if (pos == line.length())
+                return field == COLUMNS;
+            if (line.charAt(pos) != ',')
+                return false;
+            pos++;
+        }
+    }
+
+    /**
+     * Stores one column of the row being parsed.
+     *
+     * @param field column index
+     * @param src text holding the column
+     * @param start start of the column in src
+     * @param end end of the column in src (exclusive)
+     * @throws NumberFormatException if a numeric column is not a number
+     */
+    private void store(int field, CharSequence src, int start, int end){
+        switch (field){
+            case VALUE:
+                value = start == end ? 0 : Integer.parseInt(src, start, end, 10);
+                break;
+            case SCORE:
+                score = start == end ? 0 : Integer.parseInt(src, start, end, 10);
+                break;
+            case RESULT:
+                result = end - start == 4 && src.charAt(start) == 't';
+                break;
+            case CASE_ID:
+            case PLAYER_ID:
+            case EVENT_TYPE:
+            case CATEGORY:
+            case ANSWER:
+                text[field] = src.subSequence(start, end).toString();
+                break;
+            default:
+                break;  // timestamp and question text are not needed for replay
+        }
+    }
+
+    /**
+     * Closes the underlying reader.
+     *
+     * @throws IOException if closing fails
+     */
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
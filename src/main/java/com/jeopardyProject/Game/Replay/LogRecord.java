@@ -0,0 +1,131 @@
+package com.jeopardyProject.Game.Replay;
+
+/**
+ * One row of a LogReport.csv event log, as needed for replay.
+ * <p>
+ * Holds the columns written by {@code Logger.updateCsv} except the timestamp
+ * and question text, which replay does not use and {@link LogCsvReader}
+ * therefore never materializes.
+ * </p>
+ *
+ * @see LogCsvReader
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public final class LogRecord {
+    /** Event type of a player registration row. */
+    public static final String ENTER_PLAYER_NAME = "Enter player name";
+
+    /** Event type of the row starting a game. */
+    public static final String START_GAME = "Start Game";
+
+    /** Event type of a category choice row. */
+    public static final String SELECT_CATEGORY = "Select Category";
+
+    /** Event type of a question choice row. */
+    public static final String SELECT_QUESTION = "Select Question";
+
+    /** Event type of a scored answer row. */
+    public static final String ANSWER_QUESTION = "Answer Question";
+
+    /** Event type of the row ending a game. */
+    public static final String EXIT_GAME = "Exit game";
+
+    /** Line number of the row in its file (1-based, header is line 1). */
+    private final long line;
+
+    /** Game session identifier. */
+    private final String caseId;
+
+    /** Acting player, or "System". */
+    private final String playerId;
+
+    /** Event type, e.g. "Answer Question". */
+    private final String eventType;
+
+    /** Category column, or empty. */
+    private final String category;
+
+    /** Value column. */
+    private final int value;
+
+    /** Answer column, or empty. */
+    private final String answer;
+
+    /** Result column. */
+    private final boolean result;
+
+    /** Score column: the player's score after the event. */
+    private final int score;
+
+    /**
+     * Constructs a record from parsed columns.
+     *
+     * @param line line number of the row
+     * @param caseId game session identifier
+     * @param playerId acting player
+     * @param eventType event type
+     * @param category category column
+     * @param value value column
+     * @param answer answer column
+     * @param result result column
+     * @param score score column
+     */
+    public LogRecord(long line, String caseId, String playerId, String eventType, String category,
+                     int value, String answer, boolean result, int score){
+        this.line = line;
+        this.caseId = caseId;
+        this.playerId = playerId;
+        this.eventType = eventType;
+        this.category = category;
+        this.value = value;
+        this.answer = answer;
+        this.result = result;
+        this.score = score;
+    }
+
+    /** @return line number of the row in its file */
+    public long getLine(){
+        return line;
+    }
+
+    /** @return game session identifier */
+    public String getCaseId(){
+        return caseId;
+    }
+
+    /** @return acting player, or "System" */
+    public String getPlayerId(){
+        return playerId;
+    }
+
+    /** @return event type */
+    public String getEventType(){
+        return eventType;
+    }
+
+    /** @return category column, or empty */
+    public String getCategory(){
+        return category;
+    }
+
+    /** @return value column */
+    public int getValue(){
+        return value;
+    }
+
+    /** @return answer column, or empty */
+    public String getAnswer(){
+        return answer;
+    }
+
+    /** @return result column */
+    public boolean getResult(){
+        return result;
+    }
+
+    /** @return score column */
+    public int getScore(){
+        return score;
+    }
+}
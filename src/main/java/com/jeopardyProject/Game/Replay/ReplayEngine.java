@@ -0,0 +1,218 @@
+package com.jeopardyProject.Game.Replay;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import com.jeopardyProject.Game.GameConfig;
+import com.jeopardyProject.Game.QuestionList;
+
+/**
+ * Replays LogReport.csv event logs through the engine and verifies them.
+ * <p>
+ * Logs are streamed row by row with a {@link LogCsvReader}; each game found
+ * in them is replayed by a {@link GameReplay} against its board, dealt
+ * again from the question bank the games were played with by
+ * {@link QuestionList#boardFor(String)}, with no console or file output.
+ * Rows of different games may be interleaved, and a "Start Game" row for a
+ * case ID already seen starts a new game, so logs appended across several
+ * runs replay correctly. A game is finished at its "Exit game" row, or at the
+ * end of the log if it has none.
+ * </p>
+ * <p>
+ * Usage:
+ * <pre>
+ * mvn exec:java -Dexec.mainClass="com.jeopardyProject.Game.Replay.ReplayEngine" \
+ *     -Dexec.args="src/resources/sample.csv LogReport.csv"
+ * </pre>
+ *
+ * @see GameReplay
+ * @see ReplayReport
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public class ReplayEngine {
+    /** Maximum number of mismatch descriptions kept in a report. */
+    private static final int MAX_REPORTED_MISMATCHES = 100;
+
+    /** Question bank each replayed game is dealt its board from again. */
+    private final QuestionList bank;
+
+    /**
+     * Constructs a replay engine for games played with a question bank.
+     *
+     * @param bank the questions the logged games were played with (left unmodified)
+     */
+    public ReplayEngine(QuestionList bank){
+        this.bank = bank;
+    }
+
+    /**
+     * Replays log files in order.
+     *
+     * @param logFiles the LogReport.csv files to replay
+     * @return report of games, events and mismatches
+     * @throws IOException if a log cannot be read
+     */
+    public ReplayReport replay(List<Path> logFiles) throws IOException {
+        return replay(logFiles, game -> {});
+    }
+
+    /**
+     * Replays log files in order, handing each finished game to a callback.
+     *
+     * @param logFiles the LogReport.csv files to replay
+     * @param onFinished receives each game once its last row has been replayed
+     * @return report of games, events and mismatches
+     * @throws IOException if a log cannot be read
+     */
+    public ReplayReport replay(List<Path> logFiles, Consumer<GameReplay> onFinished) throws IOException {
+        Tally tally = new Tally(onFinished);
+        long start = System.nanoTime();
+        for (Path file : logFiles){
+            try (LogCsvReader reader = new LogCsvReader(
+                    new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8))){
+                replay(reader, tally);
+            }
+        }
+        return tally.report(System.nanoTime() - start);
+    }
+
+    /**
+     * Replays one log, handing each finished game to a callback.
+     *
+     * @param in the log contents
+     * @param onFinished receives each game once its last row has been replayed
+     * @return report of games, events and mismatches
+     * @throws IOException if the log cannot be read
+     */
+    public ReplayReport replay(Reader in, Consumer<GameReplay> onFinished) throws IOException {
+        Tally tally = new Tally(onFinished);
+        long start = System.nanoTime();
+        try (LogCsvReader reader = new LogCsvReader(in)){
+            replay(reader, tally);
+        }
+        return tally.report(System.nanoTime() - start);
+    }
+
+    /**
+     * Replays every row of a log.
+     *
+     * @param reader the log
+     * @param tally accumulates the results
+     * @throws IOException if the log cannot be read
+     */
+    private void replay(LogCsvReader reader, Tally tally) throws IOException {
+        Map<String, GameReplay> games = new LinkedHashMap<>();
+        LogRecord record;
+        while ((record = reader.next()) != null){
+            String caseId = record.getCaseId();
+            GameReplay game = games.get(caseId);
+            if (game == null || LogRecord.START_GAME.equals(record.getEventType())){
+                if (game != null)
+                    tally.finish(game);
+                game = new GameReplay(caseId, bank.boardFor(caseId));
+                games.put(caseId, game);
+            }
+            game.apply(record);
+            if (LogRecord.EXIT_GAME.equals(record.getEventType())){
+                games.remove(caseId);
+                tally.finish(game);
+            }
+        }
+        for (GameReplay game : games.values())
+            tally.finish(game);
+    }
+
+    /**
+     * Running totals of a replay run.
+     */
+    private static class Tally {
+        /** Receives each finished game. */
+        private final Consumer<GameReplay> onFinished;
+
+        /** The first mismatches found. */
+        private final List<String> mismatches = new ArrayList<>();
+
+        /** Games finished so far. */
+        private long games;
+
+        /** Rows replayed by finished games. */
+        private long events;
+
+        /** Mismatches found by finished games. */
+        private long mismatchCount;
+
+        /**
+         * @param onFinished receives each finished game
+         */
+        Tally(Consumer<GameReplay> onFinished){
+            this.onFinished = onFinished;
+        }
+
+        /**
+         * Adds a finished game to the totals.
+         *
+         * @param game the finished game
+         */
+        void finish(GameReplay game){
+            games++;
+            events += game.getEventCount();
+            mismatchCount += game.getMismatches().size();
+            for (String mismatch : game.getMismatches()){
+                if (mismatches.size() == MAX_REPORTED_MISMATCHES)
+                    break;
+                mismatches.add(mismatch);
+            }
+            onFinished.accept(game);
+        }
+
+        /**
+         * Creates the report for the run.
+         *
+         * @param elapsedNanos wall-clock duration in nanoseconds
+         * @return the report
+         */
+        ReplayReport report(long elapsedNanos){
+            return new ReplayReport(games, events, mismatchCount, mismatches, elapsedNanos);
+        }
+    }
+
+    /**
+     * Command-line entry point.
+     * <p>
+     * Arguments: {@code <questionFile> <logFile>...}. Prints the report and
+     * any mismatches, and exits with status 1 if the logs did not replay
+     * cleanly so the check can gate a build.
+     * </p>
+     *
+     * @param args command-line arguments
+     * @throws IOException if a log cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2){
+            System.err.println("Usage: ReplayEngine <questionFile> <logFile>...");
+            return;
+        }
+        QuestionList bank = GameConfig.createFileReader(args[0]).readFile();
+        List<Path> logs = new ArrayList<>();
+        for (int i = 1; i < args.length; i++)
+            logs.add(Paths.get(args[i]));
+
+        ReplayReport report = new ReplayEngine(bank).replay(logs);
+        System.out.println(report);
+        for (String mismatch : report.getMismatches())
+            System.err.println(mismatch);
+        if (!report.isConsistent())
+            System.exit(1);
+    }
+}
@@ -0,0 +1,94 @@
+package com.jeopardyProject.Game.Replay;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable outcome of a replay run: games, events, mismatches and throughput.
+ *
+ * @see ReplayEngine
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public class ReplayReport {
+    /** Nanoseconds per second, for rate calculations. */
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    /** Number of games replayed. */
+    private final long games;
+
+    /** Number of log rows replayed. */
+    private final long events;
+
+    /** Total number of mismatches found. */
+    private final long mismatchCount;
+
+    /** The first mismatches found, in log order. */
+    private final List<String> mismatches;
+
+    /** Wall-clock duration of the run in nanoseconds. */
+    private final long elapsedNanos;
+
+    /**
+     * Constructs a report for a finished run.
+     *
+     * @param games number of games replayed
+     * @param events number of log rows replayed
+     * @param mismatchCount total number of mismatches found
+     * @param mismatches the first mismatches found
+     * @param elapsedNanos wall-clock duration in nanoseconds
+     */
+    public ReplayReport(long games, long events, long mismatchCount, List<String> mismatches, long elapsedNanos){
+        this.games = games;
+        this.events = events;
+        this.mismatchCount = mismatchCount;
+        this.mismatches = Collections.unmodifiableList(mismatches);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /** @return number of games replayed */
+    public long getGames(){
+        return this.games;
+    }
+
+    /** @return number of log rows replayed */
+    public long getEvents(){
+        return this.events;
+    }
+
+    /** @return total number of mismatches found */
+    public long getMismatchCount(){
+        return this.mismatchCount;
+    }
+
+    /** @return the first mismatches found, in log order (may be fewer than {@link #getMismatchCount()}) */
+    public List<String> getMismatches(){
+        return this.mismatches;
+    }
+
+    /** @return true if every replayed game agreed with its log */
+    public boolean isConsistent(){
+        return this.mismatchCount == 0;
+    }
+
+    /** @return wall-clock duration of the run in nanoseconds */
+    public long getElapsedNanos(){
+        return this.elapsedNanos;
+    }
+
+    /** @return log rows replayed per second of wall-clock time */
+    public double getEventsPerSecond(){
+        return this.events * NANOS_PER_SECOND / Math.max(1, this.elapsedNanos);
+    }
+
+    /**
+     * Formats the report as a single summary line.
+     *
+     * @return human-readable summary of the run
+     */
+    @Override
+    public String toString(){
+        return String.format("Games: %d | Events: %d | Mismatches: %d | Elapsed: %.1f ms | Events/sec: %.0f",
+            games, events, mismatchCount, elapsedNanos / 1_000_000.0, getEventsPerSecond());
+    }
+}
@@ -0,0 +1,93 @@
+package com.jeopardyProject.Game.Server;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+
+/**
+ * Pool of equally sized direct byte buffers.
+ * <p>
+ * Direct buffers are costly to allocate and are only reclaimed by the garbage
+ * collector, so the non-blocking server recycles its output buffers instead
+ * of allocating one per write. A connection only holds buffers while it has
+ * output in flight; idle connections hold none, which keeps memory flat as
+ * the number of clients grows.
+ * </p>
+ * <p>
+ * Not thread-safe: each event loop owns its own pool.
+ * </p>
+ *
+ * @see NioGameServer
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+class BufferPool {
+    /** Capacity of every buffer handed out. */
+    private final int bufferSize;
+
+    /** Maximum number of free buffers kept for reuse. */
+    private final int maxRetained;
+
+    /** Free buffers ready for reuse. */
+    private final ArrayDeque<ByteBuffer> free = new ArrayDeque<>();
+
+    /** Number of buffers ever allocated by this pool. */
+    private int allocated;
+
+    /**
+     * Constructs an empty pool.
+     *
+     * @param bufferSize capacity of each buffer in bytes
+     * @param maxRetained maximum number of free buffers kept for reuse
+     */
+    BufferPool(int bufferSize, int maxRetained){
+        this.bufferSize = bufferSize;
+        this.maxRetained = maxRetained;
+    }
+
+    /**
+     * Takes a cleared buffer from the pool, allocating one if none is free.
+     *
+     * @return a direct buffer ready for writing
+     */
+    ByteBuffer acquire(){
+        ByteBuffer buffer = free.poll();
+        if (buffer == null){
+            allocated++;
+            return ByteBuffer.allocateDirect(bufferSize);
+        }
+        return buffer;
+    }
+
+    /**
+     * Returns a buffer to the pool.
+     * <p>
+     * Buffers beyond the retention limit are dropped for the collector.
+     * </p>
+     *
+     * @param buffer a buffer previously obtained from {@link #acquire()}
+     */
+    void release(ByteBuffer buffer){
+        if (free.size() < maxRetained){
+            buffer.clear();
+            free.push(buffer);
+        }
+    }
+
+    /**
+     * Gets the number of buffers currently free.
+     *
+     * @return free buffer count
+     */
+    int getFreeCount(){
+        return free.size();
+    }
+
+    /**
+     * Gets the number of buffers ever allocated.
+     *
+     * @return allocation count
+     */
+    int getAllocatedCount(){
+        return allocated;
+    }
+}
@@ -0,0 +1,270 @@
+package com.jeopardyProject.Game.Server;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.jeopardyProject.Game.GameConfig;
+import com.jeopardyProject.Game.GameEngine;
+import com.jeopardyProject.Game.GameSession;
+import com.jeopardyProject.Game.GameView;
+import com.jeopardyProject.Game.QuestionList;
+import com.jeopardyProject.Game.Input.ReaderInputSource;
+
+/**
+ * Line-protocol game server running one session per connection.
+ * <p>
+ * Listens on a loopback port. Every accepted connection becomes its own
+ * {@link GameSession}: the client is asked for the player count and names,
+ * then plays the normal {@link GameSession#playGame()} loop with input read
+ * from the socket ({@link ReaderInputSource}) and output written back to it
+ * through a per-connection {@link GameView}. All players of a session share
+ * the one connection, as they share the keyboard at the console.
+ * </p>
+ * <p>
+ * Each session runs on its own thread so the blocking, prompt-and-read style
+ * of the game loop is unchanged. On Java 21 and later these are virtual
+ * threads, so tens of thousands of idle players cost little more than their
+ * socket buffers. On older runtimes the server falls back to platform threads.
+ * </p>
+ * <p>
+ * Usage:
+ * <pre>
+ * mvn exec:java -Dexec.mainClass="com.jeopardyProject.Game.Server.GameServer" \
+ *     -Dexec.args="src/resources/sample.csv 5000"
+ * </pre>
+ *
+ * @see GameEngine
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public class GameServer {
+    /** Default listening port. */
+    private static final int DEFAULT_PORT = 5000;
+
+    /** Engine hosting every connected session. */
+    private final GameEngine engine;
+
+    /** Question bank each session is dealt a board from; see {@link QuestionList#boardFor(String)}. */
+    private final QuestionList bank;
+
+    /** Port requested at construction (0 picks a free port). */
+    private final int requestedPort;
+
+    /** Creates one thread per connected session. */
+    private ThreadFactory sessionThreads;
+
+    /** Open client connections, closed when the server stops. */
+    private final Set<Socket> clients = ConcurrentHashMap.newKeySet();
+
+    /** Listening socket, open while the server is running. */
+    private ServerSocket serverSocket;
+
+    /** Thread accepting new connections. */
+    private Thread acceptThread;
+
+    /** Number of sessions currently connected. */
+    private final AtomicInteger activeSessions = new AtomicInteger();
+
+    /**
+     * Constructs a server for the given bank.
+     *
+     * @param engine engine that will host the sessions
+     * @param bank questions to deal to each session (left unmodified)
+     * @param port loopback port to listen on, or 0 for any free port
+     */
+    public GameServer(GameEngine engine, QuestionList bank, int port){
+        this.engine = engine;
+        this.bank = bank;
+        this.requestedPort = port;
+    }
+
+    /**
+     * Binds the listening socket and starts accepting connections.
+     *
+     * @throws IOException if the port cannot be bound
+     */
+    public void start() throws IOException {
+        this.serverSocket = new ServerSocket(requestedPort, 0, InetAddress.getLoopbackAddress());
+        this.sessionThreads = sessionThreadFactory();
+        this.acceptThread = new Thread(this::acceptLoop, "game-server-accept");
+        this.acceptThread.start();
+    }
+
+    /**
+     * Stops accepting connections and disconnects every running session.
+     */
+    public void stop(){
+        try{
+            if (serverSocket != null)
+                serverSocket.close();
+        } catch (IOException e){
+            System.err.println("Error closing server socket: " + e.getMessage());
+        }
+        for (Socket client : clients){
+            try{
+                client.close();
+            } catch (IOException e){
+                System.err.println("Error closing connection: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Gets the port the server is listening on.
+     *
+     * @return the bound local port
+     */
+    public int getPort(){
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Gets the number of sessions currently connected.
+     *
+     * @return active session count
+     */
+    public int getActiveSessions(){
+        return activeSessions.get();
+    }
+
+    /**
+     * Accepts connections until the server socket is closed, handing each
+     * one to its own session thread.
+     */
+    private void acceptLoop(){
+        while (!serverSocket.isClosed()){
+            try{
+                Socket socket = serverSocket.accept();
+                clients.add(socket);
+                sessionThreads.newThread(() -> serve(socket)).start();
+            } catch (IOException e){
+                if (!serverSocket.isClosed())
+                    System.err.println("Error accepting connection: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Runs one complete game over a connection.
+     *
+     * @param socket the accepted client connection
+     */
+    private void serve(Socket socket){
+        activeSessions.incrementAndGet();
+        GameSession session = null;
+        try(Socket client = socket;
+            BufferedReader in = new BufferedReader(new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8));
+            PrintWriter out = new PrintWriter(new OutputStreamWriter(client.getOutputStream(), StandardCharsets.UTF_8), true)){
+
+            String caseId = engine.nextCaseId();
+            session = engine.createSession(caseId, engine.createLogger(caseId), new GameView(out));
+            session.setQuestions(bank.boardFor(caseId));
+            session.setInputSource(new ReaderInputSource(in));
+            session.startGame();
+
+            if (!readPlayers(session, in, out))
+                return;
+
+            out.println("Game has started. Type 'QUIT' at any time to exit.");
+            session.playGame();
+        } catch (IOException e){
+            System.err.println("Connection error: " + e.getMessage());
+        } finally {
+            if (session != null)
+                engine.endSession(session.getCaseId());
+            clients.remove(socket);
+            activeSessions.decrementAndGet();
+        }
+    }
+
+    /**
+     * Prompts the client for the player count and names.
+     *
+     * @param session the session the players will join
+     * @param in reader for the client's lines
+     * @param out writer for prompts
+     * @return true once the players are registered, false if the client disconnected or quit
+     * @throws IOException if reading from the connection fails
+     */
+    private boolean readPlayers(GameSession session, BufferedReader in, PrintWriter out) throws IOException {
+        PlayerSetup setup = new PlayerSetup(session, out);
+        setup.begin();
+        while (!setup.isComplete()){
+            String line = in.readLine();
+            if (PlayerSetup.isQuit(line))
+                return false;
+            setup.accept(line);
+        }
+        return true;
+    }
+
+    /**
+     * Creates the thread factory for session threads.
+     * <p>
+     * Uses virtual threads when the runtime provides them (Java 21+),
+     * looked up reflectively so the project still builds for older releases.
+     * Otherwise returns a factory of daemon platform threads.
+     * </p>
+     *
+     * @return factory for session threads
+     */
+    static ThreadFactory sessionThreadFactory(){
+        try{
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, "game-session-", 0L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e){
+            AtomicInteger count = new AtomicInteger();
+            return runnable -> {
+                Thread thread = new Thread(runnable, "game-session-" + count.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+    }
+
+    /**
+     * Command-line entry point.
+     * <p>
+     * Arguments: {@code <questionFile> [port] [reportDir]}. Runs until killed.
+     * </p>
+     *
+     * @param args command-line arguments
+     * @throws IOException if the question file cannot be read or the port bound
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1){
+            System.err.println("Usage: GameServer <questionFile> [port] [reportDir]");
+            return;
+        }
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_PORT;
+        File reportDir = new File(args.length > 2 ? args[2] : ".");
+
+        QuestionList bank;
+        try{
+            bank = GameConfig.createFileReader(args[0]).readFile();
+        } catch (FileNotFoundException e){
+            System.err.println("Error: file not found - " + args[0]);
+            return;
+        }
+        bank.createQuestionGrid();
+
+        GameServer server = new GameServer(new GameEngine(reportDir), bank, port);
+        server.start();
+        System.out.println("Jeopardy server listening on " + InetAddress.getLoopbackAddress().getHostAddress() + ":" + server.getPort());
+    }
+}
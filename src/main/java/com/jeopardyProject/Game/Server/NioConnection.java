@@ -0,0 +1,354 @@
+package com.jeopardyProject.Game.Server;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+import com.jeopardyProject.Game.GameSession;
+
+/**
+ * One client of the {@link NioGameServer}, driven entirely by its event loop.
+ * <p>
+ * Incoming bytes are split into lines. Each line first feeds the
+ * {@link PlayerSetup}, then the session's turn state machine through
+ * {@link GameSession#submitInput(String)}; nothing ever blocks waiting for the
+ * client. Output from the session's view is encoded straight into pooled
+ * direct buffers (this class is the view's {@link Writer}) and flushed to the
+ * channel once per batch of input, with {@link SelectionKey#OP_WRITE} used
+ * only while the socket cannot take everything.
+ * </p>
+ * <p>
+ * While output is waiting the connection stops reading, so a client that
+ * does not read cannot make the server queue more: its input stays in the
+ * socket until its output drains. The output of a single batch of input
+ * is capped at {@value #MAX_PENDING_BUFFERS} buffers; a connection that
+ * goes past the cap is closed.
+ * </p>
+ * <p>
+ * Not thread-safe: every method runs on the owning event loop's thread.
+ * </p>
+ *
+ * @see NioGameServer
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+class NioConnection extends Writer {
+    /** Longest input line kept; extra bytes on the line are dropped. */
+    private static final int MAX_LINE_BYTES = 1024;
+
+    /** Initial size of the line buffer, allocated on the first byte. */
+    private static final int INITIAL_LINE_BYTES = 64;
+
+    /** Most output buffers waiting to be written before the connection is closed. */
+    private static final int MAX_PENDING_BUFFERS = 64;
+
+    /** Written in place of a high surrogate that output ends on. */
+    private static final String REPLACEMENT = "?";
+
+    /** Server providing sessions for new connections. */
+    private final NioGameServer server;
+
+    /** The client's channel, in non-blocking mode. */
+    private final SocketChannel channel;
+
+    /** The channel's registration with the event loop's selector. */
+    private final SelectionKey key;
+
+    /** The event loop's buffer pool. */
+    private final BufferPool pool;
+
+    /** The event loop's UTF-8 encoder. */
+    private final CharsetEncoder encoder;
+
+    /** Bytes of the line being received. */
+    private byte[] line;
+
+    /** Number of valid bytes in {@link #line}. */
+    private int lineLength;
+
+    /** Encoded output waiting to be written, oldest first. */
+    private final ArrayDeque<ByteBuffer> pending = new ArrayDeque<>();
+
+    /** Buffer currently being filled with output. */
+    private ByteBuffer current;
+
+    /** High surrogate ending the last write, awaiting its low half; 0 if none. */
+    private char leftover;
+
+    /** Writer through which the session's view reaches this connection. */
+    private PrintWriter out;
+
+    /** The game played over this connection. */
+    private GameSession session;
+
+    /** Player registration, complete once play has started. */
+    private PlayerSetup setup;
+
+    /** True once the game is over and the connection closes after its output drains. */
+    private boolean closing;
+
+    /** True once the channel has been closed. */
+    private boolean closed;
+
+    /** True once output went past {@link #MAX_PENDING_BUFFERS}; further output is dropped. */
+    private boolean overflowed;
+
+    /**
+     * Constructs a connection for a registered channel.
+     *
+     * @param server server providing the session
+     * @param channel the client's non-blocking channel
+     * @param key the channel's selection key
+     * @param pool the event loop's buffer pool
+     * @param encoder the event loop's UTF-8 encoder
+     */
+    NioConnection(NioGameServer server, SocketChannel channel, SelectionKey key, BufferPool pool, CharsetEncoder encoder){
+        this.server = server;
+        this.channel = channel;
+        this.key = key;
+        this.pool = pool;
+        this.encoder = encoder;
+    }
+
+    /**
+     * Creates the session and sends the first prompt.
+     *
+     * @throws IOException if the prompt cannot be written
+     */
+    void open() throws IOException {
+        this.out = new PrintWriter(this);
+        this.session = server.openSession(out);
+        this.setup = new PlayerSetup(session, out);
+        setup.begin();
+        out.flush();
+    }
+
+    /**
+     * Reads what the client has sent and handles each complete line.
+     * <p>
+     * Only called while no output is waiting. If the lines produce more
+     * output than may wait, the rest of the input is ignored and the
+     * connection is closed.
+     * </p>
+     *
+     * @param readBuffer the event loop's shared read buffer
+     * @throws IOException if the channel fails
+     */
+    void onReadable(ByteBuffer readBuffer) throws IOException {
+        readBuffer.clear();
+        int n = channel.read(readBuffer);
+        if (n < 0){
+            close();
+            return;
+        }
+        readBuffer.flip();
+        while (readBuffer.hasRemaining() && !closing && !overflowed){
+            byte b = readBuffer.get();
+            if (b == '\n'){
+                int length = lineLength;
+                if (length > 0 && line[length - 1] == '\r')
+                    length--;
+                String text = length == 0 ? "" : new String(line, 0, length, StandardCharsets.UTF_8);
+                lineLength = 0;
+                onLine(text);
+            } else {
+                appendToLine(b);
+            }
+        }
+        if (overflowed){
+            System.err.println("Closing connection that is not reading its output");
+            close();
+            return;
+        }
+        flush();
+    }
+
+    /**
+     * Continues writing output the socket could not take earlier.
+     *
+     * @throws IOException if the channel fails
+     */
+    void onWritable() throws IOException {
+        flush();
+    }
+
+    /**
+     * Applies one line to player setup or to the running game.
+     *
+     * @param text the line without its terminator
+     */
+    private void onLine(String text){
+        if (!setup.isComplete()){
+            if (PlayerSetup.isQuit(text)){
+                closing = true;
+                return;
+            }
+            if (setup.accept(text)){
+                out.println("Game has started. Type 'QUIT' at any time to exit.");
+                session.beginPlay();
+                closing = !session.isRunning();
+            }
+            return;
+        }
+        closing = !session.submitInput(text);
+    }
+
+    /**
+     * Appends one byte to the current line, growing the line buffer as needed.
+     *
+     * @param b the byte received
+     */
+    private void appendToLine(byte b){
+        if (line == null)
+            line = new byte[INITIAL_LINE_BYTES];
+        if (lineLength == line.length){
+            if (lineLength == MAX_LINE_BYTES)
+                return;
+            line = Arrays.copyOf(line, Math.min(line.length * 2, MAX_LINE_BYTES));
+        }
+        line[lineLength++] = b;
+    }
+
+    /**
+     * Encodes characters into pooled output buffers.
+     * <p>
+     * A surrogate pair may be split across two writes, so a high surrogate
+     * ending one write is kept and encoded with the first character of the
+     * next. Lone surrogates are encoded as '?'. Once
+     * {@value #MAX_PENDING_BUFFERS} buffers are waiting, output is dropped
+     * and the connection marked for closing.
+     * </p>
+     *
+     * @param chars the characters to encode
+     */
+    private void encode(CharBuffer chars){
+        if (closed || overflowed || !chars.hasRemaining())
+            return;
+        while (leftover != 0 && chars.hasRemaining()){
+            CharBuffer pair = CharBuffer.wrap(new char[] {leftover, chars.get()});
+            leftover = 0;
+            encodeAll(pair);
+        }
+        encodeAll(chars);
+    }
+
+    /**
+     * Encodes characters, keeping a trailing high surrogate in {@link #leftover}.
+     *
+     * @param chars the characters to encode
+     */
+    private void encodeAll(CharBuffer chars){
+        while (!overflowed){
+            if (current == null){
+                if (pending.size() >= MAX_PENDING_BUFFERS){
+                    overflowed = true;
+                    return;
+                }
+                current = pool.acquire();
+            }
+            CoderResult result = encoder.encode(chars, current, false);
+            if (!result.isOverflow()){
+                if (chars.hasRemaining())
+                    leftover = chars.get();
+                return;
+            }
+            current.flip();
+            pending.add(current);
+            current = null;
+        }
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len){
+        encode(CharBuffer.wrap(cbuf, off, len));
+    }
+
+    @Override
+    public void write(String str, int off, int len){
+        encode(CharBuffer.wrap(str, off, off + len));
+    }
+
+    /**
+     * Writes buffered output to the channel.
+     * <p>
+     * Fully written buffers go back to the pool. If the socket is full the
+     * rest waits for {@link SelectionKey#OP_WRITE}, and reading stops until
+     * it is written; once everything is written a finished connection is
+     * closed.
+     * </p>
+     *
+     * @throws IOException if the channel fails
+     */
+    @Override
+    public void flush() throws IOException {
+        if (closed || overflowed)
+            return;
+        if (leftover != 0){
+            leftover = 0;
+            encodeAll(CharBuffer.wrap(REPLACEMENT));
+        }
+        if (current != null){
+            if (current.position() > 0){
+                current.flip();
+                pending.add(current);
+            } else {
+                pool.release(current);
+            }
+            current = null;
+        }
+        while (!pending.isEmpty()){
+            ByteBuffer head = pending.peek();
+            channel.write(head);
+            if (head.hasRemaining())
+                break;
+            pool.release(pending.poll());
+        }
+        if (pending.isEmpty()){
+            if (closing){
+                close();
+                return;
+            }
+            key.interestOps(SelectionKey.OP_READ);
+        } else {
+            key.interestOps(SelectionKey.OP_WRITE);
+        }
+    }
+
+    /**
+     * Closes the channel and ends the session.
+     * <p>
+     * A game still in progress is ended as if the client had typed "QUIT",
+     * so its reports are still produced.
+     * </p>
+     */
+    @Override
+    public void close(){
+        if (closed)
+            return;
+        if (session != null && setup.isComplete() && session.isRunning())
+            session.submitInput(null);
+        closed = true;
+        key.cancel();
+        try{
+            channel.close();
+        } catch (IOException e){
+            System.err.println("Error closing connection: " + e.getMessage());
+        }
+        if (current != null)
+            pool.release(current);
+        current = null;
+        while (!pending.isEmpty())
+            pool.release(pending.poll());
+        if (session != null)
+            server.closeSession(session);
+    }
+}
@@ -0,0 +1,431 @@
+package com.jeopardyProject.Game.Server;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import com.jeopardyProject.Game.GameConfig;
+import com.jeopardyProject.Game.GameEngine;
+import com.jeopardyProject.Game.GameSession;
+import com.jeopardyProject.Game.GameView;
+import com.jeopardyProject.Game.QuestionList;
+import com.jeopardyProject.Game.Logs.Logger;
+import com.jeopardyProject.Game.Logs.NullLogger;
+
+/**
+ * Non-blocking line-protocol game server built on NIO selectors.
+ * <p>
+ * Speaks the same protocol as {@link GameServer} (one session per connection,
+ * player count and names first, then the normal game prompts) but serves all
+ * clients from a small, fixed number of event-loop threads instead of one
+ * thread per connection. Each loop owns a {@link Selector}, a read buffer, a
+ * {@link BufferPool} of direct output buffers and a UTF-8 encoder; the first
+ * loop also accepts connections and spreads them round-robin over all loops.
+ * </p>
+ * <p>
+ * Sessions advance one input line at a time through
+ * {@link GameSession#submitInput(String)}, whose expected phase comes from
+ * the current player's state, so an idle client costs only its socket and a
+ * few small objects. See {@link NioConnection} for the per-client details.
+ * </p>
+ * <p>
+ * Report logging writes files from the event-loop threads. Pass a
+ * {@link NullLogger} factory (the {@code --no-reports} flag of {@link #main})
+ * when hosting very many clients.
+ * </p>
+ * <p>
+ * Usage:
+ * <pre>
+ * mvn exec:java -Dexec.mainClass="com.jeopardyProject.Game.Server.NioGameServer" \
+ *     -Dexec.args="src/resources/sample.csv 5000 4"
+ * </pre>
+ *
+ * @see GameServer
+ * @see NioConnection
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public class NioGameServer {
+    /** Default listening port. */
+    private static final int DEFAULT_PORT = 5000;
+
+    /** Size of each pooled output buffer and of each loop's read buffer. */
+    private static final int BUFFER_SIZE = 4096;
+
+    /** Free output buffers kept per event loop. */
+    private static final int MAX_POOLED_BUFFERS = 256;
+
+    /** Engine hosting every connected session. */
+    private final GameEngine engine;
+
+    /** Question bank each session is dealt a board from; see {@link QuestionList#boardFor(String)}. */
+    private final QuestionList bank;
+
+    /** Port requested at construction (0 picks a free port). */
+    private final int requestedPort;
+
+    /** Creates each session's logger from its case ID. */
+    private final Function<String, Logger> loggerFactory;
+
+    /** The event loops, the first of which also accepts connections. */
+    private final EventLoop[] loops;
+
+    /** Listening channel, open while the server is running. */
+    private ServerSocketChannel serverChannel;
+
+    /** Number of sessions currently connected. */
+    private final AtomicInteger activeSessions = new AtomicInteger();
+
+    /** Set when the server is stopping. */
+    private volatile boolean stopped;
+
+    /**
+     * Constructs a server writing per-session reports through the engine.
+     *
+     * @param engine engine that will host the sessions
+     * @param bank questions to deal to each session (left unmodified)
+     * @param port loopback port to listen on, or 0 for any free port
+     * @param eventLoops number of event-loop threads
+     */
+    public NioGameServer(GameEngine engine, QuestionList bank, int port, int eventLoops){
+        this(engine, bank, port, eventLoops, engine::createLogger);
+    }
+
+    /**
+     * Constructs a server with a custom logger for each session.
+     *
+     * @param engine engine that will host the sessions
+     * @param bank questions to deal to each session (left unmodified)
+     * @param port loopback port to listen on, or 0 for any free port
+     * @param eventLoops number of event-loop threads
+     * @param loggerFactory creates a session's logger from its case ID
+     * @throws IllegalArgumentException if eventLoops is less than 1
+     */
+    public NioGameServer(GameEngine engine, QuestionList bank, int port, int eventLoops, Function<String, Logger> loggerFactory){
+        if (eventLoops < 1)
+            throw new IllegalArgumentException("At least one event loop is required.");
+        this.engine = engine;
+        this.bank = bank;
+        this.requestedPort = port;
+        this.loggerFactory = loggerFactory;
+        this.loops = new EventLoop[eventLoops];
+    }
+
+    /**
+     * Binds the listening channel and starts the event loops.
+     *
+     * @throws IOException if the port cannot be bound or a selector opened
+     */
+    public void start() throws IOException {
+        this.serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), requestedPort));
+        serverChannel.configureBlocking(false);
+        for (int i = 0; i < loops.length; i++)
+            loops[i] = new EventLoop(i);
+        serverChannel.register(loops[0].selector, SelectionKey.OP_ACCEPT);
+        for (EventLoop loop : loops)
+            loop.thread.start();
+    }
+
+    /**
+     * Stops accepting connections and disconnects every session.
+     * <p>
+     * Waits briefly for the event loops to close their connections.
+     * </p>
+     */
+    public void stop(){
+        stopped = true;
+        for (EventLoop loop : loops){
+            if (loop != null)
+                loop.selector.wakeup();
+        }
+        for (EventLoop loop : loops){
+            if (loop == null)
+                continue;
+            try{
+                loop.thread.join(1000);
+            } catch (InterruptedException e){
+                Thread.currentThread().interrupt();
+            }
+        }
+        try{
+            if (serverChannel != null)
+                serverChannel.close();
+        } catch (IOException e){
+            System.err.println("Error closing server channel: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Gets the port the server is listening on.
+     *
+     * @return the bound local port
+     */
+    public int getPort(){
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * Gets the number of sessions currently connected.
+     *
+     * @return active session count
+     */
+    public int getActiveSessions(){
+        return activeSessions.get();
+    }
+
+    /**
+     * Gets the number of event-loop threads.
+     *
+     * @return event loop count
+     */
+    public int getEventLoopCount(){
+        return loops.length;
+    }
+
+    /**
+     * Creates and starts the session for a new connection.
+     *
+     * @param out writer delivering the session's output to the client
+     * @return the new session
+     */
+    GameSession openSession(PrintWriter out){
+        String caseId = engine.nextCaseId();
+        GameSession session = engine.createSession(caseId, loggerFactory.apply(caseId), new GameView(out));
+        session.setQuestions(bank.boardFor(caseId));
+        session.startGame();
+        activeSessions.incrementAndGet();
+        return session;
+    }
+
+    /**
+     * Removes a disconnected connection's session from the engine.
+     *
+     * @param session the session to end
+     */
+    void closeSession(GameSession session){
+        engine.endSession(session.getCaseId());
+        activeSessions.decrementAndGet();
+    }
+
+    /**
+     * A single selector thread and the resources it shares among its
+     * connections.
+     */
+    private final class EventLoop implements Runnable {
+        /** Selector watching this loop's channels. */
+        final Selector selector;
+
+        /** Thread running the loop. */
+        final Thread thread;
+
+        /** Reused buffer for every read on this loop. */
+        private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+        /** Output buffers for this loop's connections. */
+        private final BufferPool pool = new BufferPool(BUFFER_SIZE, MAX_POOLED_BUFFERS);
+
+        /** Encoder for this loop's connections; lone surrogates become '?'. */
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+        /** Accepted channels waiting to be registered with this loop. */
+        private final Queue<SocketChannel> incoming = new ConcurrentLinkedQueue<>();
+
+        /** Index of the loop that receives the next accepted channel (first loop only). */
+        private int nextLoop;
+
+        /**
+         * Opens the loop's selector and creates its thread.
+         *
+         * @param index loop number, used in the thread name
+         * @throws IOException if the selector cannot be opened
+         */
+        EventLoop(int index) throws IOException {
+            this.selector = Selector.open();
+            this.thread = new Thread(this, "nio-game-loop-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        /**
+         * Hands an accepted channel to this loop from any thread.
+         *
+         * @param channel the accepted channel
+         */
+        void assign(SocketChannel channel){
+            incoming.add(channel);
+            selector.wakeup();
+        }
+
+        @Override
+        public void run(){
+            try{
+                while (!stopped){
+                    selector.select();
+                    registerIncoming();
+                    Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                    while (keys.hasNext()){
+                        SelectionKey key = keys.next();
+                        keys.remove();
+                        if (!key.isValid())
+                            continue;
+                        if (key.isAcceptable())
+                            accept();
+                        else
+                            handle(key);
+                    }
+                }
+            } catch (IOException | ClosedSelectorException e){
+                if (!stopped)
+                    System.err.println("Event loop failed: " + e.getMessage());
+            } finally {
+                shutdown();
+            }
+        }
+
+        /**
+         * Accepts every pending connection and spreads them over the loops.
+         *
+         * @throws IOException if the listening channel fails
+         */
+        private void accept() throws IOException {
+            SocketChannel channel;
+            while ((channel = serverChannel.accept()) != null){
+                channel.configureBlocking(false);
+                loops[nextLoop].assign(channel);
+                nextLoop = (nextLoop + 1) % loops.length;
+            }
+        }
+
+        /**
+         * Registers channels handed to this loop and opens their sessions.
+         */
+        private void registerIncoming(){
+            SocketChannel channel;
+            while ((channel = incoming.poll()) != null){
+                NioConnection connection = null;
+                try{
+                    SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+                    connection = new NioConnection(NioGameServer.this, channel, key, pool, encoder);
+                    key.attach(connection);
+                    connection.open();
+                } catch (IOException e){
+                    System.err.println("Error registering connection: " + e.getMessage());
+                    closeQuietly(channel, connection);
+                }
+            }
+        }
+
+        /**
+         * Dispatches a ready connection.
+         *
+         * @param key the connection's selection key
+         */
+        private void handle(SelectionKey key){
+            NioConnection connection = (NioConnection) key.attachment();
+            try{
+                if (key.isWritable())
+                    connection.onWritable();
+                if (key.isValid() && key.isReadable())
+                    connection.onReadable(readBuffer);
+            } catch (IOException e){
+                connection.close();
+            }
+        }
+
+        /**
+         * Closes every connection on this loop and the selector itself.
+         */
+        private void shutdown(){
+            for (SelectionKey key : selector.keys()){
+                if (key.attachment() instanceof NioConnection)
+                    ((NioConnection) key.attachment()).close();
+            }
+            SocketChannel channel;
+            while ((channel = incoming.poll()) != null)
+                closeQuietly(channel, null);
+            try{
+                selector.close();
+            } catch (IOException e){
+                System.err.println("Error closing selector: " + e.getMessage());
+            }
+        }
+
+        /**
+         * Closes a channel that never became a working connection.
+         *
+         * @param channel the channel
+         * @param connection its connection, or null if none was created
+         */
+        private void closeQuietly(SocketChannel channel, NioConnection connection){
+            if (connection != null){
+                connection.close();
+                return;
+            }
+            try{
+                channel.close();
+            } catch (IOException e){
+                System.err.println("Error closing connection: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Command-line entry point.
+     * <p>
+     * Arguments: {@code <questionFile> [port] [eventLoops] [reportDir|--no-reports]}.
+     * The number of event loops defaults to the number of processors. Runs
+     * until killed.
+     * </p>
+     *
+     * @param args command-line arguments
+     * @throws IOException if the question file cannot be read or the port bound
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1){
+            System.err.println("Usage: NioGameServer <questionFile> [port] [eventLoops] [reportDir|--no-reports]");
+            return;
+        }
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_PORT;
+        int eventLoops = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        String reports = args.length > 3 ? args[3] : ".";
+
+        QuestionList bank;
+        try{
+            bank = GameConfig.createFileReader(args[0]).readFile();
+        } catch (FileNotFoundException e){
+            System.err.println("Error: file not found - " + args[0]);
+            return;
+        }
+        bank.createQuestionGrid();
+
+        NioGameServer server;
+        if ("--no-reports".equals(reports)){
+            NullLogger noReports = new NullLogger();
+            server = new NioGameServer(new GameEngine(), bank, port, eventLoops, caseId -> noReports);
+        } else {
+            server = new NioGameServer(new GameEngine(new File(reports)), bank, port, eventLoops);
+        }
+        server.start();
+        System.out.println("Jeopardy NIO server listening on " + InetAddress.getLoopbackAddress().getHostAddress()
+            + ":" + server.getPort() + " with " + eventLoops + " event loop(s)");
+    }
+}
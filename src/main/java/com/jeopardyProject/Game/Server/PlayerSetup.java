@@ -0,0 +1,111 @@
+package com.jeopardyProject.Game.Server;
+
+import java.io.PrintWriter;
+
+import com.jeopardyProject.Game.GameConfig;
+import com.jeopardyProject.Game.GameSession;
+import com.jeopardyProject.Game.PlayerList;
+
+/**
+ * Registers the players of a network session, one input line at a time.
+ * <p>
+ * Asks for the player count, validating it against
+ * {@link GameConfig#MIN_PLAYERS} and {@link GameConfig#MAX_PLAYERS}, then for
+ * each player's name. Once every player is named the {@link PlayerList} is
+ * installed on the session. Because it is fed lines rather than reading them,
+ * the same setup serves blocking and non-blocking servers.
+ * </p>
+ *
+ * @see GameServer
+ * @see NioGameServer
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+class PlayerSetup {
+    /** Session the players will join. */
+    private final GameSession session;
+
+    /** Writer for prompts and validation messages. */
+    private final PrintWriter out;
+
+    /** Players registered so far, created once the count is known. */
+    private PlayerList players;
+
+    /** Number of players chosen by the client (0 until valid). */
+    private int numPlayers;
+
+    /** Number of players named so far. */
+    private int named;
+
+    /**
+     * Constructs a setup for the given session.
+     *
+     * @param session the session the players will join
+     * @param out writer for prompts
+     */
+    PlayerSetup(GameSession session, PrintWriter out){
+        this.session = session;
+        this.out = out;
+    }
+
+    /**
+     * Checks whether a line asks to leave the game.
+     *
+     * @param line raw input line, or null if the client disconnected
+     * @return true for null or "QUIT" (any case)
+     */
+    static boolean isQuit(String line){
+        return line == null || "QUIT".equalsIgnoreCase(line.trim());
+    }
+
+    /**
+     * Writes the first prompt.
+     */
+    void begin(){
+        out.println("Enter number of players: ");
+    }
+
+    /**
+     * Applies one line of input and writes the next prompt.
+     *
+     * @param line the client's line (not a quit request)
+     * @return true once every player is registered
+     */
+    boolean accept(String line){
+        if (numPlayers == 0){
+            try{
+                int n = Integer.parseInt(line.trim());
+                if (n >= GameConfig.MIN_PLAYERS && n <= GameConfig.MAX_PLAYERS){
+                    numPlayers = n;
+                    players = new PlayerList(session, numPlayers);
+                    out.println("Enter player1 name: ");
+                } else {
+                    out.println("Number of players must be " + GameConfig.MIN_PLAYERS + "-" + GameConfig.MAX_PLAYERS + ".");
+                    begin();
+                }
+            } catch (NumberFormatException e){
+                out.println("Invalid input. Please enter a number.");
+                begin();
+            }
+            return false;
+        }
+
+        players.addPlayer(line.trim());
+        named++;
+        if (named < numPlayers){
+            out.println("Enter player" + (named + 1) + " name: ");
+            return false;
+        }
+        session.setPlayers(players);
+        return true;
+    }
+
+    /**
+     * Checks whether every player has been registered.
+     *
+     * @return true once the player list is installed on the session
+     */
+    boolean isComplete(){
+        return numPlayers > 0 && named == numPlayers;
+    }
+}
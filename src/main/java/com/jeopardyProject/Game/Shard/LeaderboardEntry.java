@@ -0,0 +1,81 @@
+package com.jeopardyProject.Game.Shard;
+
+import java.util.Comparator;
+
+/**
+ * One player's standing on a cross-session leaderboard.
+ * <p>
+ * Immutable, so shards can hand entries to the coordinating thread without
+ * sharing any live game state.
+ * </p>
+ *
+ * @see ShardedGameEngine#leaderboard(int)
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public final class LeaderboardEntry {
+    /** Orders entries by descending score, then case ID and player ID. */
+    static final Comparator<LeaderboardEntry> RANKING =
+        Comparator.comparingInt(LeaderboardEntry::getScore).reversed()
+            .thenComparing(LeaderboardEntry::getCaseId)
+            .thenComparing(LeaderboardEntry::getPlayerId);
+
+    /** Session the player is in. */
+    private final String caseId;
+
+    /** The player's ID. */
+    private final String playerId;
+
+    /** The player's score when the leaderboard was taken. */
+    private final int score;
+
+    /**
+     * Constructs an entry.
+     *
+     * @param caseId session the player is in
+     * @param playerId the player's ID
+     * @param score the player's score
+     */
+    public LeaderboardEntry(String caseId, String playerId, int score){
+        this.caseId = caseId;
+        this.playerId = playerId;
+        this.score = score;
+    }
+
+    /**
+     * Gets the session the player is in.
+     *
+     * @return the case ID
+     */
+    public String getCaseId(){
+        return caseId;
+    }
+
+    /**
+     * Gets the player's ID.
+     *
+     * @return the player ID
+     */
+    public String getPlayerId(){
+        return playerId;
+    }
+
+    /**
+     * Gets the player's score.
+     *
+     * @return the score when the leaderboard was taken
+     */
+    public int getScore(){
+        return score;
+    }
+
+    /**
+     * Formats the entry as "score  playerId (caseId)".
+     *
+     * @return formatted entry
+     */
+    @Override
+    public String toString(){
+        return score + "  " + playerId + " (" + caseId + ")";
+    }
+}
@@ -0,0 +1,67 @@
+package com.jeopardyProject.Game.Shard;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import com.jeopardyProject.Game.GameSession;
+
+/**
+ * A single-threaded executor owning a subset of sessions.
+ * <p>
+ * The shard's sessions live in a plain {@link HashMap} that only the shard's
+ * thread ever touches. Work reaches it as messages ({@link #call(Function)}),
+ * queued in order and run one at a time, so session state needs no locks.
+ * </p>
+ *
+ * @see ShardedGameEngine
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+class SessionShard {
+    /** Thread running every task for this shard's sessions. */
+    private final ExecutorService executor;
+
+    /** Sessions owned by this shard, confined to its thread. */
+    private final Map<String, GameSession> sessions = new HashMap<>();
+
+    /**
+     * Starts the shard's thread.
+     *
+     * @param index shard number, used in the thread name
+     */
+    SessionShard(int index){
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-shard-" + index);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues a task that runs on the shard's thread with its sessions.
+     *
+     * @param <T> result type
+     * @param task work to do with the shard's session map
+     * @return future completed with the task's result
+     */
+    <T> CompletableFuture<T> call(Function<Map<String, GameSession>, T> task){
+        return CompletableFuture.supplyAsync(() -> task.apply(sessions), executor);
+    }
+
+    /**
+     * Stops accepting tasks and waits for queued ones to finish.
+     *
+     * @param timeout maximum time to wait
+     * @param unit unit of the timeout
+     * @throws InterruptedException if interrupted while waiting
+     */
+    void shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(timeout, unit);
+    }
+}
@@ -0,0 +1,250 @@
+package com.jeopardyProject.Game.Shard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.jeopardyProject.Game.GameEngine;
+import com.jeopardyProject.Game.GameSession;
+import com.jeopardyProject.Game.GameView;
+import com.jeopardyProject.Game.Player;
+import com.jeopardyProject.Game.Logs.Logger;
+
+/**
+ * Pins every session to one of N single-threaded shards.
+ * <p>
+ * A session's shard is chosen by hashing its case ID, and every operation on
+ * the session ({@link #submit(String, Function)}) runs on that shard's
+ * thread. A session's {@code QuestionList}, {@code PlayerList} and players
+ * are therefore only ever touched by one thread, with no locks, while
+ * different sessions run in parallel on every core.
+ * </p>
+ * <p>
+ * Operations spanning sessions are message passing: the coordinator sends a
+ * task to each shard, each shard answers with immutable results computed from
+ * its own sessions, and the answers are merged off-shard. See
+ * {@link #leaderboard(int)}.
+ * </p>
+ * <p>
+ * Sessions are still registered with the wrapped {@link GameEngine}, which
+ * provides case IDs and loggers.
+ * </p>
+ *
+ * @see GameEngine
+ * @see LeaderboardEntry
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public class ShardedGameEngine implements AutoCloseable {
+    /** How long {@link #close()} waits for each shard's queued work. */
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    /** Engine registering the sessions. */
+    private final GameEngine engine;
+
+    /** The shards, indexed by {@link #shardOf(String)}. */
+    private final SessionShard[] shards;
+
+    /**
+     * Constructs one shard per available processor.
+     *
+     * @param engine engine registering the sessions
+     */
+    public ShardedGameEngine(GameEngine engine){
+        this(engine, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a fixed number of shards.
+     *
+     * @param engine engine registering the sessions
+     * @param shardCount number of shard threads
+     * @throws IllegalArgumentException if shardCount is less than 1
+     */
+    public ShardedGameEngine(GameEngine engine, int shardCount){
+        if (shardCount < 1)
+            throw new IllegalArgumentException("At least one shard is required.");
+        this.engine = engine;
+        this.shards = new SessionShard[shardCount];
+        for (int i = 0; i < shardCount; i++)
+            shards[i] = new SessionShard(i);
+    }
+
+    /**
+     * Gets the wrapped engine.
+     *
+     * @return the GameEngine registering the sessions
+     */
+    public GameEngine getEngine(){
+        return engine;
+    }
+
+    /**
+     * Gets the number of shards.
+     *
+     * @return shard count
+     */
+    public int getShardCount(){
+        return shards.length;
+    }
+
+    /**
+     * Computes which shard owns a case ID.
+     *
+     * @param caseId the session's case ID
+     * @return shard index in [0, shard count)
+     */
+    public int shardOf(String caseId){
+        int h = caseId.hashCode();
+        return Math.floorMod(h ^ (h >>> 16), shards.length);
+    }
+
+    /**
+     * Creates a session on its owning shard.
+     *
+     * @param caseId unique identifier for the new session
+     * @param logger logger receiving the session's events
+     * @param view view rendering the session's output
+     * @return future completed with the session once registered; it fails
+     *         with IllegalArgumentException if the case ID is taken
+     */
+    public CompletableFuture<GameSession> createSession(String caseId, Logger logger, GameView view){
+        return shardFor(caseId).call(local -> {
+            GameSession session = engine.createSession(caseId, logger, view);
+            local.put(caseId, session);
+            return session;
+        });
+    }
+
+    /**
+     * Runs a task against a session on the session's shard.
+     * <p>
+     * Tasks for the same session run in submission order.
+     * </p>
+     *
+     * @param <T> result type
+     * @param caseId the session's case ID
+     * @param task work to do with the session
+     * @return future completed with the task's result; it fails with
+     *         IllegalArgumentException if the shard has no such session
+     */
+    public <T> CompletableFuture<T> submit(String caseId, Function<GameSession, T> task){
+        return shardFor(caseId).call(local -> task.apply(require(local, caseId)));
+    }
+
+    /**
+     * Runs a task with no result against a session on the session's shard.
+     *
+     * @param caseId the session's case ID
+     * @param task work to do with the session
+     * @return future completed when the task has run
+     */
+    public CompletableFuture<Void> execute(String caseId, Consumer<GameSession> task){
+        return submit(caseId, session -> {
+            task.accept(session);
+            return null;
+        });
+    }
+
+    /**
+     * Removes a session from its shard and from the engine.
+     *
+     * @param caseId the session's case ID
+     * @return future completed with the removed session, or null if absent
+     */
+    public CompletableFuture<GameSession> endSession(String caseId){
+        return shardFor(caseId).call(local -> {
+            engine.endSession(caseId);
+            return local.remove(caseId);
+        });
+    }
+
+    /**
+     * Builds the top scores across every session by message passing.
+     * <p>
+     * Each shard ranks the players of its own sessions on its own thread and
+     * replies with at most {@code limit} immutable entries. The replies are
+     * merged once every shard has answered.
+     * </p>
+     *
+     * @param limit maximum number of entries
+     * @return future completed with entries ordered by descending score
+     */
+    public CompletableFuture<List<LeaderboardEntry>> leaderboard(int limit){
+        List<CompletableFuture<List<LeaderboardEntry>>> replies = new ArrayList<>(shards.length);
+        for (SessionShard shard : shards)
+            replies.add(shard.call(local -> rankLocal(local, limit)));
+
+        return CompletableFuture.allOf(replies.toArray(new CompletableFuture<?>[0]))
+            .thenApply(done -> {
+                List<LeaderboardEntry> merged = new ArrayList<>();
+                for (CompletableFuture<List<LeaderboardEntry>> reply : replies)
+                    merged.addAll(reply.join());
+                merged.sort(LeaderboardEntry.RANKING);
+                return merged.size() > limit ? new ArrayList<>(merged.subList(0, limit)) : merged;
+            });
+    }
+
+    /**
+     * Stops the shards after their queued work finishes.
+     */
+    @Override
+    public void close(){
+        for (SessionShard shard : shards){
+            try{
+                shard.shutdown(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e){
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Gets the shard owning a case ID.
+     *
+     * @param caseId the session's case ID
+     * @return the owning shard
+     */
+    private SessionShard shardFor(String caseId){
+        return shards[shardOf(caseId)];
+    }
+
+    /**
+     * Looks up a session on the current shard.
+     *
+     * @param local the shard's sessions
+     * @param caseId the session's case ID
+     * @return the session
+     * @throws IllegalArgumentException if the shard has no such session
+     */
+    private static GameSession require(Map<String, GameSession> local, String caseId){
+        GameSession session = local.get(caseId);
+        if (session == null)
+            throw new IllegalArgumentException("No such session: " + caseId);
+        return session;
+    }
+
+    /**
+     * Ranks the players of one shard's sessions. Runs on the shard's thread.
+     *
+     * @param local the shard's sessions
+     * @param limit maximum number of entries
+     * @return the shard's best entries, best first
+     */
+    private static List<LeaderboardEntry> rankLocal(Map<String, GameSession> local, int limit){
+        List<LeaderboardEntry> entries = new ArrayList<>();
+        for (GameSession session : local.values()){
+            if (session.getPlayers() == null)
+                continue;
+            for (Player player : session.getPlayers().getAllPlayers())
+                entries.add(new LeaderboardEntry(session.getCaseId(), player.getPlayerId(), player.getScore()));
+        }
+        entries.sort(LeaderboardEntry.RANKING);
+        return entries.size() > limit ? new ArrayList<>(entries.subList(0, limit)) : entries;
+    }
+}
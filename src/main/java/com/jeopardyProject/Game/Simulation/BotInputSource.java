@@ -0,0 +1,91 @@
+package com.jeopardyProject.Game.Simulation;
+
+import com.jeopardyProject.Game.GameSession;
+import com.jeopardyProject.Game.Question;
+import com.jeopardyProject.Game.QuestionBank;
+import com.jeopardyProject.Game.QuestionList;
+import com.jeopardyProject.Game.Command.ActionType;
+import com.jeopardyProject.Game.Input.InputSource;
+
+/**
+ * Base class for automated players that answer the session's prompts.
+ * <p>
+ * Implements the Template Method pattern: the phase handling is fixed here,
+ * while subclasses decide which question to pick ({@link #chooseQuestion(QuestionList)})
+ * and which option to answer ({@link #chooseAnswer(Question)}).
+ * <ul>
+ *   <li><b>Category phase</b>: picks a target question and types its full category name</li>
+ *   <li><b>Value phase</b>: types the target's value, or any unanswered value in the
+ *       category that was actually selected</li>
+ *   <li><b>Answer phase</b>: types the chosen option key</li>
+ * </ul>
+ * Returning null at any phase ends the game.
+ *
+ * @see RandomBot
+ * @see CorrectAnswerBot
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public abstract class BotInputSource implements InputSource {
+    /** Question the bot intends to select this turn. */
+    private Question target;
+
+    /**
+     * Produces input for the requested phase of the turn.
+     *
+     * @param session the session requesting input
+     * @param phase the turn phase the input is for
+     * @return the bot's input line, or null to quit
+     */
+    @Override
+    public String nextInput(GameSession session, ActionType phase){
+        switch (phase){
+            case SELECT_CATEGORY:
+                this.target = chooseQuestion(session.getQuestions());
+                return this.target == null ? null : this.target.getCategory();
+            case SELECT_QUESTION:
+                String category = session.getCategory();
+                if (this.target == null || !this.target.getCategory().equals(category))
+                    this.target = firstUnanswered(session.getQuestions(), category);
+                return this.target == null ? null : String.valueOf(this.target.getValue());
+            case ANSWER_QUESTION:
+                Question question = session.getQuestion();
+                return question == null ? null : chooseAnswer(question);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Finds the first unanswered question in a category.
+     *
+     * @param questions the session's question list
+     * @param category exact category name
+     * @return an unanswered question, or null if the category is exhausted
+     */
+    private static Question firstUnanswered(QuestionList questions, String category){
+        QuestionBank bank = questions.getBank();
+        for (int i = 0; i < bank.size(); i++){
+            Question q = bank.get(i);
+            if (q != null && !questions.isAnswered(i) && q.getCategory().equals(category))
+                return questions.get(i);
+        }
+        return null;
+    }
+
+    /**
+     * Chooses the question to play this turn.
+     *
+     * @param questions the session's question list
+     * @return an unanswered question, or null to quit
+     */
+    protected abstract Question chooseQuestion(QuestionList questions);
+
+    /**
+     * Chooses the option key to answer with.
+     *
+     * @param question the question being answered
+     * @return an option key such as "A"
+     */
+    protected abstract String chooseAnswer(Question question);
+}
@@ -0,0 +1,45 @@
+package com.jeopardyProject.Game.Simulation;
+
+import com.jeopardyProject.Game.Question;
+import com.jeopardyProject.Game.QuestionBank;
+import com.jeopardyProject.Game.QuestionList;
+
+/**
+ * Bot that plays the board in order and always answers correctly.
+ * <p>
+ * Gives the shortest possible game: exactly one answer per turn.
+ * </p>
+ *
+ * @see BotInputSource
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public class CorrectAnswerBot extends BotInputSource {
+
+    /**
+     * Picks the first unanswered question in list order.
+     *
+     * @param questions the session's question list
+     * @return the first unanswered question, or null if none remain
+     */
+    @Override
+    protected Question chooseQuestion(QuestionList questions){
+        QuestionBank bank = questions.getBank();
+        for (int i = 0; i < bank.size(); i++){
+            if (bank.get(i) != null && !questions.isAnswered(i))
+                return questions.get(i);
+        }
+        return null;
+    }
+
+    /**
+     * Answers with the question's correct option.
+     *
+     * @param question the question being answered
+     * @return the correct option key
+     */
+    @Override
+    protected String chooseAnswer(Question question){
+        return question.getRightAnswer();
+    }
+}
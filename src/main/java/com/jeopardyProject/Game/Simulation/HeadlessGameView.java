@@ -0,0 +1,65 @@
+package com.jeopardyProject.Game.Simulation;
+
+import com.jeopardyProject.Game.GameView;
+import com.jeopardyProject.Game.Question;
+import com.jeopardyProject.Game.QuestionList;
+import com.jeopardyProject.Game.Command.ActionResult;
+
+/**
+ * View that renders nothing.
+ * <p>
+ * Replaces the console {@link GameView} during headless simulations so
+ * that no time is spent formatting or printing the board, prompts and results.
+ * The class is stateless and may be shared by any number of sessions.
+ * </p>
+ *
+ * @see HeadlessSimulation
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public class HeadlessGameView extends GameView {
+
+    /** @param message ignored */
+    @Override
+    public void displayMessage(String message){
+    }
+
+    /** @param error ignored */
+    @Override
+    public void displayError(String error){
+    }
+
+    /** @param result ignored */
+    @Override
+    public void displayActionResult(ActionResult result){
+    }
+
+    /** @param questions ignored */
+    @Override
+    public void displayQuestionGrid(QuestionList questions){
+    }
+
+    /** @param question ignored */
+    @Override
+    public void displayQuestion(Question question){
+    }
+
+    /**
+     * @param playerId ignored
+     * @param score ignored
+     * @param correct ignored
+     */
+    @Override
+    public void displayScore(String playerId, int score, boolean correct){
+    }
+
+    /** @param playerId ignored */
+    @Override
+    public void displayCurrentPlayer(String playerId){
+    }
+
+    /** @param prompt ignored */
+    @Override
+    public void displayPrompt(String prompt){
+    }
+}
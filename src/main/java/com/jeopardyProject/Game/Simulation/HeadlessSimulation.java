@@ -0,0 +1,207 @@
+package com.jeopardyProject.Game.Simulation;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import com.jeopardyProject.Game.GameConfig;
+import com.jeopardyProject.Game.GameEngine;
+import com.jeopardyProject.Game.GameSession;
+import com.jeopardyProject.Game.PlayerList;
+import com.jeopardyProject.Game.QuestionList;
+import com.jeopardyProject.Game.Input.InputSource;
+import com.jeopardyProject.Game.Logs.NullLogger;
+import com.jeopardyProject.Game.Shard.ShardedGameEngine;
+
+/**
+ * Runs complete games driven by bots with no console or file I/O.
+ * <p>
+ * Every game is a normal {@link GameSession} running the real
+ * {@link GameSession#playGame()} loop, {@link PlayerList}, commands and
+ * states. Only the edges are swapped out: input comes from a bot
+ * ({@link InputSource}), output goes to a {@link HeadlessGameView} and events
+ * go to a {@link NullLogger}. The measured turns/sec and games/sec are the
+ * baseline for engine optimisations.
+ * </p>
+ * <p>
+ * Usage:
+ * <pre>
+ * mvn exec:java -Dexec.mainClass="com.jeopardyProject.Game.Simulation.HeadlessSimulation" \
+ *     -Dexec.args="src/resources/sample.csv 100000 random 4"
+ * </pre>
+ *
+ * @see BotInputSource
+ * @see SimulationReport
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public class HeadlessSimulation {
+    /** Default number of games when none is given on the command line. */
+    private static final int DEFAULT_GAMES = 10000;
+
+    /** Default number of bot players per game. */
+    private static final int DEFAULT_PLAYERS = 2;
+
+    /** Engine hosting the simulated sessions. */
+    private final GameEngine engine = new GameEngine();
+
+    /** Shared view that renders nothing. */
+    private final HeadlessGameView view = new HeadlessGameView();
+
+    /** Shared logger that records nothing. */
+    private final NullLogger logger = new NullLogger();
+
+    /** Question bank each game is dealt a board from; see {@link QuestionList#boardFor(String)}. */
+    private final QuestionList bank;
+
+    /** Number of bot players per game. */
+    private final int numPlayers;
+
+    /** Creates the input source for each new game. */
+    private final Supplier<InputSource> botFactory;
+
+    /**
+     * Constructs a simulation over a loaded question bank.
+     *
+     * @param bank questions to deal to each game (left unmodified)
+     * @param numPlayers number of bot players per game
+     * @param botFactory creates the input source driving each game
+     */
+    public HeadlessSimulation(QuestionList bank, int numPlayers, Supplier<InputSource> botFactory){
+        this.bank = bank;
+        this.numPlayers = numPlayers;
+        this.botFactory = botFactory;
+    }
+
+    /**
+     * Plays a single game to completion.
+     *
+     * @return number of turns played
+     */
+    public int playGame(){
+        GameSession session = engine.createSession(engine.nextCaseId(), logger, view);
+        int turns = play(session);
+        engine.endSession(session.getCaseId());
+        return turns;
+    }
+
+    /**
+     * Deals the board, seats the bots and plays a registered session.
+     *
+     * @param session a freshly created session
+     * @return number of turns played
+     */
+    private int play(GameSession session){
+        session.setQuestions(bank.boardFor(session.getCaseId()));
+
+        PlayerList players = new PlayerList(session, numPlayers);
+        for (int i = 1; i <= numPlayers; i++)
+            players.addPlayer("Bot" + i);
+        session.setPlayers(players);
+        session.setInputSource(botFactory.get());
+
+        session.startGame();
+        session.playGame();
+        return session.getTurnNum() - 1;
+    }
+
+    /**
+     * Plays a number of games back to back and measures throughput.
+     *
+     * @param games number of games to play
+     * @return report of games, turns and elapsed time
+     */
+    public SimulationReport run(int games){
+        long turns = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < games; i++)
+            turns += playGame();
+        return new SimulationReport(games, turns, System.nanoTime() - start);
+    }
+
+    /**
+     * Plays a number of games spread over shard threads and measures throughput.
+     * <p>
+     * Each game runs entirely on the shard its case ID hashes to, so games
+     * proceed in parallel without sharing any mutable state.
+     * </p>
+     *
+     * @param games number of games to play
+     * @param shardCount number of shard threads
+     * @return report of games, turns and elapsed time
+     * @see ShardedGameEngine
+     */
+    public SimulationReport run(int games, int shardCount){
+        try(ShardedGameEngine shards = new ShardedGameEngine(engine, shardCount)){
+            List<CompletableFuture<Integer>> results = new ArrayList<>(games);
+            long start = System.nanoTime();
+            for (int i = 0; i < games; i++){
+                String caseId = engine.nextCaseId();
+                shards.createSession(caseId, logger, view);
+                results.add(shards.submit(caseId, this::play));
+                shards.endSession(caseId);
+            }
+            long turns = 0;
+            for (CompletableFuture<Integer> result : results)
+                turns += result.join();
+            return new SimulationReport(games, turns, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Creates a bot factory by name.
+     *
+     * @param type "random" or "correct"
+     * @param seed base seed; each random bot gets the next seed
+     * @return supplier creating a new bot for each game
+     * @throws IllegalArgumentException if the bot type is unknown
+     */
+    public static Supplier<InputSource> botFactory(String type, long seed){
+        if ("correct".equalsIgnoreCase(type))
+            return CorrectAnswerBot::new;
+        if ("random".equalsIgnoreCase(type)){
+            AtomicLong nextSeed = new AtomicLong(seed);
+            return () -> new RandomBot(nextSeed.getAndIncrement());
+        }
+        throw new IllegalArgumentException("Unknown bot type: " + type + ". Supported types: random, correct");
+    }
+
+    /**
+     * Command-line entry point.
+     * <p>
+     * Arguments: {@code <questionFile> [games] [random|correct] [players] [seed] [shards]}.
+     * With a shard count the games run in parallel on that many shard
+     * threads; otherwise they run one after another on the calling thread.
+     * A warm-up run of one tenth of the games is played first so the
+     * reported figures reflect JIT-compiled code.
+     * </p>
+     *
+     * @param args command-line arguments
+     * @throws FileNotFoundException if the question file does not exist
+     */
+    public static void main(String[] args) throws FileNotFoundException {
+        if (args.length < 1){
+            System.err.println("Usage: HeadlessSimulation <questionFile> [games] [random|correct] [players] [seed] [shards]");
+            return;
+        }
+        int games = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_GAMES;
+        String botType = args.length > 2 ? args[2] : "random";
+        int players = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_PLAYERS;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : 42L;
+        int shards = args.length > 5 ? Integer.parseInt(args[5]) : 0;
+
+        QuestionList bank = GameConfig.createFileReader(args[0]).readFile();
+        HeadlessSimulation simulation = new HeadlessSimulation(bank, players, botFactory(botType, seed));
+
+        if (shards > 0){
+            simulation.run(Math.max(1, games / 10), shards);
+            System.out.println(simulation.run(games, shards));
+        } else {
+            simulation.run(Math.max(1, games / 10));
+            System.out.println(simulation.run(games));
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.jeopardyProject.Game.Simulation;
+
+/**
+ * Fixed-size log-linear histogram of latencies in nanoseconds.
+ * <p>
+ * Values below 32 ns get a bucket each; above that every power of two is
+ * split into 32 buckets, so any recorded value is reported within about 3%
+ * over its whole range with a fixed 1,888-slot array and no allocation per
+ * sample. Each load-generator worker records into its own histogram and the
+ * results are {@link #merge merged} at the end, so recording needs no
+ * synchronization.
+ * </p>
+ * <p>
+ * Not thread-safe.
+ * </p>
+ *
+ * @see LoadGenerator
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public class LatencyHistogram {
+    /** log2 of the number of buckets per power of two. */
+    private static final int SUB_BUCKET_BITS = 5;
+
+    /** Buckets per power of two (and number of exact low buckets). */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /** Total number of buckets, enough for any non-negative long. */
+    private static final int BUCKETS = SUB_BUCKETS + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    /** Sample count per bucket. */
+    private final long[] counts = new long[BUCKETS];
+
+    /** Number of samples recorded. */
+    private long count;
+
+    /** Sum of all samples, for the mean. */
+    private long total;
+
+    /** Largest sample recorded. */
+    private long max;
+
+    /**
+     * Records one latency.
+     *
+     * @param nanos the latency in nanoseconds; negative values count as 0
+     */
+    public void record(long nanos){
+        long value = Math.max(0, nanos);
+        counts[indexOf(value)]++;
+        count++;
+        total += value;
+        if (value > max)
+            max = value;
+    }
+
+    /**
+     * Adds another histogram's samples to this one.
+     *
+     * @param other the histogram to add
+     */
+    public void merge(LatencyHistogram other){
+        for (int i = 0; i < BUCKETS; i++)
+            counts[i] += other.counts[i];
+        count += other.count;
+        total += other.total;
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Gets the value at a percentile.
+     *
+     * @param percentile between 0 and 100, e.g. 99.9
+     * @return the highest value in the bucket holding that rank (never above
+     *         the maximum), or 0 if nothing was recorded
+     */
+    public long getPercentile(double percentile){
+        if (count == 0)
+            return 0;
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++){
+            seen += counts[i];
+            if (seen >= rank)
+                return Math.min(max, highestValueIn(i));
+        }
+        return max;
+    }
+
+    /** @return number of samples recorded */
+    public long getCount(){
+        return count;
+    }
+
+    /** @return largest sample recorded, in nanoseconds */
+    public long getMax(){
+        return max;
+    }
+
+    /** @return mean sample in nanoseconds, or 0 if nothing was recorded */
+    public double getMean(){
+        return count == 0 ? 0 : (double) total / count;
+    }
+
+    /**
+     * Maps a value to its bucket.
+     *
+     * @param value a non-negative latency
+     * @return the bucket index
+     */
+    private static int indexOf(long value){
+        if (value < SUB_BUCKETS)
+            return (int) value;
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int sub = (int) (value >>> shift) - SUB_BUCKETS;
+        return SUB_BUCKETS + shift * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Gets the largest value that maps to a bucket.
+     *
+     * @param index the bucket index
+     * @return the bucket's inclusive upper bound
+     */
+    private static long highestValueIn(int index){
+        if (index < SUB_BUCKETS)
+            return index;
+        int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        int sub = (index - SUB_BUCKETS) % SUB_BUCKETS;
+        long lowest = (long) (SUB_BUCKETS + sub) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
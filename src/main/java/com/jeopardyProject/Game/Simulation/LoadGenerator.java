@@ -0,0 +1,361 @@
+package com.jeopardyProject.Game.Simulation;
+
+import java.io.FileNotFoundException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.ThreadMXBean;
+
+import com.jeopardyProject.Game.GameConfig;
+import com.jeopardyProject.Game.GameEngine;
+import com.jeopardyProject.Game.GameSession;
+import com.jeopardyProject.Game.PlayerList;
+import com.jeopardyProject.Game.QuestionList;
+import com.jeopardyProject.Game.Command.ActionType;
+import com.jeopardyProject.Game.Input.InputSource;
+import com.jeopardyProject.Game.Logs.NullLogger;
+
+/**
+ * Plays many bot-driven games at once against one {@link GameEngine} and
+ * measures per-action latency.
+ * <p>
+ * Each worker thread keeps its share of the requested concurrency as
+ * in-flight sessions and steps them round-robin: it asks a session's bot for
+ * the input the session expects and times only the
+ * {@link GameSession#submitInput(String)} call, which is where the
+ * {@link PlayerList#selectCategory}, {@link PlayerList#selectQuestion} and
+ * {@link PlayerList#answerQuestion} commands run. A finished game is replaced
+ * by a new one until the requested number of games has been played.
+ * </p>
+ * <p>
+ * Latencies go into one {@link LatencyHistogram} per action type per worker
+ * and are merged at the end, so recording is never contended. Allocation is
+ * read from each worker's own allocated-bytes counter, and GC pauses are
+ * collected from the collectors' notifications while the run is active.
+ * </p>
+ * <p>
+ * Usage:
+ * <pre>
+ * mvn exec:java -Dexec.mainClass="com.jeopardyProject.Game.Simulation.LoadGenerator" \
+ *     -Dexec.args="src/resources/sample.csv 100000 256 4"
+ * </pre>
+ *
+ * @see LoadReport
+ * @see HeadlessSimulation
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public class LoadGenerator {
+    /** Default number of games when none is given on the command line. */
+    private static final int DEFAULT_GAMES = 10000;
+
+    /** Default number of games in flight at once. */
+    private static final int DEFAULT_CONCURRENCY = 64;
+
+    /** Default number of bot players per game. */
+    private static final int DEFAULT_PLAYERS = 2;
+
+    /** Engine hosting the simulated sessions. */
+    private final GameEngine engine = new GameEngine();
+
+    /** Shared view that renders nothing. */
+    private final HeadlessGameView view = new HeadlessGameView();
+
+    /** Shared logger that records nothing. */
+    private final NullLogger logger = new NullLogger();
+
+    /** Question bank each game is dealt a board from; see {@link QuestionList#boardFor(String)}. */
+    private final QuestionList bank;
+
+    /** Number of bot players per game. */
+    private final int numPlayers;
+
+    /** Creates the input source for each new game; must be thread-safe. */
+    private final Supplier<InputSource> botFactory;
+
+    /**
+     * Constructs a load generator over a loaded question bank.
+     *
+     * @param bank questions to deal to each game (left unmodified)
+     * @param numPlayers number of bot players per game
+     * @param botFactory creates the input source driving each game; called
+     *                   from several threads at once
+     */
+    public LoadGenerator(QuestionList bank, int numPlayers, Supplier<InputSource> botFactory){
+        this.bank = bank;
+        this.numPlayers = numPlayers;
+        this.botFactory = botFactory;
+    }
+
+    /**
+     * Plays a number of games with a fixed number in flight and measures them.
+     *
+     * @param games number of games to play
+     * @param concurrency number of games in flight at once
+     * @param threads number of worker threads sharing those games
+     * @return latency, throughput, allocation and GC figures for the run
+     * @throws IllegalArgumentException if concurrency or threads is below 1
+     */
+    public LoadReport run(int games, int concurrency, int threads){
+        if (concurrency < 1 || threads < 1)
+            throw new IllegalArgumentException("Concurrency and threads must be at least 1");
+        threads = Math.min(threads, concurrency);
+        AtomicInteger remaining = new AtomicInteger(games);
+        List<Worker> workers = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++)
+            workers.add(new Worker(remaining, concurrency / threads + (i < concurrency % threads ? 1 : 0)));
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        GcPauseListener gc = new GcPauseListener();
+        gc.register();
+        long start = System.nanoTime();
+        try{
+            List<Future<?>> running = new ArrayList<>(threads);
+            for (Worker worker : workers)
+                running.add(pool.submit(worker));
+            for (Future<?> worker : running)
+                worker.get();
+        } catch (InterruptedException e){
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Load run interrupted", e);
+        } catch (ExecutionException e){
+            throw new IllegalStateException("Load worker failed", e.getCause());
+        } finally{
+            pool.shutdown();
+            gc.unregister();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Map<ActionType, LatencyHistogram> latencies = new EnumMap<>(ActionType.class);
+        long played = 0;
+        long allocated = 0;
+        for (Worker worker : workers){
+            played += worker.games;
+            allocated = worker.allocatedBytes < 0 || allocated < 0 ? -1 : allocated + worker.allocatedBytes;
+            for (Map.Entry<ActionType, LatencyHistogram> entry : worker.latencies.entrySet())
+                latencies.computeIfAbsent(entry.getKey(), type -> new LatencyHistogram()).merge(entry.getValue());
+        }
+        return new LoadReport(played, elapsed, latencies, allocated,
+            gc.pauses.get(), gc.pauseNanos.get(), gc.maxPauseNanos.get());
+    }
+
+    /**
+     * Creates, deals and seats a new registered session and starts play.
+     *
+     * @return a session waiting for its first input
+     */
+    private GameSession startSession(){
+        GameSession session = engine.createSession(engine.nextCaseId(), logger, view);
+        session.setQuestions(bank.boardFor(session.getCaseId()));
+
+        PlayerList players = new PlayerList(session, numPlayers);
+        for (int i = 1; i <= numPlayers; i++)
+            players.addPlayer("Bot" + i);
+        session.setPlayers(players);
+        session.setInputSource(botFactory.get());
+
+        session.startGame();
+        session.beginPlay();
+        return session;
+    }
+
+    /**
+     * Gets the bytes allocated so far by the calling thread.
+     *
+     * @return allocated bytes, or -1 if the JVM cannot measure it
+     */
+    private static long currentThreadAllocatedBytes(){
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof ThreadMXBean))
+            return -1;
+        ThreadMXBean sunThreads = (ThreadMXBean) threads;
+        if (!sunThreads.isThreadAllocatedMemorySupported() || !sunThreads.isThreadAllocatedMemoryEnabled())
+            return -1;
+        return sunThreads.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * One worker thread stepping its own set of in-flight sessions.
+     */
+    private class Worker implements Runnable {
+        /** Games still to be started, shared by all workers. */
+        private final AtomicInteger remaining;
+
+        /** This worker's in-flight sessions; null slots are retired. */
+        private final GameSession[] slots;
+
+        /** This worker's latency per action type. */
+        private final Map<ActionType, LatencyHistogram> latencies = new EnumMap<>(ActionType.class);
+
+        /** Games this worker played to completion. */
+        private long games;
+
+        /** Bytes this worker allocated during the run, or -1 if unknown. */
+        private long allocatedBytes;
+
+        /**
+         * Constructs a worker.
+         *
+         * @param remaining shared count of games still to be started
+         * @param inFlight number of sessions this worker keeps in flight
+         */
+        Worker(AtomicInteger remaining, int inFlight){
+            this.remaining = remaining;
+            this.slots = new GameSession[inFlight];
+            for (ActionType type : ActionType.values())
+                latencies.put(type, new LatencyHistogram());
+        }
+
+        /**
+         * Claims and starts the next game, if any are left.
+         *
+         * @return the new session, or null once all games have been started
+         */
+        private GameSession next(){
+            return remaining.getAndDecrement() > 0 ? startSession() : null;
+        }
+
+        @Override
+        public void run(){
+            long allocatedBefore = currentThreadAllocatedBytes();
+            int active = 0;
+            for (int i = 0; i < slots.length; i++)
+                if ((slots[i] = next()) != null)
+                    active++;
+
+            while (active > 0){
+                for (int i = 0; i < slots.length; i++){
+                    GameSession session = slots[i];
+                    if (session == null)
+                        continue;
+                    ActionType phase = session.getExpectedInput();
+                    String line = session.getInputSource().nextInput(session, phase);
+
+                    long start = System.nanoTime();
+                    boolean running = session.submitInput(line);
+                    latencies.get(phase).record(System.nanoTime() - start);
+
+                    if (running)
+                        continue;
+                    engine.endSession(session.getCaseId());
+                    games++;
+                    if ((slots[i] = next()) == null)
+                        active--;
+                }
+            }
+            long allocatedAfter = currentThreadAllocatedBytes();
+            allocatedBytes = allocatedBefore < 0 ? -1 : allocatedAfter - allocatedBefore;
+        }
+    }
+
+    /**
+     * Counts stop-the-world GC pauses reported by the collectors.
+     * <p>
+     * Collectors whose notifications describe concurrent cycles rather than
+     * pauses (e.g. "G1 Concurrent GC", "ZGC Cycles") are not counted.
+     * Notifications arrive asynchronously, so a pause in the last moments of
+     * a run may be missed.
+     * </p>
+     */
+    private static class GcPauseListener implements NotificationListener {
+        /** Number of pauses seen. */
+        private final AtomicLong pauses = new AtomicLong();
+
+        /** Total pause time in nanoseconds. */
+        private final AtomicLong pauseNanos = new AtomicLong();
+
+        /** Longest pause in nanoseconds. */
+        private final AtomicLong maxPauseNanos = new AtomicLong();
+
+        /** Starts listening to every pausing collector. */
+        void register(){
+            for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans())
+                if (collector instanceof NotificationEmitter && isPausing(collector.getName()))
+                    ((NotificationEmitter) collector).addNotificationListener(this, null, null);
+        }
+
+        /** Stops listening. */
+        void unregister(){
+            for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()){
+                if (!(collector instanceof NotificationEmitter) || !isPausing(collector.getName()))
+                    continue;
+                try{
+                    ((NotificationEmitter) collector).removeNotificationListener(this);
+                } catch (ListenerNotFoundException e){
+                    // Never registered with this collector.
+                }
+            }
+        }
+
+        /**
+         * Checks whether a collector's notifications describe pauses.
+         *
+         * @param name the collector name
+         * @return false for concurrent-cycle collectors
+         */
+        private static boolean isPausing(String name){
+            return !name.contains("Concurrent") && !name.contains("Cycles");
+        }
+
+        @Override
+        public void handleNotification(Notification notification, Object handback){
+            if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType()))
+                return;
+            GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+            long nanos = info.getGcInfo().getDuration() * 1_000_000L;
+            pauses.incrementAndGet();
+            pauseNanos.addAndGet(nanos);
+            maxPauseNanos.accumulateAndGet(nanos, Math::max);
+        }
+    }
+
+    /**
+     * Command-line entry point.
+     * <p>
+     * Arguments: {@code <questionFile> [games] [concurrency] [threads] [random|correct] [players] [seed]}.
+     * Threads default to the number of processors. A warm-up run of one
+     * tenth of the games is played first so the reported figures reflect
+     * JIT-compiled code.
+     * </p>
+     *
+     * @param args command-line arguments
+     * @throws FileNotFoundException if the question file does not exist
+     */
+    public static void main(String[] args) throws FileNotFoundException {
+        if (args.length < 1){
+            System.err.println("Usage: LoadGenerator <questionFile> [games] [concurrency] [threads] [random|correct] [players] [seed]");
+            return;
+        }
+        int games = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_GAMES;
+        int concurrency = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_CONCURRENCY;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        String botType = args.length > 4 ? args[4] : "random";
+        int players = args.length > 5 ? Integer.parseInt(args[5]) : DEFAULT_PLAYERS;
+        long seed = args.length > 6 ? Long.parseLong(args[6]) : 42L;
+
+        QuestionList bank = GameConfig.createFileReader(args[0]).readFile();
+        LoadGenerator generator = new LoadGenerator(bank, players, HeadlessSimulation.botFactory(botType, seed));
+
+        generator.run(Math.max(1, games / 10), concurrency, threads);
+        System.out.println(generator.run(games, concurrency, threads));
+    }
+}
@@ -0,0 +1,172 @@
+package com.jeopardyProject.Game.Simulation;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.jeopardyProject.Game.Command.ActionType;
+
+/**
+ * Immutable latency, throughput, allocation and GC figures from a load run.
+ *
+ * @see LoadGenerator#run(int, int, int)
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public class LoadReport {
+    /** Nanoseconds per second, for rate calculations. */
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    /** Number of games played to completion. */
+    private final long games;
+
+    /** Wall-clock duration of the run in nanoseconds. */
+    private final long elapsedNanos;
+
+    /** Latency of each kind of action. */
+    private final Map<ActionType, LatencyHistogram> latencies;
+
+    /** Latency of all actions together. */
+    private final LatencyHistogram overall = new LatencyHistogram();
+
+    /** Bytes allocated by the worker threads, or -1 if not measurable. */
+    private final long allocatedBytes;
+
+    /** Number of stop-the-world GC pauses during the run. */
+    private final long gcPauses;
+
+    /** Total GC pause time in nanoseconds. */
+    private final long gcPauseNanos;
+
+    /** Longest GC pause in nanoseconds. */
+    private final long gcMaxPauseNanos;
+
+    /**
+     * Constructs a report for a finished run.
+     *
+     * @param games number of games played
+     * @param elapsedNanos wall-clock duration in nanoseconds
+     * @param latencies merged latency histogram for each action type
+     * @param allocatedBytes bytes allocated by the workers, or -1 if unknown
+     * @param gcPauses number of GC pauses
+     * @param gcPauseNanos total GC pause time in nanoseconds
+     * @param gcMaxPauseNanos longest GC pause in nanoseconds
+     */
+    public LoadReport(long games, long elapsedNanos, Map<ActionType, LatencyHistogram> latencies,
+                      long allocatedBytes, long gcPauses, long gcPauseNanos, long gcMaxPauseNanos){
+        this.games = games;
+        this.elapsedNanos = elapsedNanos;
+        this.latencies = new EnumMap<>(latencies);
+        for (LatencyHistogram histogram : this.latencies.values())
+            this.overall.merge(histogram);
+        this.allocatedBytes = allocatedBytes;
+        this.gcPauses = gcPauses;
+        this.gcPauseNanos = gcPauseNanos;
+        this.gcMaxPauseNanos = gcMaxPauseNanos;
+    }
+
+    /** @return number of games played */
+    public long getGames(){
+        return this.games;
+    }
+
+    /** @return total actions submitted across all games */
+    public long getActions(){
+        return this.overall.getCount();
+    }
+
+    /** @return wall-clock duration of the run in nanoseconds */
+    public long getElapsedNanos(){
+        return this.elapsedNanos;
+    }
+
+    /**
+     * Gets the latency of one kind of action.
+     *
+     * @param type the action type
+     * @return its latency histogram (empty if no such action was timed)
+     */
+    public LatencyHistogram getLatency(ActionType type){
+        LatencyHistogram histogram = this.latencies.get(type);
+        return histogram == null ? new LatencyHistogram() : histogram;
+    }
+
+    /** @return latency of all actions together */
+    public LatencyHistogram getOverallLatency(){
+        return this.overall;
+    }
+
+    /** @return actions completed per second of wall-clock time */
+    public double getActionsPerSecond(){
+        return getActions() * NANOS_PER_SECOND / Math.max(1, this.elapsedNanos);
+    }
+
+    /** @return games completed per second of wall-clock time */
+    public double getGamesPerSecond(){
+        return this.games * NANOS_PER_SECOND / Math.max(1, this.elapsedNanos);
+    }
+
+    /** @return bytes allocated by the worker threads, or -1 if the JVM cannot measure it */
+    public long getAllocatedBytes(){
+        return this.allocatedBytes;
+    }
+
+    /** @return megabytes allocated per second of wall-clock time, or -1 if unknown */
+    public double getAllocationRate(){
+        if (this.allocatedBytes < 0)
+            return -1;
+        return this.allocatedBytes / 1_048_576.0 * NANOS_PER_SECOND / Math.max(1, this.elapsedNanos);
+    }
+
+    /** @return number of GC pauses during the run */
+    public long getGcPauses(){
+        return this.gcPauses;
+    }
+
+    /** @return total GC pause time in nanoseconds */
+    public long getGcPauseNanos(){
+        return this.gcPauseNanos;
+    }
+
+    /** @return longest GC pause in nanoseconds */
+    public long getGcMaxPauseNanos(){
+        return this.gcMaxPauseNanos;
+    }
+
+    /**
+     * Formats the report as a summary followed by a latency table in microseconds.
+     *
+     * @return human-readable summary of the run
+     */
+    @Override
+    public String toString(){
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Games: %d | Actions: %d | Elapsed: %.1f ms | Actions/sec: %.0f | Games/sec: %.0f%n",
+            games, getActions(), elapsedNanos / 1_000_000.0, getActionsPerSecond(), getGamesPerSecond()));
+        if (allocatedBytes < 0)
+            sb.append("Allocated: n/a");
+        else
+            sb.append(String.format("Allocated: %.1f MB (%.1f MB/s)", allocatedBytes / 1_048_576.0, getAllocationRate()));
+        sb.append(String.format(" | GC pauses: %d (total %.1f ms, max %.1f ms)%n",
+            gcPauses, gcPauseNanos / 1_000_000.0, gcMaxPauseNanos / 1_000_000.0));
+        sb.append(String.format("%-16s %10s %9s %9s %9s %9s %9s  (us)%n",
+            "Action", "Count", "Mean", "p50", "p99", "p999", "Max"));
+        for (ActionType type : ActionType.values())
+            appendRow(sb, type.name(), getLatency(type));
+        appendRow(sb, "ALL", overall);
+        return sb.toString().trim();
+    }
+
+    /**
+     * Appends one latency table row.
+     *
+     * @param sb the report being built
+     * @param label the row label
+     * @param histogram the row's latencies
+     */
+    private static void appendRow(StringBuilder sb, String label, LatencyHistogram histogram){
+        sb.append(String.format("%-16s %10d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+            label, histogram.getCount(), histogram.getMean() / 1000.0,
+            histogram.getPercentile(50) / 1000.0, histogram.getPercentile(99) / 1000.0,
+            histogram.getPercentile(99.9) / 1000.0, histogram.getMax() / 1000.0));
+    }
+}
@@ -0,0 +1,67 @@
+package com.jeopardyProject.Game.Simulation;
+
+import java.util.Random;
+
+import com.jeopardyProject.Game.Question;
+import com.jeopardyProject.Game.QuestionBank;
+import com.jeopardyProject.Game.QuestionList;
+
+/**
+ * Bot that picks a uniformly random unanswered question and a random option.
+ * <p>
+ * Seeded so that simulated games are reproducible. Random answers exercise
+ * the wrong-answer path, where the question passes to the other players.
+ * </p>
+ *
+ * @see BotInputSource
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public class RandomBot extends BotInputSource {
+    /** Option keys a question can be answered with. */
+    private static final String[] OPTION_KEYS = {"A", "B", "C", "D"};
+
+    /** Source of randomness for question and answer choices. */
+    private final Random random;
+
+    /**
+     * Constructs a RandomBot with a fixed seed.
+     *
+     * @param seed seed for the bot's random choices
+     */
+    public RandomBot(long seed){
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Picks an unanswered question uniformly at random using reservoir sampling.
+     *
+     * @param questions the session's question list
+     * @return a random unanswered question, or null if none remain
+     */
+    @Override
+    protected Question chooseQuestion(QuestionList questions){
+        QuestionBank bank = questions.getBank();
+        int chosen = -1;
+        int seen = 0;
+        for (int i = 0; i < bank.size(); i++){
+            if (bank.get(i) == null || questions.isAnswered(i))
+                continue;
+            seen++;
+            if (random.nextInt(seen) == 0)
+                chosen = i;
+        }
+        return chosen < 0 ? null : questions.get(chosen);
+    }
+
+    /**
+     * Picks one of the four option keys at random.
+     *
+     * @param question the question being answered (ignored)
+     * @return "A", "B", "C" or "D"
+     */
+    @Override
+    protected String chooseAnswer(Question question){
+        return OPTION_KEYS[random.nextInt(OPTION_KEYS.length)];
+    }
+}
@@ -0,0 +1,55 @@
+package com.jeopardyProject.Game.Simulation;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import com.jeopardyProject.Game.GameSession;
+import com.jeopardyProject.Game.Command.ActionType;
+import com.jeopardyProject.Game.Input.InputSource;
+
+/**
+ * Input source that replays a fixed sequence of lines.
+ * <p>
+ * Each prompt consumes the next line regardless of phase, exactly as if a
+ * player had typed them. When the script runs out the game quits.
+ * </p>
+ *
+ * @see InputSource
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public class ScriptedBot implements InputSource {
+    /** Remaining lines of the script. */
+    private final Iterator<String> lines;
+
+    /**
+     * Constructs a ScriptedBot from a list of lines.
+     *
+     * @param lines the input lines in the order they should be typed
+     */
+    public ScriptedBot(List<String> lines){
+        this.lines = lines.iterator();
+    }
+
+    /**
+     * Constructs a ScriptedBot from individual lines.
+     *
+     * @param lines the input lines in the order they should be typed
+     */
+    public ScriptedBot(String... lines){
+        this(Arrays.asList(lines));
+    }
+
+    /**
+     * Returns the next scripted line.
+     *
+     * @param session the session requesting input (ignored)
+     * @param phase the turn phase (ignored)
+     * @return the next line, or null once the script is exhausted
+     */
+    @Override
+    public String nextInput(GameSession session, ActionType phase){
+        return lines.hasNext() ? lines.next() : null;
+    }
+}
@@ -0,0 +1,71 @@
+package com.jeopardyProject.Game.Simulation;
+
+/**
+ * Immutable throughput figures from a headless simulation run.
+ *
+ * @see HeadlessSimulation#run(int)
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public class SimulationReport {
+    /** Nanoseconds per second, for rate calculations. */
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    /** Number of games played to completion. */
+    private final long games;
+
+    /** Total turns played across all games. */
+    private final long turns;
+
+    /** Wall-clock duration of the run in nanoseconds. */
+    private final long elapsedNanos;
+
+    /**
+     * Constructs a report for a finished run.
+     *
+     * @param games number of games played
+     * @param turns total turns played
+     * @param elapsedNanos wall-clock duration in nanoseconds
+     */
+    public SimulationReport(long games, long turns, long elapsedNanos){
+        this.games = games;
+        this.turns = turns;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /** @return number of games played */
+    public long getGames(){
+        return this.games;
+    }
+
+    /** @return total turns played across all games */
+    public long getTurns(){
+        return this.turns;
+    }
+
+    /** @return wall-clock duration of the run in nanoseconds */
+    public long getElapsedNanos(){
+        return this.elapsedNanos;
+    }
+
+    /** @return turns completed per second of wall-clock time */
+    public double getTurnsPerSecond(){
+        return this.turns * NANOS_PER_SECOND / Math.max(1, this.elapsedNanos);
+    }
+
+    /** @return games completed per second of wall-clock time */
+    public double getGamesPerSecond(){
+        return this.games * NANOS_PER_SECOND / Math.max(1, this.elapsedNanos);
+    }
+
+    /**
+     * Formats the report as a single summary line.
+     *
+     * @return human-readable summary of the run
+     */
+    @Override
+    public String toString(){
+        return String.format("Games: %d | Turns: %d | Elapsed: %.1f ms | Turns/sec: %.0f | Games/sec: %.0f",
+            games, turns, elapsedNanos / 1_000_000.0, getTurnsPerSecond(), getGamesPerSecond());
+    }
+}
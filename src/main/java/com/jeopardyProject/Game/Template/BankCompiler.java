@@ -0,0 +1,69 @@
+package com.jeopardyProject.Game.Template;
+
+import java.io.File;
+import java.io.IOException;
+
+import com.jeopardyProject.Game.GameConfig;
+import com.jeopardyProject.Game.MappedQuestionStore;
+import com.jeopardyProject.Game.QuestionList;
+
+/**
+ * Compiles a question file into the binary bank format.
+ * <p>
+ * Reads any file {@link GameConfig#createFileReader} supports (CSV, JSON,
+ * XML, or another compiled bank) and writes it as a
+ * {@link MappedQuestionStore}: a checksummed file of fixed-size records, a
+ * table of distinct strings and the category/value index, which
+ * {@link CompiledBankFileReader} loads without parsing. Compile a bank once
+ * and start games from the {@code .jqs} file instead of the source.
+ * </p>
+ * <p>
+ * Usage:
+ * <pre>
+ * mvn exec:java -Dexec.mainClass="com.jeopardyProject.Game.Template.BankCompiler" \
+ *     -Dexec.args="src/resources/sample.csv target/sample.jqs"
+ * </pre>
+ *
+ * @see CompiledBankFileReader
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public class BankCompiler {
+    /**
+     * Compiles a question file.
+     *
+     * @param source the question file
+     * @param target the compiled bank to write, replaced if it exists
+     * @return the questions compiled
+     * @throws IOException if the source cannot be read or the bank cannot be written
+     * @throws IllegalArgumentException if the source format is not supported, or a question has too many options
+     */
+    public static QuestionList compile(String source, File target) throws IOException {
+        // every question is written, so CSV is parsed up front rather than row by row on demand
+        FileReaderTemplate reader = source.endsWith(".csv") ? new CsvFileReader(source) : GameConfig.createFileReader(source);
+        QuestionList questions = reader.readFile();
+        MappedQuestionStore.write(questions, target);
+        return questions;
+    }
+
+    /**
+     * Command-line entry point.
+     * <p>
+     * Arguments: {@code <questionFile> <bankFile>}.
+     * </p>
+     *
+     * @param args command-line arguments
+     * @throws IOException if the source cannot be read or the bank cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2){
+            System.err.println("Usage: BankCompiler <questionFile> <bankFile>");
+            return;
+        }
+        File target = new File(args[1]);
+        long start = System.nanoTime();
+        QuestionList questions = compile(args[0], target);
+        System.out.println(String.format("Compiled %,d questions to %s (%,.1f MB) in %,.1f ms",
+            questions.getBank().getQuestionCount(), target, target.length() / 1e6, (System.nanoTime() - start) / 1e6));
+    }
+}
@@ -0,0 +1,59 @@
+package com.jeopardyProject.Game.Template;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+
+import com.jeopardyProject.Game.MappedQuestionStore;
+import com.jeopardyProject.Game.QuestionList;
+
+/**
+ * Reader for compiled question banks, implementing the Template Method pattern.
+ * <p>
+ * Loads a {@code .jqs} bank written by {@link BankCompiler} (or
+ * {@link MappedQuestionStore#write}) through a single read-only mapping of
+ * the file. Nothing is parsed: after the checksum is verified, only the
+ * category names and the grid index are decoded, and each question's text
+ * is decoded from the mapping when the game first shows it. Loading time
+ * and heap therefore depend on the number of categories and values, not on
+ * the number of questions.
+ * </p>
+ * <p>
+ * Error Handling:
+ * <ul>
+ *   <li>Logs files that are not compiled banks, are of another format
+ *       version or fail their checksum, and returns an empty list</li>
+ * </ul>
+ *
+ * @see FileReaderTemplate
+ * @see MappedQuestionStore
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public class CompiledBankFileReader extends FileReaderTemplate {
+
+    /**
+     * Constructs a CompiledBankFileReader for the specified file.
+     *
+     * @param filepath absolute path to the compiled bank
+     */
+    public CompiledBankFileReader(String filepath){
+        super(filepath);
+    }
+
+    /**
+     * Maps the compiled bank.
+     *
+     * @return QuestionList over the whole bank, with every question unanswered
+     * @throws FileNotFoundException if the bank cannot be read
+     */
+    @Override
+    protected QuestionList parseQuestions() throws FileNotFoundException {
+        try{
+            return MappedQuestionStore.open(new File(this.filepath)).toQuestionList();
+        } catch (IOException e){
+            System.err.println("Error reading question bank: " + e.getMessage());
+            return new QuestionList();
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.jeopardyProject.Game.Template;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Splits a memory-mapped CSV file into byte ranges that start and end on
+ * row boundaries, so each range can be parsed on its own thread.
+ * <p>
+ * A line break only ends a row outside quotes, and whether a byte is inside
+ * quotes depends on every byte before it. Under {@link MappedCsvParser}'s
+ * rules a line starts in one of three states: a new row, or inside quotes
+ * with or without a field under way (which decides whether a backslash or
+ * doubled quote is an escape). The split therefore takes two parallel
+ * passes over the file:
+ * </p>
+ * <ol>
+ *   <li>Each nominal split point moves forward to the next line start, and
+ *       each range between those line starts is scanned from all three
+ *       states at once, yielding the state it ends in from each. The scans
+ *       usually agree within a row or two and then run as one.</li>
+ *   <li>Chaining those results from the start of the file gives the true
+ *       state at every line start. A range starting inside quotes looks for
+ *       the first line that ends outside them; if it has none, it starts
+ *       where the next range does.</li>
+ * </ol>
+ * <p>
+ * Both passes read the mapping with absolute gets only, so the tasks share
+ * its buffers without synchronisation.
+ * </p>
+ *
+ * @see CsvFileReader
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+final class CsvChunkSplitter {
+    /** Log2 of the bytes in each mapped window; matches {@link CsvFileReader#WINDOW_BYTES}. */
+    private static final int WINDOW_SHIFT = 30;
+
+    /** Mask giving a byte's offset within its window. */
+    private static final long WINDOW_MASK = (1L << WINDOW_SHIFT) - 1;
+
+    /** Line start states: a new row, and flags for inside quotes and inside a field. */
+    private static final int NEW_ROW = 0, IN_QUOTES = 1, IN_FIELD = 2;
+
+    /** Mapped windows covering the whole file. */
+    private final ByteBuffer[] windows;
+
+    /** Size of the file in bytes. */
+    private final long size;
+
+    /**
+     * Maps a file for splitting.
+     *
+     * @param channel open channel on the file
+     * @throws IOException if the file cannot be mapped
+     */
+    CsvChunkSplitter(FileChannel channel) throws IOException {
+        this.size = channel.size();
+        this.windows = new ByteBuffer[(int) ((this.size + WINDOW_MASK) >>> WINDOW_SHIFT)];
+        for (int i = 0; i < this.windows.length; i++){
+            long start = (long) i << WINDOW_SHIFT;
+            this.windows[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(WINDOW_MASK + 1, this.size - start));
+        }
+    }
+
+    /**
+     * Runs a step once for every chunk on the common fork/join pool.
+     *
+     * @param chunks number of chunks
+     * @param step the step, given a chunk number
+     */
+    static void forEach(int chunks, IntConsumer step){
+        if (chunks > 0)
+            ForkJoinPool.commonPool().invoke(new EachChunk(step, 0, chunks));
+    }
+
+    /**
+     * Splits the file into row-aligned ranges.
+     * <p>
+     * Range {@code i} runs from {@code bounds[i]} to {@code bounds[i + 1]};
+     * the first starts at 0 and the last ends at the file size. Ranges are
+     * about {@code size / chunks} bytes long, but one may be empty where a
+     * single row spans several nominal chunks.
+     * </p>
+     *
+     * @param chunks number of ranges wanted, at least 1
+     * @return the {@code chunks + 1} range boundaries, in file order
+     */
+    long[] split(int chunks){
+        long[] lineStarts = new long[chunks + 1];
+        int[][] exits = new int[chunks][];
+        lineStarts[chunks] = this.size;
+        forEach(chunks, i -> {
+            long from = lineStart(nominal(i, chunks));
+            long to = lineStart(nominal(i + 1, chunks));
+            lineStarts[i] = from;
+            exits[i] = exits(from, to);
+        });
+
+        long[] rowStarts = new long[chunks + 1];
+        int[] entries = new int[chunks];
+        int state = NEW_ROW;
+        for (int i = 0; i < chunks; i++){
+            entries[i] = state;
+            state = exits[i][state];
+        }
+        forEach(chunks, i -> rowStarts[i] = entries[i] != NEW_ROW ? rowEnd(lineStarts[i], lineStarts[i + 1], entries[i]) : lineStarts[i]);
+        rowStarts[chunks] = this.size;
+        for (int i = chunks - 1; i > 0; i--)
+            if (rowStarts[i] < 0)
+                rowStarts[i] = rowStarts[i + 1];
+        rowStarts[0] = 0;
+        return rowStarts;
+    }
+
+    /** @return the nominal start of chunk {@code i} of {@code chunks} */
+    private long nominal(int i, int chunks){
+        return i == chunks ? this.size : this.size / chunks * i + Math.min(i, this.size % chunks);
+    }
+
+    /** @return the byte at a file offset */
+    private byte at(long offset){
+        return this.windows[(int) (offset >>> WINDOW_SHIFT)].get((int) (offset & WINDOW_MASK));
+    }
+
+    /**
+     * Finds the first line start at or after an offset.
+     *
+     * @param offset the offset
+     * @return {@code offset} if it is 0 or follows a line break, the offset just past the next line break, or the file size
+     */
+    private long lineStart(long offset){
+        if (offset == 0)
+            return 0;
+        for (long i = offset - 1; i < this.size; i++){
+            byte b = at(i);
+            if (b == '\n' || b == '\r' && (i + 1 == this.size || at(i + 1) != '\n'))
+                return i + 1;
+        }
+        return this.size;
+    }
+
+    /**
+     * Scans a range of whole lines from each state a line can start in.
+     *
+     * @param from offset of the range's first line
+     * @param to offset just past the range, a line start
+     * @return the state at {@code to}, indexed by the state at {@code from}
+     */
+    private int[] exits(long from, long to){
+        int[] states = {NEW_ROW, IN_QUOTES, IN_QUOTES | IN_FIELD};
+        long line = from;
+        while (line < to){
+            long end = lineEnd(line, to);
+            int first = states[0], second = states[1];
+            states[0] = scanLine(line, end, first);
+            states[1] = second == first ? states[0] : scanLine(line, end, second);
+            states[2] = states[2] == first ? states[0] : states[2] == second ? states[1] : scanLine(line, end, states[2]);
+            line = nextLine(end);
+        }
+        int[] exits = new int[(IN_QUOTES | IN_FIELD) + 1];
+        exits[NEW_ROW] = states[0];
+        exits[IN_QUOTES] = states[1];
+        exits[IN_QUOTES | IN_FIELD] = states[2];
+        return exits;
+    }
+
+    /**
+     * Finds where the row under way at a line start inside quotes ends.
+     *
+     * @param from offset of the line start, inside quotes
+     * @param to offset at which to give up, a line start
+     * @param state the state at {@code from}
+     * @return the offset just past the row's line break, or -1 if it runs to {@code to}
+     */
+    private long rowEnd(long from, long to, int state){
+        long line = from;
+        while (line < to){
+            long end = lineEnd(line, to);
+            state = scanLine(line, end, state);
+            line = nextLine(end);
+            if (state == NEW_ROW)
+                return line;
+        }
+        return -1;
+    }
+
+    /** @return the offset of the first line break at or after {@code from}, or {@code to} */
+    private long lineEnd(long from, long to){
+        long i = from;
+        while (i < to && at(i) != '\n' && at(i) != '\r')
+            i++;
+        return i;
+    }
+
+    /** @return the offset just past the line break at {@code end}, or the file size */
+    private long nextLine(long end){
+        if (end == this.size)
+            return end;
+        return at(end) == '\r' && end + 1 < this.size && at(end + 1) == '\n' ? end + 2 : end + 1;
+    }
+
+    /**
+     * Applies one line's quotes, escapes and separators to a state.
+     *
+     * @param from offset of the line's first byte
+     * @param end offset of its line break, or of the end of the file
+     * @param state the state at the line start
+     * @return the state at the next line start
+     */
+    private int scanLine(long from, long end, int state){
+        boolean inQuotes = (state & IN_QUOTES) != 0;
+        boolean inField = (state & IN_FIELD) != 0;
+        for (long i = from; i < end; i++){
+            byte b = at(i);
+            if (b == '"'){
+                if ((inQuotes || inField) && i + 1 < end && at(i + 1) == '"')
+                    i++;
+                else
+                    inQuotes = !inQuotes;
+                inField = !inField;
+            } else if (b == '\\'){
+                if ((inQuotes || inField) && i + 1 < end && isEscapable(at(i + 1)))
+                    i++;
+            } else if (b == ',' && !inQuotes){
+                inField = false;
+            } else {
+                inField = true;
+            }
+        }
+        if (!inQuotes)
+            return NEW_ROW;
+        return inField ? IN_QUOTES | IN_FIELD : IN_QUOTES;
+    }
+
+    /** @return true for the characters a backslash escapes */
+    private static boolean isEscapable(byte b){
+        return b == '"' || b == '\\';
+    }
+
+    /**
+     * Fork/join task running a step over a range of chunks, halving the range until one is left.
+     */
+    private static final class EachChunk extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        /** The step to run. */
+        private final transient IntConsumer step;
+
+        /** First chunk, inclusive, and last chunk, exclusive. */
+        private final int from, to;
+
+        /**
+         * Creates a task.
+         *
+         * @param step the step to run
+         * @param from first chunk, inclusive
+         * @param to last chunk, exclusive
+         */
+        EachChunk(IntConsumer step, int from, int to){
+            this.step = step;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute(){
+            if (this.to - this.from == 1){
+                this.step.accept(this.from);
+                return;
+            }
+            int middle = (this.from + this.to) >>> 1;
+            invokeAll(new EachChunk(this.step, this.from, middle), new EachChunk(this.step, middle, this.to));
+        }
+    }
+}
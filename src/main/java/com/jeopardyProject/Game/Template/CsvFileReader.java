@@ -1,17 +1,39 @@
 package com.jeopardyProject.Game.Template;
 
 import java.io.FileNotFoundException;
-import java.io.FileReader;
-import java.util.HashMap;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
 
 import com.jeopardyProject.Game.Question;
 import com.jeopardyProject.Game.QuestionList;
-import com.opencsv.*;
 
 /**
  * CSV file parser implementing the Template Method pattern.
  * <p>
- * Parses question files in CSV (Comma-Separated Values) format using the OpenCSV library.
+ * Parses question files in CSV (Comma-Separated Values) format, encoded in
+ * UTF-8. The file is memory-mapped and parsed in place by a
+ * {@link MappedCsvParser}, which finds field boundaries on the raw bytes
+ * and decodes only the fields of valid rows; quoting follows OpenCSV's
+ * rules. Files larger than one mapping are read in windows of up to
+ * {@value #WINDOW_BYTES} bytes, each starting on a row boundary.
+ * </p>
+ * <p>
+ * Files larger than one chunk ({@value #DEFAULT_CHUNK_BYTES} bytes unless
+ * set, and only on a multi-core machine) are parsed in parallel: a
+ * {@link CsvChunkSplitter} cuts the file into row-aligned ranges of about a
+ * chunk each, every range is parsed by its own {@link MappedCsvParser} on
+ * the common fork/join pool, and the partial lists are joined in file
+ * order. Errors in different ranges may then be logged out of file order.
+ * </p>
+ * <p>
  * Expected CSV format:
  * <pre>
  * Category, Value, Question, OptionA, OptionB, OptionC, OptionD, CorrectAnswer
@@ -30,16 +52,44 @@ import com.opencsv.*;
  * @version 1.0
  */
 public class CsvFileReader extends FileReaderTemplate{
-    /** Required number of columns in each CSV row. */
-    private static final int REQUIRED_CSV_COLUMNS = 8;
+    /** Largest part of the file mapped at once. */
+    static final int WINDOW_BYTES = 1 << 30;
+
+    /** Default bytes per range parsed in parallel. */
+    public static final long DEFAULT_CHUNK_BYTES = 8L << 20;
+
+    /** Most ranges a file is split into. */
+    private static final int MAX_CHUNKS = 4096;
+
+    /** Bytes per range parsed in parallel; files no larger are parsed on one thread. */
+    private final long chunkBytes;
 
     /**
      * Constructs a CsvFileReader for the specified file.
+     * <p>
+     * Large files are parsed in parallel in chunks of
+     * {@value #DEFAULT_CHUNK_BYTES} bytes if more than one processor is
+     * available.
+     * </p>
      *
      * @param filepath absolute path to the CSV file
      */
     public CsvFileReader(String filepath){
+        this(filepath, Runtime.getRuntime().availableProcessors() > 1 ? DEFAULT_CHUNK_BYTES : Long.MAX_VALUE);
+    }
+
+    /**
+     * Constructs a CsvFileReader that parses files in chunks of a given size.
+     *
+     * @param filepath absolute path to the CSV file
+     * @param chunkBytes bytes per range parsed in parallel, or {@code Long.MAX_VALUE} to use one thread
+     * @throws IllegalArgumentException if chunkBytes is not positive
+     */
+    public CsvFileReader(String filepath, long chunkBytes){
         super(filepath);
+        if (chunkBytes <= 0)
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkBytes);
+        this.chunkBytes = chunkBytes;
     }
 
     /**
@@ -56,51 +106,81 @@ public class CsvFileReader extends FileReaderTemplate{
     protected QuestionList parseQuestions() throws FileNotFoundException {
         QuestionList questions = new QuestionList();
 
-        try(CSVReader csvReader = new CSVReader(new FileReader(this.filepath))){
-            csvReader.readNext();
-
-            String[] nextRecord;
-            while ((nextRecord = csvReader.readNext()) != null){
-                if(nextRecord.length < REQUIRED_CSV_COLUMNS){
-                    System.err.println("Skipping invalid CSV row with insufficient columns");
-                    continue;
-                }
-                try{
-                    questions.addQuestion(parseQuestion(nextRecord));
-                } catch (NumberFormatException e){
-                    System.err.println("Invalid number format in CSV: " + e.getMessage());
-                }
-            }
-        } catch (FileNotFoundException e){
-            throw e;
-        } catch (Exception e){
+        try(FileChannel channel = FileChannel.open(Paths.get(this.filepath), StandardOpenOption.READ)){
+            long size = channel.size();
+            if (size > this.chunkBytes)
+                parseChunks(channel, (int) Math.min(MAX_CHUNKS, (size - 1) / this.chunkBytes + 1), questions);
+            else
+                parseRange(channel, new MappedCsvParser(this::share), 0, size, true, questions);
+        } catch (NoSuchFileException | AccessDeniedException e){
+            throw new FileNotFoundException("File not found: " + this.filepath);
+        } catch (IOException e){
             System.err.println("Error reading CSV file: " + e.getMessage());
         }
         return questions;
     }
 
     /**
-     * Parses a single CSV row into a Question object.
+     * Parses the file in row-aligned ranges on the common fork/join pool.
      * <p>
-     * Expected row format: [Category, Value, Question, OptionA, OptionB, OptionC, OptionD, CorrectAnswer]
+     * {@link #share(String)} is not thread-safe, so the range parsers share
+     * category and option strings through a concurrent table of their own.
      * </p>
      *
-     * @param record string array containing CSV row values
-     * @return Question object parsed from the row
-     * @throws NumberFormatException if the value field cannot be parsed as an integer
+     * @param channel open channel on the file
+     * @param chunks number of ranges
+     * @param questions list receiving the questions, in file order
+     * @throws IOException if a range cannot be mapped
      */
-    private Question parseQuestion(String[] record) throws NumberFormatException {
-        String category = record[0];
-        int value = Integer.parseInt(record[1]);
-        String content = record[2];
-
-        HashMap<String, String> options = new HashMap<>();
-        options.put("A", record[3]);
-        options.put("B", record[4]);
-        options.put("C", record[5]);
-        options.put("D", record[6]);
+    private void parseChunks(FileChannel channel, int chunks, QuestionList questions) throws IOException {
+        long[] bounds = new CsvChunkSplitter(channel).split(chunks);
+        ConcurrentHashMap<String, String> sharedText = new ConcurrentHashMap<>();
+        UnaryOperator<String> share = text -> {
+            String shared = sharedText.putIfAbsent(text, text);
+            return shared != null ? shared : text;
+        };
+        QuestionList[] parts = new QuestionList[chunks];
+        try{
+            CsvChunkSplitter.forEach(chunks, i -> {
+                QuestionList part = new QuestionList();
+                try{
+                    parseRange(channel, new MappedCsvParser(share), bounds[i], bounds[i + 1], i == 0, part);
+                } catch (IOException e){
+                    throw new UncheckedIOException(e);
+                }
+                parts[i] = part;
+            });
+        } catch (UncheckedIOException e){
+            throw e.getCause();
+        }
+        for (QuestionList part : parts)
+            for (Question question : part.getQuestionArray())
+                questions.addQuestion(question);
+    }
 
-        String answer = record[7];
-        return new Question(category, value, content, options, answer);
+    /**
+     * Parses the rows in a range of the file, mapping it in windows.
+     *
+     * @param channel open channel on the file
+     * @param parser the parser to use
+     * @param from offset of the range's first row
+     * @param to offset just past the range's last row
+     * @param header true if the range starts with the header row
+     * @param questions list receiving the questions, in file order
+     * @throws IOException if the range cannot be mapped or holds a row longer than a window
+     */
+    static void parseRange(FileChannel channel, MappedCsvParser parser, long from, long to, boolean header,
+            QuestionList questions) throws IOException {
+        long position = from;
+        while (position < to){
+            int length = (int) Math.min(WINDOW_BYTES, to - position);
+            boolean last = position + length == to;
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            int parsed = parser.parse(window, position, 0, length, last, header, questions);
+            if (parsed == 0)
+                throw new IOException("CSV row longer than " + WINDOW_BYTES + " bytes");
+            header = false;
+            position += parsed;
+        }
     }
 }
@@ -2,6 +2,8 @@ package com.jeopardyProject.Game.Template;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.util.HashMap;
+import java.util.Map;
 
 import com.jeopardyProject.Game.QuestionList;
 
@@ -12,15 +14,17 @@ import com.jeopardyProject.Game.QuestionList;
  * <ol>
  *   <li>Validate file exists</li>
  *   <li>Parse questions using format-specific logic (delegated to subclasses)</li>
+ *   <li>Flag or drop near-duplicates, if a {@link NearDuplicateFilter} is set</li>
  * </ol>
  * Subclasses implement {@link #parseQuestions()} to handle format-specific parsing
  * for CSV, JSON, and XML files.
  * <p>
  * Concrete Implementations:
  * <ul>
- *   <li>{@link CsvFileReader} - Parses CSV files using OpenCSV library</li>
+ *   <li>{@link CsvFileReader} - Parses memory-mapped CSV files, in parallel chunks when large</li>
  *   <li>{@link JsonFileReader} - Parses JSON files using Gson library</li>
- *   <li>{@link XmlFileReader} - Parses XML files using Java DOM parser</li>
+ *   <li>{@link XmlFileReader} - Parses XML files using a StAX pull parser</li>
+ *   <li>{@link CompiledBankFileReader} - Maps banks compiled by {@link BankCompiler}</li>
  * </ul>
  *
  * @see QuestionList
@@ -31,6 +35,12 @@ public abstract class FileReaderTemplate {
     /** Absolute path to the question file. */
     protected String filepath;
 
+    /** Near-duplicate stage run after parsing, or null to skip it. */
+    private NearDuplicateFilter duplicateFilter;
+
+    /** Category and option strings seen during the current read, for {@link #share(String)}. */
+    private Map<String, String> sharedText;
+
     /**
      * Constructs a FileReaderTemplate with the specified file path.
      *
@@ -48,6 +58,7 @@ public abstract class FileReaderTemplate {
      * <ol>
      *   <li>Validating file existence</li>
      *   <li>Delegating format-specific parsing to {@link #parseQuestions()}</li>
+     *   <li>Running the near-duplicate filter, if one is set</li>
      * </ol>
      *
      * @return QuestionList containing all parsed questions
@@ -55,7 +66,44 @@ public abstract class FileReaderTemplate {
      */
     public final QuestionList readFile() throws FileNotFoundException {
         validateFileExists();
-        return parseQuestions();
+        QuestionList questions;
+        sharedText = new HashMap<>();
+        try{
+            questions = parseQuestions();
+        } finally {
+            sharedText = null;
+        }
+        if (duplicateFilter != null)
+            questions = duplicateFilter.apply(questions);
+        return questions;
+    }
+
+    /**
+     * Sets the near-duplicate stage run on every file read.
+     *
+     * @param duplicateFilter the filter, or null to accept questions as parsed
+     */
+    public void setDuplicateFilter(NearDuplicateFilter duplicateFilter){
+        this.duplicateFilter = duplicateFilter;
+    }
+
+    /**
+     * Returns the instance of a category or option text first seen in this read.
+     * <p>
+     * Parsers pass category names and option texts through this method so
+     * that questions repeating them (every question of a category, or
+     * options such as "True" and "False") share one string. The table is
+     * dropped when the read finishes.
+     * </p>
+     *
+     * @param text a parsed string
+     * @return an equal string shared by the whole bank
+     */
+    protected String share(String text){
+        if (text == null || sharedText == null)
+            return text;
+        String shared = sharedText.putIfAbsent(text, text);
+        return shared != null ? shared : text;
     }
 
     /**
@@ -2,12 +2,10 @@ package com.jeopardyProject.Game.Template;
 
 import java.io.FileNotFoundException;
 import java.io.FileReader;
-import java.util.HashMap;
+import java.io.IOException;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 import com.jeopardyProject.Game.Question;
 import com.jeopardyProject.Game.QuestionList;
@@ -15,7 +13,10 @@ import com.jeopardyProject.Game.QuestionList;
 /**
  * JSON file parser implementing the Template Method pattern.
  * <p>
- * Parses question files in JSON format using the Gson library.
+ * Parses question files in JSON format with Gson's streaming {@link JsonReader}.
+ * No document tree is built: the array is read token by token and each
+ * question is created as soon as its object closes, so memory use does not
+ * grow with the file beyond the questions themselves.
  * Expected JSON structure:
  * <pre>
  * [
@@ -38,6 +39,7 @@ import com.jeopardyProject.Game.QuestionList;
  * <ul>
  *   <li>Logs parsing errors for individual questions</li>
  *   <li>Continues parsing remaining questions after errors</li>
+ *   <li>Stops at malformed JSON, keeping the questions read before it</li>
  * </ul>
  *
  * @see FileReaderTemplate
@@ -58,7 +60,7 @@ public class JsonFileReader extends FileReaderTemplate{
     /**
      * Parses questions from JSON format.
      * <p>
-     * Parses the JSON array and converts each element to a Question object.
+     * Streams the top-level array and converts each element to a Question.
      * Invalid questions are logged and skipped, allowing parsing to continue.
      * </p>
      *
@@ -69,18 +71,22 @@ public class JsonFileReader extends FileReaderTemplate{
     protected QuestionList parseQuestions() throws FileNotFoundException {
         QuestionList questions = new QuestionList();
 
-        try(FileReader reader = new FileReader(this.filepath)){
-            JsonElement jsonElement = JsonParser.parseReader(reader);
-            JsonArray jsonArray = jsonElement.getAsJsonArray();
-
-            for (JsonElement item : jsonArray){
+        try(JsonReader reader = new JsonReader(new FileReader(this.filepath))){
+            reader.setLenient(true);
+            reader.beginArray();
+            while (reader.hasNext()){
+                if (reader.peek() != JsonToken.BEGIN_OBJECT){
+                    reader.skipValue();
+                    System.err.println("Error parsing JSON question: not an object");
+                    continue;
+                }
                 try{
-                    JsonObject jsonObject = item.getAsJsonObject();
-                    questions.addQuestion(parseQuestion(jsonObject));
-                } catch (Exception e){
+                    questions.addQuestion(parseQuestion(reader));
+                } catch (IllegalStateException | NumberFormatException e){
                     System.err.println("Error parsing JSON question: " + e.getMessage());
                 }
             }
+            reader.endArray();
         } catch (FileNotFoundException e){
             throw e;
         } catch (Exception e){
@@ -90,29 +96,107 @@ public class JsonFileReader extends FileReaderTemplate{
     }
 
     /**
-     * Parses a single JSON object into a Question.
+     * Parses the next JSON object into a Question.
      * <p>
-     * Extracts fields: Category, Value, Question, Options{A,B,C,D}, CorrectAnswer
+     * Extracts fields: Category, Value, Question, Options{A,B,C,D}, CorrectAnswer.
+     * Other fields are skipped. The whole object is consumed even if it is
+     * invalid, so the stream stays in step.
      * </p>
      *
-     * @param jsonObject JSON object representing a single question
+     * @param reader reader positioned at the start of the object
      * @return Question object parsed from JSON
-     * @throws com.google.gson.JsonSyntaxException if required fields are missing
+     * @throws IllegalStateException if a required field is missing or not a scalar
+     * @throws NumberFormatException if the value is not an integer
+     * @throws IOException if the JSON is malformed
      */
-    private Question parseQuestion(JsonObject jsonObject){
-        String category = jsonObject.get("Category").getAsString();
-        int value = jsonObject.get("Value").getAsInt();
-        String content = jsonObject.get("Question").getAsString();
+    private Question parseQuestion(JsonReader reader) throws IOException {
+        String category = null;
+        String value = null;
+        String content = null;
+        String[] options = null;
+        String answer = null;
+        String error = null;
 
-        JsonObject optionsObj = jsonObject.get("Options").getAsJsonObject();
-        HashMap<String, String> options = new HashMap<>();
-        options.put("A", optionsObj.get("A").getAsString());
-        options.put("B", optionsObj.get("B").getAsString());
-        options.put("C", optionsObj.get("C").getAsString());
-        options.put("D", optionsObj.get("D").getAsString());
+        reader.beginObject();
+        while (reader.hasNext()){
+            String name = reader.nextName();
+            switch (name){
+                case "Category":
+                    category = nextScalar(reader);
+                    break;
+                case "Value":
+                    value = nextScalar(reader);
+                    break;
+                case "Question":
+                    content = nextScalar(reader);
+                    break;
+                case "CorrectAnswer":
+                    answer = nextScalar(reader);
+                    break;
+                case "Options":
+                    if (reader.peek() == JsonToken.BEGIN_OBJECT)
+                        options = parseOptions(reader);
+                    else
+                        reader.skipValue();
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
 
-        String answer = jsonObject.get("CorrectAnswer").getAsString();
-        return new Question(category, value, content, options, answer);
+        if (category == null) error = "Category";
+        else if (value == null) error = "Value";
+        else if (content == null) error = "Question";
+        else if (options == null) error = "Options";
+        else if (answer == null) error = "CorrectAnswer";
+        if (error != null)
+            throw new IllegalStateException("Missing or invalid field " + error);
+        return new Question(share(category), Integer.parseInt(value.trim()), content, options, answer);
     }
-}
 
+    /**
+     * Parses an Options object.
+     *
+     * @param reader reader positioned at the start of the object
+     * @return option texts A to D, or null if any of them is missing
+     * @throws IOException if the JSON is malformed
+     */
+    private String[] parseOptions(JsonReader reader) throws IOException {
+        String[] options = new String[4];
+        reader.beginObject();
+        while (reader.hasNext()){
+            String key = reader.nextName();
+            int ordinal = key.length() == 1 ? key.charAt(0) - 'A' : -1;
+            if (ordinal >= 0 && ordinal < options.length)
+                options[ordinal] = share(nextScalar(reader));
+            else
+                reader.skipValue();
+        }
+        reader.endObject();
+        for (String option : options)
+            if (option == null)
+                return null;
+        return options;
+    }
+
+    /**
+     * Reads a string, number or boolean value as text.
+     *
+     * @param reader reader positioned at a value
+     * @return the value's text, or null if it is null, an array or an object (which is skipped)
+     * @throws IOException if the JSON is malformed
+     */
+    private static String nextScalar(JsonReader reader) throws IOException {
+        switch (reader.peek()){
+            case STRING:
+            case NUMBER:
+                return reader.nextString();
+            case BOOLEAN:
+                return String.valueOf(reader.nextBoolean());
+            default:
+                reader.skipValue();
+                return null;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.jeopardyProject.Game.Template;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.UnaryOperator;
+
+import com.jeopardyProject.Game.Question;
+import com.jeopardyProject.Game.QuestionList;
+import com.jeopardyProject.Game.QuestionSource;
+
+/**
+ * Two-phase CSV parser that reads question text only when it is shown.
+ * <p>
+ * Phase one maps the file and runs {@link CsvFileReader}'s
+ * {@link MappedCsvParser} over it, decoding only the category and value of
+ * each valid row. Each question is created with a {@link QuestionSource}
+ * holding the byte offset of its row, so the loaded list keeps a category
+ * reference, a value, an offset and a length per question. Phase two runs
+ * when a question's content, options or answer is first read (typically by
+ * {@code GameView.displayQuestion}): the row's bytes are read back with one
+ * positional read on a shared channel and parsed in full by the same
+ * parser, so both phases split and decode fields alike.
+ * </p>
+ * <p>
+ * Expects the same 8-column format as {@link CsvFileReader}, encoded in
+ * UTF-8. Rows with too few columns or a bad value are skipped in phase one
+ * as they are there; the file must not change while questions are in use.
+ * A row that can no longer be read is logged and shown as
+ * {@value #UNREADABLE_QUESTION}, with no options or right answer, rather
+ * than interrupting the turn. A near-duplicate filter would read every
+ * question's text, defeating the point, so none should be set on this
+ * reader.
+ * </p>
+ *
+ * @see CsvFileReader
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public class LazyCsvFileReader extends FileReaderTemplate {
+    /** Text shown for a question whose row can no longer be read. */
+    public static final String UNREADABLE_QUESTION = "This question could not be read from the question file.";
+
+    /**
+     * Constructs a LazyCsvFileReader for the specified file.
+     *
+     * @param filepath absolute path to the CSV file
+     */
+    public LazyCsvFileReader(String filepath){
+        super(filepath);
+    }
+
+    /**
+     * Scans the file and creates a lazily loaded question for each valid row.
+     * <p>
+     * Skips the header row. Invalid rows are logged and skipped, allowing
+     * scanning to continue.
+     * </p>
+     *
+     * @return QuestionList whose questions load their text on first use
+     * @throws FileNotFoundException if the CSV file cannot be read
+     */
+    @Override
+    protected QuestionList parseQuestions() throws FileNotFoundException {
+        QuestionList questions = new QuestionList();
+        RowSource rows = new RowSource(Paths.get(this.filepath));
+        try (FileChannel channel = FileChannel.open(rows.path, StandardOpenOption.READ)){
+            CsvFileReader.parseRange(channel, new MappedCsvParser(this::share, rows), 0, channel.size(), true, questions);
+        } catch (NoSuchFileException | AccessDeniedException e){
+            throw new FileNotFoundException("File not found: " + this.filepath);
+        } catch (IOException e){
+            System.err.println("Error reading CSV file: " + e.getMessage());
+        }
+        rows.trim();
+        return questions;
+    }
+
+    /**
+     * Phase two: reads rows back from their byte offsets.
+     */
+    private static final class RowSource implements QuestionSource, MappedCsvParser.LazyRows {
+        /** The CSV file. */
+        private final Path path;
+
+        /** Open channel on the file for positional reads, or null before the first load. */
+        private volatile FileChannel channel;
+
+        /** Byte offset of each kept row, by source index. */
+        private long[] offsets = new long[1024];
+
+        /** Length in bytes of each kept row. */
+        private int[] lengths = new int[1024];
+
+        /** Number of rows kept. */
+        private int size;
+
+        /**
+         * Creates an empty source.
+         *
+         * @param path the CSV file
+         */
+        RowSource(Path path){
+            this.path = path;
+        }
+
+        @Override
+        public Question question(String category, int value, long offset, int length){
+            if (this.size == this.offsets.length){
+                this.offsets = Arrays.copyOf(this.offsets, this.size * 2);
+                this.lengths = Arrays.copyOf(this.lengths, this.size * 2);
+            }
+            this.offsets[this.size] = offset;
+            this.lengths[this.size] = length;
+            return new Question(category, value, this, this.size++);
+        }
+
+        /** Drops the unused tail of the arrays once scanning is done. */
+        void trim(){
+            this.offsets = Arrays.copyOf(this.offsets, this.size);
+            this.lengths = Arrays.copyOf(this.lengths, this.size);
+        }
+
+        /**
+         * Gets the shared channel, opening it on first use.
+         * <p>
+         * Positional reads do not move the channel's position, so threads
+         * can share it; it is closed when the source is garbage.
+         * </p>
+         *
+         * @return the channel
+         * @throws IOException if the file cannot be opened
+         */
+        private FileChannel channel() throws IOException {
+            FileChannel open = this.channel;
+            if (open == null){
+                synchronized (this){
+                    open = this.channel;
+                    if (open == null)
+                        this.channel = open = FileChannel.open(this.path, StandardOpenOption.READ);
+                }
+            }
+            return open;
+        }
+
+        /**
+         * Reads and parses one row.
+         * <p>
+         * If the row cannot be read, or no longer holds a valid question,
+         * the error is logged and a stand-in question is returned.
+         * </p>
+         *
+         * @param index the row's source index
+         * @return the question in that row, or one showing {@link LazyCsvFileReader#UNREADABLE_QUESTION}
+         */
+        @Override
+        public Question load(int index){
+            ByteBuffer row = ByteBuffer.allocate(this.lengths[index]);
+            QuestionList parsed = new QuestionList();
+            try{
+                FileChannel file = channel();
+                while (row.hasRemaining())
+                    if (file.read(row, this.offsets[index] + row.position()) < 0)
+                        throw new IOException("Question file changed since it was loaded");
+                new MappedCsvParser(UnaryOperator.identity()).parse(row, this.offsets[index], 0, row.limit(), true, false, parsed);
+                if (parsed.size() != 1)
+                    throw new IOException("Question file changed since it was loaded");
+                return parsed.get(0);
+            } catch (IOException e){
+                System.err.println("Error reading question from " + this.path + ": " + e.getMessage());
+                return new Question("", 0, UNREADABLE_QUESTION, new String[0], null);
+            }
+        }
+    }
+}
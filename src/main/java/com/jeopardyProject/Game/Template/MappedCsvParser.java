@@ -0,0 +1,454 @@
+package com.jeopardyProject.Game.Template;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.UnaryOperator;
+
+import com.jeopardyProject.Game.Question;
+import com.jeopardyProject.Game.QuestionList;
+
+/**
+ * CSV parser for the 8-column question schema that works directly on the
+ * bytes of a (memory-mapped) buffer.
+ * <p>
+ * A row is scanned once to find its field boundaries, which are kept as
+ * offsets into the buffer in two reused arrays; no line, field or row array
+ * is created. The row is then validated on those offsets (enough columns,
+ * an integer value, parsed straight from its digits) before any field is
+ * decoded, so rejected rows cost no strings at all. Surviving fields are
+ * decoded from UTF-8 through one reused scratch array: the category only
+ * when it differs from the previous row's, and single-letter answers not at
+ * all. Given {@link LazyRows}, a parser decodes only the category of each
+ * valid row and leaves the rest of the row to be parsed when it is needed.
+ * </p>
+ * <p>
+ * Quoting follows OpenCSV 4.1's defaults exactly, so both parsers read
+ * every file alike:
+ * </p>
+ * <ul>
+ *   <li>Lines end at LF, CR or CRLF. A line break inside quotes belongs to
+ *       the field as an LF; elsewhere it ends the row. A quoted field still
+ *       open at the end of the file loses its row and ends the parse.</li>
+ *   <li>A double quote toggles quoting. Once a field has started (or inside
+ *       quotes), a doubled quote is one literal quote and a backslash
+ *       escapes a following quote or backslash; any other backslash is
+ *       dropped.</li>
+ *   <li>A quote that toggles quoting is also kept as text when it is past
+ *       the line's third character and has neither a comma nor the line's
+ *       end beside it; if the field holds only whitespace so far, that
+ *       whitespace is dropped instead.</li>
+ * </ul>
+ * <p>
+ * Not thread-safe; use one parser per thread.
+ * </p>
+ *
+ * @see CsvFileReader
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+final class MappedCsvParser {
+    /** Columns of the question schema. */
+    static final int COLUMNS = 8;
+
+    /** Column positions. */
+    private static final int CATEGORY = 0, VALUE = 1, CONTENT = 2, OPTION_A = 3, ANSWER = 7;
+
+    /** {@link #scanRow} results for a row that may run past the range, or that the file ends inside quotes. */
+    private static final int INCOMPLETE = -1, UNTERMINATED = -2;
+
+    /** Single-letter answers by letter, so they are never decoded. */
+    private static final String[] LETTERS = new String[26];
+
+    static {
+        for (int i = 0; i < LETTERS.length; i++)
+            LETTERS[i] = String.valueOf((char) ('A' + i));
+    }
+
+    /** Returns a bank-wide instance of a category or option text. */
+    private final UnaryOperator<String> share;
+
+    /** Receives valid rows in place of decoded questions, or null. */
+    private final LazyRows rows;
+
+    /** Offset of each column's first byte in the current row. */
+    private final int[] starts = new int[COLUMNS];
+
+    /** Offset just past each column's last byte in the current row. */
+    private final int[] ends = new int[COLUMNS];
+
+    /** Offset of the line each column starts on, which the mid-field quote rule counts from. */
+    private final int[] lineStarts = new int[COLUMNS];
+
+    /** Bit {@code i} set if column {@code i} holds quotes, backslashes or line breaks and must be unquoted. */
+    private int quotedColumns;
+
+    /** Number of fields in the current row. */
+    private int fields;
+
+    /** Offset just past the last byte of the range being parsed. */
+    private int limit;
+
+    /** Reused decoding buffer. */
+    private byte[] scratch = new byte[256];
+
+    /** Buffer holding the previous row, whose category is cached. */
+    private ByteBuffer lastBuffer;
+
+    /** Offset and length of the previous row's category bytes. */
+    private int lastCategoryStart, lastCategoryLength;
+
+    /** The previous row's category, or null. */
+    private String lastCategory;
+
+    /**
+     * Stands in for valid rows whose text is read later, for
+     * {@link LazyCsvFileReader}.
+     */
+    interface LazyRows {
+        /**
+         * Records a valid row.
+         *
+         * @param category the row's category
+         * @param value the row's value
+         * @param offset file offset of the row's first byte
+         * @param length length of the row in bytes, including its line break
+         * @return the question standing for the row
+         */
+        Question question(String category, int value, long offset, int length);
+    }
+
+    /**
+     * Creates a parser.
+     *
+     * @param share returns the shared instance of a category or option text
+     */
+    MappedCsvParser(UnaryOperator<String> share){
+        this(share, null);
+    }
+
+    /**
+     * Creates a parser that passes valid rows to a {@link LazyRows} instead of decoding them.
+     *
+     * @param share returns the shared instance of a category text
+     * @param rows receives the valid rows, or null to decode them in full
+     */
+    MappedCsvParser(UnaryOperator<String> share, LazyRows rows){
+        this.share = share;
+        this.rows = rows;
+    }
+
+    /**
+     * Parses the rows in a range of a buffer.
+     * <p>
+     * If the range does not end the file, a last row without its line break
+     * may be cut short and is left for the caller to parse again with the
+     * following bytes. If it does, a last row left inside quotes is logged
+     * and dropped, as OpenCSV drops it.
+     * </p>
+     *
+     * @param buffer the bytes; only absolute reads are used, so its position is ignored
+     * @param base file offset of the buffer's first byte
+     * @param from offset of the first row
+     * @param to offset just past the last byte to read
+     * @param endOfFile true if {@code to} is the end of the file, so a last row without a line break is complete
+     * @param skipFirst true to discard the first row (the header)
+     * @param questions list receiving the questions, in file order
+     * @return offset just past the last row parsed
+     */
+    int parse(ByteBuffer buffer, long base, int from, int to, boolean endOfFile, boolean skipFirst, QuestionList questions){
+        this.limit = to;
+        int position = from;
+        while (position < to){
+            int next = scanRow(buffer, position, to, endOfFile);
+            if (next == INCOMPLETE)
+                return position;
+            if (next == UNTERMINATED){
+                System.err.println("Error reading CSV file: Unterminated quoted field at end of CSV line");
+                return to;
+            }
+            if (skipFirst)
+                skipFirst = false;
+            else
+                emit(buffer, base + position, next - position, questions);
+            position = next;
+        }
+        return position;
+    }
+
+    /**
+     * Finds the field boundaries of one row.
+     *
+     * @param buffer the bytes
+     * @param position offset of the row's first byte
+     * @param to offset just past the last byte that may be read
+     * @param endOfFile true if {@code to} is the end of the file
+     * @return offset just past the row's line break; {@link #INCOMPLETE} if the row may run past
+     *         {@code to}; {@link #UNTERMINATED} if the file ends inside quotes
+     */
+    private int scanRow(ByteBuffer buffer, int position, int to, boolean endOfFile){
+        int field = 0;
+        int fieldStart = position;
+        int lineStart = position;
+        int fieldLineStart = position;
+        boolean inQuotes = false;
+        boolean inField = false;
+        boolean quoted = false;
+        this.quotedColumns = 0;
+        while (position < to){
+            byte b = buffer.get(position);
+            if (b == '"'){
+                quoted = true;
+                if ((inQuotes || inField) && position + 1 < to && buffer.get(position + 1) == '"')
+                    position++;
+                else
+                    inQuotes = !inQuotes;
+                inField = !inField;
+            } else if (b == '\\'){
+                quoted = true;
+                if ((inQuotes || inField) && position + 1 < to && isEscapable(buffer.get(position + 1)))
+                    position++;
+            } else if (b == '\n' || b == '\r'){
+                int next = position + 1;
+                if (b == '\r'){
+                    if (next == to && !endOfFile)
+                        return INCOMPLETE;
+                    if (next < to && buffer.get(next) == '\n')
+                        next++;
+                }
+                if (!inQuotes){
+                    endField(field++, fieldStart, fieldLineStart, position, quoted);
+                    this.fields = field;
+                    return next;
+                }
+                quoted = true;
+                lineStart = next;
+                position = next;
+                continue;
+            } else if (b == ',' && !inQuotes){
+                endField(field++, fieldStart, fieldLineStart, position, quoted);
+                fieldStart = position + 1;
+                fieldLineStart = lineStart;
+                quoted = false;
+                inField = false;
+            } else {
+                inField = true;
+            }
+            position++;
+        }
+        if (!endOfFile)
+            return INCOMPLETE;
+        if (inQuotes)
+            return UNTERMINATED;
+        endField(field++, fieldStart, fieldLineStart, to, quoted);
+        this.fields = field;
+        return to;
+    }
+
+    /** @return true for the characters a backslash escapes */
+    private static boolean isEscapable(byte b){
+        return b == '"' || b == '\\';
+    }
+
+    /**
+     * Records a field's boundaries, if it is one of the schema's columns.
+     *
+     * @param field the field's position in the row
+     * @param start offset of its first byte
+     * @param lineStart offset of the line it starts on
+     * @param end offset just past its last byte
+     * @param quoted true if it holds quotes, backslashes or line breaks
+     */
+    private void endField(int field, int start, int lineStart, int end, boolean quoted){
+        if (field >= COLUMNS)
+            return;
+        this.starts[field] = start;
+        this.lineStarts[field] = lineStart;
+        this.ends[field] = end;
+        if (quoted)
+            this.quotedColumns |= 1 << field;
+    }
+
+    /**
+     * Validates the scanned row and, if it is valid, decodes it into a question.
+     *
+     * @param buffer the bytes
+     * @param offset file offset of the row
+     * @param length length of the row in bytes
+     * @param questions list receiving the question
+     */
+    private void emit(ByteBuffer buffer, long offset, int length, QuestionList questions){
+        if (this.fields < COLUMNS){
+            System.err.println("Skipping invalid CSV row with insufficient columns");
+            return;
+        }
+        int value;
+        try{
+            value = parseValue(buffer);
+        } catch (NumberFormatException e){
+            System.err.println("Invalid number format in CSV: " + e.getMessage());
+            return;
+        }
+        if (this.rows != null){
+            questions.addQuestion(this.rows.question(category(buffer), value, offset, length));
+            return;
+        }
+        String[] options = new String[4];
+        for (int i = 0; i < options.length; i++)
+            options[i] = this.share.apply(decode(buffer, OPTION_A + i));
+        questions.addQuestion(new Question(category(buffer), value, decode(buffer, CONTENT), options, answer(buffer)));
+    }
+
+    /**
+     * Parses the value column from its digits, without decoding it.
+     *
+     * @param buffer the bytes
+     * @return the value
+     * @throws NumberFormatException if it is not an integer
+     */
+    private int parseValue(ByteBuffer buffer){
+        int start = this.starts[VALUE];
+        int end = this.ends[VALUE];
+        if ((this.quotedColumns & (1 << VALUE)) == 0 && end > start && end - start <= 9){
+            int value = 0;
+            int i = start;
+            for (; i < end; i++){
+                int digit = buffer.get(i) - '0';
+                if (digit < 0 || digit > 9)
+                    break;
+                value = value * 10 + digit;
+            }
+            if (i == end)
+                return value;
+        }
+        return Integer.parseInt(decode(buffer, VALUE));     // signs, quotes, long values and errors
+    }
+
+    /**
+     * Gets the category, reusing the previous row's if the bytes match.
+     *
+     * @param buffer the bytes
+     * @return the shared category name
+     */
+    private String category(ByteBuffer buffer){
+        int start = this.starts[CATEGORY];
+        int length = this.ends[CATEGORY] - start;
+        if (buffer == this.lastBuffer && length == this.lastCategoryLength && this.lastCategory != null
+                && (this.quotedColumns & (1 << CATEGORY)) == 0){
+            int i = 0;
+            while (i < length && buffer.get(start + i) == buffer.get(this.lastCategoryStart + i))
+                i++;
+            if (i == length){
+                this.lastCategoryStart = start;
+                return this.lastCategory;
+            }
+        }
+        String category = this.share.apply(decode(buffer, CATEGORY));
+        boolean plain = (this.quotedColumns & (1 << CATEGORY)) == 0;
+        this.lastBuffer = buffer;
+        this.lastCategoryStart = start;
+        this.lastCategoryLength = length;
+        this.lastCategory = plain ? category : null;
+        return category;
+    }
+
+    /**
+     * Gets the answer key, without decoding it if it is a single letter.
+     *
+     * @param buffer the bytes
+     * @return the answer
+     */
+    private String answer(ByteBuffer buffer){
+        int start = this.starts[ANSWER];
+        if (this.ends[ANSWER] - start == 1 && (this.quotedColumns & (1 << ANSWER)) == 0){
+            int letter = buffer.get(start) - 'A';
+            if (letter >= 0 && letter < LETTERS.length)
+                return LETTERS[letter];
+        }
+        return decode(buffer, ANSWER);
+    }
+
+    /**
+     * Decodes a column from UTF-8, replaying the row scan's quoting rules.
+     *
+     * @param buffer the bytes
+     * @param column the column
+     * @return its text
+     */
+    private String decode(ByteBuffer buffer, int column){
+        int start = this.starts[column];
+        int end = this.ends[column];
+        if (end - start > this.scratch.length)
+            this.scratch = Arrays.copyOf(this.scratch, Math.max(end - start, this.scratch.length * 2));
+        byte[] out = this.scratch;
+        if ((this.quotedColumns & (1 << column)) == 0){
+            buffer.get(start, out, 0, end - start);
+            return new String(out, 0, end - start, StandardCharsets.UTF_8);
+        }
+        int length = 0;
+        int lineStart = this.lineStarts[column];
+        boolean inQuotes = false;
+        boolean inField = false;
+        for (int i = start; i < end; i++){
+            byte b = buffer.get(i);
+            if (b == '"'){
+                if ((inQuotes || inField) && i + 1 < end && buffer.get(i + 1) == '"'){
+                    out[length++] = b;
+                    i++;
+                } else {
+                    inQuotes = !inQuotes;
+                    if (isMidField(buffer, lineStart, i)){
+                        if (length > 0 && isWhitespace(out, length))
+                            length = 0;
+                        else
+                            out[length++] = b;
+                    }
+                }
+                inField = !inField;
+            } else if (b == '\\'){
+                if ((inQuotes || inField) && i + 1 < end && isEscapable(buffer.get(i + 1)))
+                    out[length++] = buffer.get(++i);
+            } else if (b == '\n' || b == '\r'){
+                out[length++] = '\n';
+                if (b == '\r' && i + 1 < end && buffer.get(i + 1) == '\n')
+                    i++;
+                lineStart = i + 1;
+            } else {
+                out[length++] = b;
+                inField = true;
+            }
+        }
+        return new String(out, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Tells whether a quote is one OpenCSV also keeps as text: at least three
+     * characters into its line, with no comma before it and neither a comma
+     * nor the line's end after it.
+     *
+     * @param buffer the bytes
+     * @param lineStart offset of the quote's line
+     * @param quote offset of the quote
+     * @return true if the quote is kept
+     */
+    private boolean isMidField(ByteBuffer buffer, int lineStart, int quote){
+        if (quote + 1 >= this.limit || quote - lineStart < 3)
+            return false;
+        byte before = buffer.get(quote - 1);
+        byte after = buffer.get(quote + 1);
+        if (before == ',' || after == ',' || after == '\n' || after == '\r')
+            return false;
+        int chars = 0;                  // UTF-16 chars before the quote, as OpenCSV counts them
+        for (int i = lineStart; i < quote && chars < 3; i++){
+            int lead = buffer.get(i) & 0xFF;
+            if ((lead & 0xC0) != 0x80)
+                chars += (lead & 0xF8) == 0xF0 ? 2 : 1;
+        }
+        return chars >= 3;
+    }
+
+    /** @return true if the first {@code length} decoded bytes are all whitespace */
+    private static boolean isWhitespace(byte[] out, int length){
+        return new String(out, 0, length, StandardCharsets.UTF_8).chars().allMatch(Character::isWhitespace);
+    }
+}
@@ -0,0 +1,468 @@
+package com.jeopardyProject.Game.Template;
+
+import java.io.FileNotFoundException;
+import java.io.PrintWriter;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.jeopardyProject.Game.GameConfig;
+import com.jeopardyProject.Game.Question;
+import com.jeopardyProject.Game.QuestionList;
+
+/**
+ * Load stage that finds reworded duplicate questions with MinHash and LSH.
+ * <p>
+ * Each question's text is reduced to a set of lower-case words (runs of
+ * letters, digits, {@code +} and {@code #}, so "C" and "C++" differ), and
+ * the set to a MinHash signature of {@value #HASHES} minimums, one
+ * per hash function. The fraction of equal minimums between two signatures
+ * estimates the Jaccard similarity of the word sets. Only the low byte of
+ * each minimum is kept, so a signature costs {@value #HASHES} bytes.
+ * </p>
+ * <p>
+ * Options are left out of the word sets: banks reuse option sets such as
+ * "True" and "False" across unrelated questions, and those shared words
+ * would outweigh short question texts. Instead only questions whose correct
+ * answers have the same text, ignoring case and punctuation, are compared,
+ * so "Is Java compiled?" and "Is Python compiled?" stay apart, and so do
+ * "Which loop always runs at least once?" and "Which loop never runs at
+ * least once?", whose answers differ.
+ * </p>
+ * <p>
+ * Comparing every pair is out of the question for large banks, so signatures
+ * are cut into {@value #BANDS} bands of {@value #ROWS} rows (locality
+ * sensitive hashing). Questions with the same answer whose signatures agree
+ * on a whole band land in the same bucket, which is found by sorting the
+ * band's keys (mixed with a hash of the answer), and only
+ * questions sharing a bucket are compared. Each question is compared with at
+ * most the {@value #MAX_PROBES} questions before it in each bucket, so the
+ * work grows with the bank's size rather than its square; buckets crowded by
+ * common words are thus cheap, and true duplicates, which agree on most
+ * bands, still meet in a small one. Questions estimated to be at
+ * least as similar as the threshold are joined into clusters.
+ * </p>
+ * <p>
+ * In {@link Mode#FLAG} mode, the default, the questions are passed through
+ * unchanged; in {@link Mode#DROP} mode only the first question of each
+ * cluster is kept, which may leave board cells empty.
+ * Either way the clusters are available from {@link #getClusters()} and
+ * {@link #report(PrintWriter)} after the stage has run.
+ * </p>
+ * <p>
+ * Usage:
+ * <pre>
+ * mvn exec:java -Dexec.mainClass="com.jeopardyProject.Game.Template.NearDuplicateFilter" \
+ *     -Dexec.args="src/resources/sample.csv 0.6"
+ * </pre>
+ *
+ * @see FileReaderTemplate#setDuplicateFilter(NearDuplicateFilter)
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public class NearDuplicateFilter {
+    /**
+     * What to do with near-duplicates once found.
+     */
+    public enum Mode {
+        /** Keep every question and only report the clusters. */
+        FLAG,
+        /** Keep only the first question of each cluster. */
+        DROP
+    }
+
+    /** Default minimum estimated Jaccard similarity of two duplicates' word sets. */
+    public static final double DEFAULT_THRESHOLD = 0.6;
+
+    /** Number of MinHash functions. */
+    private static final int HASHES = 120;
+
+    /** Number of LSH bands. */
+    private static final int BANDS = 30;
+
+    /** Signature rows per band. */
+    private static final int ROWS = HASHES / BANDS;
+
+    /** Most earlier questions in a bucket each question is compared with. */
+    private static final int MAX_PROBES = 2;
+
+    /** Reads eight signature bytes at once. */
+    private static final VarHandle SIGNATURE_WORDS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    /** Odd multipliers of the hash functions, from a fixed seed so signatures are repeatable. */
+    private static final long[] MULTIPLIERS = new long[HASHES];
+
+    /** Addends of the hash functions. */
+    private static final long[] ADDENDS = new long[HASHES];
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x5EEDL);
+        for (int h = 0; h < HASHES; h++){
+            MULTIPLIERS[h] = random.nextLong() | 1;
+            ADDENDS[h] = random.nextLong();
+        }
+    }
+
+    /** Minimum estimated similarity for two questions to be duplicates. */
+    private final double threshold;
+
+    /** Whether duplicates are dropped or only reported. */
+    private final Mode mode;
+
+    /** Clusters found by the last run, each in load order. */
+    private List<List<Question>> clusters = new ArrayList<>();
+
+    /** Load positions of the questions in {@code clusters}. */
+    private List<int[]> clusterPositions = new ArrayList<>();
+
+    /**
+     * Constructs a filter that only flags duplicates, with the
+     * {@linkplain #DEFAULT_THRESHOLD default threshold}.
+     */
+    public NearDuplicateFilter(){
+        this(DEFAULT_THRESHOLD, Mode.FLAG);
+    }
+
+    /**
+     * Constructs a filter with the {@linkplain #DEFAULT_THRESHOLD default threshold}.
+     *
+     * @param mode whether to drop or only flag duplicates
+     */
+    public NearDuplicateFilter(Mode mode){
+        this(DEFAULT_THRESHOLD, mode);
+    }
+
+    /**
+     * Constructs a filter.
+     *
+     * @param threshold minimum estimated Jaccard similarity, between 0 and 1
+     * @param mode whether to drop or only flag duplicates
+     * @throws IllegalArgumentException if the threshold is out of range
+     */
+    public NearDuplicateFilter(double threshold, Mode mode){
+        if (!(threshold > 0 && threshold <= 1))
+            throw new IllegalArgumentException("Threshold must be in (0, 1]: " + threshold);
+        this.threshold = threshold;
+        this.mode = mode;
+    }
+
+    /**
+     * Finds near-duplicate clusters in loaded questions.
+     *
+     * @param questions the questions in load order
+     * @return {@code questions} itself in FLAG mode, or a new list without
+     *         the later members of each cluster in DROP mode
+     */
+    public QuestionList apply(QuestionList questions){
+        ArrayList<Question> all = questions.getQuestionArray();
+        int n = all.size();
+        byte[] signatures = new byte[n * HASHES];
+        boolean[] signed = new boolean[n];
+        String[] answers = new String[n];
+        int[] minimums = new int[HASHES];
+        for (int i = 0; i < n; i++)
+            if (all.get(i) != null && sign(all.get(i), minimums)){
+                signed[i] = true;
+                answers[i] = answerText(all.get(i));
+                for (int h = 0; h < HASHES; h++)
+                    signatures[i * HASHES + h] = (byte) minimums[h];
+            }
+
+        int[] parent = new int[n];
+        for (int i = 0; i < n; i++)
+            parent[i] = i;
+        long[] keys = new long[n];
+        for (int band = 0; band < BANDS; band++){
+            int count = 0;
+            for (int i = 0; i < n; i++){
+                if (!signed[i])
+                    continue;
+                int key = 0;
+                for (int row = 0; row < ROWS; row++)
+                    key = key << 8 | (signatures[i * HASHES + band * ROWS + row] & 0xFF);
+                key ^= answers[i].hashCode() * 0x9E3779B9;
+                keys[count++] = (long) key << 32 | i;
+            }
+            Arrays.sort(keys, 0, count);
+            int start = 0;
+            for (int k = 1; k <= count; k++){
+                if (k < count && keys[k] >>> 32 == keys[start] >>> 32)
+                    continue;
+                joinBucket(keys, start, k, signatures, answers, parent);
+                start = k;
+            }
+        }
+        collectClusters(all, parent);
+
+        if (this.mode == Mode.FLAG)
+            return questions;
+        QuestionList kept = new QuestionList();
+        for (int i = 0; i < n; i++)
+            if (find(parent, i) == i)
+                kept.addQuestion(all.get(i));
+        return kept;
+    }
+
+    /**
+     * Compares the questions of one LSH bucket and joins the similar ones.
+     *
+     * @param keys sorted (band key, position) pairs
+     * @param from first entry of the bucket
+     * @param to end of the bucket
+     * @param signatures every question's signature
+     * @param answers every signed question's normalized answer text
+     * @param parent union-find forest over positions
+     */
+    private void joinBucket(long[] keys, int from, int to, byte[] signatures, String[] answers, int[] parent){
+        int minEqual = (int) Math.ceil((this.threshold * (1 - 1.0 / 256) + 1.0 / 256) * HASHES);
+        for (int k = from + 1; k < to; k++){
+            int question = (int) keys[k];
+            for (int p = k - 1; p >= Math.max(from, k - MAX_PROBES); p--){
+                int earlier = (int) keys[p];
+                if (find(parent, earlier) != find(parent, question)
+                        && answers[earlier].equals(answers[question])
+                        && similar(signatures, earlier, question, minEqual))
+                    union(parent, earlier, question);
+            }
+        }
+    }
+
+    /**
+     * Computes a question's MinHash signature over the words of its text.
+     *
+     * @param question the question
+     * @param minimums receives the minimum of each hash function
+     * @return false if the question has no words
+     */
+    private static boolean sign(Question question, int[] minimums){
+        Arrays.fill(minimums, Integer.MAX_VALUE);
+        return hashWords(question.getContent(), minimums);
+    }
+
+    /**
+     * Gets the text of a question's correct answer in comparable form.
+     *
+     * @param question the question
+     * @return the answer option's words in lower case, separated by single
+     *         spaces; the answer key itself if it names no option; or an
+     *         empty string if there is no answer
+     */
+    private static String answerText(Question question){
+        String key = question.getRightAnswer();
+        if (key == null)
+            return "";
+        String text = question.getValueGivenKey(key);
+        if (text == null)
+            text = key;
+        StringBuilder words = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++){
+            char c = text.charAt(i);
+            if (isWordChar(c))
+                words.append(Character.toLowerCase(c));
+            else if (words.length() > 0 && words.charAt(words.length() - 1) != ' ')
+                words.append(' ');
+        }
+        int end = words.length();
+        if (end > 0 && words.charAt(end - 1) == ' ')
+            words.setLength(end - 1);
+        return words.toString();
+    }
+
+    /** @return true for the characters words are made of */
+    private static boolean isWordChar(char c){
+        return Character.isLetterOrDigit(c) || c == '+' || c == '#';
+    }
+
+    /**
+     * Folds the lower-case words of a text into a signature.
+     *
+     * @param text the text, or null
+     * @param minimums the signature so far
+     * @return true if the text has any words
+     */
+    private static boolean hashWords(String text, int[] minimums){
+        if (text == null)
+            return false;
+        boolean any = false;
+        int hash = 0;
+        boolean inWord = false;
+        for (int i = 0; i <= text.length(); i++){
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            if (isWordChar(c)){
+                hash = 31 * hash + Character.toLowerCase(c);
+                inWord = true;
+            } else if (inWord){
+                long word = hash * 0x9E3779B97F4A7C15L;
+                for (int h = 0; h < HASHES; h++){
+                    int value = (int) ((word * MULTIPLIERS[h] + ADDENDS[h]) >>> 32);
+                    if (value < minimums[h])
+                        minimums[h] = value;
+                }
+                any = true;
+                hash = 0;
+                inWord = false;
+            }
+        }
+        return any;
+    }
+
+    /**
+     * Checks whether two signatures agree on enough minimums.
+     * <p>
+     * The caller folds the threshold and the 1 in 256 chance that two
+     * different minimums share a low byte into {@code minEqual}. Compares
+     * eight minimums per step and stops as soon as too many differ.
+     * </p>
+     *
+     * @param signatures every question's signature
+     * @param a a position
+     * @param b another position
+     * @param minEqual number of equal minimums needed
+     * @return true if the estimated similarity reaches the threshold
+     */
+    private static boolean similar(byte[] signatures, int a, int b, int minEqual){
+        int allowed = HASHES - minEqual;
+        for (int h = 0; h < HASHES; h += 8){
+            long differ = (long) SIGNATURE_WORDS.get(signatures, a * HASHES + h)
+                        ^ (long) SIGNATURE_WORDS.get(signatures, b * HASHES + h);
+            long nonZero = ((differ & 0x7F7F7F7F7F7F7F7FL) + 0x7F7F7F7F7F7F7F7FL | differ) & 0x8080808080808080L;
+            allowed -= Long.bitCount(nonZero);      // one bit per differing byte
+            if (allowed < 0)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Finds a position's cluster root, halving the path on the way.
+     *
+     * @param parent union-find forest
+     * @param i a position
+     * @return the earliest position in its cluster
+     */
+    private static int find(int[] parent, int i){
+        while (parent[i] != i){
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    /**
+     * Joins two clusters under the earlier root, so the root is always the first question loaded.
+     *
+     * @param parent union-find forest
+     * @param a a position
+     * @param b another position
+     */
+    private static void union(int[] parent, int a, int b){
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA < rootB)
+            parent[rootB] = rootA;
+        else
+            parent[rootA] = rootB;
+    }
+
+    /**
+     * Groups the positions of every cluster with more than one question.
+     *
+     * @param all the questions in load order
+     * @param parent union-find forest
+     */
+    private void collectClusters(List<Question> all, int[] parent){
+        int n = all.size();
+        int[] size = new int[n];
+        for (int i = 0; i < n; i++)
+            size[find(parent, i)]++;
+        int[][] members = new int[n][];
+        int[] filled = new int[n];
+        this.clusters = new ArrayList<>();
+        this.clusterPositions = new ArrayList<>();
+        for (int i = 0; i < n; i++){
+            int root = find(parent, i);
+            if (size[root] < 2)
+                continue;
+            if (members[root] == null)
+                members[root] = new int[size[root]];
+            members[root][filled[root]++] = i;
+        }
+        for (int root = 0; root < n; root++){
+            if (members[root] == null)
+                continue;
+            List<Question> cluster = new ArrayList<>(members[root].length);
+            for (int position : members[root])
+                cluster.add(all.get(position));
+            this.clusters.add(cluster);
+            this.clusterPositions.add(members[root]);
+        }
+    }
+
+    /**
+     * Gets the clusters found by the last run.
+     *
+     * @return clusters in order of their first question, each in load order
+     */
+    public List<List<Question>> getClusters(){
+        return this.clusters;
+    }
+
+    /**
+     * Counts the questions that are not the first of their cluster.
+     *
+     * @return number of questions dropped, or that would be in DROP mode
+     */
+    public int getDuplicateCount(){
+        int count = 0;
+        for (List<Question> cluster : this.clusters)
+            count += cluster.size() - 1;
+        return count;
+    }
+
+    /**
+     * Writes the clusters found by the last run for authors to review.
+     * <p>
+     * Each question is listed with its position in the file, category, value
+     * and text; the first of each cluster is the one DROP mode keeps.
+     * </p>
+     *
+     * @param out the writer to report to
+     */
+    public void report(PrintWriter out){
+        out.println(this.clusters.size() + " near-duplicate clusters, " + getDuplicateCount() + " duplicates");
+        for (int c = 0; c < this.clusters.size(); c++){
+            out.println("Cluster " + (c + 1) + ":");
+            int[] positions = this.clusterPositions.get(c);
+            for (int i = 0; i < positions.length; i++){
+                Question q = this.clusters.get(c).get(i);
+                out.println("  [" + positions[i] + "] " + q.getCategory() + " " + q.getValue() + ": " + q.getContent());
+            }
+        }
+    }
+
+    /**
+     * Reports the near-duplicates in a question file.
+     *
+     * @param args {@code <questionFile> [threshold]}
+     * @throws FileNotFoundException if the question file is missing
+     */
+    public static void main(String[] args) throws FileNotFoundException {
+        if (args.length < 1){
+            System.err.println("Usage: NearDuplicateFilter <questionFile> [threshold]");
+            return;
+        }
+        double threshold = args.length > 1 ? Double.parseDouble(args[1]) : DEFAULT_THRESHOLD;
+        NearDuplicateFilter filter = new NearDuplicateFilter(threshold, Mode.FLAG);
+        FileReaderTemplate reader = GameConfig.createFileReader(args[0]);
+        reader.setDuplicateFilter(filter);
+        reader.readFile();
+
+        PrintWriter out = new PrintWriter(System.out);
+        filter.report(out);
+        out.flush();
+    }
+}
@@ -1,15 +1,14 @@
 package com.jeopardyProject.Game.Template;
 
-import java.io.File;
+import java.io.BufferedInputStream;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.util.HashMap;
+import java.io.InputStream;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import com.jeopardyProject.Game.Question;
 import com.jeopardyProject.Game.QuestionList;
@@ -17,7 +16,12 @@ import com.jeopardyProject.Game.QuestionList;
 /**
  * XML file parser implementing the Template Method pattern.
  * <p>
- * Parses question files in XML format using the Java DOM parser.
+ * Parses question files in XML format with a StAX pull parser
+ * ({@link XMLStreamReader}). The document is walked once, without building a
+ * tree: each &lt;QuestionItem&gt; is read into a handful of fields, collecting
+ * element text in one reused buffer, and becomes a Question when it closes.
+ * Loading time is linear in the file size and memory use does not depend on
+ * it beyond the questions themselves.
  * Expected XML structure:
  * <pre>
  * &lt;QuestionList&gt;
@@ -41,6 +45,7 @@ import com.jeopardyProject.Game.QuestionList;
  *   <li>Logs parsing errors for individual questions</li>
  *   <li>Continues parsing remaining questions after errors</li>
  *   <li>Throws FileNotFoundException for malformed XML documents</li>
+ *   <li>Does not resolve external entities</li>
  * </ul>
  *
  * @see FileReaderTemplate
@@ -59,9 +64,9 @@ public class XmlFileReader extends FileReaderTemplate{
     }
 
     /**
-     * Parses questions from XML format using DOM parser.
+     * Parses questions from XML format using a pull parser.
      * <p>
-     * Parses the XML document and extracts all &lt;QuestionItem&gt; elements.
+     * Streams the document and converts every &lt;QuestionItem&gt; element.
      * Invalid questions are logged and skipped, allowing parsing to continue.
      * </p>
      *
@@ -71,21 +76,24 @@ public class XmlFileReader extends FileReaderTemplate{
     @Override
     protected QuestionList parseQuestions() throws FileNotFoundException {
         QuestionList questions = new QuestionList();
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
 
-        try{
-            DocumentBuilder builder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
-            Document doc = builder.parse(new File(this.filepath));
-            doc.getDocumentElement().normalize();
-
-            NodeList questionItems = doc.getElementsByTagName("QuestionItem");
-
-            for (int i = 0; i < questionItems.getLength(); i++){
-                try{
-                    Element questionElement = (Element) questionItems.item(i);
-                    questions.addQuestion(parseQuestion(questionElement));
-                } catch (Exception e){
-                    System.err.println("Error parsing XML question: " + e.getMessage());
+        try (InputStream in = new BufferedInputStream(new FileInputStream(this.filepath), 1 << 16)){
+            XMLStreamReader reader = factory.createXMLStreamReader(in);
+            try{
+                StringBuilder text = new StringBuilder();
+                while (reader.hasNext()){
+                    if (reader.next() == XMLStreamConstants.START_ELEMENT && reader.getLocalName().equals("QuestionItem")){
+                        try{
+                            questions.addQuestion(parseQuestion(reader, text));
+                        } catch (IllegalStateException | NumberFormatException e){
+                            System.err.println("Error parsing XML question: " + e.getMessage());
+                        }
+                    }
                 }
+            } finally {
+                reader.close();
             }
         } catch (FileNotFoundException e){
             throw e;
@@ -98,28 +106,106 @@ public class XmlFileReader extends FileReaderTemplate{
     /**
      * Parses a single XML &lt;QuestionItem&gt; element into a Question object.
      * <p>
-     * Extracts elements: Category, Value, QuestionText, Options (OptionA-D), CorrectAnswer
+     * Extracts elements: Category, Value, QuestionText, Options (OptionA-D), CorrectAnswer.
+     * As with {@code getElementsByTagName}, each is found at any depth, the
+     * first occurrence wins and its text includes that of nested elements.
+     * The whole item is consumed even if it is invalid.
      * </p>
      *
-     * @param questionElement XML Element representing a &lt;QuestionItem&gt;
+     * @param reader reader positioned at the item's start tag
+     * @param text buffer reused to collect element text
      * @return Question object parsed from XML element
      * @throws NumberFormatException if Value element cannot be parsed as an integer
-     * @throws NullPointerException if required elements are missing
+     * @throws IllegalStateException if required elements are missing
+     * @throws XMLStreamException if the XML is malformed
      */
-    private Question parseQuestion(Element questionElement) throws NumberFormatException {
-        String category = questionElement.getElementsByTagName("Category").item(0).getTextContent();
-        int value = Integer.parseInt(questionElement.getElementsByTagName("Value").item(0).getTextContent());
-        String content = questionElement.getElementsByTagName("QuestionText").item(0).getTextContent();
+    private Question parseQuestion(XMLStreamReader reader, StringBuilder text) throws XMLStreamException {
+        String category = null;
+        String value = null;
+        String content = null;
+        String answer = null;
+        String[] options = new String[4];
+        int optionsDepth = -1;      // depth of the first Options element while inside it
 
-        Element optionsElement = (Element) questionElement.getElementsByTagName("Options").item(0);
-        HashMap<String, String> options = new HashMap<>();
-        options.put("A", optionsElement.getElementsByTagName("OptionA").item(0).getTextContent());
-        options.put("B", optionsElement.getElementsByTagName("OptionB").item(0).getTextContent());
-        options.put("C", optionsElement.getElementsByTagName("OptionC").item(0).getTextContent());
-        options.put("D", optionsElement.getElementsByTagName("OptionD").item(0).getTextContent());
+        int depth = 1;
+        while (depth > 0){
+            int event = reader.next();
+            if (event == XMLStreamConstants.END_ELEMENT){
+                if (--depth == optionsDepth - 1)
+                    optionsDepth = -2;      // later Options elements are ignored
+                continue;
+            }
+            if (event != XMLStreamConstants.START_ELEMENT)
+                continue;
+            depth++;
+            String name = reader.getLocalName();
+            if (name.equals("Options") && optionsDepth == -1){
+                optionsDepth = depth;
+            } else if (name.equals("Category") && category == null){
+                category = elementText(reader, text);
+                depth--;
+            } else if (name.equals("Value") && value == null){
+                value = elementText(reader, text);
+                depth--;
+            } else if (name.equals("QuestionText") && content == null){
+                content = elementText(reader, text);
+                depth--;
+            } else if (name.equals("CorrectAnswer") && answer == null){
+                answer = elementText(reader, text);
+                depth--;
+            } else if (optionsDepth > 0 && name.length() == 7 && name.startsWith("Option")){
+                int ordinal = name.charAt(6) - 'A';
+                if (ordinal >= 0 && ordinal < options.length && options[ordinal] == null){
+                    options[ordinal] = share(elementText(reader, text));
+                    depth--;
+                }
+            }
+        }
 
-        String answer = questionElement.getElementsByTagName("CorrectAnswer").item(0).getTextContent();
-        return new Question(category, value, content, options, answer);
+        if (category == null)
+            throw new IllegalStateException("Missing element Category");
+        if (value == null)
+            throw new IllegalStateException("Missing element Value");
+        if (content == null)
+            throw new IllegalStateException("Missing element QuestionText");
+        for (int i = 0; i < options.length; i++)
+            if (options[i] == null)
+                throw new IllegalStateException("Missing element Option" + (char) ('A' + i));
+        if (answer == null)
+            throw new IllegalStateException("Missing element CorrectAnswer");
+        return new Question(share(category), Integer.parseInt(value.trim()), content, options, answer);
     }
-}
 
+    /**
+     * Reads the text of the current element, including nested elements' text.
+     *
+     * @param reader reader positioned at the element's start tag; left at its end tag
+     * @param text buffer to reuse
+     * @return the element's text content
+     * @throws XMLStreamException if the XML is malformed
+     */
+    private static String elementText(XMLStreamReader reader, StringBuilder text) throws XMLStreamException {
+        text.setLength(0);
+        int depth = 1;
+        while (depth > 0){
+            switch (reader.next()){
+                case XMLStreamConstants.START_ELEMENT:
+                    depth++;
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    depth--;
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                    break;
+                case XMLStreamConstants.ENTITY_REFERENCE:
+                    text.append(reader.getText());
+                    break;
+                default:
+            }
+        }
+        return text.toString();
+    }
+}
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.HashMap;
 
+import com.jeopardyProject.Game.Command.ActionResult;
 import com.jeopardyProject.Game.Command.AnswerQuestionAction;
 import com.jeopardyProject.Game.GameController;
 import com.jeopardyProject.Game.Question;
@@ -53,6 +54,19 @@ public class AnswerQuestionActionTest {
         assertFalse(q.getIsAnswered());
     }
 
+    @Test
+    void testSecondCorrectAnswerIsAlreadyAnswered(){
+        HashMap<String,String> options = new HashMap<>();
+        options.put("A","ans");
+        Question question = new Question("Test", 100, "Q", options, "A");
+        controller.setQuestion(question);
+
+        assertTrue(action.execute("A").isSuccess());
+        ActionResult second = action.execute("A");
+        assertFalse(second.isSuccess());
+        assertEquals("Already answered.", second.getMessage());
+    }
+
     @Test
     void testAnswerMarksQuestionAsAnswered(){
         HashMap<String,String> options = new HashMap<>();
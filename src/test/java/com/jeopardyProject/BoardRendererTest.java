@@ -0,0 +1,119 @@
+package com.jeopardyProject;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Random;
+
+import com.jeopardyProject.Game.Question;
+import com.jeopardyProject.Game.QuestionList;
+
+public class BoardRendererTest {
+    private static final String NL = System.lineSeparator();
+
+    private static Question question(String category, int value){
+        return new Question(category, value, "Q", new HashMap<>(), "A");
+    }
+
+    private static String render(QuestionList board){
+        StringWriter text = new StringWriter();
+        PrintWriter out = new PrintWriter(text);
+        board.display(out);
+        out.flush();
+        return text.toString();
+    }
+
+    /** Renders a new board with the same questions and answered flags, laid out from scratch. */
+    private static String renderFresh(QuestionList board){
+        QuestionList fresh = new QuestionList();
+        for (Question q : board.getQuestionArray()){
+            Question copy = question(q.getCategory(), q.getValue());
+            copy.setIsAnswered(q.getIsAnswered());
+            fresh.addQuestion(copy);
+        }
+        fresh.createQuestionGrid();
+        return render(fresh);
+    }
+
+    @Test
+    void testFirstRenderLaysOutTable(){
+        QuestionList board = new QuestionList();
+        board.addQuestion(question("Functions", 100));
+        board.addQuestion(question("Functions", 200));
+        board.addQuestion(question("Arrays", 300));
+        board.createQuestionGrid();
+
+        String expected = "+-----------+--------+" + NL
+            + "| Functions | Arrays |\n"
+            + "+-----------+--------+" + NL
+            + "|           | 300    |\n"
+            + "| 200       |        |\n"
+            + "| 100       |        |\n"
+            + "+-----------+--------+" + NL;
+        assertEquals(expected, render(board));
+    }
+
+    @Test
+    void testAnsweredCellIsPatchedInPlace(){
+        QuestionList board = new QuestionList();
+        board.addQuestion(question("Functions", 100));
+        board.addQuestion(question("Functions", 200));
+        board.addQuestion(question("Arrays", 300));
+        board.createQuestionGrid();
+        render(board);
+
+        board.getQuestionArray().get(1).markAnswered();
+
+        String rendered = render(board);
+        assertTrue(rendered.contains("| X         |        |\n"));
+        assertEquals(renderFresh(board), rendered);
+    }
+
+    @Test
+    void testColumnShrinksWhenWidestValueAnswered(){
+        QuestionList board = new QuestionList();
+        board.addQuestion(question("Ab", 1000));
+        board.addQuestion(question("Ab", 100));
+        board.createQuestionGrid();
+        assertTrue(render(board).startsWith("+------+" + NL));
+
+        board.getQuestionArray().get(0).markAnswered();
+
+        String rendered = render(board);
+        assertTrue(rendered.startsWith("+-----+" + NL));
+        assertEquals(renderFresh(board), rendered);
+
+        board.getQuestionArray().get(0).setIsAnswered(false);
+        assertEquals(renderFresh(board), render(board));
+    }
+
+    @Test
+    void testPatchedFramesMatchFreshLayoutThroughoutGame(){
+        QuestionList board = new QuestionList();
+        for (int c = 0; c < 12; c++)
+            for (int v = 1; v <= 8; v++)
+                board.addQuestion(question("Category " + c, v * (c == 3 ? 10000 : 100)));
+        board.createQuestionGrid();
+        Random random = new Random(7);
+
+        for (int turn = 0; turn < 96; turn++){
+            board.getQuestionArray().get(random.nextInt(96)).markAnswered();
+            assertEquals(renderFresh(board), render(board));
+        }
+    }
+
+    @Test
+    void testAddedQuestionAppearsInNextRender(){
+        QuestionList board = new QuestionList();
+        board.addQuestion(question("Functions", 100));
+        board.createQuestionGrid();
+        render(board);
+
+        board.addQuestion(question("Loops", 200));
+
+        assertTrue(render(board).contains("| Functions | Loops |\n"));
+    }
+}
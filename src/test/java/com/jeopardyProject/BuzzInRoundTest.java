@@ -0,0 +1,169 @@
+package com.jeopardyProject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.jeopardyProject.Game.BuzzInRound;
+import com.jeopardyProject.Game.BuzzInRound.Outcome;
+import com.jeopardyProject.Game.GameSession;
+import com.jeopardyProject.Game.Player;
+import com.jeopardyProject.Game.PlayerList;
+import com.jeopardyProject.Game.Question;
+import com.jeopardyProject.Game.QuestionList;
+import com.jeopardyProject.Game.Logs.NullLogger;
+import com.jeopardyProject.Game.Simulation.HeadlessGameView;
+
+public class BuzzInRoundTest {
+    private static final String[] NAMES = {"Alice", "Bob", "Carol", "Dave"};
+
+    private GameSession session;
+    private PlayerList players;
+    private Question question;
+
+    @BeforeEach
+    void setUp(){
+        QuestionList questions = new QuestionList();
+        HashMap<String,String> options = new HashMap<>();
+        options.put("A","ans1");
+        options.put("B","ans2");
+        questions.addQuestion(new Question("Variables", 100, "Q1", options, "A"));
+        questions.addQuestion(new Question("Functions", 200, "Q2", options, "B"));
+        questions.createQuestionGrid();
+
+        session = new GameSession("Game_001", new NullLogger(), new HeadlessGameView());
+        session.setQuestions(questions);
+        players = new PlayerList(session, NAMES.length);
+        for (String name : NAMES)
+            players.addPlayer(name);
+        session.setPlayers(players);
+        question = questions.getQuestionArray().get(0);
+        session.setQuestion(question);
+    }
+
+    private int scoreOf(String playerId){
+        for (Player p : players.getAllPlayers()){
+            if (p.getPlayerId().equals(playerId))
+                return p.getScore();
+        }
+        throw new AssertionError("No player " + playerId);
+    }
+
+    @Test
+    void testFirstCorrectAnswerWinsAndLaterOnesAreLate(){
+        BuzzInRound round = new BuzzInRound(players, question, r -> {});
+
+        assertEquals(Outcome.WRONG, round.submit("Bob", "B"));
+        assertEquals(Outcome.WON, round.submit("Alice", "A"));
+        assertEquals(Outcome.LATE, round.submit("Carol", "a"));
+        assertEquals(Outcome.PASSED, round.submit("Dave", "PASS"));
+
+        assertEquals(100, scoreOf("Alice"));
+        assertEquals(-100, scoreOf("Bob"));
+        assertEquals(0, scoreOf("Carol"));
+        assertEquals(0, scoreOf("Dave"));
+        assertTrue(question.getIsAnswered());
+        assertEquals("Alice", round.getWinner().getPlayerId());
+    }
+
+    @Test
+    void testRepeatedAndUnknownSubmissionsRejected(){
+        BuzzInRound round = new BuzzInRound(players, question, r -> {});
+
+        assertEquals(Outcome.WRONG, round.submit("Bob", "B"));
+        assertEquals(Outcome.REJECTED, round.submit("bob", "A"));
+        assertEquals(Outcome.REJECTED, round.submit("Eve", "A"));
+        assertEquals(-100, scoreOf("Bob"));
+        assertFalse(question.getIsAnswered());
+    }
+
+    @Test
+    void testSubmissionsListedInArrivalOrder(){
+        BuzzInRound round = new BuzzInRound(players, question, r -> {});
+        round.submit("Dave", "B");
+        round.submit("Alice", "A");
+
+        List<BuzzInRound.Submission> submissions = round.getSubmissions();
+        assertEquals(2, submissions.size());
+        assertEquals("Dave", submissions.get(0).getPlayer().getPlayerId());
+        assertEquals("Alice", submissions.get(1).getPlayer().getPlayerId());
+        assertFalse(round.isComplete());
+    }
+
+    @Test
+    void testConcurrentCorrectAnswersHaveExactlyOneWinner() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(NAMES.length);
+        try{
+            for (int trial = 0; trial < 200; trial++){
+                question.setIsAnswered(false);
+                AtomicInteger completions = new AtomicInteger();
+                BuzzInRound round = new BuzzInRound(players, question, r -> completions.incrementAndGet());
+                CountDownLatch start = new CountDownLatch(1);
+
+                List<Future<Outcome>> results = new ArrayList<>();
+                for (String name : NAMES){
+                    results.add(pool.submit(() -> {
+                        start.await();
+                        return round.submit(name, "A");
+                    }));
+                }
+                start.countDown();
+
+                int won = 0;
+                int late = 0;
+                for (Future<Outcome> result : results){
+                    Outcome outcome = result.get();
+                    if (outcome == Outcome.WON) won++;
+                    if (outcome == Outcome.LATE) late++;
+                }
+                assertEquals(1, won);
+                assertEquals(NAMES.length - 1, late);
+                assertEquals(1, completions.get());
+                assertTrue(round.isComplete());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        int total = 0;
+        for (String name : NAMES)
+            total += scoreOf(name);
+        assertEquals(200 * 100, total);
+    }
+
+    @Test
+    void testSessionBuzzInModeScoresAndAdvancesTurn(){
+        session.setQuestion(null);
+        session.setBuzzInMode(true);
+        session.beginPlay();
+
+        assertTrue(session.submitInput("var"));
+        assertTrue(session.submitInput("100"));
+        assertTrue(session.submitInput("bob b"));
+        assertTrue(session.submitInput("nobody a"));
+        assertTrue(session.submitInput("carol a"));
+        assertTrue(session.submitInput("alice a"));
+        assertEquals(1, session.getTurnNum());
+        assertTrue(session.submitInput("dave pass"));
+
+        assertEquals(2, session.getTurnNum());
+        assertEquals(-100, scoreOf("Bob"));
+        assertEquals(100, scoreOf("Carol"));
+        assertEquals(0, scoreOf("Alice"));
+        assertEquals("Bob", players.getCurrentPlayer().getPlayerId());
+    }
+
+    @Test
+    void testSessionBuzzInWithoutOpenRoundRejected(){
+        assertEquals(Outcome.REJECTED, session.buzzIn("Alice", "A"));
+    }
+}
@@ -0,0 +1,97 @@
+package com.jeopardyProject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import com.jeopardyProject.Game.CategoryIndex;
+import com.jeopardyProject.Game.Question;
+import com.jeopardyProject.Game.QuestionList;
+
+public class CategoryIndexTest {
+    private CategoryIndex index;
+
+    @BeforeEach
+    void setUp(){
+        index = new CategoryIndex(List.of("Functions", "File Handling", "Java", "JavaScript", "Variables & Data Types"));
+    }
+
+    @Test
+    void testUniquePrefixResolvesInAnyCase(){
+        assertEquals("Functions", index.resolve("FU"));
+        assertEquals("File Handling", index.resolve("file"));
+        assertEquals("Variables & Data Types", index.resolve("v"));
+        assertEquals("Variables & Data Types", index.resolve("VARIABLES & DATA TYPES"));
+    }
+
+    @Test
+    void testAmbiguousPrefixIsReportedNotGuessed(){
+        assertNull(index.resolve("F"));
+        assertTrue(index.isAmbiguous("F"));
+        assertEquals(2, index.countMatches("f"));
+        assertEquals(List.of("File Handling", "Functions"), index.complete("F", 10));
+    }
+
+    @Test
+    void testFullNameWinsOverLongerCategory(){
+        assertEquals("Java", index.resolve("JAVA"));
+        assertFalse(index.isAmbiguous("JAVA"));
+        assertEquals("JavaScript", index.resolve("JAVAS"));
+        assertTrue(index.isAmbiguous("JA"));
+    }
+
+    @Test
+    void testUnknownPrefixMatchesNothing(){
+        assertNull(index.resolve("XYZ"));
+        assertFalse(index.isAmbiguous("XYZ"));
+        assertEquals(0, index.countMatches("Functionsx"));
+        assertTrue(index.complete("XYZ", 10).isEmpty());
+    }
+
+    @Test
+    void testCompleteRespectsLimit(){
+        assertEquals(5, index.size());
+        assertEquals(5, index.complete("", 10).size());
+        assertEquals(List.of("File Handling", "Functions"), index.complete("", 2));
+    }
+
+    @Test
+    void testCategoriesDifferingOnlyInCaseShareEntry(){
+        CategoryIndex folded = new CategoryIndex(List.of("Arrays", "ARRAYS", "arrays"));
+        assertEquals(1, folded.size());
+        assertEquals("Arrays", folded.resolve("arr"));
+    }
+
+    @Test
+    void testLargeBankResolvesEveryCategory(){
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 500; i++)
+            names.add("Category " + i);
+        CategoryIndex large = new CategoryIndex(names);
+
+        assertEquals(500, large.size());
+        assertEquals("Category 42", large.resolve("category 42"));
+        assertEquals("Category 499", large.resolve("CATEGORY 499"));
+        assertTrue(large.isAmbiguous("CATEGORY "));
+        assertEquals("Category 4", large.resolve("category 4"));
+        assertEquals(111, large.countMatches("Category 4"));
+    }
+
+    @Test
+    void testQuestionListRebuildsIndexAfterAdd(){
+        QuestionList questions = new QuestionList();
+        HashMap<String,String> options = new HashMap<>();
+        options.put("A","a");
+        questions.addQuestion(new Question("Functions", 100, "Q1", options, "A"));
+        questions.createQuestionGrid();
+        assertEquals("Functions", questions.getCategoryIndex().resolve("F"));
+
+        questions.addQuestion(new Question("File Handling", 100, "Q2", options, "A"));
+        assertTrue(questions.getCategoryIndex().isAmbiguous("F"));
+        assertSame(questions.getCategoryIndex(), questions.copyUnanswered().getCategoryIndex());
+    }
+}
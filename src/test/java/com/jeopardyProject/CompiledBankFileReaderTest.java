@@ -0,0 +1,75 @@
+package com.jeopardyProject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import com.jeopardyProject.Game.GameConfig;
+import com.jeopardyProject.Game.Question;
+import com.jeopardyProject.Game.QuestionList;
+import com.jeopardyProject.Game.Template.BankCompiler;
+import com.jeopardyProject.Game.Template.CompiledBankFileReader;
+import com.jeopardyProject.Game.Template.FileReaderTemplate;
+
+public class CompiledBankFileReaderTest {
+    @TempDir
+    File dir;
+
+    private void assertSameBank(QuestionList expected, QuestionList actual){
+        assertEquals(expected.size(), actual.size());
+        for (Question q : expected.getQuestionArray()){
+            Question compiled = actual.getQuestion(q.getCategory(), q.getValue());
+            assertNotNull(compiled);
+            assertEquals(q.getContent(), compiled.getContent());
+            assertEquals(q.getOptions(), compiled.getOptions());
+            assertEquals(q.getRightAnswer(), compiled.getRightAnswer());
+        }
+    }
+
+    @Test
+    void testCompilesEverySourceFormat() throws IOException {
+        for (String source : new String[] {"src/resources/sample.csv", "src/resources/sample.json", "src/resources/sample.xml"}){
+            File bank = new File(dir, "bank.jqs");
+            QuestionList parsed = BankCompiler.compile(source, bank);
+            QuestionList compiled = new CompiledBankFileReader(bank.getPath()).readFile();
+            assertEquals(25, compiled.size());
+            assertSameBank(parsed, compiled);
+        }
+    }
+
+    @Test
+    void testGameConfigReadsCompiledBanks() throws IOException {
+        File bank = new File(dir, "sample.jqs");
+        BankCompiler.compile("src/resources/sample.csv", bank);
+        FileReaderTemplate reader = GameConfig.createFileReader(bank.getPath());
+        assertInstanceOf(CompiledBankFileReader.class, reader);
+
+        QuestionList board = reader.readFile();
+        board.createQuestionGrid();
+        Question q = board.getQuestion("Functions", 300);
+        assertTrue(q.markAnswered());
+        assertEquals(1, board.getAnsweredCount());
+    }
+
+    @Test
+    void testCorruptBankLoadsNothing() throws IOException {
+        File bank = new File(dir, "sample.jqs");
+        BankCompiler.compile("src/resources/sample.csv", bank);
+        try (RandomAccessFile raf = new RandomAccessFile(bank, "rw")){
+            raf.seek(raf.length() - 1);
+            int last = raf.read();
+            raf.seek(raf.length() - 1);
+            raf.write(last ^ 1);
+        }
+        assertEquals(0, new CompiledBankFileReader(bank.getPath()).readFile().size());
+    }
+
+    @Test
+    void testRejectsUnsupportedSource(){
+        assertThrows(IllegalArgumentException.class, () -> BankCompiler.compile("src/resources/sample.txt", new File(dir, "x.jqs")));
+    }
+}
@@ -2,14 +2,22 @@ package com.jeopardyProject;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.ArrayList;
+import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 
 import com.jeopardyProject.Game.Question;
 import com.jeopardyProject.Game.QuestionList;
 import com.jeopardyProject.Game.Template.CsvFileReader;
+import com.opencsv.CSVReader;
 
 public class CsvFileReaderTest {
     private CsvFileReader reader;
@@ -167,4 +175,116 @@ public class CsvFileReaderTest {
         CsvFileReader badReader = new CsvFileReader("src/resources/nonexistent.csv");
         assertThrows(FileNotFoundException.class, () -> badReader.readFile());
     }
+
+    @Test
+    void testRepeatedCategoriesShareOneString() throws FileNotFoundException{
+        questions = reader.readFile();
+        ArrayList<Question> allQuestions = questions.getQuestionArray();
+        assertEquals(allQuestions.get(0).getCategory(), allQuestions.get(1).getCategory());
+        assertSame(allQuestions.get(0).getCategory(), allQuestions.get(1).getCategory());
+    }
+
+    @Test
+    void testQuotedFieldsAndLineEndings(@TempDir File dir) throws IOException{
+        File file = new File(dir, "quoted.csv");
+        Files.write(file.toPath(), ("Category,Value,Question,A,B,C,D,Answer\r\n"
+            + "\"Loops, etc.\",100,\"Say \"\"hi\"\"\r\nthen stop\",x,\"\",z,w,B\r\n"
+            + "Café,\"200\",a \\\" b,1,2,3,4,D").getBytes(StandardCharsets.UTF_8));
+        questions = new CsvFileReader(file.getPath()).readFile();
+
+        assertEquals(2, questions.size());
+        Question first = questions.get(0);
+        assertEquals("Loops, etc.", first.getCategory());
+        assertEquals("Say \"hi\"\nthen stop", first.getContent());
+        assertEquals("", first.getValueGivenKey("B"));
+        assertEquals("B", first.getRightAnswer());
+        Question second = questions.get(1);
+        assertEquals("Café", second.getCategory());
+        assertEquals(200, second.getValue());
+        assertEquals("a \" b", second.getContent());
+        assertEquals("D", second.getRightAnswer());
+    }
+
+    @Test
+    void testInvalidRowsSkippedWithoutStoppingParse(@TempDir File dir) throws IOException{
+        File file = new File(dir, "invalid.csv");
+        Files.write(file.toPath(), ("Category,Value,Question,A,B,C,D,Answer\n"
+            + "Short,100,Too few\n"
+            + "\n"
+            + "Bad,abc,Q,a,b,c,d,A\n"
+            + "Good,-300,Q,a,b,c,d,C\n").getBytes(StandardCharsets.UTF_8));
+        questions = new CsvFileReader(file.getPath()).readFile();
+
+        assertEquals(1, questions.size());
+        assertEquals(-300, questions.get(0).getValue());
+        assertEquals("C", questions.get(0).getRightAnswer());
+    }
+
+    @Test
+    void testChunkedParseMatchesSingleThread(@TempDir File dir) throws IOException{
+        StringBuilder csv = new StringBuilder("Category,Value,Question,A,B,C,D,Answer\n");
+        for (int i = 0; i < 200; i++){
+            csv.append("Cat ").append(i % 7).append(',').append(100 * (i % 5 + 1)).append(',');
+            csv.append(i % 3 == 0 ? "\"Line one,\nline \"\"two\"\" " + i + "\"" : "Plain " + i);
+            csv.append(",a,\"b\r\n\",c \\\" d,e,").append(i % 2 == 0 ? "A\r\n" : "D\n");
+        }
+        File file = new File(dir, "chunked.csv");
+        Files.write(file.toPath(), csv.toString().getBytes(StandardCharsets.UTF_8));
+        QuestionList single = new CsvFileReader(file.getPath(), Long.MAX_VALUE).readFile();
+
+        for (long chunkBytes : new long[] {1, 37, 500, 4096}){
+            QuestionList chunked = new CsvFileReader(file.getPath(), chunkBytes).readFile();
+            assertEquals(200, chunked.size());
+            for (int i = 0; i < single.size(); i++){
+                assertEquals(single.get(i).getCategory(), chunked.get(i).getCategory());
+                assertEquals(single.get(i).getValue(), chunked.get(i).getValue());
+                assertEquals(single.get(i).getContent(), chunked.get(i).getContent());
+                assertEquals(single.get(i).getOptions(), chunked.get(i).getOptions());
+                assertEquals(single.get(i).getRightAnswer(), chunked.get(i).getRightAnswer());
+            }
+            assertSame(chunked.get(0).getCategory(), chunked.get(7).getCategory());
+        }
+    }
+
+    @Test
+    void testNonPositiveChunkSizeRejected(){
+        assertThrows(IllegalArgumentException.class, () -> new CsvFileReader(filepath, 0));
+    }
+
+    @Test
+    void testQuotingMatchesOpenCsv(@TempDir File dir) throws IOException{
+        File file = new File(dir, "tricky.csv");
+        Files.write(file.toPath(), ("Category,Value,Question,A,B,C,D,Answer\n"
+            + "Java,100,What does \"final\" mean?,x,y,z,w,A\n"
+            + "Java,200,He said \"yo\",x,y,z,w,B\n"
+            + "Java,300,Lone CR,x,y,z,w,C\rJava,400,a\\b\\\\c \\\",x\\\"y,z,w,v,D\r\n"
+            + "\"Multi\rline\",500,\"   \"x\" y\",a\"\"b,  \"c\",z,w,A\n"
+            + "Java,600,\\\"x,o1,o2,o3,o4,A\n"
+            + "Java,700,closes\",o1,o2,o3,o4,B\n"
+            + "Java,800,\"end\",o1,o2,o3,o4,C\n").getBytes(StandardCharsets.UTF_8));
+        QuestionList expected = new QuestionList();
+        try (CSVReader csvReader = new CSVReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))){
+            csvReader.readNext();
+            String[] record;
+            while ((record = csvReader.readNext()) != null)
+                if (record.length >= 8)
+                    expected.addQuestion(new Question(record[0], Integer.parseInt(record[1]), record[2],
+                        new String[] {record[3], record[4], record[5], record[6]}, record[7]));
+        }
+        assertEquals(7, expected.size());
+        assertEquals("What does \"final\" mean?", expected.get(0).getContent());
+        assertEquals("He said \"yo", expected.get(1).getContent());
+
+        for (long chunkBytes : new long[] {Long.MAX_VALUE, 1, 29}){
+            QuestionList parsed = new CsvFileReader(file.getPath(), chunkBytes).readFile();
+            assertEquals(expected.size(), parsed.size());
+            for (int i = 0; i < expected.size(); i++){
+                assertEquals(expected.get(i).getCategory(), parsed.get(i).getCategory());
+                assertEquals(expected.get(i).getValue(), parsed.get(i).getValue());
+                assertEquals(expected.get(i).getContent(), parsed.get(i).getContent());
+                assertEquals(expected.get(i).getOptions(), parsed.get(i).getOptions());
+                assertEquals(expected.get(i).getRightAnswer(), parsed.get(i).getRightAnswer());
+            }
+        }
+    }
 }
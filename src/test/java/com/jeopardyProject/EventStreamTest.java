@@ -0,0 +1,197 @@
+package com.jeopardyProject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import com.jeopardyProject.Game.GameSession;
+import com.jeopardyProject.Game.Player;
+import com.jeopardyProject.Game.PlayerList;
+import com.jeopardyProject.Game.Question;
+import com.jeopardyProject.Game.QuestionList;
+import com.jeopardyProject.Game.Events.EventStream;
+import com.jeopardyProject.Game.Events.GameEvent;
+import com.jeopardyProject.Game.Events.GameState;
+import com.jeopardyProject.Game.Logs.NullLogger;
+import com.jeopardyProject.Game.Simulation.HeadlessGameView;
+import com.jeopardyProject.Game.Simulation.RandomBot;
+import com.jeopardyProject.Game.Simulation.ScriptedBot;
+
+public class EventStreamTest {
+    private QuestionList bank;
+
+    @BeforeEach
+    void setUp(){
+        bank = new QuestionList();
+        HashMap<String,String> options = new HashMap<>();
+        options.put("A","ans1");
+        options.put("B","ans2");
+        options.put("C","ans3");
+        options.put("D","ans4");
+        bank.addQuestion(new Question("Variables", 100, "Q1", options, "A"));
+        bank.addQuestion(new Question("Variables", 200, "Q2", options, "B"));
+        bank.addQuestion(new Question("Functions", 100, "Q3", options, "C"));
+        bank.addQuestion(new Question("Functions", 200, "Q4", options, "D"));
+        bank.createQuestionGrid();
+    }
+
+    private GameSession createSession(String... names){
+        GameSession session = new GameSession("Game_001", new NullLogger(), new HeadlessGameView());
+        session.setQuestions(bank.copyUnanswered());
+        PlayerList players = new PlayerList(session, names.length);
+        for (String name : names)
+            players.addPlayer(name);
+        session.setPlayers(players);
+        return session;
+    }
+
+    @Test
+    void testFoldAppliesScoresBoardAndTurns(){
+        EventStream stream = new EventStream();
+        stream.append(GameEvent.playerJoined("Alice"));
+        stream.append(GameEvent.playerJoined("Bob"));
+        stream.append(GameEvent.questionSelected("Alice", "Variables", 100, 0));
+        stream.append(GameEvent.answerSubmitted("Alice", "B", false, -100));
+        stream.append(GameEvent.turnPassed("Bob"));
+        stream.append(GameEvent.answerSubmitted("Bob", "A", true, 100));
+        stream.append(GameEvent.questionClosed(0));
+
+        GameState state = stream.rebuild();
+        assertEquals(-100, state.getScore("Alice"));
+        assertEquals(100, state.getScore("Bob"));
+        assertTrue(state.isAnswered(0));
+        assertEquals(1, state.getAnsweredCount());
+        assertEquals(2, state.getTurnNum());
+        assertEquals("Bob", state.getCurrentPlayer());
+        assertEquals(-1, state.getQuestionIndex());
+        assertTrue(state.isRunning());
+        assertEquals(7, state.getVersion());
+    }
+
+    @Test
+    void testSnapshotTakenEveryIntervalAndBoundsReplay(){
+        EventStream stream = new EventStream(4);
+        stream.append(GameEvent.playerJoined("Alice"));
+        for (int i = 0; i < 21; i++)
+            stream.append(GameEvent.answerSubmitted("Alice", "A", true, 10));
+
+        assertEquals(22, stream.size());
+        assertEquals(20, stream.getSnapshotVersion());
+        assertTrue(stream.eventsSince(stream.getSnapshotVersion()).size() <= stream.getSnapshotInterval());
+        assertEquals(210, stream.rebuild().getScore("Alice"));
+        assertEquals(190, stream.getSnapshot().getScore("Alice"));
+    }
+
+    @Test
+    void testRebuildMatchesFullReplay(){
+        List<GameEvent> all = new ArrayList<>();
+        all.add(GameEvent.playerJoined("Alice"));
+        all.add(GameEvent.playerJoined("Bob"));
+        for (int q = 0; q < 4; q++){
+            all.add(GameEvent.questionSelected("Alice", "Variables", 100, q));
+            all.add(GameEvent.answerSubmitted(q % 2 == 0 ? "Alice" : "Bob", "A", q % 2 == 0, q % 2 == 0 ? 100 : -100));
+            all.add(GameEvent.questionClosed(q));
+        }
+        all.add(GameEvent.gameEnded());
+        EventStream stream = new EventStream(3);
+        GameState full = new GameState();
+        for (GameEvent event : all){
+            stream.append(event);
+            full.apply(event);
+        }
+
+        GameState fast = stream.rebuild();
+        assertEquals(full.getScores(), fast.getScores());
+        assertEquals(full.getAnsweredCount(), fast.getAnsweredCount());
+        assertEquals(full.getTurnNum(), fast.getTurnNum());
+        assertFalse(fast.isRunning());
+        assertEquals(full.getScores(), stream.getState().getScores());
+        assertEquals(full.getVersion(), stream.getState().getVersion());
+    }
+
+    @Test
+    void testSnapshotDropsTheEventsItCovers(){
+        EventStream stream = new EventStream(4);
+        stream.append(GameEvent.playerJoined("Alice"));
+        for (int i = 0; i < 1000; i++)
+            stream.append(GameEvent.answerSubmitted("Alice", "A", true, 1));
+
+        assertEquals(1001, stream.size());
+        assertEquals(1000, stream.getSnapshotVersion());
+        assertEquals(1, stream.getEvents().size());
+        assertEquals(1, stream.eventsSince(1000).size());
+        assertTrue(stream.eventsSince(1001).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> stream.eventsSince(999));
+        assertEquals(1000, stream.getState().getScore("Alice"));
+    }
+
+    @Test
+    void testRejectedEventIsNotAppended(){
+        EventStream stream = new EventStream();
+        assertThrows(IllegalArgumentException.class,
+            () -> stream.append(GameEvent.answerSubmitted("Ghost", "A", true, 100)));
+        assertEquals(0, stream.size());
+        assertTrue(stream.getEvents().isEmpty());
+    }
+
+    @Test
+    void testSnapshotIsIndependentCopy(){
+        EventStream stream = new EventStream(1);
+        stream.append(GameEvent.playerJoined("Alice"));
+        GameState snapshot = stream.getSnapshot();
+        snapshot.apply(GameEvent.answerSubmitted("Alice", "A", true, 500));
+        assertEquals(0, stream.rebuild().getScore("Alice"));
+    }
+
+    @Test
+    void testUnknownPlayerRejected(){
+        GameState state = new GameState();
+        assertThrows(IllegalArgumentException.class,
+            () -> state.apply(GameEvent.answerSubmitted("Ghost", "A", true, 100)));
+    }
+
+    @Test
+    void testSessionEventsRebuildLiveState(){
+        GameSession session = createSession("Alice", "Bob", "Carol");
+        session.setInputSource(new RandomBot(11));
+        session.playGame();
+
+        GameState state = session.getEventStream().rebuild();
+        for (Player p : session.getPlayers().getAllPlayers())
+            assertEquals(p.getScore(), state.getScore(p.getPlayerId()));
+        assertEquals(session.getTurnNum(), state.getTurnNum());
+        assertEquals(4, state.getAnsweredCount());
+        assertEquals(session.getPlayers().getCurrentPlayer().getPlayerId(), state.getCurrentPlayer());
+        assertFalse(state.isRunning());
+    }
+
+    @Test
+    void testSessionStealRecordedAsAnswerAndTurnPass(){
+        GameSession session = createSession("Alice", "Bob");
+        session.setInputSource(new ScriptedBot("VAR", "100", "B", "A", "QUIT"));
+        session.playGame();
+
+        GameState state = session.getEventStream().rebuild();
+        assertEquals(-100, state.getScore("Alice"));
+        assertEquals(100, state.getScore("Bob"));
+        assertTrue(state.isAnswered(0));
+        assertEquals(2, state.getTurnNum());
+    }
+
+    @Test
+    void testSessionTurnAndQuestionFollowTheFold(){
+        GameSession session = createSession("Alice", "Bob");
+        session.setInputSource(new ScriptedBot("VAR", "200"));
+        session.playGame();
+
+        GameState state = session.getEventStream().getState();
+        assertEquals(1, session.getTurnNum());
+        assertEquals(1, session.getQuestionIndex());
+        assertEquals(1, state.getQuestionIndex());
+        assertEquals("Variables", state.getCategory());
+    }
+}
@@ -0,0 +1,149 @@
+package com.jeopardyProject.Game.Template;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Random;
+
+import com.jeopardyProject.Game.Question;
+import com.jeopardyProject.Game.QuestionList;
+import com.opencsv.CSVReader;
+
+/**
+ * Compares {@link CsvFileReader}'s memory-mapped parser, on one thread and
+ * in parallel chunks, with an OpenCSV baseline on the same file.
+ * <p>
+ * The baseline reads rows with OpenCSV's {@link CSVReader} over a
+ * {@link FileReader}, one {@code String[]} per row, exactly as
+ * {@code CsvFileReader} did before it parsed mapped bytes itself. Each
+ * parser reads the file once to warm up and then {@code runs} times,
+ * alternating, and every run is reported with {@link ReaderBenchmark}'s
+ * figures (time, MB/s, bytes allocated per question).
+ * </p>
+ * <p>
+ * Given a row count, a synthetic bank of that many rows (2,000 categories,
+ * five values, some quoted fields with commas and doubled quotes) is written
+ * to the file first.
+ * </p>
+ * <p>
+ * Kept with the tests, like OpenCSV itself, so neither is part of the
+ * shipped jar.
+ * </p>
+ * <p>
+ * Usage:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass="com.jeopardyProject.Game.Template.CsvParserBenchmark" \
+ *     -Dexec.args="target/bank1m.csv 5 1000000"
+ * </pre>
+ *
+ * @see ReaderBenchmark
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public class CsvParserBenchmark {
+    /** Default number of timed runs per parser. */
+    private static final int DEFAULT_RUNS = 5;
+
+    /**
+     * The OpenCSV parsing path, kept as the baseline.
+     */
+    static class OpenCsvFileReader extends FileReaderTemplate {
+        /**
+         * Constructs a reader for the specified file.
+         *
+         * @param filepath path to the CSV file
+         */
+        OpenCsvFileReader(String filepath){
+            super(filepath);
+        }
+
+        @Override
+        protected QuestionList parseQuestions() throws FileNotFoundException {
+            QuestionList questions = new QuestionList();
+            try(CSVReader csvReader = new CSVReader(new FileReader(this.filepath))){
+                csvReader.readNext();
+                String[] record;
+                while ((record = csvReader.readNext()) != null){
+                    if (record.length < MappedCsvParser.COLUMNS){
+                        System.err.println("Skipping invalid CSV row with insufficient columns");
+                        continue;
+                    }
+                    try{
+                        String[] options = {share(record[3]), share(record[4]), share(record[5]), share(record[6])};
+                        questions.addQuestion(new Question(share(record[0]), Integer.parseInt(record[1]), record[2], options, record[7]));
+                    } catch (NumberFormatException e){
+                        System.err.println("Invalid number format in CSV: " + e.getMessage());
+                    }
+                }
+            } catch (FileNotFoundException e){
+                throw e;
+            } catch (Exception e){
+                System.err.println("Error reading CSV file: " + e.getMessage());
+            }
+            return questions;
+        }
+    }
+
+    /**
+     * Writes a synthetic question bank.
+     *
+     * @param file the file to write
+     * @param rows number of question rows
+     * @throws IOException if the file cannot be written
+     */
+    static void generate(File file, int rows) throws IOException {
+        Random random = new Random(42);
+        try (BufferedWriter out = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)){
+            out.write("Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\n");
+            for (int i = 0; i < rows; i++){
+                int category = random.nextInt(2000);
+                out.write("Category " + category + "," + (100 * (1 + random.nextInt(5))) + ",");
+                if (i % 4 == 0)
+                    out.write("\"Which statement about item " + i + ", the \"\"quoted\"\" one, is true?\",");
+                else
+                    out.write("Which statement about item " + i + " is true?,");
+                out.write("Answer one " + i + ",True,False,\"Neither, nor\"," + (char) ('A' + random.nextInt(4)) + "\n");
+            }
+        }
+    }
+
+    /**
+     * Command-line entry point.
+     * <p>
+     * Arguments: {@code <csvFile> [runs] [rowsToGenerate]}.
+     * </p>
+     *
+     * @param args command-line arguments
+     * @throws IOException if the file cannot be generated or read
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1){
+            System.err.println("Usage: CsvParserBenchmark <csvFile> [runs] [rowsToGenerate]");
+            return;
+        }
+        File file = new File(args[0]);
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_RUNS;
+        if (args.length > 2)
+            generate(file, Integer.parseInt(args[2]));
+
+        long bytes = file.length();
+        FileReaderTemplate opencsv = new OpenCsvFileReader(file.getPath());
+        FileReaderTemplate mapped = new CsvFileReader(file.getPath(), Long.MAX_VALUE);
+        FileReaderTemplate chunked = new CsvFileReader(file.getPath(), CsvFileReader.DEFAULT_CHUNK_BYTES);
+        System.out.println(String.format("%s, %,.1f MB, %d processors", file, bytes / 1e6,
+            Runtime.getRuntime().availableProcessors()));
+        System.out.println("opencsv warm-up: " + ReaderBenchmark.run(opencsv, bytes));
+        System.out.println("mapped  warm-up: " + ReaderBenchmark.run(mapped, bytes));
+        System.out.println("chunked warm-up: " + ReaderBenchmark.run(chunked, bytes));
+        for (int i = 1; i <= runs; i++){
+            System.out.println("opencsv run " + i + ": " + ReaderBenchmark.run(opencsv, bytes));
+            System.out.println("mapped  run " + i + ": " + ReaderBenchmark.run(mapped, bytes));
+            System.out.println("chunked run " + i + ": " + ReaderBenchmark.run(chunked, bytes));
+        }
+    }
+}
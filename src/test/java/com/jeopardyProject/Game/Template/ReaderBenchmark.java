@@ -0,0 +1,96 @@
+package com.jeopardyProject.Game.Template;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.lang.management.ManagementFactory;
+
+import com.sun.management.ThreadMXBean;
+
+import com.jeopardyProject.Game.GameConfig;
+import com.jeopardyProject.Game.QuestionList;
+
+/**
+ * Measures how fast a question file loads.
+ * <p>
+ * Reads the file several times with the reader {@link GameConfig#createFileReader}
+ * picks for it and reports, for each run, the questions loaded, the time
+ * taken, the throughput in MB/s of file read and the bytes allocated by all
+ * threads, so readers that parse in parallel are counted in full. A first, separately reported run warms up the JIT
+ * compiler.
+ * </p>
+ * <p>
+ * Kept with the tests so it is not part of the shipped jar.
+ * </p>
+ * <p>
+ * Usage:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass="com.jeopardyProject.Game.Template.ReaderBenchmark" \
+ *     -Dexec.args="bank.json 5"
+ * </pre>
+ *
+ * @see FileReaderTemplate
+ * @author COMP3607 Jeopardy Project Team
+ * @version 1.0
+ */
+public class ReaderBenchmark {
+    /** Default number of timed runs. */
+    private static final int DEFAULT_RUNS = 5;
+
+    /** Source of per-thread allocation counts. */
+    private static final ThreadMXBean THREADS = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * Times one read of a file.
+     *
+     * @param reader the reader to run
+     * @param bytes size of the file
+     * @return the run's figures, one line
+     * @throws FileNotFoundException if the file does not exist
+     */
+    static String run(FileReaderTemplate reader, long bytes) throws FileNotFoundException {
+        long allocated = allocatedBytes();
+        long start = System.nanoTime();
+        QuestionList questions = reader.readFile();
+        long nanos = System.nanoTime() - start;
+        allocated = allocatedBytes() - allocated;
+        return String.format("%,d questions in %,.1f ms: %,.1f MB/s, %,.0f bytes allocated per question",
+            questions.size(), nanos / 1e6, bytes / 1e6 / (nanos / 1e9),
+            (double) allocated / Math.max(1, questions.size()));
+    }
+
+    /**
+     * Sums the bytes allocated so far by every live thread.
+     *
+     * @return the total, in bytes
+     */
+    private static long allocatedBytes(){
+        long total = 0;
+        for (long bytes : THREADS.getThreadAllocatedBytes(THREADS.getAllThreadIds()))
+            total += Math.max(0, bytes);
+        return total;
+    }
+
+    /**
+     * Command-line entry point.
+     * <p>
+     * Arguments: {@code <questionFile> [runs]}.
+     * </p>
+     *
+     * @param args command-line arguments
+     * @throws FileNotFoundException if the question file does not exist
+     */
+    public static void main(String[] args) throws FileNotFoundException {
+        if (args.length < 1){
+            System.err.println("Usage: ReaderBenchmark <questionFile> [runs]");
+            return;
+        }
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_RUNS;
+        long bytes = new File(args[0]).length();
+        FileReaderTemplate reader = GameConfig.createFileReader(args[0]);
+        System.out.println(reader.getClass().getSimpleName() + ", " + String.format("%,.1f MB", bytes / 1e6));
+        System.out.println("warm-up: " + run(reader, bytes));
+        for (int i = 1; i <= runs; i++)
+            System.out.println("run " + i + ": " + run(reader, bytes));
+    }
+}
@@ -0,0 +1,112 @@
+package com.jeopardyProject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.util.HashMap;
+
+import com.jeopardyProject.Game.GameEngine;
+import com.jeopardyProject.Game.GameSession;
+import com.jeopardyProject.Game.PlayerList;
+import com.jeopardyProject.Game.Question;
+import com.jeopardyProject.Game.QuestionList;
+import com.jeopardyProject.Game.Command.SelectCategoryAction;
+
+public class GameEngineTest {
+    @TempDir
+    File reportDir;
+
+    private GameEngine engine;
+
+    @BeforeEach
+    void setUp(){
+        engine = new GameEngine(reportDir);
+    }
+
+    private QuestionList createQuestions(){
+        QuestionList questions = new QuestionList();
+        HashMap<String,String> options = new HashMap<>();
+        options.put("A","a");
+        options.put("B","b");
+        questions.addQuestion(new Question("Variables", 100, "Q1", options, "A"));
+        questions.addQuestion(new Question("Functions", 200, "Q2", options, "B"));
+        return questions;
+    }
+
+    @Test
+    void testCreateSessionAssignsSequentialCaseIds(){
+        GameSession s1 = engine.createSession();
+        GameSession s2 = engine.createSession();
+
+        assertEquals("Game_001", s1.getCaseId());
+        assertEquals("Game_002", s2.getCaseId());
+        assertEquals(2, engine.getSessionCount());
+    }
+
+    @Test
+    void testSessionsHaveIndependentLoggersAndViews(){
+        GameSession s1 = engine.createSession();
+        GameSession s2 = engine.createSession();
+
+        assertNotSame(s1.getLogger(), s2.getLogger());
+        assertNotSame(s1.getView(), s2.getView());
+        assertTrue(new File(reportDir, "Game_001_LogReport.csv").exists());
+        assertTrue(new File(reportDir, "Game_002_LogReport.csv").exists());
+    }
+
+    @Test
+    void testSessionsHaveIndependentSelections(){
+        GameSession s1 = engine.createSession();
+        GameSession s2 = engine.createSession();
+        s1.setQuestions(createQuestions());
+        s2.setQuestions(createQuestions());
+
+        new SelectCategoryAction(s1).execute("VAR");
+        new SelectCategoryAction(s2).execute("FUN");
+
+        assertEquals("Variables", s1.getCategory());
+        assertEquals("Functions", s2.getCategory());
+    }
+
+    @Test
+    void testPlayerListActsOnItsOwnSession(){
+        GameSession s1 = engine.createSession();
+        GameSession s2 = engine.createSession();
+        s1.setQuestions(createQuestions());
+        s2.setQuestions(createQuestions());
+
+        PlayerList players = new PlayerList(s1, 2);
+        players.addPlayer("Alice");
+        players.addPlayer("Bob");
+        players.selectCategory("FUN");
+
+        assertEquals("Functions", s1.getCategory());
+        assertNull(s2.getCategory());
+    }
+
+    @Test
+    void testCreateSessionWithDuplicateCaseIdThrows(){
+        engine.createSession("Room_1");
+        assertThrows(IllegalArgumentException.class, () -> engine.createSession("Room_1"));
+    }
+
+    @Test
+    void testGetAndEndSession(){
+        GameSession session = engine.createSession("Room_1");
+        assertSame(session, engine.getSession("Room_1"));
+
+        assertSame(session, engine.endSession("Room_1"));
+        assertNull(engine.getSession("Room_1"));
+        assertEquals(0, engine.getSessionCount());
+    }
+
+    @Test
+    void testCreateSessionSkipsTakenCaseIds(){
+        engine.createSession("Game_001");
+        GameSession next = engine.createSession();
+        assertEquals("Game_002", next.getCaseId());
+    }
+}
@@ -39,7 +39,7 @@ public class GameFlowIntegrationTest {
 
         controller.setQuestions(questions);
 
-        players = new PlayerList(3);
+        players = new PlayerList(controller, 3);
         players.addPlayer("Alice");
         players.addPlayer("Bob");
         players.addPlayer("Carol");
@@ -0,0 +1,104 @@
+package com.jeopardyProject;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+
+import com.jeopardyProject.Game.GameEngine;
+import com.jeopardyProject.Game.Question;
+import com.jeopardyProject.Game.QuestionList;
+import com.jeopardyProject.Game.Server.GameServer;
+
+public class GameServerTest {
+    @TempDir
+    File reportDir;
+
+    private GameServer server;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        QuestionList bank = new QuestionList();
+        HashMap<String,String> options = new HashMap<>();
+        options.put("A","ans1");
+        options.put("B","ans2");
+        options.put("C","ans3");
+        options.put("D","ans4");
+        bank.addQuestion(new Question("Variables", 100, "Q1", options, "A"));
+        bank.addQuestion(new Question("Functions", 100, "Q2", options, "B"));
+        bank.createQuestionGrid();
+
+        server = new GameServer(new GameEngine(reportDir), bank, 0);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown(){
+        server.stop();
+    }
+
+    private String play(String... lines) throws Exception {
+        try(Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())){
+            socket.setSoTimeout(10000);
+            PrintWriter out = new PrintWriter(socket.getOutputStream(), true);
+            for (String line : lines)
+                out.println(line);
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            StringBuilder transcript = new StringBuilder();
+            String line;
+            while ((line = in.readLine()) != null)
+                transcript.append(line).append('\n');
+            return transcript.toString();
+        }
+    }
+
+    @Test
+    void testFullGameOverConnection() throws Exception {
+        String transcript = play("2", "Alice", "Bob", "VAR", "100", "A", "FUNC", "100", "B");
+
+        assertTrue(transcript.contains("Current player: Alice"));
+        assertTrue(transcript.contains("Current player: Bob"));
+        assertTrue(transcript.contains("Correct!"));
+        assertTrue(transcript.contains("Congrats! You made it to the end of the game."));
+        assertTrue(transcript.contains("Thanks for playing!"));
+    }
+
+    @Test
+    void testQuitDuringSetupClosesConnection() throws Exception {
+        String transcript = play("QUIT");
+        assertTrue(transcript.contains("Enter number of players"));
+        assertFalse(transcript.contains("Game has started"));
+    }
+
+    @Test
+    void testConcurrentConnectionsGetSeparateSessions() throws Exception {
+        Socket first = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+        Socket second = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+        try{
+            BufferedReader in1 = new BufferedReader(new InputStreamReader(first.getInputStream(), StandardCharsets.UTF_8));
+            BufferedReader in2 = new BufferedReader(new InputStreamReader(second.getInputStream(), StandardCharsets.UTF_8));
+            assertTrue(in1.readLine().contains("Enter number of players"));
+            assertTrue(in2.readLine().contains("Enter number of players"));
+            assertEquals(2, server.getActiveSessions());
+        } finally {
+            first.close();
+            second.close();
+        }
+    }
+
+    @Test
+    void testReportsWrittenPerSession() throws Exception {
+        play("2", "Alice", "Bob", "QUIT");
+        assertTrue(new File(reportDir, "Game_001_LogReport.csv").exists());
+    }
+}
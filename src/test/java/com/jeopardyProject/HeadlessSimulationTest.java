@@ -0,0 +1,147 @@
+package com.jeopardyProject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+
+import com.jeopardyProject.Game.GameSession;
+import com.jeopardyProject.Game.Player;
+import com.jeopardyProject.Game.PlayerList;
+import com.jeopardyProject.Game.Question;
+import com.jeopardyProject.Game.QuestionList;
+import com.jeopardyProject.Game.Command.ActionType;
+import com.jeopardyProject.Game.Logs.NullLogger;
+import com.jeopardyProject.Game.Simulation.*;
+
+public class HeadlessSimulationTest {
+    private QuestionList bank;
+
+    @BeforeEach
+    void setUp(){
+        bank = new QuestionList();
+        HashMap<String,String> options = new HashMap<>();
+        options.put("A","ans1");
+        options.put("B","ans2");
+        options.put("C","ans3");
+        options.put("D","ans4");
+        bank.addQuestion(new Question("Variables", 100, "Q1", options, "A"));
+        bank.addQuestion(new Question("Variables", 200, "Q2", options, "B"));
+        bank.addQuestion(new Question("Functions", 100, "Q3", options, "C"));
+        bank.addQuestion(new Question("Functions", 200, "Q4", options, "D"));
+        bank.createQuestionGrid();
+    }
+
+    private GameSession createSession(){
+        GameSession session = new GameSession("Game_001", new NullLogger(), new HeadlessGameView());
+        session.setQuestions(bank.copyUnanswered());
+        PlayerList players = new PlayerList(session, 2);
+        players.addPlayer("Alice");
+        players.addPlayer("Bob");
+        session.setPlayers(players);
+        return session;
+    }
+
+    private int scoreOf(GameSession session, String playerId){
+        for (Player p : session.getPlayers().getAllPlayers()){
+            if (p.getPlayerId().equals(playerId))
+                return p.getScore();
+        }
+        throw new AssertionError("No player " + playerId);
+    }
+
+    @Test
+    void testCorrectAnswerBotPlaysOneTurnPerQuestion(){
+        HeadlessSimulation simulation = new HeadlessSimulation(bank, 2, CorrectAnswerBot::new);
+        SimulationReport report = simulation.run(5);
+
+        assertEquals(5, report.getGames());
+        assertEquals(20, report.getTurns());
+        assertTrue(report.getTurnsPerSecond() > 0);
+        assertTrue(report.getGamesPerSecond() > 0);
+    }
+
+    @Test
+    void testRandomBotFinishesEveryGame(){
+        HeadlessSimulation simulation = new HeadlessSimulation(bank, 3, HeadlessSimulation.botFactory("random", 7));
+        SimulationReport report = simulation.run(20);
+        assertEquals(80, report.getTurns());
+    }
+
+    @Test
+    void testSimulationLeavesBankUnanswered(){
+        new HeadlessSimulation(bank, 2, CorrectAnswerBot::new).run(1);
+        assertTrue(bank.hasQuestions());
+        for (Question q : bank.getQuestionArray())
+            assertFalse(q.getIsAnswered());
+    }
+
+    @Test
+    void testCorrectAnswerBotScores(){
+        GameSession session = createSession();
+        session.setInputSource(new CorrectAnswerBot());
+        session.playGame();
+
+        assertFalse(session.getQuestions().hasQuestions());
+        assertEquals(200, scoreOf(session, "Alice"));
+        assertEquals(400, scoreOf(session, "Bob"));
+    }
+
+    @Test
+    void testScriptedBotInvalidSelectionRestartsTurn(){
+        GameSession session = createSession();
+        session.setInputSource(new ScriptedBot("NOPE", "FUNC", "999", "FUNC", "200", "D", "QUIT"));
+        session.playGame();
+
+        Question q4 = session.getQuestions().getQuestionArray().get(3);
+        assertTrue(q4.getIsAnswered());
+        assertEquals(2, session.getTurnNum());
+        assertFalse(session.isRunning());
+    }
+
+    @Test
+    void testScriptedBotWrongAnswerPassesToNextPlayer(){
+        GameSession session = createSession();
+        session.setInputSource(new ScriptedBot("VAR", "100", "B", "A", "QUIT"));
+        session.playGame();
+
+        assertEquals(-100, scoreOf(session, "Alice"));
+        assertEquals(100, scoreOf(session, "Bob"));
+    }
+
+    @Test
+    void testExhaustedScriptQuitsGame(){
+        GameSession session = createSession();
+        session.setInputSource(new ScriptedBot());
+        session.playGame();
+
+        assertFalse(session.isRunning());
+        assertEquals(1, session.getTurnNum());
+    }
+
+    @Test
+    void testSubmitInputAdvancesThroughPhases(){
+        GameSession session = createSession();
+        session.beginPlay();
+        assertEquals(ActionType.SELECT_CATEGORY, session.getExpectedInput());
+
+        assertTrue(session.submitInput("var"));
+        assertEquals(ActionType.SELECT_QUESTION, session.getExpectedInput());
+        assertTrue(session.submitInput("100"));
+        assertEquals(ActionType.ANSWER_QUESTION, session.getExpectedInput());
+        assertTrue(session.submitInput("B"));
+        assertEquals(ActionType.ANSWER_QUESTION, session.getExpectedInput());
+        assertTrue(session.submitInput("A"));
+
+        assertEquals(ActionType.SELECT_CATEGORY, session.getExpectedInput());
+        assertEquals(2, session.getTurnNum());
+        assertFalse(session.submitInput("quit"));
+        assertFalse(session.submitInput("VAR"));
+    }
+
+    @Test
+    void testUnknownBotTypeThrows(){
+        assertThrows(IllegalArgumentException.class, () -> HeadlessSimulation.botFactory("smart", 1));
+    }
+}
@@ -2,10 +2,15 @@ package com.jeopardyProject;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.ArrayList;
+import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 
 import com.jeopardyProject.Game.Question;
 import com.jeopardyProject.Game.QuestionList;
@@ -16,6 +21,20 @@ public class JsonFileReaderTest {
     private QuestionList questions;
     private String filepath = "src/resources/sample.json";
 
+    @TempDir
+    File dir;
+
+    private String write(String json) throws IOException {
+        File file = new File(dir, "bank.json");
+        Files.write(file.toPath(), json.getBytes(StandardCharsets.UTF_8));
+        return file.getPath();
+    }
+
+    private static String question(String category, String value, String answer){
+        return "{\"Category\": \"" + category + "\", \"Value\": " + value + ", \"Question\": \"Q\", "
+            + "\"Options\": {\"A\": \"a\", \"B\": \"b\", \"C\": \"c\", \"D\": \"d\"}, \"CorrectAnswer\": " + answer + "}";
+    }
+
     @BeforeEach
     void setUp() {
         reader = new JsonFileReader(this.filepath);
@@ -153,4 +172,29 @@ public class JsonFileReaderTest {
                     () -> new JsonFileReader("src/resources/nonexistent.json").readFile(),
                     "readFile(String) should throw FileNotFoundException for missing file");
     }
+
+    @Test
+    void testInvalidRecordsSkippedWithoutLosingPlace() throws IOException {
+        String json = "[" + question("Good", "100", "\"A\"") + ", "
+            + "{\"Category\": \"Nested\", \"Extra\": {\"Value\": [1, 2]}, \"Value\": 200}, "
+            + "42, "
+            + question("BadValue", "\"lots\"", "\"A\"") + ", "
+            + question("NoAnswer", "300", "null") + ", "
+            + question("Quoted", "\"400\"", "\"D\"") + "]";
+        QuestionList loaded = new JsonFileReader(write(json)).readFile();
+
+        assertEquals(2, loaded.size());
+        assertEquals("Good", loaded.get(0).getCategory());
+        assertEquals(400, loaded.get(1).getValue());
+        assertEquals("D", loaded.get(1).getRightAnswer());
+    }
+
+    @Test
+    void testQuestionsBeforeMalformedJsonAreKept() throws IOException {
+        String json = "[" + question("First", "100", "\"A\"") + ", " + question("Second", "200", "\"B\"") + ", {\"Category\": ";
+        QuestionList loaded = new JsonFileReader(write(json)).readFile();
+
+        assertEquals(2, loaded.size());
+        assertEquals("b", loaded.get(1).getValueGivenKey("B"));
+    }
 }
@@ -0,0 +1,121 @@
+package com.jeopardyProject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import com.jeopardyProject.Game.Question;
+import com.jeopardyProject.Game.QuestionList;
+import com.jeopardyProject.Game.Template.CsvFileReader;
+import com.jeopardyProject.Game.Template.LazyCsvFileReader;
+
+public class LazyCsvFileReaderTest {
+    @TempDir
+    File dir;
+
+    private File write(String csv) throws IOException {
+        File file = new File(dir, "bank.csv");
+        Files.write(file.toPath(), csv.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    @Test
+    void testMatchesEagerReaderOnSample() throws FileNotFoundException {
+        QuestionList eager = new CsvFileReader("src/resources/sample.csv").readFile();
+        QuestionList lazy = new LazyCsvFileReader("src/resources/sample.csv").readFile();
+
+        assertEquals(eager.size(), lazy.size());
+        for (int i = 0; i < eager.size(); i++){
+            Question expected = eager.get(i);
+            Question actual = lazy.get(i);
+            assertEquals(expected.getCategory(), actual.getCategory());
+            assertEquals(expected.getValue(), actual.getValue());
+            assertEquals(expected.getContent(), actual.getContent());
+            assertEquals(expected.getOptions(), actual.getOptions());
+            assertEquals(expected.getRightAnswer(), actual.getRightAnswer());
+        }
+    }
+
+    @Test
+    void testQuotedFieldsSpanCommasQuotesAndLines() throws IOException {
+        File file = write("Category,Value,Question,A,B,C,D,Answer\r\n"
+            + "\"Loops, etc.\",100,\"Say \"\"hi\"\"\nthen stop\",x,y,z,w,B\r\n"
+            + "Café,200,\"a,b\",\"1\",2,3,\"4\",D");
+        QuestionList lazy = new LazyCsvFileReader(file.getPath()).readFile();
+
+        assertEquals(2, lazy.size());
+        assertEquals("Loops, etc.", lazy.get(0).getCategory());
+        assertEquals("Say \"hi\"\nthen stop", lazy.get(0).getContent());
+        assertEquals("y", lazy.get(0).getValueGivenKey("B"));
+        assertEquals("Café", lazy.get(1).getCategory());
+        assertEquals(200, lazy.get(1).getValue());
+        assertEquals("a,b", lazy.get(1).getContent());
+        assertEquals("4", lazy.get(1).getValueGivenKey("D"));
+        assertEquals("D", lazy.get(1).getRightAnswer());
+    }
+
+    @Test
+    void testSkipsInvalidRowsLikeEagerReader() throws IOException {
+        File file = write("Category,Value,Question,A,B,C,D,Answer\n"
+            + "Short,100,Too few\n"
+            + "\n"
+            + "Bad,abc,Q,a,b,c,d,A\n"
+            + "Good,300,Q,a,b,c,d,C\n");
+        QuestionList lazy = new LazyCsvFileReader(file.getPath()).readFile();
+        QuestionList eager = new CsvFileReader(file.getPath()).readFile();
+
+        assertEquals(eager.size(), lazy.size());
+        assertEquals(1, lazy.size());
+        assertEquals("C", lazy.get(0).getRightAnswer());
+    }
+
+    @Test
+    void testDealtBoardsLoadTextOnDemand() throws FileNotFoundException {
+        QuestionList board = new LazyCsvFileReader("src/resources/sample.csv").readFile().copyUnanswered();
+        Question q = board.getQuestion("Functions", 300);
+        assertNotNull(q.getContent());
+        assertEquals(4, q.getOptionCount());
+    }
+
+    @Test
+    void testEscapedQuoteAtFieldStartParsedLikeEagerReader() throws IOException {
+        File file = write("Category,Value,Question,A,B,C,D,Answer\n"
+            + "Java,100,\\\"x,o1,o2,o3,o4,A\n"
+            + "Java,200,closes\",a,b,c,d,B\n"
+            + "\"Java\",300,Q,a,b,c,d,C\n");
+        QuestionList lazy = new LazyCsvFileReader(file.getPath()).readFile();
+        QuestionList eager = new CsvFileReader(file.getPath()).readFile();
+
+        assertEquals(2, eager.size());
+        assertEquals(eager.size(), lazy.size());
+        for (int i = 0; i < eager.size(); i++){
+            assertEquals(eager.get(i).getCategory(), lazy.get(i).getCategory());
+            assertEquals(eager.get(i).getValue(), lazy.get(i).getValue());
+            assertEquals(eager.get(i).getContent(), lazy.get(i).getContent());
+            assertEquals(eager.get(i).getOptions(), lazy.get(i).getOptions());
+            assertEquals(eager.get(i).getRightAnswer(), lazy.get(i).getRightAnswer());
+        }
+        assertEquals("\"x,o1,o2,o3,o4,A\nJava,200,closes", lazy.get(0).getContent());
+        assertSame(lazy.get(0).getCategory(), lazy.get(1).getCategory());
+    }
+
+    @Test
+    void testRowChangedAfterLoadingIsShownAsUnreadable() throws IOException {
+        File file = write("Category,Value,Question,A,B,C,D,Answer\nC,100,Q,a,b,c,d,A\n");
+        QuestionList lazy = new LazyCsvFileReader(file.getPath()).readFile();
+        Files.write(file.toPath(), new byte[0]);
+
+        Question question = lazy.get(0);
+        assertEquals(LazyCsvFileReader.UNREADABLE_QUESTION, question.getContent());
+        assertEquals(0, question.getOptionCount());
+        assertNull(question.getRightAnswer());
+        assertEquals("C", question.getCategory());
+        assertEquals(100, question.getValue());
+    }
+}
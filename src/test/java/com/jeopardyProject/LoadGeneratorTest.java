@@ -0,0 +1,116 @@
+package com.jeopardyProject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+
+import com.jeopardyProject.Game.Question;
+import com.jeopardyProject.Game.QuestionList;
+import com.jeopardyProject.Game.Command.ActionType;
+import com.jeopardyProject.Game.Simulation.CorrectAnswerBot;
+import com.jeopardyProject.Game.Simulation.HeadlessSimulation;
+import com.jeopardyProject.Game.Simulation.LatencyHistogram;
+import com.jeopardyProject.Game.Simulation.LoadGenerator;
+import com.jeopardyProject.Game.Simulation.LoadReport;
+
+public class LoadGeneratorTest {
+    private QuestionList bank;
+
+    @BeforeEach
+    void setUp(){
+        bank = new QuestionList();
+        HashMap<String,String> options = new HashMap<>();
+        options.put("A","ans1");
+        options.put("B","ans2");
+        options.put("C","ans3");
+        options.put("D","ans4");
+        bank.addQuestion(new Question("Variables", 100, "Q1", options, "A"));
+        bank.addQuestion(new Question("Variables", 200, "Q2", options, "B"));
+        bank.addQuestion(new Question("Functions", 100, "Q3", options, "C"));
+        bank.addQuestion(new Question("Functions", 200, "Q4", options, "D"));
+        bank.createQuestionGrid();
+    }
+
+    private static void assertWithin(long expected, long actual, double tolerance){
+        assertTrue(Math.abs(actual - expected) <= expected * tolerance,
+            () -> "expected about " + expected + " but was " + actual);
+    }
+
+    @Test
+    void testHistogramPercentilesWithinBucketPrecision(){
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 100_000; i++)
+            histogram.record(i * 1000);
+
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(100_000_000, histogram.getMax());
+        assertWithin(50_000_000, histogram.getPercentile(50), 0.035);
+        assertWithin(99_000_000, histogram.getPercentile(99), 0.035);
+        assertWithin(99_900_000, histogram.getPercentile(99.9), 0.035);
+        assertEquals(50_000_500.0, histogram.getMean(), 0.001);
+    }
+
+    @Test
+    void testHistogramSmallValuesAreExact(){
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 10; i++)
+            histogram.record(i);
+
+        assertEquals(4, histogram.getPercentile(50));
+        assertEquals(9, histogram.getPercentile(100));
+        assertEquals(0, new LatencyHistogram().getPercentile(99));
+    }
+
+    @Test
+    void testHistogramMergeCombinesCountsAndMax(){
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        for (int i = 0; i < 90; i++)
+            first.record(1_000);
+        for (int i = 0; i < 10; i++)
+            second.record(1_000_000);
+
+        first.merge(second);
+
+        assertEquals(100, first.getCount());
+        assertEquals(1_000_000, first.getMax());
+        assertWithin(1_000, first.getPercentile(90), 0.035);
+        assertWithin(1_000_000, first.getPercentile(91), 0.035);
+    }
+
+    @Test
+    void testRunTimesEveryActionOfEveryGame(){
+        LoadGenerator generator = new LoadGenerator(bank, 2, CorrectAnswerBot::new);
+        LoadReport report = generator.run(10, 4, 2);
+
+        assertEquals(10, report.getGames());
+        assertEquals(120, report.getActions());
+        assertEquals(40, report.getLatency(ActionType.SELECT_CATEGORY).getCount());
+        assertEquals(40, report.getLatency(ActionType.SELECT_QUESTION).getCount());
+        assertEquals(40, report.getLatency(ActionType.ANSWER_QUESTION).getCount());
+    }
+
+    @Test
+    void testRunReportsOrderedPercentilesAndRates(){
+        LoadGenerator generator = new LoadGenerator(bank, 3, HeadlessSimulation.botFactory("random", 1));
+        LoadReport report = generator.run(50, 8, 3);
+
+        LatencyHistogram all = report.getOverallLatency();
+        assertEquals(50, report.getGames());
+        assertTrue(all.getCount() >= 50 * 12);
+        assertTrue(all.getPercentile(50) <= all.getPercentile(99));
+        assertTrue(all.getPercentile(99) <= all.getPercentile(99.9));
+        assertTrue(all.getPercentile(99.9) <= all.getMax());
+        assertTrue(report.getActionsPerSecond() > 0);
+        assertTrue(report.getGcPauses() >= 0);
+        assertTrue(report.toString().contains("ALL"));
+    }
+
+    @Test
+    void testConcurrencyBelowOneRejected(){
+        LoadGenerator generator = new LoadGenerator(bank, 2, CorrectAnswerBot::new);
+        assertThrows(IllegalArgumentException.class, () -> generator.run(1, 0, 1));
+    }
+}
@@ -0,0 +1,133 @@
+package com.jeopardyProject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Random;
+
+import com.jeopardyProject.Game.MappedQuestionStore;
+import com.jeopardyProject.Game.Question;
+import com.jeopardyProject.Game.QuestionList;
+
+public class MappedQuestionStoreTest {
+    @TempDir
+    File dir;
+
+    private QuestionList source;
+    private File file;
+
+    /** Writes a bank of 6 categories with 5 values and 2 questions per cell. */
+    @BeforeEach
+    void setUp() throws IOException {
+        source = new QuestionList();
+        for (int copy = 0; copy < 2; copy++)
+            for (int c = 0; c < 6; c++)
+                for (int v = 1; v <= 5; v++)
+                    source.addQuestion(new Question("Catégorie " + c, v * 100, "Q" + c + "-" + v + "-" + copy + " ☃",
+                                                    new String[] {"yes", "no", null, "maybe " + copy}, "D"));
+        file = new File(dir, "bank.jqs");
+        MappedQuestionStore.write(source, file);
+    }
+
+    @Test
+    void testRoundTripsTextOptionsAndAnswer() throws IOException {
+        MappedQuestionStore store = MappedQuestionStore.open(file);
+        Question q = store.getBank().get(store.getBank().indexOf("Catégorie 3", 400));
+
+        assertEquals(60, store.size());
+        assertEquals("Catégorie 3", q.getCategory());
+        assertEquals(400, q.getValue());
+        assertEquals("Q3-4-1 ☃", q.getContent());
+        assertEquals(4, q.getOptionCount());
+        assertEquals("no", q.getValueGivenKey("B"));
+        assertNull(q.getValueGivenKey("C"));
+        assertEquals("maybe 1", q.getOption(3));
+        assertEquals("D", q.getRightAnswer());
+    }
+
+    @Test
+    void testGridMatchesSourceList() throws IOException {
+        QuestionList mapped = MappedQuestionStore.open(file).toQuestionList();
+        for (int c = 0; c < 6; c++)
+            for (int v = 100; v <= 500; v += 100)
+                assertEquals(source.getQuestion("Catégorie " + c, v).getContent(), mapped.getQuestion("Catégorie " + c, v).getContent());
+        assertNull(mapped.getQuestion("Catégorie 0", 600));
+        assertEquals("Catégorie 5", mapped.getCategoryIndex().resolve("catégorie 5"));
+    }
+
+    @Test
+    void testDealsPlayableBoards() throws IOException {
+        QuestionList board = MappedQuestionStore.open(file).toQuestionList().deal(5, 5, new Random(7));
+        assertEquals(25, board.size());
+        assertTrue(board.hasQuestions());
+
+        Question q = board.get(0);
+        assertTrue(q.markAnswered());
+        assertFalse(q.markAnswered());
+        assertTrue(board.isAnswered(0));
+        assertEquals(1, board.getAnsweredCount());
+    }
+
+    @Test
+    void testSameSeedDealsSameBoardAsSourceBank() throws IOException {
+        QuestionList mapped = MappedQuestionStore.open(file).toQuestionList().deal(3, 4, new Random(11));
+        QuestionList heap = source.deal(3, 4, new Random(11));
+        for (int i = 0; i < 12; i++)
+            assertEquals(heap.get(i).getContent(), mapped.get(i).getContent());
+    }
+
+    @Test
+    void testViewsShareCategoryNames() throws IOException {
+        MappedQuestionStore store = MappedQuestionStore.open(file);
+        assertSame(store.get(0).getCategory(), store.get(1).getCategory());
+    }
+
+    @Test
+    void testRejectsOtherFiles() throws IOException {
+        File other = new File(dir, "other.jqs");
+        try (RandomAccessFile raf = new RandomAccessFile(other, "rw")){
+            raf.writeBytes("Category,Value,Question\n");
+        }
+        assertThrows(IOException.class, () -> MappedQuestionStore.open(other));
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")){
+            raf.setLength(200);
+        }
+        assertThrows(IOException.class, () -> MappedQuestionStore.open(file));
+    }
+
+    @Test
+    void testRejectsChecksumMismatch() throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")){
+            raf.seek(raf.length() - 1);
+            int last = raf.read();
+            raf.seek(raf.length() - 1);
+            raf.write(last ^ 1);
+        }
+        IOException e = assertThrows(IOException.class, () -> MappedQuestionStore.open(file));
+        assertTrue(e.getMessage().contains("checksum"));
+    }
+
+    @Test
+    void testStoresRepeatedStringsOnce() throws IOException {
+        File other = new File(dir, "unique.jqs");
+        QuestionList unique = new QuestionList();
+        for (Question q : source.getQuestionArray())
+            unique.addQuestion(new Question(q.getCategory(), q.getValue(), q.getContent(),
+                                            new String[] {"yes " + q.getContent(), "no " + q.getContent(), null, "maybe"}, "D"));
+        MappedQuestionStore.write(unique, other);
+        assertTrue(file.length() < other.length());
+    }
+
+    @Test
+    void testRejectsTooManyOptions(){
+        QuestionList wide = new QuestionList();
+        wide.addQuestion(new Question("C", 100, "Q", new String[] {"a", "b", "c", "d", "e"}, "E"));
+        assertThrows(IllegalArgumentException.class, () -> MappedQuestionStore.write(wide, new File(dir, "wide.jqs")));
+    }
+}
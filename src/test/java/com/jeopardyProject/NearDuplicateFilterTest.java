@@ -0,0 +1,134 @@
+package com.jeopardyProject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.FileNotFoundException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.List;
+
+import com.jeopardyProject.Game.Question;
+import com.jeopardyProject.Game.QuestionList;
+import com.jeopardyProject.Game.Template.CsvFileReader;
+import com.jeopardyProject.Game.Template.NearDuplicateFilter;
+
+public class NearDuplicateFilterTest {
+    private QuestionList questions;
+
+    private static Question question(String category, String content, String... options){
+        HashMap<String, String> map = new HashMap<>();
+        for (int i = 0; i < options.length; i++)
+            map.put(String.valueOf((char) ('A' + i)), options[i]);
+        return new Question(category, 100, content, map, "A");
+    }
+
+    @BeforeEach
+    void setUp(){
+        questions = new QuestionList();
+        questions.addQuestion(question("Pointers", "What does a pointer variable store in C++?", "A memory address", "A copy of a value", "A function", "A class"));
+        questions.addQuestion(question("Loops", "Which loop always executes its body at least once?", "do-while", "for", "while", "foreach"));
+        questions.addQuestion(question("Memory", "In C++, what does a pointer variable store?", "A memory address", "A copy of a value", "A function", "A class"));
+        questions.addQuestion(question("Arrays", "What is the index of the first element of an array?", "0", "1", "-1", "Depends"));
+        questions.addQuestion(question("Pointers", "what does a POINTER variable store in C++", "a memory address", "a copy of a value", "a function", "a class"));
+    }
+
+    @Test
+    void testFlagReportsClusterAndKeepsQuestions(){
+        NearDuplicateFilter filter = new NearDuplicateFilter(NearDuplicateFilter.Mode.FLAG);
+        QuestionList result = filter.apply(questions);
+
+        assertSame(questions, result);
+        assertEquals(5, result.size());
+        List<List<Question>> clusters = filter.getClusters();
+        assertEquals(1, clusters.size());
+        assertEquals(List.of(questions.get(0), questions.get(2), questions.get(4)), clusters.get(0));
+        assertEquals(2, filter.getDuplicateCount());
+    }
+
+    @Test
+    void testDropKeepsFirstOfEachCluster(){
+        QuestionList kept = new NearDuplicateFilter(NearDuplicateFilter.Mode.DROP).apply(questions);
+
+        assertEquals(3, kept.size());
+        assertEquals("Pointers", kept.get(0).getCategory());
+        assertEquals("Loops", kept.get(1).getCategory());
+        assertEquals("Arrays", kept.get(2).getCategory());
+    }
+
+    @Test
+    void testReportListsPositions(){
+        NearDuplicateFilter filter = new NearDuplicateFilter(NearDuplicateFilter.Mode.FLAG);
+        filter.apply(questions);
+        StringWriter text = new StringWriter();
+        PrintWriter out = new PrintWriter(text);
+        filter.report(out);
+        out.flush();
+
+        assertTrue(text.toString().startsWith("1 near-duplicate clusters, 2 duplicates"));
+        assertTrue(text.toString().contains("  [2] Memory 100: In C++, what does a pointer variable store?"));
+    }
+
+    @Test
+    void testDistinctBankHasNoClusters() throws FileNotFoundException{
+        CsvFileReader reader = new CsvFileReader("src/resources/sample.csv");
+        NearDuplicateFilter filter = new NearDuplicateFilter(NearDuplicateFilter.Mode.DROP);
+        reader.setDuplicateFilter(filter);
+
+        assertEquals(25, reader.readFile().size());
+        assertTrue(filter.getClusters().isEmpty());
+    }
+
+    @Test
+    void testLargeBankFindsPlantedDuplicates(){
+        QuestionList bank = new QuestionList();
+        for (int i = 0; i < 20000; i++)
+            bank.addQuestion(question("C" + (i % 50), "Question number " + i + " about topic t" + (i * 7919 % 10007),
+                "opt" + i, "alt" + (i * 31), "x" + (i % 97), "y" + (i % 89)));
+        bank.addQuestion(question("C1", "Question number 123 about topic t" + (123 * 7919 % 10007),
+            "opt123", "alt" + (123 * 31), "x" + (123 % 97), "y" + (123 % 89)));
+
+        NearDuplicateFilter filter = new NearDuplicateFilter(NearDuplicateFilter.Mode.FLAG);
+        filter.apply(bank);
+
+        assertEquals(1, filter.getClusters().size());
+        assertSame(bank.get(123), filter.getClusters().get(0).get(0));
+        assertSame(bank.get(20000), filter.getClusters().get(0).get(1));
+    }
+
+    @Test
+    void testThresholdOutOfRangeRejected(){
+        assertThrows(IllegalArgumentException.class, () -> new NearDuplicateFilter(0, NearDuplicateFilter.Mode.FLAG));
+        assertThrows(IllegalArgumentException.class, () -> new NearDuplicateFilter(1.5, NearDuplicateFilter.Mode.DROP));
+    }
+
+    @Test
+    void testSharedOptionsAndDifferentAnswersAreNotDuplicates(){
+        QuestionList bank = new QuestionList();
+        String[] languages = {"Java", "Python", "C", "C++", "Rust", "Go"};
+        for (String language : languages)
+            bank.addQuestion(question("Languages", "Is " + language + " compiled?", "True", "False"));
+        HashMap<String, String> options = new HashMap<>();
+        options.put("A", "do-while");
+        options.put("B", "for");
+        options.put("C", "while");
+        options.put("D", "None of these");
+        bank.addQuestion(new Question("Loops", 200, "Which loop always runs at least once?", options, "A"));
+        bank.addQuestion(new Question("Loops", 300, "Which loop never runs at least once?", options, "D"));
+
+        NearDuplicateFilter filter = new NearDuplicateFilter(NearDuplicateFilter.Mode.DROP);
+
+        assertEquals(8, filter.apply(bank).size());
+        assertTrue(filter.getClusters().isEmpty());
+    }
+
+    @Test
+    void testDefaultFilterOnlyFlags(){
+        NearDuplicateFilter filter = new NearDuplicateFilter();
+
+        assertSame(questions, filter.apply(questions));
+        assertEquals(2, filter.getDuplicateCount());
+    }
+}
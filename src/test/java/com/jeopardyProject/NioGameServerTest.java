@@ -0,0 +1,212 @@
+package com.jeopardyProject;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import com.jeopardyProject.Game.GameEngine;
+import com.jeopardyProject.Game.Question;
+import com.jeopardyProject.Game.QuestionList;
+import com.jeopardyProject.Game.Server.NioGameServer;
+
+public class NioGameServerTest {
+    @TempDir
+    File reportDir;
+
+    private NioGameServer server;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        QuestionList bank = new QuestionList();
+        HashMap<String,String> options = new HashMap<>();
+        options.put("A","ans1");
+        options.put("B","ans2");
+        options.put("C","ans3");
+        options.put("D","ans4");
+        bank.addQuestion(new Question("Variables", 100, "Q1", options, "A"));
+        bank.addQuestion(new Question("Functions", 100, "Q2", options, "B"));
+        bank.createQuestionGrid();
+
+        server = new NioGameServer(new GameEngine(reportDir), bank, 0, 2);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown(){
+        server.stop();
+    }
+
+    private Socket connect() throws Exception {
+        Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+        socket.setSoTimeout(10000);
+        return socket;
+    }
+
+    private String readAll(Socket socket) throws Exception {
+        BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        StringBuilder transcript = new StringBuilder();
+        String line;
+        while ((line = in.readLine()) != null)
+            transcript.append(line).append('\n');
+        return transcript.toString();
+    }
+
+    private String play(String... lines) throws Exception {
+        try(Socket socket = connect()){
+            PrintWriter out = new PrintWriter(socket.getOutputStream(), true);
+            for (String line : lines)
+                out.println(line);
+            return readAll(socket);
+        }
+    }
+
+    @Test
+    void testFullGameOverConnection() throws Exception {
+        String transcript = play("2", "Alice", "Bob", "VAR", "100", "A", "FUNC", "100", "B");
+
+        assertTrue(transcript.contains("Game has started"));
+        assertTrue(transcript.contains("Current player: Alice"));
+        assertTrue(transcript.contains("Current player: Bob"));
+        assertTrue(transcript.contains("Correct!"));
+        assertTrue(transcript.contains("Congrats! You made it to the end of the game."));
+        assertTrue(transcript.contains("Thanks for playing!"));
+    }
+
+    @Test
+    void testInvalidPlayerCountReprompts() throws Exception {
+        String transcript = play("9", "x", "QUIT");
+        assertTrue(transcript.contains("Number of players must be 2-4."));
+        assertTrue(transcript.contains("Invalid input. Please enter a number."));
+        assertFalse(transcript.contains("Game has started"));
+    }
+
+    @Test
+    void testMissedQuestionPassesToNextPlayer() throws Exception {
+        String transcript = play("2", "Alice", "Bob", "VAR", "100", "B", "A", "QUIT");
+        assertTrue(transcript.contains("Not quite."));
+        assertTrue(transcript.contains("Input your answer:"));
+        assertTrue(transcript.contains("Correct!"));
+    }
+
+    @Test
+    void testLinesSplitAcrossWritesAndCrlf() throws Exception {
+        try(Socket socket = connect()){
+            var out = socket.getOutputStream();
+            out.write("2\r\nAli".getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            Thread.sleep(50);
+            out.write("ce\r\nBob\r\nQUIT\r\n".getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            String transcript = readAll(socket);
+            assertTrue(transcript.contains("Current player: Alice"));
+        }
+    }
+
+    @Test
+    void testManyConcurrentClientsOnFewLoops() throws Exception {
+        List<Socket> sockets = new ArrayList<>();
+        try{
+            for (int i = 0; i < 50; i++)
+                sockets.add(connect());
+            for (Socket socket : sockets){
+                BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                assertTrue(in.readLine().contains("Enter number of players"));
+            }
+            assertEquals(50, server.getActiveSessions());
+            assertEquals(2, server.getEventLoopCount());
+        } finally {
+            for (Socket socket : sockets)
+                socket.close();
+        }
+    }
+
+    @Test
+    void testDisconnectMidGameStillWritesReports() throws Exception {
+        try(Socket socket = connect()){
+            PrintWriter out = new PrintWriter(socket.getOutputStream(), true);
+            out.println("2");
+            out.println("Alice");
+            out.println("Bob");
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            String line;
+            while ((line = in.readLine()) != null && !line.contains("Choose a Category"))
+                ;
+        }
+        long deadline = System.currentTimeMillis() + 5000;
+        while (server.getActiveSessions() > 0 && System.currentTimeMillis() < deadline)
+            Thread.sleep(10);
+        assertEquals(0, server.getActiveSessions());
+        assertTrue(new File(reportDir, "Game_001_TurnReport.txt").length() > 0);
+    }
+
+    @Test
+    void testClientThatNeverReadsIsDisconnected() throws Exception {
+        try(Socket silent = new Socket()){
+            silent.setReceiveBufferSize(1024);
+            silent.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort()));
+            Thread writer = new Thread(() -> {
+                byte[] junk = "x\n".repeat(512).getBytes(StandardCharsets.UTF_8);     // invalid categories, each redrawing the board
+                try{
+                    OutputStream out = silent.getOutputStream();
+                    out.write("2\nAlice\nBob\n".getBytes(StandardCharsets.UTF_8));
+                    while (true)
+                        out.write(junk);
+                } catch (IOException e){
+                    // the server closed the connection
+                }
+            });
+            writer.setDaemon(true);
+            writer.start();
+
+            String transcript = play("2", "Carol", "Dave", "QUIT");
+            assertTrue(transcript.contains("Game has started"));
+            long deadline = System.currentTimeMillis() + 10000;
+            while (server.getActiveSessions() > 0 && System.currentTimeMillis() < deadline)
+                Thread.sleep(10);
+            assertEquals(0, server.getActiveSessions());
+            writer.join(10000);
+            assertFalse(writer.isAlive());
+        }
+    }
+
+    @Test
+    void testSurrogatesInOutputAreNotLost() throws Exception {
+        QuestionList bank = new QuestionList();
+        HashMap<String,String> options = new HashMap<>();
+        options.put("A","caf\u00e9 \uD83D\uDE00 ok");
+        options.put("B","ends on \uD83D");
+        bank.addQuestion(new Question("Variables", 100, "Lone \uDE00 surrogate, then text", options, "A"));
+        bank.createQuestionGrid();
+        server.stop();
+        server = new NioGameServer(new GameEngine(reportDir), bank, 0, 1);
+        server.start();
+
+        String transcript = play("2", "Alice", "Bob", "VAR", "100", "QUIT");
+
+        assertTrue(transcript.contains("The question is: Lone ? surrogate, then text\n"));
+        assertTrue(transcript.contains("A caf\u00e9 \uD83D\uDE00 ok\n"));
+        assertTrue(transcript.contains("B ends on ?\n"));
+    }
+
+    @Test
+    void testZeroEventLoopsRejected(){
+        assertThrows(IllegalArgumentException.class,
+            () -> new NioGameServer(new GameEngine(reportDir), new QuestionList(), 0, 0));
+    }
+}
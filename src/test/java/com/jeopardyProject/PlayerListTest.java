@@ -6,15 +6,20 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.ArrayList;
 
+import com.jeopardyProject.Game.GameSession;
+import com.jeopardyProject.Game.GameView;
 import com.jeopardyProject.Game.Player;
 import com.jeopardyProject.Game.PlayerList;
+import com.jeopardyProject.Game.Logs.Logger;
 
 public class PlayerListTest {
+    private GameSession session;
     private PlayerList playerList;
 
     @BeforeEach
     void setUp(){
-        playerList = new PlayerList(3);
+        session = new GameSession("Game_001", Logger.getInstance(), new GameView());
+        playerList = new PlayerList(session, 3);
     }
 
     @Test
@@ -154,7 +159,7 @@ public class PlayerListTest {
 
     @Test
     void testPlayerListWithMultiplePlayers(){
-        PlayerList fourPlayerList = new PlayerList(4);
+        PlayerList fourPlayerList = new PlayerList(session, 4);
         fourPlayerList.addPlayer("P1");
         fourPlayerList.addPlayer("P2");
         fourPlayerList.addPlayer("P3");
@@ -0,0 +1,131 @@
+package com.jeopardyProject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import com.jeopardyProject.Game.Question;
+import com.jeopardyProject.Game.QuestionBank;
+import com.jeopardyProject.Game.QuestionList;
+
+public class QuestionBankTest {
+    private QuestionList bank;
+
+    /** Builds a bank of 20 categories with 5 values and 3 questions per cell, plus a short category. */
+    @BeforeEach
+    void setUp(){
+        bank = new QuestionList();
+        for (int copy = 0; copy < 3; copy++)
+            for (int c = 0; c < 20; c++)
+                for (int v = 1; v <= 5; v++)
+                    bank.addQuestion(new Question("Category " + c, v * 100, "Q" + c + "-" + v + "-" + copy, new HashMap<>(), "A"));
+        bank.addQuestion(new Question("Short", 100, "S", new HashMap<>(), "A"));
+    }
+
+    private static String describe(QuestionList board){
+        StringBuilder text = new StringBuilder();
+        for (Question q : board.getQuestionArray())
+            text.append(q.getCategory()).append(':').append(q.getContent()).append(';');
+        return text.toString();
+    }
+
+    @Test
+    void testDealtBoardHasRequestedShape(){
+        QuestionList board = bank.deal(5, 5, new Random(1));
+        QuestionBank grid = board.getBank();
+
+        assertEquals(25, board.size());
+        assertTrue(board.hasQuestions());
+        Set<String> categories = new HashSet<>();
+        for (Question q : board.getQuestionArray())
+            categories.add(q.getCategory());
+        assertEquals(5, categories.size());
+        assertFalse(categories.contains("Short"));
+        for (String category : categories)
+            for (int value = 100; value <= 500; value += 100)
+                assertNotEquals(-1, grid.indexOf(category, value));
+    }
+
+    @Test
+    void testSameSeedDealsSameBoard(){
+        assertEquals(describe(bank.deal(4, 3, new Random(42))), describe(bank.deal(4, 3, new Random(42))));
+        assertNotEquals(describe(bank.deal(4, 3, new Random(42))), describe(bank.deal(4, 3, new Random(43))));
+    }
+
+    @Test
+    void testEveryDuplicateCanBeDealt(){
+        Set<String> seen = new HashSet<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 300; i++)
+            seen.add(bank.deal(20, 5, random).getQuestion("Category 0", 100).getContent());
+        assertEquals(Set.of("Q0-1-0", "Q0-1-1", "Q0-1-2"), seen);
+    }
+
+    @Test
+    void testDealtBoardIsIndependentOfBank(){
+        QuestionList board = bank.deal(2, 2, new Random(3));
+        board.get(0).markAnswered();
+
+        assertEquals(1, board.getAnsweredCount());
+        assertEquals(0, bank.getAnsweredCount());
+        assertNotSame(board.getBank(), bank.getBank());
+    }
+
+    @Test
+    void testBankThatCannotFillBoardIsRejected(){
+        assertThrows(IllegalArgumentException.class, () -> bank.deal(21, 2, new Random()));
+        assertThrows(IllegalArgumentException.class, () -> bank.deal(1, 6, new Random()));
+        assertThrows(IllegalArgumentException.class, () -> bank.deal(0, 5, new Random()));
+        assertEquals(21, bank.deal(21, 1, new Random()).size());
+    }
+
+    @Test
+    void testGridShowsLastQuestionOfEachCell(){
+        assertEquals("Q3-2-2", bank.getQuestion("Category 3", 200).getContent());
+        assertEquals(301, bank.getBank().getQuestionCount());
+    }
+
+    @Test
+    void testCopiedBoardEndsWhenShownCellsAreAnswered(){
+        QuestionList small = new QuestionList();
+        small.addQuestion(new Question("Loops", 100, "First", new HashMap<>(), "A"));
+        small.addQuestion(new Question("Loops", 100, "Second", new HashMap<>(), "A"));
+        QuestionList board = small.copyUnanswered();
+
+        assertTrue(board.hasQuestions());
+        board.getQuestion("Loops", 100).markAnswered();
+        assertFalse(board.hasQuestions());
+        board.get(0).markAnswered();
+        assertFalse(board.hasQuestions());
+        board.getQuestion("Loops", 100).setIsAnswered(false);
+        assertTrue(board.hasQuestions());
+    }
+
+    @Test
+    void testBoardForDealsFromLargeBankByCaseId(){
+        QuestionList board = bank.boardFor("Game_001");
+
+        assertEquals(QuestionList.BOARD_CATEGORIES * QuestionList.BOARD_VALUES, board.size());
+        assertEquals(describe(board), describe(bank.boardFor("Game_001")));
+        assertNotEquals(describe(board), describe(bank.boardFor("Game_002")));
+    }
+
+    @Test
+    void testBoardForCopiesBankThatCannotBeDealt(){
+        QuestionList single = new QuestionList();
+        for (int c = 0; c < 5; c++)
+            for (int v = 1; v <= 5; v++)
+                single.addQuestion(new Question("Category " + c, v * 100, "Q" + c + "-" + v, new HashMap<>(), "A"));
+        QuestionList wide = new QuestionList();
+        for (int c = 0; c < 6; c++)
+            wide.addQuestion(new Question("Category " + c, 100, "Q" + c, new HashMap<>(), "A"));
+
+        assertSame(single.getBank(), single.boardFor("Game_001").getBank());
+        assertSame(wide.getBank(), wide.boardFor("Game_001").getBank());
+    }
+}
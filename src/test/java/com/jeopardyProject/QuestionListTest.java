@@ -113,4 +113,111 @@ public class QuestionListTest {
         ArrayList<Question> questions = questionList.getQuestionArray();
         assertNotNull(questions);
     }
+
+    @Test
+    void testGetQuestionLooksUpCell(){
+        questionList.addQuestion(q1);
+        questionList.addQuestion(q2);
+        questionList.addQuestion(q3);
+        questionList.createQuestionGrid();
+
+        assertSame(q2, questionList.getQuestion("Functions", 200));
+        assertSame(q3, questionList.getQuestion("ARRAYS", 300));
+        assertNull(questionList.getQuestion("Arrays", 100));
+        assertNull(questionList.getQuestion("Loops", 100));
+        assertNull(questionList.getQuestion(null, 100));
+    }
+
+    @Test
+    void testHasQuestionsTracksAnsweredFlags(){
+        questionList.addQuestion(q1);
+        questionList.addQuestion(q2);
+        questionList.createQuestionGrid();
+
+        assertTrue(q1.markAnswered());
+        assertFalse(q1.markAnswered());
+        assertTrue(questionList.hasQuestions());
+        q2.setIsAnswered(true);
+        q2.setIsAnswered(true);
+        assertFalse(questionList.hasQuestions());
+        assertEquals(0b11, questionList.getAnsweredWord(0));
+
+        q1.setIsAnswered(false);
+        assertTrue(questionList.hasQuestions());
+        assertEquals(0b10, questionList.getAnsweredWord(0));
+    }
+
+    @Test
+    void testIndexOfAndAddAfterGrid(){
+        questionList.addQuestion(q1);
+        questionList.addQuestion(q2);
+        questionList.createQuestionGrid();
+        q1.setIsAnswered(true);
+        q2.setIsAnswered(true);
+        assertEquals(1, questionList.indexOf(q2));
+
+        questionList.addQuestion(q3);
+        assertEquals(2, questionList.indexOf(q3));
+        assertTrue(questionList.hasQuestions());
+        assertSame(q3, questionList.getQuestion("Arrays", 300));
+        assertEquals(-1, questionList.indexOf(null));
+    }
+
+    @Test
+    void testLargeBoardUsesSeveralAnsweredWords(){
+        for (int i = 0; i < 130; i++)
+            questionList.addQuestion(new Question("Cat" + (i % 10), (i / 10 + 1) * 100, "Q" + i, new HashMap<>(), "A"));
+        questionList.createQuestionGrid();
+        for (Question q : questionList.getQuestionArray())
+            q.markAnswered();
+        questionList.getQuestionArray().get(129).setIsAnswered(false);
+
+        assertTrue(questionList.hasQuestions());
+        assertEquals(-1L, questionList.getAnsweredWord(1));
+        assertEquals(0b01, questionList.getAnsweredWord(2));
+        assertSame(questionList.getQuestionArray().get(129), questionList.getQuestion("Cat9", 1300));
+    }
+
+    @Test
+    void testDealtBoardsShareBankAndKeepOwnFlags(){
+        questionList.addQuestion(q1);
+        questionList.addQuestion(q2);
+        questionList.addQuestion(q3);
+        questionList.createQuestionGrid();
+        QuestionList game1 = questionList.copyUnanswered();
+        QuestionList game2 = questionList.copyUnanswered();
+
+        assertSame(questionList.getBank(), game1.getBank());
+        assertSame(game1.getBank(), game2.getBank());
+
+        Question picked = game1.getQuestion("Functions", 200);
+        assertNotSame(q2, picked);
+        assertSame(q2.getValueGivenKey("B"), picked.getValueGivenKey("B"));
+        assertTrue(picked.markAnswered());
+        assertFalse(picked.markAnswered());
+
+        assertTrue(game1.isAnswered(1));
+        assertEquals(1, game1.getAnsweredCount());
+        assertFalse(game2.getQuestion("Functions", 200).getIsAnswered());
+        assertEquals(0, game2.getAnsweredCount());
+        assertFalse(q2.getIsAnswered());
+        assertSame(picked, game1.getQuestionArray().get(1));
+    }
+
+    @Test
+    void testDealtBoardRunsOutOfQuestions(){
+        questionList.addQuestion(q1);
+        questionList.addQuestion(q3);
+        q1.setIsAnswered(true);
+        QuestionList game = questionList.copyUnanswered();
+
+        assertEquals(2, game.size());
+        assertTrue(game.hasQuestions());
+        game.setAnswered(0, true);
+        game.get(1).setIsAnswered(true);
+        assertFalse(game.hasQuestions());
+        game.setAnswered(1, false);
+        assertTrue(game.hasQuestions());
+        assertEquals(1, game.indexOf(game.get(1)));
+    }
 }
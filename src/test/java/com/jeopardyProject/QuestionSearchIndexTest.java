@@ -0,0 +1,93 @@
+package com.jeopardyProject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import com.jeopardyProject.Game.Question;
+import com.jeopardyProject.Game.QuestionList;
+import com.jeopardyProject.Game.QuestionSearchIndex;
+
+public class QuestionSearchIndexTest {
+    private QuestionList questions;
+
+    private static Question question(String content, String... options){
+        HashMap<String, String> map = new HashMap<>();
+        for (int i = 0; i < options.length; i++)
+            map.put(String.valueOf((char) ('A' + i)), options[i]);
+        return new Question("General", 100, content, map, "A");
+    }
+
+    @BeforeEach
+    void setUp(){
+        questions = new QuestionList();
+        questions.addQuestion(question("What does a pointer store?", "An address", "A value"));
+        questions.addQuestion(question("Which loop always runs once?", "do-while", "for"));
+        questions.addQuestion(question("What is a null POINTER dereference?", "A crash", "A pointer to nothing"));
+        questions.addQuestion(question("Name a Java collection.", "ArrayList", "int"));
+    }
+
+    @Test
+    void testSearchIsCaseInsensitiveAndRanksByFrequency(){
+        ArrayList<Question> found = questions.search("Pointer", 10);
+
+        assertEquals(2, found.size());
+        assertSame(questions.get(2), found.get(0));
+        assertSame(questions.get(0), found.get(1));
+    }
+
+    @Test
+    void testOptionTextIsIndexed(){
+        ArrayList<Question> found = questions.search("arraylist", 10);
+        assertEquals(1, found.size());
+        assertSame(questions.get(3), found.get(0));
+    }
+
+    @Test
+    void testQuestionsMatchingMoreTermsRankFirst(){
+        ArrayList<Question> found = questions.search("loop crash once", 10);
+        assertSame(questions.get(1), found.get(0));
+        assertSame(questions.get(2), found.get(1));
+    }
+
+    @Test
+    void testLimitAndEmptyQueries(){
+        assertEquals(1, questions.search("what", 1).size());
+        assertTrue(questions.search("  ?! ", 10).isEmpty());
+        assertTrue(questions.search("recursion", 10).isEmpty());
+        assertTrue(questions.search("pointer", 0).isEmpty());
+    }
+
+    @Test
+    void testQuestionsAddedAfterFirstSearchAreIndexed(){
+        assertEquals(2, questions.search("pointer", 10).size());
+        questions.addQuestion(null);
+        questions.addQuestion(question("Pointer arithmetic moves by what unit?", "Element size"));
+
+        assertEquals(6, questions.getSearchIndex().size());
+        assertEquals(3, questions.getSearchIndex().documentFrequency("POINTER"));
+        assertTrue(questions.search("arithmetic", 10).contains(questions.get(5)));
+    }
+
+    @Test
+    void testLargeGapsDecodeCorrectly(){
+        QuestionSearchIndex index = new QuestionSearchIndex();
+        for (int i = 0; i < 100000; i++)
+            index.add(question(i % 40000 == 0 ? "rare term" : "filler " + i));
+
+        assertArrayEquals(new int[] {0, 40000, 80000}, index.search("rare", 10));
+        assertEquals(99997, index.documentFrequency("filler"));
+    }
+
+    @Test
+    void testDealtBoardSearchesItsOwnQuestions(){
+        QuestionList board = questions.copyUnanswered();
+        ArrayList<Question> found = board.search("pointer", 10);
+
+        assertEquals(2, found.size());
+        assertSame(board.get(2), found.get(0));
+    }
+}
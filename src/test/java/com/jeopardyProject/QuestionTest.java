@@ -110,4 +110,53 @@ public class QuestionTest {
         assertEquals("A", question.getRightAnswer());
         assertEquals("int num;", question.getValueGivenKey(question.getRightAnswer()));
     }
+
+    @Test
+    void testOptionsByOrdinal(){
+        assertEquals(4, question.getOptionCount());
+        assertEquals("int num;", question.getOption(0));
+        assertEquals("integer num;", question.getOption(3));
+    }
+
+    @Test
+    void testGetOptionsReturnsCopy(){
+        question.getOptions().put("A", "changed");
+        assertEquals("int num;", question.getValueGivenKey("A"));
+    }
+
+    @Test
+    void testArrayConstructorSharesOptionTexts(){
+        String[] trueFalse = {"True", "False"};
+        Question first = new Question("Logic", 100, "Is 1 < 2?", trueFalse, "A");
+        Question second = new Question("Logic", 200, "Is 2 < 1?", new String[] {trueFalse[0], trueFalse[1]}, "B");
+
+        assertSame(first.getValueGivenKey("A"), second.getValueGivenKey("A"));
+        assertEquals("B", second.getRightAnswer());
+        assertNull(second.getValueGivenKey("C"));
+    }
+
+    @Test
+    void testInvalidOptionKeyRejected(){
+        HashMap<String, String> bad = new HashMap<>();
+        bad.put("AA", "text");
+        assertThrows(IllegalArgumentException.class, () -> new Question("Variables", 100, "Q", bad, "A"));
+    }
+
+    @Test
+    void testAnswerThatIsNotAKeyHasNoRightAnswer(){
+        assertNull(new Question("Variables", 100, "Q", options, "none").getRightAnswer());
+    }
+
+    @Test
+    void testLowercaseAnswerAndKeysAccepted(){
+        assertEquals("A", new Question("Variables", 100, "Q", options, "a").getRightAnswer());
+
+        HashMap<String, String> lower = new HashMap<>();
+        lower.put("a", "int num;");
+        lower.put("b", "float num;");
+        Question q = new Question("Variables", 100, "Q", lower, "b");
+        assertEquals("B", q.getRightAnswer());
+        assertEquals("float num;", q.getValueGivenKey("B"));
+        assertEquals("int num;", q.getValueGivenKey("a"));
+    }
 }
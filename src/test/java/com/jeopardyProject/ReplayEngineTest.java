@@ -0,0 +1,227 @@
+package com.jeopardyProject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.jeopardyProject.Game.GameSession;
+import com.jeopardyProject.Game.Player;
+import com.jeopardyProject.Game.PlayerList;
+import com.jeopardyProject.Game.Question;
+import com.jeopardyProject.Game.QuestionList;
+import com.jeopardyProject.Game.Logs.Logger;
+import com.jeopardyProject.Game.Replay.GameReplay;
+import com.jeopardyProject.Game.Replay.LogCsvReader;
+import com.jeopardyProject.Game.Replay.LogRecord;
+import com.jeopardyProject.Game.Replay.ReplayEngine;
+import com.jeopardyProject.Game.Replay.ReplayReport;
+import com.jeopardyProject.Game.Simulation.HeadlessGameView;
+import com.jeopardyProject.Game.Simulation.RandomBot;
+
+public class ReplayEngineTest {
+    private static final String HEADER = "Case ID,Timestamp,Player ID,Event Type,Category,Value,Question,Answer,Result,Score\n";
+
+    @TempDir
+    File reportDir;
+
+    private QuestionList bank;
+    private ReplayEngine engine;
+
+    @BeforeEach
+    void setUp(){
+        bank = new QuestionList();
+        HashMap<String,String> options = new HashMap<>();
+        options.put("A","ans1");
+        options.put("B","ans2");
+        options.put("C","ans3");
+        options.put("D","ans4");
+        bank.addQuestion(new Question("Variables", 100, "Q1", options, "A"));
+        bank.addQuestion(new Question("Variables", 200, "Q2, with a comma", options, "B"));
+        bank.addQuestion(new Question("File Handling", 100, "Which header file is used for file I/O?", options, "C"));
+        bank.addQuestion(new Question("File Handling", 200, "Q4", options, "D"));
+        bank.createQuestionGrid();
+        engine = new ReplayEngine(bank);
+    }
+
+    private GameSession createSession(String caseId, String... names){
+        File csv = new File(reportDir, caseId + "_LogReport.csv");
+        File txt = new File(reportDir, caseId + "_TurnReport.txt");
+        GameSession session = new GameSession(caseId, new Logger(csv.getPath(), txt.getPath()), new HeadlessGameView());
+        session.setQuestions(bank.copyUnanswered());
+        PlayerList players = new PlayerList(session, names.length);
+        for (String name : names)
+            players.addPlayer(name);
+        session.setPlayers(players);
+        session.startGame();
+        return session;
+    }
+
+    private Path logOf(GameSession session){
+        return new File(reportDir, session.getCaseId() + "_LogReport.csv").toPath();
+    }
+
+    private Map<String, Integer> scoresOf(GameSession session){
+        Map<String, Integer> scores = new HashMap<>();
+        for (Player p : session.getPlayers().getAllPlayers())
+            scores.put(p.getPlayerId(), p.getScore());
+        return scores;
+    }
+
+    @Test
+    void testPlayedGamesReplayToSameScoresAndBoard() throws IOException {
+        List<Path> logs = new ArrayList<>();
+        List<Map<String, Integer>> expected = new ArrayList<>();
+        for (int i = 1; i <= 5; i++){
+            GameSession session = createSession("Game_00" + i, "Alice", "Bob", "Carol");
+            session.setInputSource(new RandomBot(i));
+            session.playGame();
+            logs.add(logOf(session));
+            expected.add(scoresOf(session));
+        }
+
+        List<GameReplay> games = new ArrayList<>();
+        ReplayReport report = engine.replay(logs, games::add);
+
+        assertTrue(report.isConsistent(), () -> report.getMismatches().toString());
+        assertEquals(5, report.getGames());
+        assertEquals(5, games.size());
+        for (int i = 0; i < 5; i++){
+            assertEquals(expected.get(i), new HashMap<>(games.get(i).getScores()));
+            assertEquals(4, games.get(i).getAnsweredCount());
+        }
+    }
+
+    @Test
+    void testBuzzInGameWithLateAnswerReplays() throws IOException {
+        GameSession session = createSession("Game_001", "Alice", "Bob", "Carol");
+        session.setBuzzInMode(true);
+        session.beginPlay();
+        session.submitInput("var");
+        session.submitInput("100");
+        session.submitInput("bob b");
+        session.submitInput("carol a");
+        session.submitInput("alice a");
+        session.submitInput("QUIT");
+
+        List<GameReplay> games = new ArrayList<>();
+        ReplayReport report = engine.replay(List.of(logOf(session)), games::add);
+
+        assertTrue(report.isConsistent(), () -> report.getMismatches().toString());
+        assertEquals(scoresOf(session), new HashMap<>(games.get(0).getScores()));
+        assertEquals(1, games.get(0).getAnsweredCount());
+    }
+
+    @Test
+    void testConsoleLogWithStealAndQuitReplays() throws IOException {
+        String log = HEADER
+            + "Game_001,2025-11-27T11:12:25,System,Start Game,,0,,,true,0\n"
+            + "Game_001,2025-11-27T11:13:44,cid,Enter player name,,0,,,true,0\n"
+            + "Game_001,2025-11-27T11:13:46,sarah,Enter player name,,0,,,true,0\n"
+            + "Game_001,2025-11-27T11:13:49,cid,Select Category,File Handling,0,,,true,0\n"
+            + "Game_001,2025-11-27T11:13:51,cid,Select Question,File Handling,100,,,true,0\n"
+            + "Game_001,2025-11-27T11:13:54,cid,Answer Question,File Handling,100,Which header file is used for file I/O?,D,false,-100\n"
+            + "Game_001,2025-11-27T11:13:57,sarah,Answer Question,File Handling,100,,A,false,-100\n"
+            + "Game_001,2025-11-27T11:14:00,System,Exit game,,0,,,true,0\n";
+
+        List<GameReplay> games = new ArrayList<>();
+        ReplayReport report = engine.replay(new StringReader(log), games::add);
+
+        assertTrue(report.isConsistent(), () -> report.getMismatches().toString());
+        assertEquals(8, report.getEvents());
+        assertEquals(-100, games.get(0).getScores().get("cid"));
+        assertEquals(-100, games.get(0).getScores().get("sarah"));
+        assertEquals(1, games.get(0).getAnsweredCount());
+    }
+
+    @Test
+    void testTamperedScoreReportedWithLine() throws IOException {
+        String log = HEADER
+            + "Game_001,t,System,Start Game,,0,,,true,0\n"
+            + "Game_001,t,Alice,Select Category,Variables,0,,,true,0\n"
+            + "Game_001,t,Alice,Select Question,Variables,100,,,true,0\n"
+            + "Game_001,t,Alice,Answer Question,Variables,100,Q1,A,true,500\n";
+
+        ReplayReport report = engine.replay(new StringReader(log), game -> {});
+
+        assertFalse(report.isConsistent());
+        assertEquals(1, report.getMismatchCount());
+        assertTrue(report.getMismatches().get(0).startsWith("Game_001 line 5"));
+    }
+
+    @Test
+    void testWrongResultReported() throws IOException {
+        String log = HEADER
+            + "Game_001,t,Alice,Select Category,Variables,0,,,true,0\n"
+            + "Game_001,t,Alice,Select Question,Variables,100,,,true,0\n"
+            + "Game_001,t,Alice,Answer Question,Variables,100,Q1,B,true,100\n";
+
+        ReplayReport report = engine.replay(new StringReader(log), game -> {});
+
+        assertEquals(2, report.getMismatchCount());
+    }
+
+    @Test
+    void testRepeatedCaseIdStartsNewGame() throws IOException {
+        String game = "Game_001,t,System,Start Game,,0,,,true,0\n"
+            + "Game_001,t,Alice,Select Category,Variables,0,,,true,0\n"
+            + "Game_001,t,Alice,Select Question,Variables,100,,,true,0\n"
+            + "Game_001,t,Alice,Answer Question,Variables,100,Q1,A,true,100\n";
+
+        List<GameReplay> games = new ArrayList<>();
+        ReplayReport report = engine.replay(new StringReader(HEADER + game + HEADER + game), games::add);
+
+        assertTrue(report.isConsistent(), () -> report.getMismatches().toString());
+        assertEquals(2, report.getGames());
+        assertEquals(100, games.get(1).getScores().get("Alice"));
+    }
+
+    @Test
+    void testReaderHandlesQuotedFieldsAndSkipsMalformedRows() throws IOException {
+        String log = HEADER
+            + "Game_001,t,Alice,Answer Question,\"Cat, \"\"quoted\"\"\",200,\"Q2, with\na newline\",B,true,200\n"
+            + "not,a,log,row\n"
+            + "Game_001,t,Bob,Answer Question,Variables,100,,A,false,-100\n";
+
+        try (LogCsvReader reader = new LogCsvReader(new StringReader(log))){
+            LogRecord first = reader.next();
+            assertEquals("Cat, \"quoted\"", first.getCategory());
+            assertEquals(200, first.getValue());
+            assertEquals("B", first.getAnswer());
+            assertTrue(first.getResult());
+            assertEquals(200, first.getScore());
+            assertEquals(2, first.getLine());
+
+            LogRecord second = reader.next();
+            assertEquals("Bob", second.getPlayerId());
+            assertFalse(second.getResult());
+            assertEquals(-100, second.getScore());
+            assertEquals(5, second.getLine());
+
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void testReplayFileMatchesLoggerOutput() throws IOException {
+        GameSession session = createSession("Game_001", "Alice", "Bob");
+        session.setInputSource(new RandomBot(3));
+        session.playGame();
+
+        List<String> lines = Files.readAllLines(logOf(session));
+        ReplayReport report = engine.replay(List.of(logOf(session)));
+
+        assertEquals(lines.size() - 1, report.getEvents());
+        assertTrue(report.isConsistent(), () -> report.getMismatches().toString());
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 import java.util.HashMap;
 
+import com.jeopardyProject.Game.Command.ActionResult;
 import com.jeopardyProject.Game.Command.SelectCategoryAction;
 import com.jeopardyProject.Game.GameController;
 import com.jeopardyProject.Game.Question;
@@ -111,6 +112,26 @@ public class SelectCategoryActionTest {
         assertEquals("Functions", controller.getCategory());
     }
 
+    @Test
+    void testSelectCategoryAmbiguousPrefixRejected(){
+        questions.addQuestion(new Question("File Handling", 100, "Q4", new HashMap<>(), "A"));
+        controller.setCategory(null);
+
+        ActionResult result = action.execute("F");
+
+        assertFalse(result.isSuccess());
+        assertTrue(result.getMessage().contains("File Handling, Functions"));
+        assertNull(controller.getCategory());
+    }
+
+    @Test
+    void testSelectCategoryLongerPrefixResolvesAmbiguity(){
+        questions.addQuestion(new Question("File Handling", 100, "Q4", new HashMap<>(), "A"));
+
+        assertTrue(action.execute("FI").isSuccess());
+        assertEquals("File Handling", controller.getCategory());
+    }
+
     @Test
     void testSelectCategoryNullInput(){
         controller.setCategory("Variables & Data Types");
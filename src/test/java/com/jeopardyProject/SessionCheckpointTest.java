@@ -0,0 +1,224 @@
+package com.jeopardyProject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.jeopardyProject.Game.GameEngine;
+import com.jeopardyProject.Game.GameSession;
+import com.jeopardyProject.Game.Player;
+import com.jeopardyProject.Game.PlayerList;
+import com.jeopardyProject.Game.Question;
+import com.jeopardyProject.Game.QuestionList;
+import com.jeopardyProject.Game.QuestionSource;
+import com.jeopardyProject.Game.Checkpoint.CheckpointStore;
+import com.jeopardyProject.Game.Command.ActionType;
+import com.jeopardyProject.Game.Events.GameState;
+import com.jeopardyProject.Game.Logs.NullLogger;
+import com.jeopardyProject.Game.Simulation.HeadlessGameView;
+
+public class SessionCheckpointTest {
+    @TempDir
+    File dir;
+
+    private QuestionList bank;
+    private CheckpointStore store;
+
+    @BeforeEach
+    void setUp(){
+        bank = createBank("Functions");
+        store = new CheckpointStore(new File(dir, "checkpoints"));
+    }
+
+    private QuestionList createBank(String secondCategory){
+        QuestionList questions = new QuestionList();
+        HashMap<String,String> options = new HashMap<>();
+        options.put("A","ans1");
+        options.put("B","ans2");
+        options.put("C","ans3");
+        options.put("D","ans4");
+        questions.addQuestion(new Question("Variables", 100, "Q1", options, "A"));
+        questions.addQuestion(new Question("Variables", 200, "Q2", options, "B"));
+        questions.addQuestion(new Question(secondCategory, 100, "Q3", options, "C"));
+        questions.addQuestion(new Question(secondCategory, 200, "Q4", options, "D"));
+        questions.createQuestionGrid();
+        return questions;
+    }
+
+    private GameSession startGame(String caseId){
+        GameEngine engine = new GameEngine(dir, store);
+        GameSession session = engine.createSession(caseId, new NullLogger(), new HeadlessGameView());
+        session.setQuestions(bank.copyUnanswered());
+        PlayerList players = new PlayerList(session, 3);
+        players.addPlayer("Alice");
+        players.addPlayer("Bob");
+        players.addPlayer("Carol");
+        session.setPlayers(players);
+        session.beginPlay();
+        return session;
+    }
+
+    /** Simulates a restart: a new engine over the same checkpoint directory. */
+    private GameSession restart(){
+        List<GameSession> resumed = new GameEngine(dir, new CheckpointStore(store.getDirectory())).recoverSessions(bank);
+        assertEquals(1, resumed.size());
+        return resumed.get(0);
+    }
+
+    private int scoreOf(GameSession session, String playerId){
+        for (Player p : session.getPlayers().getAllPlayers())
+            if (p.getPlayerId().equals(playerId))
+                return p.getScore();
+        throw new AssertionError("No player " + playerId);
+    }
+
+    @Test
+    void testResumeAtTurnBoundaryRestoresScoresBoardAndRotation(){
+        GameSession session = startGame("Game_001");
+        session.submitInput("var");
+        session.submitInput("100");
+        session.submitInput("B");
+        session.submitInput("A");
+
+        GameSession resumed = restart();
+
+        assertEquals("Game_001", resumed.getCaseId());
+        assertEquals(2, resumed.getTurnNum());
+        assertEquals(ActionType.SELECT_CATEGORY, resumed.getExpectedInput());
+        assertEquals("Carol", resumed.getPlayers().getCurrentPlayer().getPlayerId());
+        assertEquals(-100, scoreOf(resumed, "Alice"));
+        assertEquals(100, scoreOf(resumed, "Bob"));
+        assertEquals(0, scoreOf(resumed, "Carol"));
+        assertTrue(resumed.getQuestions().getQuestionArray().get(0).getIsAnswered());
+        assertFalse(resumed.getQuestions().getQuestionArray().get(1).getIsAnswered());
+
+        GameState state = resumed.getEventStream().rebuild();
+        assertEquals(100, state.getScore("Bob"));
+        assertEquals(1, state.getAnsweredCount());
+        assertEquals(2, state.getTurnNum());
+
+        assertTrue(resumed.submitInput("func"));
+        assertTrue(resumed.submitInput("100"));
+        assertTrue(resumed.submitInput("C"));
+        assertEquals(100, scoreOf(resumed, "Carol"));
+        assertEquals(3, resumed.getTurnNum());
+    }
+
+    @Test
+    void testResumeMidStealContinuesWithNextPlayer(){
+        GameSession session = startGame("Game_001");
+        session.submitInput("var");
+        session.submitInput("100");
+        session.submitInput("B");
+
+        GameSession resumed = restart();
+
+        assertEquals(ActionType.ANSWER_QUESTION, resumed.getExpectedInput());
+        assertTrue(resumed.isStealing());
+        assertEquals("Alice", resumed.getTurnStarterId());
+        assertEquals("Bob", resumed.getPlayers().getCurrentPlayer().getPlayerId());
+        assertEquals(-100, scoreOf(resumed, "Alice"));
+
+        resumed.submitInput("A");
+        assertEquals(100, scoreOf(resumed, "Bob"));
+        assertEquals(2, resumed.getTurnNum());
+        assertEquals("Carol", resumed.getPlayers().getCurrentPlayer().getPlayerId());
+    }
+
+    @Test
+    void testResumeAfterCategoryChoiceAsksForValue(){
+        GameSession session = startGame("Game_001");
+        session.submitInput("func");
+
+        GameSession resumed = restart();
+
+        assertEquals(ActionType.SELECT_QUESTION, resumed.getExpectedInput());
+        assertEquals("Functions", resumed.getCategory());
+        resumed.submitInput("200");
+        assertEquals(ActionType.ANSWER_QUESTION, resumed.getExpectedInput());
+        assertEquals("Q4", resumed.getQuestion().getContent());
+    }
+
+    @Test
+    void testFinishedGameDeletesCheckpoint(){
+        GameSession session = startGame("Game_001");
+        session.submitInput("var");
+        File file = session.getCheckpoint().getFile();
+        assertTrue(file.exists());
+
+        session.submitInput("QUIT");
+
+        assertFalse(file.exists());
+        assertTrue(new GameEngine(dir, store).recoverSessions(bank).isEmpty());
+    }
+
+    @Test
+    void testTornWriteFallsBackToPreviousSlot() throws IOException {
+        GameSession session = startGame("Game_001");
+        session.submitInput("var");
+        session.submitInput("100");
+        assertEquals(3, session.getCheckpoint().getSequence());
+
+        // Odd writes go to the second slot, at the end of the file; corrupt
+        // its last byte as if the JVM died mid-write.
+        try (RandomAccessFile raf = new RandomAccessFile(session.getCheckpoint().getFile(), "rw")){
+            raf.seek(raf.length() - 1);
+            raf.write(0x5A);
+        }
+
+        GameSession resumed = restart();
+        assertEquals(2, resumed.getCheckpoint().getSequence());
+        assertEquals(ActionType.SELECT_QUESTION, resumed.getExpectedInput());
+    }
+
+    @Test
+    void testCheckpointForDifferentBankIsNotResumed(){
+        GameSession session = startGame("Game_001");
+        session.submitInput("var");
+        File file = session.getCheckpoint().getFile();
+
+        List<GameSession> resumed = new GameEngine(dir, store).recoverSessions(createBank("Loops"));
+
+        assertTrue(resumed.isEmpty());
+        assertTrue(file.exists());
+    }
+
+    @Test
+    void testEngineWithoutStoreDoesNotCheckpoint(){
+        GameEngine engine = new GameEngine(dir);
+        GameSession session = engine.createSession("Game_001", new NullLogger(), new HeadlessGameView());
+
+        assertNull(session.getCheckpoint());
+        assertTrue(engine.recoverSessions(bank).isEmpty());
+    }
+
+    @Test
+    void testCheckpointDoesNotLoadLazyQuestionsOrTripOnNullEntries(){
+        AtomicInteger loads = new AtomicInteger();
+        QuestionSource source = index -> {
+            loads.incrementAndGet();
+            return new Question("", 0, "Q" + index, new String[] {"a", "b"}, "A");
+        };
+        bank = new QuestionList();
+        bank.addQuestion(null);
+        bank.addQuestion(new Question("Variables", 100, source, 1));
+        bank.addQuestion(new Question("Functions", 100, source, 2));
+
+        GameSession session = startGame("Game_001");
+        session.submitInput("fun");
+
+        assertEquals(2, session.getCheckpoint().getSequence());
+        assertEquals(0, loads.get());
+        GameSession resumed = restart();
+        assertEquals("Functions", resumed.getCategory());
+        assertEquals(ActionType.SELECT_QUESTION, resumed.getExpectedInput());
+    }
+}
@@ -0,0 +1,127 @@
+package com.jeopardyProject;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import com.jeopardyProject.Game.GameEngine;
+import com.jeopardyProject.Game.GameSession;
+import com.jeopardyProject.Game.PlayerList;
+import com.jeopardyProject.Game.Question;
+import com.jeopardyProject.Game.QuestionList;
+import com.jeopardyProject.Game.Logs.NullLogger;
+import com.jeopardyProject.Game.Shard.LeaderboardEntry;
+import com.jeopardyProject.Game.Shard.ShardedGameEngine;
+import com.jeopardyProject.Game.Simulation.CorrectAnswerBot;
+import com.jeopardyProject.Game.Simulation.HeadlessGameView;
+import com.jeopardyProject.Game.Simulation.HeadlessSimulation;
+import com.jeopardyProject.Game.Simulation.SimulationReport;
+
+public class ShardedGameEngineTest {
+    private GameEngine engine;
+    private ShardedGameEngine shards;
+
+    @BeforeEach
+    void setUp(){
+        engine = new GameEngine();
+        shards = new ShardedGameEngine(engine, 3);
+    }
+
+    @AfterEach
+    void tearDown(){
+        shards.close();
+    }
+
+    private GameSession createSession(String caseId, int... scores){
+        GameSession session = shards.createSession(caseId, new NullLogger(), new HeadlessGameView()).join();
+        shards.execute(caseId, s -> {
+            PlayerList players = new PlayerList(s, scores.length);
+            for (int i = 0; i < scores.length; i++){
+                players.addPlayer("P" + (i + 1));
+                players.getAllPlayers().get(i).setScore(scores[i]);
+            }
+            s.setPlayers(players);
+        }).join();
+        return session;
+    }
+
+    private QuestionList createBank(){
+        QuestionList bank = new QuestionList();
+        HashMap<String,String> options = new HashMap<>();
+        options.put("A","ans1");
+        options.put("B","ans2");
+        bank.addQuestion(new Question("Variables", 100, "Q1", options, "A"));
+        bank.addQuestion(new Question("Functions", 200, "Q2", options, "B"));
+        bank.createQuestionGrid();
+        return bank;
+    }
+
+    @Test
+    void testShardOfIsStableAndInRange(){
+        for (int i = 0; i < 100; i++){
+            String caseId = "Game_" + i;
+            int shard = shards.shardOf(caseId);
+            assertTrue(shard >= 0 && shard < 3);
+            assertEquals(shard, shards.shardOf(caseId));
+        }
+    }
+
+    @Test
+    void testTasksRunOnOwningShardThread(){
+        createSession("Game_001", 0, 0);
+        String first = shards.submit("Game_001", s -> Thread.currentThread().getName()).join();
+        String second = shards.submit("Game_001", s -> Thread.currentThread().getName()).join();
+
+        assertEquals("game-shard-" + shards.shardOf("Game_001"), first);
+        assertEquals(first, second);
+    }
+
+    @Test
+    void testSessionRegisteredWithEngineAndEnded(){
+        createSession("Game_001", 0, 0);
+        assertNotNull(engine.getSession("Game_001"));
+
+        assertNotNull(shards.endSession("Game_001").join());
+        assertNull(engine.getSession("Game_001"));
+    }
+
+    @Test
+    void testSubmitToUnknownSessionFails(){
+        CompletionException e = assertThrows(CompletionException.class,
+            () -> shards.submit("Nope", GameSession::getCaseId).join());
+        assertTrue(e.getCause() instanceof IllegalArgumentException);
+    }
+
+    @Test
+    void testLeaderboardMergesAcrossShards(){
+        for (int i = 1; i <= 12; i++)
+            createSession(String.format("Game_%03d", i), i * 10, -i);
+
+        List<LeaderboardEntry> top = shards.leaderboard(3).join();
+
+        assertEquals(3, top.size());
+        assertEquals(120, top.get(0).getScore());
+        assertEquals("Game_012", top.get(0).getCaseId());
+        assertEquals(110, top.get(1).getScore());
+        assertEquals(100, top.get(2).getScore());
+    }
+
+    @Test
+    void testShardedSimulationPlaysEveryGame(){
+        HeadlessSimulation simulation = new HeadlessSimulation(createBank(), 2, CorrectAnswerBot::new);
+        SimulationReport report = simulation.run(50, 4);
+
+        assertEquals(50, report.getGames());
+        assertEquals(100, report.getTurns());
+    }
+
+    @Test
+    void testZeroShardsRejected(){
+        assertThrows(IllegalArgumentException.class, () -> new ShardedGameEngine(engine, 0));
+    }
+}
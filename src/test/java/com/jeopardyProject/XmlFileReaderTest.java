@@ -2,9 +2,14 @@ package com.jeopardyProject;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 
 import com.jeopardyProject.Game.Question;
@@ -16,6 +21,21 @@ public class XmlFileReaderTest {
     private QuestionList questions;
     private String filepath = "src/resources/sample.xml";
 
+    @TempDir
+    File dir;
+
+    private String write(String xml) throws IOException {
+        File file = new File(dir, "bank.xml");
+        Files.write(file.toPath(), xml.getBytes(StandardCharsets.UTF_8));
+        return file.getPath();
+    }
+
+    private static String item(String category, String value){
+        return "<QuestionItem><Category>" + category + "</Category><Value>" + value + "</Value>"
+            + "<QuestionText>Q</QuestionText><Options><OptionA>a</OptionA><OptionB>b</OptionB>"
+            + "<OptionC>c</OptionC><OptionD>d</OptionD></Options><CorrectAnswer>C</CorrectAnswer></QuestionItem>";
+    }
+
     @BeforeEach
     void setUp() throws Exception {
         this.reader = new XmlFileReader(this.filepath);
@@ -144,4 +164,27 @@ public class XmlFileReaderTest {
         assertEquals(5, arr.size());
         assertEquals(5, files.size());
     }
+
+    @Test
+    void testInvalidItemsSkippedWithoutLosingPlace() throws IOException {
+        String xml = "<?xml version='1.0' encoding='utf-8'?><Bank>"
+            + item("Good", "100")
+            + "<QuestionItem><Category>NoOptions</Category><Value>200</Value></QuestionItem>"
+            + item("BadValue", "lots")
+            + item("<![CDATA[A & B]]> <b>bold</b>", " 300 ")
+            + "</Bank>";
+        QuestionList loaded = new XmlFileReader(write(xml)).readFile();
+
+        assertEquals(2, loaded.size());
+        assertEquals("Good", loaded.get(0).getCategory());
+        assertEquals("A & B bold", loaded.get(1).getCategory());
+        assertEquals(300, loaded.get(1).getValue());
+        assertEquals("c", loaded.get(1).getValueGivenKey("C"));
+    }
+
+    @Test
+    void testMalformedXmlThrows() throws IOException {
+        String path = write("<Bank>" + item("Good", "100") + "<QuestionItem>");
+        assertThrows(FileNotFoundException.class, () -> new XmlFileReader(path).readFile());
+    }
 }